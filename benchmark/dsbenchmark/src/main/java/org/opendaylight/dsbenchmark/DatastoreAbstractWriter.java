@@ -8,8 +8,9 @@
 
 package org.opendaylight.dsbenchmark;
 
+import com.google.common.util.concurrent.Uninterruptibles;
 import java.util.Random;
-
+import java.util.concurrent.TimeUnit;
 import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.dsbenchmark.rev150105.StartTestInput;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.dsbenchmark.rev150105.StartTestInput.DataStore;
@@ -30,6 +31,8 @@ public abstract class DatastoreAbstractWriter {
     protected int txOk = 0;
     protected int txError = 0;
 
+    private int txPerBurst = 0;
+    private long burstPauseMillis = 0;
 
     public DatastoreAbstractWriter(final StartTestInput.Operation oper,
                                    final int outerListElem, final int innerListElem, final long writesPerTx, final DataStore dataStore) {
@@ -45,6 +48,28 @@ public abstract class DatastoreAbstractWriter {
 
     public abstract void executeList();
 
+    /**
+     * Makes the writer behave like a bursty producer, pausing after every burst of transactions.
+     *
+     * @param txPerBurst number of transactions submitted back-to-back
+     * @param burstPauseMillis pause between bursts in milliseconds
+     */
+    public void setBurst(final int txPerBurst, final long burstPauseMillis) {
+        this.txPerBurst = txPerBurst;
+        this.burstPauseMillis = burstPauseMillis;
+    }
+
+    /**
+     * Pauses the writer if the specified number of submitted transactions completes a burst.
+     *
+     * @param txSubmitted number of transactions submitted so far
+     */
+    protected void pauseAfterBurst(final int txSubmitted) {
+        if (txPerBurst > 0 && txSubmitted % txPerBurst == 0) {
+            Uninterruptibles.sleepUninterruptibly(burstPauseMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
     public int getTxError() {
         return txError;
     }
@@ -218,6 +218,7 @@ public class DsbenchmarkProvider implements DsbenchmarkService, AutoCloseable {
         int outerListElem = input.getOuterElements().intValue();
         int innerListElem = input.getInnerElements().intValue();
         int writesPerTx = input.getPutsPerTx().intValue();
+        boolean bulkWrites = Boolean.TRUE.equals(input.isBulkWrites());
 
         try {
             if (txType == StartTestInput.TransactionType.SIMPLETX) {
@@ -230,7 +231,7 @@ public class DsbenchmarkProvider implements DsbenchmarkService, AutoCloseable {
                                 innerListElem, writesPerTx, dataStore);
                     } else {
                         retVal = new SimpletxBaWrite(this.simpleTxDataBroker, oper, outerListElem,
-                                innerListElem, writesPerTx, dataStore);
+                                innerListElem, writesPerTx, dataStore, bulkWrites);
                     }
                 } else {
                     if (StartTestInput.Operation.DELETE == oper) {
@@ -254,7 +255,7 @@ public class DsbenchmarkProvider implements DsbenchmarkService, AutoCloseable {
                                 innerListElem,writesPerTx, dataStore);
                     } else {
                         retVal = new TxchainBaWrite(this.txChainDataBroker, oper, outerListElem,
-                                innerListElem, writesPerTx, dataStore);
+                                innerListElem, writesPerTx, dataStore, bulkWrites);
                     }
                 } else {
                     if (StartTestInput.Operation.DELETE == oper) {
@@ -273,6 +274,10 @@ public class DsbenchmarkProvider implements DsbenchmarkService, AutoCloseable {
         } finally {
             execStatus.set(ExecStatus.Idle);
         }
+
+        if (txType == StartTestInput.TransactionType.TXCHAININGBURST) {
+            retVal.setBurst(input.getTxPerBurst().intValue(), input.getBurstPauseMillis());
+        }
         return retVal;
     }
 }
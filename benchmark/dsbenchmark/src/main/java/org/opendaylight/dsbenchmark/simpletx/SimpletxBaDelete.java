@@ -44,7 +44,8 @@ public class SimpletxBaDelete extends DatastoreAbstractWriter {
                                                  outerListElem,
                                                  innerListElem,
                                                  outerListElem,
-                                                 dataStore);
+                                                 dataStore,
+                                                 false);
         dd.createList();
         dd.executeList();
     }
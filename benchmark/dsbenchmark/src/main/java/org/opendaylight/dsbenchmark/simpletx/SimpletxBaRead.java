@@ -48,7 +48,8 @@ public class SimpletxBaRead extends DatastoreAbstractWriter {
                 outerListElem,
                 innerListElem,
                 outerListElem,
-                dataStore);
+                dataStore,
+                false);
         dd.createList();
         dd.executeList();
     }
@@ -8,6 +8,7 @@
 
 package org.opendaylight.dsbenchmark.simpletx;
 
+import com.google.common.collect.Lists;
 import java.util.List;
 import org.opendaylight.controller.md.sal.binding.api.DataBroker;
 import org.opendaylight.controller.md.sal.binding.api.WriteTransaction;
@@ -26,12 +27,15 @@ import org.slf4j.LoggerFactory;
 public class SimpletxBaWrite extends DatastoreAbstractWriter {
     private static final Logger LOG = LoggerFactory.getLogger(SimpletxBaWrite.class);
     private final DataBroker dataBroker;
+    private final boolean bulkWrites;
     private List<OuterList> list;
 
     public SimpletxBaWrite(final DataBroker dataBroker, final StartTestInput.Operation oper,
-            final int outerListElem, final int innerListElem, final long writesPerTx, final DataStore dataStore) {
+            final int outerListElem, final int innerListElem, final long writesPerTx, final DataStore dataStore,
+            final boolean bulkWrites) {
         super(oper, outerListElem, innerListElem, writesPerTx, dataStore);
         this.dataBroker = dataBroker;
+        this.bulkWrites = bulkWrites;
         LOG.debug("Created SimpletxBaWrite");
     }
 
@@ -42,6 +46,11 @@ public class SimpletxBaWrite extends DatastoreAbstractWriter {
 
     @Override
     public void executeList() {
+        if (bulkWrites) {
+            executeListBulk();
+            return;
+        }
+
         final LogicalDatastoreType dsType = getDataStoreType();
 
         WriteTransaction tx = dataBroker.newWriteOnlyTransaction();
@@ -81,4 +90,26 @@ public class SimpletxBaWrite extends DatastoreAbstractWriter {
         }
     }
 
+    private void executeListBulk() {
+        final LogicalDatastoreType dsType = getDataStoreType();
+        final InstanceIdentifier<TestExec> parent = InstanceIdentifier.create(TestExec.class);
+        final int batchSize = writesPerTx > 0 ? (int) Math.min(writesPerTx, Integer.MAX_VALUE) : Integer.MAX_VALUE;
+
+        for (List<OuterList> entries : Lists.partition(this.list, batchSize)) {
+            final WriteTransaction tx = dataBroker.newWriteOnlyTransaction();
+            if (oper == StartTestInput.Operation.PUT) {
+                tx.putListEntries(dsType, parent, OuterList.class, entries);
+            } else {
+                tx.mergeListEntries(dsType, parent, OuterList.class, entries);
+            }
+
+            try {
+                tx.submit().checkedGet();
+                txOk++;
+            } catch (final TransactionCommitFailedException e) {
+                LOG.error("Transaction failed: {}", e);
+                txError++;
+            }
+        }
+    }
 }
@@ -50,7 +50,8 @@ public class TxchainBaDelete extends DatastoreAbstractWriter implements Transact
                                                outerListElem,
                                                innerListElem,
                                                outerListElem,
-                                               dataStore);
+                                               dataStore,
+                                               false);
         dd.createList();
         dd.executeList();
     }
@@ -50,7 +50,8 @@ public class TxchainBaRead extends DatastoreAbstractWriter implements Transactio
                                                outerListElem,
                                                innerListElem,
                                                outerListElem,
-                                               dataStore);
+                                               dataStore,
+                                               false);
         dd.createList();
         dd.executeList();
     }
@@ -8,6 +8,7 @@
 
 package org.opendaylight.dsbenchmark.txchain;
 
+import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import java.util.List;
@@ -33,12 +34,15 @@ import org.slf4j.LoggerFactory;
 public class TxchainBaWrite extends DatastoreAbstractWriter implements TransactionChainListener {
     private static final Logger LOG = LoggerFactory.getLogger(TxchainBaWrite.class);
     private final DataBroker bindingDataBroker;
+    private final boolean bulkWrites;
     private List<OuterList> list;
 
     public TxchainBaWrite(final DataBroker bindingDataBroker, final Operation oper,
-                          final int outerListElem, final int innerListElem, final long writesPerTx, final DataStore dataStore) {
+                          final int outerListElem, final int innerListElem, final long writesPerTx, final DataStore dataStore,
+                          final boolean bulkWrites) {
         super(oper, outerListElem, innerListElem, writesPerTx, dataStore);
         this.bindingDataBroker = bindingDataBroker;
+        this.bulkWrites = bulkWrites;
         LOG.debug("Created TxchainBaWrite");
     }
 
@@ -56,34 +60,43 @@ public class TxchainBaWrite extends DatastoreAbstractWriter implements Transacti
         int txSubmitted = 0;
         int writeCnt = 0;
 
-        for (OuterList element : this.list) {
-            InstanceIdentifier<OuterList> iid = InstanceIdentifier.create(TestExec.class)
-                                                    .child(OuterList.class, element.getKey());
+        if (bulkWrites) {
+            final InstanceIdentifier<TestExec> parent = InstanceIdentifier.create(TestExec.class);
+            final int batchSize = writesPerTx > 0 ? (int) Math.min(writesPerTx, Integer.MAX_VALUE)
+                    : Integer.MAX_VALUE;
 
-            if (oper == StartTestInput.Operation.PUT) {
-                tx.put(dsType, iid, element);
-            } else {
-                tx.merge(dsType, iid, element);
-            }
-
-            writeCnt++;
+            for (List<OuterList> entries : Lists.partition(this.list, batchSize)) {
+                if (oper == StartTestInput.Operation.PUT) {
+                    tx.putListEntries(dsType, parent, OuterList.class, entries);
+                } else {
+                    tx.mergeListEntries(dsType, parent, OuterList.class, entries);
+                }
 
-            if (writeCnt == writesPerTx) {
                 txSubmitted++;
-                Futures.addCallback(tx.submit(), new FutureCallback<Void>() {
-                    @Override
-                    public void onSuccess(final Void result) {
-                        txOk++;
-                    }
-
-                    @Override
-                    public void onFailure(final Throwable t) {
-                        LOG.error("Transaction failed, {}", t);
-                        txError++;
-                    }
-                });
+                submitTransaction(tx);
+                pauseAfterBurst(txSubmitted);
                 tx = chain.newWriteOnlyTransaction();
-                writeCnt = 0;
+            }
+        } else {
+            for (OuterList element : this.list) {
+                InstanceIdentifier<OuterList> iid = InstanceIdentifier.create(TestExec.class)
+                                                        .child(OuterList.class, element.getKey());
+
+                if (oper == StartTestInput.Operation.PUT) {
+                    tx.put(dsType, iid, element);
+                } else {
+                    tx.merge(dsType, iid, element);
+                }
+
+                writeCnt++;
+
+                if (writeCnt == writesPerTx) {
+                    txSubmitted++;
+                    submitTransaction(tx);
+                    pauseAfterBurst(txSubmitted);
+                    tx = chain.newWriteOnlyTransaction();
+                    writeCnt = 0;
+                }
             }
         }
 
@@ -106,6 +119,21 @@ public class TxchainBaWrite extends DatastoreAbstractWriter implements Transacti
         LOG.debug("Transactions: submitted {}, completed {}", txSubmitted, (txOk + txError));
     }
 
+    private void submitTransaction(final WriteTransaction tx) {
+        Futures.addCallback(tx.submit(), new FutureCallback<Void>() {
+            @Override
+            public void onSuccess(final Void result) {
+                txOk++;
+            }
+
+            @Override
+            public void onFailure(final Throwable t) {
+                LOG.error("Transaction failed, {}", t);
+                txError++;
+            }
+        });
+    }
+
     @Override
     public void onTransactionChainFailed(final TransactionChain<?, ?> chain,
             final AsyncTransaction<?, ?> transaction, final Throwable cause) {
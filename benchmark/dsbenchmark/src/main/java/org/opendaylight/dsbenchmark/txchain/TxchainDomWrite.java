@@ -86,6 +86,7 @@ public class TxchainDomWrite extends DatastoreAbstractWriter implements Transact
                         txError++;
                     }
                 });
+                pauseAfterBurst(txSubmitted);
                 tx = chain.newWriteOnlyTransaction();
                 writeCnt = 0;
             }
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package ntfbenchmark.impl;
+
+import java.util.Collections;
+import java.util.List;
+import org.opendaylight.controller.md.sal.binding.api.NotificationPublishService;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ntfbench.payload.rev150709.Ntfbench;
+
+/**
+ * A producer which publishes its notifications in batches using
+ * {@link NotificationPublishService#putNotifications(List)}.
+ */
+public class NtfbenchBatchingProducer extends AbstractNtfbenchProducer {
+
+    private final int batchSize;
+
+    public NtfbenchBatchingProducer(final NotificationPublishService publishService, final int iterations,
+            final int payloadSize, final int batchSize) {
+        super(publishService, iterations, payloadSize);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run() {
+        int ntfOk = 0;
+        int ntfError = 0;
+
+        final List<Ntfbench> fullBatch = Collections.nCopies(batchSize, this.ntf);
+        for (int i = 0; i < this.iterations; i += batchSize) {
+            final int size = Math.min(batchSize, this.iterations - i);
+            try {
+                this.publishService.putNotifications(size == batchSize ? fullBatch : fullBatch.subList(0, size));
+                ntfOk += size;
+            } catch (final Exception e) {
+                ntfError += size;
+            }
+        }
+
+        this.ntfOk = ntfOk;
+        this.ntfError = ntfError;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package ntfbenchmark.impl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ntfbench.payload.rev150709.Ntfbench;
+
+/**
+ * A listener which deliberately takes a fixed amount of time to process each notification, used to check that
+ * a slow listener does not hold up delivery to other listeners.
+ */
+public class NtfbenchSlowListener extends NtfbenchTestListener {
+
+    private final long delayNanos;
+    private volatile int received = 0;
+
+    public NtfbenchSlowListener(final int expectedSize, final long delayMicros) {
+        super(expectedSize);
+        this.delayNanos = TimeUnit.MICROSECONDS.toNanos(delayMicros);
+    }
+
+    @Override
+    public void onNtfbench(final Ntfbench notification) {
+        final long deadline = System.nanoTime() + delayNanos;
+        for (long remaining = delayNanos; remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+        received++;
+    }
+
+    @Override
+    public int getReceived() {
+        return received;
+    }
+}
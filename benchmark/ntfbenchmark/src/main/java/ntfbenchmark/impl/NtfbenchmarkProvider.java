@@ -33,13 +33,16 @@ public class NtfbenchmarkProvider implements AutoCloseable, NtfbenchmarkService
 
     private static final Logger LOG = LoggerFactory.getLogger(NtfbenchmarkProvider.class);
     private final NotificationService listenService;
+    private final NotificationService clusteredListenService;
     private final NotificationPublishService publishService;
     private static final int testTimeout = 5;
 
     public NtfbenchmarkProvider(final NotificationService listenServiceDependency,
+            final NotificationService clusteredListenServiceDependency,
             final NotificationPublishService publishServiceDependency) {
         LOG.debug("NtfbenchmarkProvider Constructor");
         listenService = listenServiceDependency;
+        clusteredListenService = clusteredListenServiceDependency;
         publishService = publishServiceDependency;
     }
 
@@ -57,12 +60,21 @@ public class NtfbenchmarkProvider implements AutoCloseable, NtfbenchmarkService
         final int producerCount = input.getProducers().intValue();
         final int listenerCount = input.getListeners().intValue();
         final int iterations = input.getIterations().intValue();
-        final int payloadSize = input.getIterations().intValue();
+        final int payloadSize = input.getPayloadSize().intValue();
+        final int batchSize = input.getBatchSize() == null ? 1 : input.getBatchSize().intValue();
+        final long slowListenerDelay = input.getSlowListenerDelay() == null ? 0
+                : input.getSlowListenerDelay().longValue();
+        final NotificationService listenerService = Boolean.TRUE.equals(input.isClusteredListeners())
+                ? clusteredListenService : listenService;
 
         final List<AbstractNtfbenchProducer> producers = new ArrayList<>(producerCount);
         final List<ListenerRegistration<NtfbenchTestListener>> listeners = new ArrayList<>(listenerCount);
         for (int i = 0; i < producerCount; i++) {
-            producers.add(new NtfbenchBlockingProducer(publishService, iterations, payloadSize));
+            if (batchSize > 1) {
+                producers.add(new NtfbenchBatchingProducer(publishService, iterations, payloadSize, batchSize));
+            } else {
+                producers.add(new NtfbenchBlockingProducer(publishService, iterations, payloadSize));
+            }
         }
         int expectedCntPerListener = producerCount * iterations;
 
@@ -73,9 +85,13 @@ public class NtfbenchmarkProvider implements AutoCloseable, NtfbenchmarkService
             } else {
                 listener = new NtfbenchTestListener(payloadSize);
             }
-            listeners.add(listenService.registerNotificationListener(listener));
+            listeners.add(listenerService.registerNotificationListener(listener));
         }
 
+        final ListenerRegistration<NtfbenchSlowListener> slowListener = slowListenerDelay == 0 ? null
+                : listenerService.registerNotificationListener(
+                    new NtfbenchSlowListener(payloadSize, slowListenerDelay));
+
         try {
             final ExecutorService executor = Executors.newFixedThreadPool(input.getProducers().intValue());
 
@@ -106,6 +122,7 @@ public class NtfbenchmarkProvider implements AutoCloseable, NtfbenchmarkService
                 allListeners += listenerRegistration.getInstance().getReceived();
             }
 
+            final long slowListenerOk = slowListener == null ? 0 : slowListener.getInstance().getReceived();
             final long listenerEndTime = System.nanoTime();
             final long listenerElapsedTime = producerEndTime - startTime;
 
@@ -121,6 +138,7 @@ public class NtfbenchmarkProvider implements AutoCloseable, NtfbenchmarkService
                             .setProducerElapsedTime(producerElapsedTime / 1000000)
                             .setListenerElapsedTime(listenerElapsedTime / 1000000)
                             .setListenerOk(allListeners)
+                            .setSlowListenerOk(slowListenerOk)
                             .setProducerOk(allProducersOk)
                             .setProducerError(allProducersError)
                             .setProducerRate((allProducersOk + allProducersError) * 1000000000 / producerElapsedTime)
@@ -131,6 +149,9 @@ public class NtfbenchmarkProvider implements AutoCloseable, NtfbenchmarkService
             for (final ListenerRegistration<NtfbenchTestListener> listenerRegistration : listeners) {
                 listenerRegistration.close();
             }
+            if (slowListener != null) {
+                slowListener.close();
+            }
         }
     }
 
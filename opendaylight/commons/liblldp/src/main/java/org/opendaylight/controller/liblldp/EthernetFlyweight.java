@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.liblldp;
+
+import com.google.common.base.Preconditions;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Flyweight view of an Ethernet frame held in a {@link ByteBuffer}. Unlike {@link Ethernet}, this class reads header
+ * fields in place and returns MAC addresses as the low 48 bits of a long, hence decoding does not allocate. A single
+ * instance can be reused for any number of frames by re-wrapping it. Instances are not thread-safe and the buffer
+ * must not be modified while it is wrapped.
+ */
+public final class EthernetFlyweight {
+    public static final int HEADER_LENGTH = 14;
+
+    private static final int DMAC_OFFSET = 0;
+    private static final int SMAC_OFFSET = NetUtils.MACAddrLengthInBytes;
+    private static final int ETHERTYPE_OFFSET = 2 * NetUtils.MACAddrLengthInBytes;
+    private static final long BROADCAST_MAC = 0xFFFFFFFFFFFFL;
+    private static final long MULTICAST_BIT = 1L << 40;
+
+    private ByteBuffer buffer;
+    private int offset;
+    private int limit;
+
+    /**
+     * Wrap the remaining content of a buffer. The buffer's position is not modified.
+     *
+     * @param buffer buffer holding the frame
+     * @return this flyweight
+     * @throws IllegalArgumentException if the buffer does not hold a complete Ethernet header
+     */
+    public EthernetFlyweight wrap(final ByteBuffer buffer) {
+        return wrap(buffer, buffer.position(), buffer.remaining());
+    }
+
+    /**
+     * Wrap a part of a buffer.
+     *
+     * @param buffer buffer holding the frame
+     * @param offset absolute offset of the frame in the buffer
+     * @param length length of the frame in bytes
+     * @return this flyweight
+     * @throws IllegalArgumentException if the frame is shorter than an Ethernet header
+     */
+    public EthernetFlyweight wrap(final ByteBuffer buffer, final int offset, final int length) {
+        Preconditions.checkPositionIndexes(offset, offset + length, buffer.limit());
+        Preconditions.checkArgument(length >= HEADER_LENGTH, "Frame is too short (%s bytes)", length);
+        this.buffer = buffer;
+        this.offset = offset;
+        this.limit = offset + length;
+        return this;
+    }
+
+    /**
+     * @return the destination MAC address in the low 48 bits
+     */
+    public long getDestinationMACAddress() {
+        return getMAC(offset + DMAC_OFFSET);
+    }
+
+    /**
+     * @return the source MAC address in the low 48 bits
+     */
+    public long getSourceMACAddress() {
+        return getMAC(offset + SMAC_OFFSET);
+    }
+
+    /**
+     * @return the etherType as an unsigned value
+     */
+    public int getEtherType() {
+        return (buffer.get(offset + ETHERTYPE_OFFSET) & 0xFF) << 8 | buffer.get(offset + ETHERTYPE_OFFSET + 1) & 0xFF;
+    }
+
+    public boolean isBroadcast() {
+        return getDestinationMACAddress() == BROADCAST_MAC;
+    }
+
+    public boolean isMulticast() {
+        final long dmac = getDestinationMACAddress();
+        return dmac != BROADCAST_MAC && (dmac & MULTICAST_BIT) != 0;
+    }
+
+    public boolean isLLDP() {
+        return getEtherType() == EtherTypes.LLDP.intValue();
+    }
+
+    /**
+     * @return absolute offset of the payload in the wrapped buffer
+     */
+    public int getPayloadOffset() {
+        return offset + HEADER_LENGTH;
+    }
+
+    /**
+     * @return length of the payload in bytes
+     */
+    public int getPayloadLength() {
+        return limit - offset - HEADER_LENGTH;
+    }
+
+    /**
+     * Wrap the payload of this frame in an LLDP flyweight.
+     *
+     * @param lldp flyweight to wrap the payload in
+     * @return the LLDP flyweight
+     * @throws IllegalStateException if this frame does not carry LLDP
+     */
+    public LLDPFlyweight getLLDP(final LLDPFlyweight lldp) {
+        Preconditions.checkState(isLLDP(), "Frame carries etherType 0x%s, not LLDP",
+            Integer.toHexString(getEtherType()));
+        return lldp.wrap(buffer, getPayloadOffset(), getPayloadLength());
+    }
+
+    private long getMAC(final int at) {
+        long mac = 0;
+        for (int i = 0; i < NetUtils.MACAddrLengthInBytes; ++i) {
+            mac = mac << 8 | buffer.get(at + i) & 0xFF;
+        }
+        return mac;
+    }
+
+    /**
+     * Write an Ethernet header at the buffer's position.
+     *
+     * @param dst destination buffer
+     * @param destinationMAC destination MAC address in the low 48 bits
+     * @param sourceMAC source MAC address in the low 48 bits
+     * @param etherType etherType
+     * @throws BufferOverflowException if the buffer does not have enough space remaining
+     */
+    public static void putHeader(final ByteBuffer dst, final long destinationMAC, final long sourceMAC,
+            final int etherType) {
+        if (dst.remaining() < HEADER_LENGTH) {
+            throw new BufferOverflowException();
+        }
+        putMAC(dst, destinationMAC);
+        putMAC(dst, sourceMAC);
+        dst.put((byte) (etherType >>> 8));
+        dst.put((byte) etherType);
+    }
+
+    private static void putMAC(final ByteBuffer dst, final long mac) {
+        for (int shift = 40; shift >= 0; shift -= 8) {
+            dst.put((byte) (mac >>> shift));
+        }
+    }
+}
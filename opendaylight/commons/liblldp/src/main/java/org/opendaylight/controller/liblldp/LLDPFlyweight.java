@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.liblldp;
+
+import com.google.common.base.Preconditions;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Flyweight view of an LLDPDU held in a {@link ByteBuffer}. Unlike {@link LLDP}, which copies every TLV into
+ * {@link LLDPTLV} objects, this class reads the TLVs in place as it iterates over them, hence decoding does not
+ * allocate. A single instance can be reused for any number of LLDPDUs by re-wrapping it. Instances are not
+ * thread-safe and the buffer must not be modified while it is wrapped.
+ *
+ * <p>
+ * Typical use is:
+ * <pre>
+ *     while (lldp.next()) {
+ *         switch (lldp.getType()) {
+ *             ...
+ *         }
+ *     }
+ * </pre>
+ */
+public final class LLDPFlyweight {
+    private static final int TLV_HEADER_LENGTH = 2;
+    private static final int TLV_TYPE_SHIFT = 9;
+    private static final int TLV_LENGTH_MASK = 0x1FF;
+    private static final int TLV_MAX_LENGTH = TLV_LENGTH_MASK;
+    private static final int TTL_LENGTH = 2;
+
+    private ByteBuffer buffer;
+    private int limit;
+    private int position;
+    private int type;
+    private int length;
+    private int valueOffset = -1;
+    private boolean corrupted;
+
+    /**
+     * Wrap the remaining content of a buffer, positioning this flyweight before the first TLV. The buffer's position
+     * is not modified.
+     *
+     * @param buffer buffer holding the LLDPDU
+     * @return this flyweight
+     */
+    public LLDPFlyweight wrap(final ByteBuffer buffer) {
+        return wrap(buffer, buffer.position(), buffer.remaining());
+    }
+
+    /**
+     * Wrap a part of a buffer, positioning this flyweight before the first TLV.
+     *
+     * @param buffer buffer holding the LLDPDU
+     * @param offset absolute offset of the LLDPDU in the buffer
+     * @param length length of the LLDPDU in bytes
+     * @return this flyweight
+     */
+    public LLDPFlyweight wrap(final ByteBuffer buffer, final int offset, final int length) {
+        Preconditions.checkPositionIndexes(offset, offset + length, buffer.limit());
+        this.buffer = buffer;
+        this.limit = offset + length;
+        this.position = offset;
+        this.valueOffset = -1;
+        this.corrupted = false;
+        return this;
+    }
+
+    /**
+     * Advance to the next TLV. Iteration stops at the End Of LLDPDU TLV, at the end of the wrapped data, or at a TLV
+     * which extends past the end of the wrapped data, in which case {@link #isCorrupted()} is set.
+     *
+     * @return true if this flyweight is positioned on a TLV, false if there are no more TLVs
+     */
+    public boolean next() {
+        if (limit - position < TLV_HEADER_LENGTH) {
+            return finish();
+        }
+
+        final int header = (buffer.get(position) & 0xFF) << 8 | buffer.get(position + 1) & 0xFF;
+        final int nextType = header >>> TLV_TYPE_SHIFT;
+        final int nextLength = header & TLV_LENGTH_MASK;
+        if (nextType == LLDPTLV.TLVType.Unknown.getValue() && nextLength == 0) {
+            return finish();
+        }
+        if (limit - position - TLV_HEADER_LENGTH < nextLength) {
+            corrupted = true;
+            return finish();
+        }
+
+        type = nextType;
+        length = nextLength;
+        valueOffset = position + TLV_HEADER_LENGTH;
+        position = valueOffset + nextLength;
+        return true;
+    }
+
+    private boolean finish() {
+        position = limit;
+        valueOffset = -1;
+        return false;
+    }
+
+    /**
+     * Returns true if iteration stopped at a TLV extending past the end of the wrapped data.
+     *
+     * @return true if the LLDPDU is truncated
+     */
+    public boolean isCorrupted() {
+        return corrupted;
+    }
+
+    /**
+     * @return the type of the current TLV
+     */
+    public int getType() {
+        checkPositioned();
+        return type;
+    }
+
+    /**
+     * @return the length of the current TLV's value in bytes
+     */
+    public int getLength() {
+        checkPositioned();
+        return length;
+    }
+
+    /**
+     * @return absolute offset of the current TLV's value in the wrapped buffer
+     */
+    public int getValueOffset() {
+        checkPositioned();
+        return valueOffset;
+    }
+
+    /**
+     * @param index index within the current TLV's value
+     * @return byte of the current TLV's value
+     */
+    public byte getValueByte(final int index) {
+        checkPositioned();
+        Preconditions.checkElementIndex(index, length);
+        return buffer.get(valueOffset + index);
+    }
+
+    /**
+     * Copy the current TLV's value.
+     *
+     * @param dst destination array, which needs to have at least {@link #getLength()} bytes after dstOffset
+     * @param dstOffset offset in the destination array
+     */
+    public void getValue(final byte[] dst, final int dstOffset) {
+        checkPositioned();
+        Preconditions.checkPositionIndexes(dstOffset, dstOffset + length, dst.length);
+        for (int i = 0; i < length; ++i) {
+            dst[dstOffset + i] = buffer.get(valueOffset + i);
+        }
+    }
+
+    /**
+     * Compare the current TLV's value with an expected one without copying it.
+     *
+     * @param expected expected value
+     * @return true if the value is equal to the expected one
+     */
+    public boolean valueEquals(final byte[] expected) {
+        checkPositioned();
+        if (expected.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; ++i) {
+            if (buffer.get(valueOffset + i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the subtype of the current Chassis ID or Port ID TLV, which is the first byte of its value
+     */
+    public int getSubtype() {
+        return getValueByte(0) & 0xFF;
+    }
+
+    /**
+     * @return the time to live of the current TTL TLV, in seconds
+     */
+    public int getTtl() {
+        checkType(LLDPTLV.TLVType.TTL);
+        Preconditions.checkState(length >= TTL_LENGTH, "TTL TLV has invalid length %s", length);
+        return (buffer.get(valueOffset) & 0xFF) << 8 | buffer.get(valueOffset + 1) & 0xFF;
+    }
+
+    /**
+     * @return the organizationally unique identifier of the current custom TLV
+     */
+    public int getCustomOui() {
+        checkType(LLDPTLV.TLVType.Custom);
+        Preconditions.checkState(length >= LLDPTLV.customTlvOffset, "Custom TLV has invalid length %s", length);
+        return (buffer.get(valueOffset) & 0xFF) << 16 | (buffer.get(valueOffset + 1) & 0xFF) << 8
+                | buffer.get(valueOffset + 2) & 0xFF;
+    }
+
+    /**
+     * @return the subtype of the current custom TLV
+     */
+    public int getCustomSubtype() {
+        checkType(LLDPTLV.TLVType.Custom);
+        Preconditions.checkState(length >= LLDPTLV.customTlvOffset, "Custom TLV has invalid length %s", length);
+        return buffer.get(valueOffset + LLDPTLV.OFOUI.length) & 0xFF;
+    }
+
+    /**
+     * Create an {@link LLDPTLV} holding a copy of the current TLV, for use with the {@link Packet} API.
+     *
+     * @return a new LLDPTLV
+     */
+    public LLDPTLV toLLDPTLV() {
+        final byte[] value = new byte[getLength()];
+        getValue(value, 0);
+        return new LLDPTLV().setType((byte) type).setLength((short) length).setValue(value);
+    }
+
+    private void checkPositioned() {
+        Preconditions.checkState(valueOffset != -1, "Not positioned on a TLV");
+    }
+
+    private void checkType(final LLDPTLV.TLVType expected) {
+        Preconditions.checkState(getType() == expected.getValue(), "Current TLV type %s is not %s", type, expected);
+    }
+
+    /**
+     * Write a TLV at the buffer's position.
+     *
+     * @param dst destination buffer
+     * @param type TLV type
+     * @param value TLV value
+     * @throws BufferOverflowException if the buffer does not have enough space remaining
+     */
+    public static void putTLV(final ByteBuffer dst, final int type, final byte[] value) {
+        Preconditions.checkArgument(type >= 0 && type <= LLDPTLV.TLVType.Custom.getValue(), "Invalid TLV type %s",
+            type);
+        Preconditions.checkArgument(value.length <= TLV_MAX_LENGTH, "TLV value is too long (%s bytes)",
+            value.length);
+        if (dst.remaining() < TLV_HEADER_LENGTH + value.length) {
+            throw new BufferOverflowException();
+        }
+        putTLVHeader(dst, type, value.length);
+        dst.put(value);
+    }
+
+    /**
+     * Write the End Of LLDPDU TLV at the buffer's position.
+     *
+     * @param dst destination buffer
+     * @throws BufferOverflowException if the buffer does not have enough space remaining
+     */
+    public static void putEnd(final ByteBuffer dst) {
+        putTLVHeader(dst, LLDPTLV.TLVType.Unknown.getValue(), 0);
+    }
+
+    private static void putTLVHeader(final ByteBuffer dst, final int type, final int length) {
+        final int header = type << TLV_TYPE_SHIFT | length;
+        dst.put((byte) (header >>> 8));
+        dst.put((byte) header);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.liblldp;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of {@link EthernetFlyweight} and {@link LLDPFlyweight} against the {@link Packet} API.
+ */
+public class LLDPFlyweightTest {
+
+    private static final byte[] SOURCE_MAC = new byte[] { 0x00, 0x11, 0x22, 0x33, 0x44, 0x55 };
+    private static final byte[] CHASSIS_ID_VALUE = LLDPTLV.createChassisIDTLVValue("00:00:00:00:00:00:00:01");
+    private static final byte[] PORT_ID_VALUE = LLDPTLV.createPortIDTLVValue("openflow:1:2");
+    private static final byte[] TTL_VALUE = new byte[] { 0, 120 };
+    private static final byte[] SYSTEM_NAME_VALUE = LLDPTLV.createSystemNameTLVValue("openflow:1");
+    private static final byte[] CUSTOM_VALUE = LLDPTLV.createCustomTLVValue("openflow:1:2");
+
+    private static LLDPTLV tlv(final LLDPTLV.TLVType type, final byte[] value) {
+        return new LLDPTLV().setType(type.getValue()).setLength((short) value.length).setValue(value);
+    }
+
+    private static byte[] serializeWithPacketApi() throws PacketException {
+        final LLDP lldp = new LLDP();
+        lldp.setChassisId(tlv(LLDPTLV.TLVType.ChassisID, CHASSIS_ID_VALUE));
+        lldp.setPortId(tlv(LLDPTLV.TLVType.PortID, PORT_ID_VALUE));
+        lldp.setTtl(tlv(LLDPTLV.TLVType.TTL, TTL_VALUE));
+        lldp.setSystemNameId(tlv(LLDPTLV.TLVType.SystemName, SYSTEM_NAME_VALUE));
+        lldp.addCustomTLV(tlv(LLDPTLV.TLVType.Custom, CUSTOM_VALUE));
+
+        final Ethernet ethernet = new Ethernet();
+        ethernet.setSourceMACAddress(SOURCE_MAC).setDestinationMACAddress(LLDP.LLDPMulticastMac)
+            .setEtherType(EtherTypes.LLDP.shortValue()).setPayload(lldp);
+        return ethernet.serialize();
+    }
+
+    private static ByteBuffer serializeWithFlyweight() {
+        final ByteBuffer buffer = ByteBuffer.allocate(128);
+        EthernetFlyweight.putHeader(buffer, NetUtils.byteArray6ToLong(LLDP.LLDPMulticastMac),
+            NetUtils.byteArray6ToLong(SOURCE_MAC), EtherTypes.LLDP.intValue());
+        LLDPFlyweight.putTLV(buffer, LLDPTLV.TLVType.ChassisID.getValue(), CHASSIS_ID_VALUE);
+        LLDPFlyweight.putTLV(buffer, LLDPTLV.TLVType.PortID.getValue(), PORT_ID_VALUE);
+        LLDPFlyweight.putTLV(buffer, LLDPTLV.TLVType.TTL.getValue(), TTL_VALUE);
+        LLDPFlyweight.putTLV(buffer, LLDPTLV.TLVType.SystemName.getValue(), SYSTEM_NAME_VALUE);
+        LLDPFlyweight.putTLV(buffer, LLDPTLV.TLVType.Custom.getValue(), CUSTOM_VALUE);
+        LLDPFlyweight.putEnd(buffer);
+        buffer.flip();
+        return buffer;
+    }
+
+    @Test
+    public void testDecode() throws Exception {
+        final EthernetFlyweight ethernet = new EthernetFlyweight().wrap(ByteBuffer.wrap(serializeWithPacketApi()));
+        Assert.assertEquals(NetUtils.byteArray6ToLong(LLDP.LLDPMulticastMac), ethernet.getDestinationMACAddress());
+        Assert.assertEquals(NetUtils.byteArray6ToLong(SOURCE_MAC), ethernet.getSourceMACAddress());
+        Assert.assertTrue(ethernet.isLLDP());
+        Assert.assertTrue(ethernet.isMulticast());
+        Assert.assertFalse(ethernet.isBroadcast());
+
+        final LLDPFlyweight lldp = ethernet.getLLDP(new LLDPFlyweight());
+        Assert.assertTrue(lldp.next());
+        Assert.assertEquals(LLDPTLV.TLVType.ChassisID.getValue(), lldp.getType());
+        Assert.assertTrue(lldp.valueEquals(CHASSIS_ID_VALUE));
+        Assert.assertEquals(LLDPTLV.chassisIDSubType[0], lldp.getSubtype());
+        Assert.assertTrue(lldp.next());
+        Assert.assertEquals(LLDPTLV.TLVType.PortID.getValue(), lldp.getType());
+        final byte[] portId = new byte[lldp.getLength()];
+        lldp.getValue(portId, 0);
+        Assert.assertArrayEquals(PORT_ID_VALUE, portId);
+        Assert.assertTrue(lldp.next());
+        Assert.assertEquals(120, lldp.getTtl());
+        Assert.assertTrue(lldp.next());
+        Assert.assertEquals(LLDPTLV.TLVType.SystemName.getValue(), lldp.getType());
+        Assert.assertTrue(lldp.valueEquals(SYSTEM_NAME_VALUE));
+        Assert.assertTrue(lldp.next());
+        final LLDPTLV custom = lldp.toLLDPTLV();
+        Assert.assertEquals(LLDPTLV.extractCustomOUI(custom), lldp.getCustomOui());
+        Assert.assertEquals(LLDPTLV.CUSTOM_TLV_SUB_TYPE_NODE_CONNECTOR_ID[0], lldp.getCustomSubtype());
+        Assert.assertEquals("openflow:1:2", LLDPTLV.getCustomString(custom.getValue(), custom.getLength()));
+        Assert.assertFalse(lldp.next());
+        Assert.assertFalse(lldp.isCorrupted());
+    }
+
+    @Test
+    public void testEncode() throws Exception {
+        final ByteBuffer buffer = serializeWithFlyweight();
+        final byte[] frame = Arrays.copyOf(buffer.array(), buffer.limit());
+        Assert.assertArrayEquals(serializeWithPacketApi(), frame);
+
+        final Ethernet ethernet = new Ethernet();
+        ethernet.deserialize(frame, 0, frame.length * NetUtils.NumBitsInAByte);
+        final LLDP lldp = (LLDP) ethernet.getPayload();
+        Assert.assertArrayEquals(PORT_ID_VALUE, lldp.getPortId().getValue());
+        Assert.assertArrayEquals(TTL_VALUE, lldp.getTtl().getValue());
+    }
+
+    @Test
+    public void testTruncated() {
+        final ByteBuffer buffer = serializeWithFlyweight();
+        final LLDPFlyweight lldp = new LLDPFlyweight().wrap(buffer, EthernetFlyweight.HEADER_LENGTH,
+            2 + CHASSIS_ID_VALUE.length + 3);
+        Assert.assertTrue(lldp.next());
+        Assert.assertTrue(lldp.valueEquals(CHASSIS_ID_VALUE));
+        Assert.assertFalse(lldp.next());
+        Assert.assertTrue(lldp.isCorrupted());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testNotPositioned() {
+        new LLDPFlyweight().wrap(serializeWithFlyweight()).getType();
+    }
+}
@@ -351,7 +351,17 @@ public class ConfigSubsystemFacade implements Closeable {
 
     public ConfigExecution getConfigExecution(final Config configMapping, final Element xmlToBePersisted)
             throws DocumentedException {
-        return new ConfigExecution(configMapping, XmlElement.fromDomElement(xmlToBePersisted), TestOption.testThenSet,
+        return getConfigExecution(configMapping, xmlToBePersisted, TestOption.testThenSet);
+    }
+
+    /**
+     * Create an execution of a configuration with the default edit strategy. Executions with {@link TestOption#set}
+     * skip the separate test transaction and only edit the current transaction, which allows multiple executions
+     * to be validated together when the transaction is committed.
+     */
+    public ConfigExecution getConfigExecution(final Config configMapping, final Element xmlToBePersisted,
+            final TestOption testOption) throws DocumentedException {
+        return new ConfigExecution(configMapping, XmlElement.fromDomElement(xmlToBePersisted), testOption,
                 EditStrategyType.getDefaultStrategy());
     }
 
@@ -8,6 +8,7 @@
 package org.opendaylight.controller.config.manager.impl;
 
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -20,6 +21,8 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
@@ -66,6 +69,7 @@ import org.slf4j.LoggerFactory;
 public class ConfigRegistryImpl implements AutoCloseable, ConfigRegistryImplMXBean {
     private static final Logger LOG = LoggerFactory.getLogger(ConfigRegistryImpl.class);
     private static final ObjectName NOOP_TX_NAME = ObjectNameUtil.createTransactionControllerON("noop");
+    private static final int COMMIT_PARALLELISM = Runtime.getRuntime().availableProcessors();
 
     private final ModuleFactoriesResolver resolver;
     private final MBeanServer configMBeanServer;
@@ -105,6 +109,11 @@ public class ConfigRegistryImpl implements AutoCloseable, ConfigRegistryImplMXBe
 
     private final AtomicBoolean closed = new AtomicBoolean();
 
+    // shared by all transactions to validate and instantiate independent modules concurrently
+    private final ThreadPoolExecutor commitExecutor = new ThreadPoolExecutor(COMMIT_PARALLELISM, COMMIT_PARALLELISM,
+            1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder().setNameFormat("config-commit-%d").setDaemon(true).build());
+
     private final Object readableSRRegistryLock = new Object();
 
     private final Lock configTransactionLock = new ReentrantLock();
@@ -136,6 +145,7 @@ public class ConfigRegistryImpl implements AutoCloseable, ConfigRegistryImplMXBe
                 .createMBeanServer("ConfigRegistry" + configMBeanServer.getDefaultDomain());
         this.transactionsMBeanServer = MBeanServerFactory
                 .createMBeanServer("ConfigTransactions" + configMBeanServer.getDefaultDomain());
+        this.commitExecutor.allowCoreThreadTimeOut(true);
     }
 
     /**
@@ -231,7 +241,7 @@ public class ConfigRegistryImpl implements AutoCloseable, ConfigRegistryImplMXBe
 
         ConfigTransactionControllerInternal transactionController = new ConfigTransactionControllerImpl(
                 txLookupRegistry, version, bindingContextProvider, versionCounter, allCurrentFactories,
-                transactionsMBeanServer, configMBeanServer, blankTransaction, writableRegistry);
+                transactionsMBeanServer, configMBeanServer, blankTransaction, writableRegistry, commitExecutor);
         try {
             txLookupRegistry.registerMBean(transactionController, transactionController.getControllerObjectName());
         } catch (final InstanceAlreadyExistsException e) {
@@ -335,6 +345,7 @@ public class ConfigRegistryImpl implements AutoCloseable, ConfigRegistryImplMXBe
 
         // can register runtime beans
         List<ModuleIdentifier> orderedModuleIdentifiers = configTransactionController.secondPhaseCommit();
+        Map<ModuleIdentifier, Set<ModuleIdentifier>> dependencies = configTransactionController.getDependencies();
         txLookupRegistry.close();
         configTransactionController.close();
 
@@ -430,7 +441,8 @@ public class ConfigRegistryImpl implements AutoCloseable, ConfigRegistryImplMXBe
 
             RootRuntimeBeanRegistratorImpl runtimeBeanRegistrator = runtimeRegistrators.get(entry.getIdentifier());
             ModuleInternalInfo newInfo = new ModuleInternalInfo(entry.getIdentifier(), newReadableConfigBean,
-                    osgiRegistration, runtimeBeanRegistrator, newModuleJMXRegistrator, orderingIdx,
+                    osgiRegistration, runtimeBeanRegistrator, newModuleJMXRegistrator,
+                    dependencies.getOrDefault(moduleIdentifier, Collections.emptySet()), orderingIdx,
                     entry.isDefaultBean(), entry.getModuleFactory(), entry.getBundleContext());
 
             newConfigEntries.put(realModule, newInfo);
@@ -502,6 +514,7 @@ public class ConfigRegistryImpl implements AutoCloseable, ConfigRegistryImplMXBe
         // remove jmx servers
         MBeanServerFactory.releaseMBeanServer(registryMBeanServer);
         MBeanServerFactory.releaseMBeanServer(transactionsMBeanServer);
+        commitExecutor.shutdown();
 
         LOG.info("ConfigRegistry closed");
     }
@@ -8,18 +8,23 @@
 package org.opendaylight.controller.config.manager.impl;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
 import com.google.common.collect.Lists;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.GuardedBy;
-import javax.management.DynamicMBean;
 import javax.management.InstanceAlreadyExistsException;
 import javax.management.InstanceNotFoundException;
 import javax.management.MBeanServer;
@@ -55,6 +60,8 @@ import org.slf4j.LoggerFactory;
 public class ConfigTransactionControllerImpl implements ConfigTransactionControllerInternal,
         ConfigTransactionControllerImplMXBean, Identifiable<TransactionIdentifier> {
     private static final Logger LOG = LoggerFactory.getLogger(ConfigTransactionControllerImpl.class);
+    private static final Comparator<ModuleIdentifier> MODULE_IDENTIFIER_ORDER = Comparator
+            .comparing(ModuleIdentifier::getFactoryName).thenComparing(ModuleIdentifier::getInstanceName);
 
     private final ConfigTransactionLookupRegistry txLookupRegistry;
     private final ObjectName controllerON;
@@ -82,11 +89,22 @@ public class ConfigTransactionControllerImpl implements ConfigTransactionControl
     @GuardedBy("this")
     private final SearchableServiceReferenceWritableRegistry writableSRRegistry;
 
+    /**
+     * Set when service references change, which may change the dependencies of any module.
+     */
+    private volatile boolean serviceReferencesModified;
+
+    /**
+     * Executes validation and instantiation of independent modules concurrently.
+     */
+    private final Executor commitExecutor;
+
     public ConfigTransactionControllerImpl(final ConfigTransactionLookupRegistry txLookupRegistry,
             final long parentVersion, final BindingContextProvider bindingContextProvider, final long currentVersion,
             final Map<String, Entry<ModuleFactory, BundleContext>> currentlyRegisteredFactories,
             final MBeanServer transactionsMBeanServer, final MBeanServer configMBeanServer,
-            final boolean blankTransaction, final SearchableServiceReferenceWritableRegistry writableSRRegistry) {
+            final boolean blankTransaction, final SearchableServiceReferenceWritableRegistry writableSRRegistry,
+            final Executor commitExecutor) {
         this.txLookupRegistry = txLookupRegistry;
         String transactionName = txLookupRegistry.getTransactionIdentifier().getName();
         this.controllerON = ObjectNameUtil.createTransactionControllerON(transactionName);
@@ -101,6 +119,7 @@ public class ConfigTransactionControllerImpl implements ConfigTransactionControl
         this.configMBeanServer = configMBeanServer;
         this.blankTransaction = blankTransaction;
         this.writableSRRegistry = writableSRRegistry;
+        this.commitExecutor = Preconditions.checkNotNull(commitExecutor);
     }
 
     @Override
@@ -254,6 +273,7 @@ public class ConfigTransactionControllerImpl implements ConfigTransactionControl
 
         ModuleInternalTransactionalInfo txInfo = dependencyResolverManager
                 .findModuleInternalTransactionalInfo(moduleIdentifier);
+        txInfo.setRecreated();
         Module realModule = txInfo.getRealModule();
         if (realModule instanceof AbstractModule) {
             ((AbstractModule<?>) realModule).setCanReuseInstance(false);
@@ -274,7 +294,7 @@ public class ConfigTransactionControllerImpl implements ConfigTransactionControl
             throw new IllegalStateException("Incorrect name reported by dependency resolver. Expected "
                     + moduleIdentifier + ", got " + dependencyResolver.getIdentifier());
         }
-        DynamicMBean writableDynamicWrapper = new DynamicWritableWrapper(module, moduleIdentifier,
+        DynamicWritableWrapper writableDynamicWrapper = new DynamicWritableWrapper(module, moduleIdentifier,
                 getTransactionIdentifier().getName(), readOnlyAtomicBoolean, transactionsMBeanServer,
                 configMBeanServer);
 
@@ -285,7 +305,7 @@ public class ConfigTransactionControllerImpl implements ConfigTransactionControl
                 .registerMBean(writableDynamicWrapper, writableON);
 
         dependencyResolverManager.put(moduleIdentifier, module, moduleFactory, maybeOldConfigBeanInfo,
-                transactionModuleJMXRegistration, isDefaultBean, bundleContext);
+                transactionModuleJMXRegistration, writableDynamicWrapper, isDefaultBean, bundleContext);
         return writableON;
     }
 
@@ -355,16 +375,29 @@ public class ConfigTransactionControllerImpl implements ConfigTransactionControl
     private void validateNoLocks() throws ValidationException {
         transactionStatus.checkNotAborted();
         LOG.trace("Validating transaction {}", getTransactionIdentifier());
-        // call validate()
+        // call validate() concurrently, but collect the results in a stable order, so that
+        // the reported failures do not depend on scheduling. Modules which did not change since
+        // they were committed and do not depend on changed modules are known to be valid.
+        final Map<ModuleIdentifier, Module> allModules = dependencyResolverManager.getAllModules();
+        final List<ModuleIdentifier> names = new ArrayList<>(serviceReferencesModified ? allModules.keySet()
+                : dependencyResolverManager.findModulesToValidate());
+        names.sort(MODULE_IDENTIFIER_ORDER);
+        LOG.debug("Validating {} of {} modules in transaction {}", names.size(), allModules.size(),
+                getTransactionIdentifier());
+
+        final Executor executor = withContextClassLoader(commitExecutor);
+        final List<CompletableFuture<Exception>> validations = new ArrayList<>(names.size());
+        for (ModuleIdentifier name : names) {
+            final Module module = allModules.get(name);
+            validations.add(CompletableFuture.supplyAsync(() -> validateModule(module), executor));
+        }
+
         List<ValidationException> collectedExceptions = new ArrayList<>();
-        for (Entry<ModuleIdentifier, Module> entry : dependencyResolverManager.getAllModules().entrySet()) {
-            ModuleIdentifier name = entry.getKey();
-            Module module = entry.getValue();
-            try {
-                module.validate();
-            } catch (final Exception e) {
+        for (int i = 0; i < names.size(); ++i) {
+            final Exception e = join(validations.get(i));
+            if (e != null) {
                 LOG.warn("Validation exception in {}", getTransactionName(), e);
-                collectedExceptions.add(ValidationException.createForSingleException(name, e));
+                collectedExceptions.add(ValidationException.createForSingleException(names.get(i), e));
             }
         }
         if (!collectedExceptions.isEmpty()) {
@@ -373,6 +406,17 @@ public class ConfigTransactionControllerImpl implements ConfigTransactionControl
         LOG.trace("Validated transaction {}", getTransactionIdentifier());
     }
 
+    @SuppressWarnings("IllegalCatch")
+    @Nullable
+    private static Exception validateModule(final Module module) {
+        try {
+            module.validate();
+            return null;
+        } catch (final Exception e) {
+            return e;
+        }
+    }
+
     /**
      * If this method passes validation, it will grab
      * {@link TransactionStatus#secondPhaseCommitStarted} lock. This lock will
@@ -423,13 +467,14 @@ public class ConfigTransactionControllerImpl implements ConfigTransactionControl
         // performed bottom to top
         List<ModuleIdentifier> sortedModuleIdentifiers = Lists
                 .reverse(dependencyResolverManager.getSortedModuleIdentifiers());
-        for (ModuleIdentifier moduleIdentifier : sortedModuleIdentifiers) {
-            Module module = allModules.get(moduleIdentifier);
-
-            LOG.debug("About to commit {} in transaction {}", moduleIdentifier, getTransactionIdentifier());
-            AutoCloseable instance = module.getInstance();
-            Preconditions.checkNotNull(instance, "Instance is null:%s in transaction %s", moduleIdentifier,
-                    getTransactionIdentifier());
+        if (recreatesInstances(sortedModuleIdentifiers)) {
+            for (ModuleIdentifier moduleIdentifier : sortedModuleIdentifiers) {
+                instantiateModule(moduleIdentifier, allModules.get(moduleIdentifier));
+            }
+        } else {
+            // No old instance needs to be closed, hence the top to bottom ordering does not matter and modules
+            // can be instantiated from bottom to top, starting each of them as soon as its dependencies are ready
+            instantiateConcurrently(allModules, Lists.reverse(sortedModuleIdentifiers));
         }
 
         LOG.trace("Committed configuration {}", getTransactionIdentifier());
@@ -438,6 +483,84 @@ public class ConfigTransactionControllerImpl implements ConfigTransactionControl
         return sortedModuleIdentifiers;
     }
 
+    private boolean recreatesInstances(final List<ModuleIdentifier> moduleIdentifiers) {
+        for (ModuleIdentifier moduleIdentifier : moduleIdentifiers) {
+            ModuleInternalTransactionalInfo info = dependencyResolverManager
+                    .findModuleInternalTransactionalInfo(moduleIdentifier);
+            if (info.hasOldModule()
+                    && !info.getRealModule().canReuse(info.getOldInternalInfo().getReadableModule().getModule())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void instantiateConcurrently(final Map<ModuleIdentifier, Module> allModules,
+            final List<ModuleIdentifier> bottomUpModuleIdentifiers) {
+        final Map<ModuleIdentifier, Set<ModuleIdentifier>> dependencies = dependencyResolverManager.getDependencies();
+        final Executor executor = withContextClassLoader(commitExecutor);
+        final Map<ModuleIdentifier, CompletableFuture<Void>> instantiations = new HashMap<>();
+        for (ModuleIdentifier moduleIdentifier : bottomUpModuleIdentifiers) {
+            final List<CompletableFuture<Void>> ready = new ArrayList<>();
+            for (ModuleIdentifier dependency : dependencies.get(moduleIdentifier)) {
+                final CompletableFuture<Void> instantiation = instantiations.get(dependency);
+                if (instantiation != null) {
+                    ready.add(instantiation);
+                }
+            }
+
+            final Module module = allModules.get(moduleIdentifier);
+            instantiations.put(moduleIdentifier, CompletableFuture.allOf(ready.toArray(new CompletableFuture[0]))
+                .thenRunAsync(() -> instantiateModule(moduleIdentifier, module), executor));
+        }
+
+        // Wait for all modules to finish and report the failure of the first failed module in bottom to top order
+        CompletableFuture.allOf(instantiations.values().toArray(new CompletableFuture[0]))
+            .exceptionally(t -> null).join();
+        for (ModuleIdentifier moduleIdentifier : bottomUpModuleIdentifiers) {
+            join(instantiations.get(moduleIdentifier));
+        }
+    }
+
+    private void instantiateModule(final ModuleIdentifier moduleIdentifier, final Module module) {
+        LOG.debug("About to commit {} in transaction {}", moduleIdentifier, getTransactionIdentifier());
+        AutoCloseable instance = module.getInstance();
+        Preconditions.checkNotNull(instance, "Instance is null:%s in transaction %s", moduleIdentifier,
+                getTransactionIdentifier());
+    }
+
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Wrap an executor so that tasks run with the context class loader of the calling thread, as they would if
+     * they were run by the calling thread itself.
+     */
+    private static Executor withContextClassLoader(final Executor executor) {
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        return command -> executor.execute(() -> {
+            final Thread thread = Thread.currentThread();
+            final ClassLoader previous = thread.getContextClassLoader();
+            thread.setContextClassLoader(contextClassLoader);
+            try {
+                command.run();
+            } finally {
+                thread.setContextClassLoader(previous);
+            }
+        });
+    }
+
+    @Override
+    public Map<ModuleIdentifier, Set<ModuleIdentifier>> getDependencies() {
+        return dependencyResolverManager.getDependencies();
+    }
+
     @Override
     public void abortConfig() {
         transactionStatus.checkNotCommitStarted();
@@ -607,22 +730,26 @@ public class ConfigTransactionControllerImpl implements ConfigTransactionControl
     @Override
     public synchronized ObjectName saveServiceReference(final String serviceInterfaceName, final String refName,
             final ObjectName moduleON) throws InstanceNotFoundException {
+        serviceReferencesModified = true;
         return writableSRRegistry.saveServiceReference(serviceInterfaceName, refName, moduleON);
     }
 
     @Override
     public synchronized void removeServiceReference(final String serviceInterfaceName, final String refName)
             throws InstanceNotFoundException {
+        serviceReferencesModified = true;
         writableSRRegistry.removeServiceReference(serviceInterfaceName, refName);
     }
 
     @Override
     public synchronized void removeAllServiceReferences() {
+        serviceReferencesModified = true;
         writableSRRegistry.removeAllServiceReferences();
     }
 
     @Override
     public boolean removeServiceReferences(final ObjectName objectName) throws InstanceNotFoundException {
+        serviceReferencesModified = true;
         return writableSRRegistry.removeServiceReferences(objectName);
     }
 
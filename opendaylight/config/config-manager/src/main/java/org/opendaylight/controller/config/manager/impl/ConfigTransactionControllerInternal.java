@@ -9,6 +9,8 @@ package org.opendaylight.controller.config.manager.impl;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import javax.management.ObjectName;
 import org.opendaylight.controller.config.api.ModuleIdentifier;
 import org.opendaylight.controller.config.api.ValidationException;
@@ -55,6 +57,14 @@ interface ConfigTransactionControllerInternal extends ConfigTransactionControlle
      */
     List<ModuleIdentifier> secondPhaseCommit();
 
+    /**
+     * Get the modules each module in transaction depends on. This method can be
+     * only called after {@link #validateBeforeCommitAndLockTransaction()}.
+     *
+     * @return map of module identifiers to identifiers of their dependencies
+     */
+    Map<ModuleIdentifier, Set<ModuleIdentifier>> getDependencies();
+
     /**
      * Gets the objectName of this transaction controller.
      *
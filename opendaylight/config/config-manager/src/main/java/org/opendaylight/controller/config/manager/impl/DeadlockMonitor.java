@@ -8,10 +8,14 @@
 
 package org.opendaylight.controller.config.manager.impl;
 
+import java.util.ArrayDeque;
+import java.util.Collections;
 import java.util.Deque;
-import java.util.LinkedList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
-import javax.annotation.Nullable;
 import javax.annotation.concurrent.GuardedBy;
 import org.opendaylight.controller.config.api.ModuleIdentifier;
 import org.slf4j.Logger;
@@ -24,10 +28,9 @@ public class DeadlockMonitor implements AutoCloseable {
 
     private final TransactionIdentifier transactionIdentifier;
     private final DeadlockMonitorRunnable thread;
+    // modules may be instantiated by multiple threads concurrently, each of them has its own stack
     @GuardedBy("this")
-    private final Deque<ModuleIdentifierWithNanos> moduleIdentifierWithNanosStack = new LinkedList<>();
-    @GuardedBy("this")
-    private ModuleIdentifierWithNanos top = ModuleIdentifierWithNanos.empty;
+    private final Map<Thread, Deque<ModuleIdentifierWithNanos>> moduleIdentifierWithNanosStacks = new HashMap<>();
 
     public DeadlockMonitor(final TransactionIdentifier transactionIdentifier) {
         this.transactionIdentifier = transactionIdentifier;
@@ -36,21 +39,31 @@ public class DeadlockMonitor implements AutoCloseable {
     }
 
     public synchronized void setCurrentlyInstantiatedModule(final ModuleIdentifier currentlyInstantiatedModule) {
+        final Thread currentThread = Thread.currentThread();
+        final Deque<ModuleIdentifierWithNanos> moduleIdentifierWithNanosStack;
 
         boolean popping = currentlyInstantiatedModule == null;
         if (popping) {
+            moduleIdentifierWithNanosStack = moduleIdentifierWithNanosStacks.get(currentThread);
             moduleIdentifierWithNanosStack.pop();
             if (moduleIdentifierWithNanosStack.isEmpty()) {
-                top = ModuleIdentifierWithNanos.empty;
-            } else {
-                top = moduleIdentifierWithNanosStack.peekLast();
+                moduleIdentifierWithNanosStacks.remove(currentThread);
             }
         } else {
-            ModuleIdentifierWithNanos current = new ModuleIdentifierWithNanos(currentlyInstantiatedModule);
-            moduleIdentifierWithNanosStack.push(current);
-            top = current;
+            moduleIdentifierWithNanosStack = moduleIdentifierWithNanosStacks.computeIfAbsent(currentThread,
+                k -> new ArrayDeque<>());
+            moduleIdentifierWithNanosStack.push(new ModuleIdentifierWithNanos(currentlyInstantiatedModule));
+        }
+        LOG.trace("setCurrentlyInstantiatedModule {}, top {}", currentlyInstantiatedModule,
+                moduleIdentifierWithNanosStack.peek());
+    }
+
+    private synchronized Set<ModuleIdentifierWithNanos> getTops() {
+        final Set<ModuleIdentifierWithNanos> tops = new HashSet<>();
+        for (Deque<ModuleIdentifierWithNanos> stack : moduleIdentifierWithNanosStacks.values()) {
+            tops.add(stack.peek());
         }
-        LOG.trace("setCurrentlyInstantiatedModule {}, top {}", currentlyInstantiatedModule, top);
+        return tops;
     }
 
     public boolean isAlive() {
@@ -75,24 +88,19 @@ public class DeadlockMonitor implements AutoCloseable {
 
         @Override
         public void run() {
-            // null moduleId
-            ModuleIdentifierWithNanos old = new ModuleIdentifierWithNanos();
+            Set<ModuleIdentifierWithNanos> old = Collections.emptySet();
             while (!this.isInterrupted()) {
-                ModuleIdentifierWithNanos copy;
-                synchronized (this) {
-                    copy = new ModuleIdentifierWithNanos(DeadlockMonitor.this.top);
-                }
-
-                if (old.moduleIdentifier == null || !old.equals(copy)) {
-                    // started
-                    old = copy;
-                } else {
+                final Set<ModuleIdentifierWithNanos> tops = getTops();
+                for (ModuleIdentifierWithNanos top : tops) {
                     // is the getInstance() running longer than WARN_AFTER_MILLIS ?
-                    long runningTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - copy.nanoTime);
-                    if (runningTime > WARN_AFTER_MILLIS) {
-                        LOG.warn("{} did not finish after {} ms", copy.moduleIdentifier, runningTime);
+                    if (old.contains(top)) {
+                        long runningTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - top.nanoTime);
+                        if (runningTime > WARN_AFTER_MILLIS) {
+                            LOG.warn("{} did not finish after {} ms", top.moduleIdentifier, runningTime);
+                        }
                     }
                 }
+                old = tops;
                 try {
                     sleep(WARN_AFTER_MILLIS);
                 } catch (final InterruptedException e) {
@@ -109,26 +117,15 @@ public class DeadlockMonitor implements AutoCloseable {
     }
 
     private static class ModuleIdentifierWithNanos {
-        private static ModuleIdentifierWithNanos empty = new ModuleIdentifierWithNanos();
-        @Nullable
         private final ModuleIdentifier moduleIdentifier;
 
         private final long nanoTime;
 
-        private ModuleIdentifierWithNanos() {
-            this((ModuleIdentifier) null);
-        }
-
         private ModuleIdentifierWithNanos(final ModuleIdentifier moduleIdentifier) {
             this.moduleIdentifier = moduleIdentifier;
             nanoTime = System.nanoTime();
         }
 
-        private ModuleIdentifierWithNanos(final ModuleIdentifierWithNanos copy) {
-            moduleIdentifier = copy.moduleIdentifier;
-            nanoTime = copy.nanoTime;
-        }
-
         @Override
         public boolean equals(final Object object) {
             if (this == object) {
@@ -143,17 +140,12 @@ public class DeadlockMonitor implements AutoCloseable {
             if (nanoTime != that.nanoTime) {
                 return false;
             }
-            if (moduleIdentifier != null ? !moduleIdentifier.equals(that.moduleIdentifier)
-                    : that.moduleIdentifier != null) {
-                return false;
-            }
-
-            return true;
+            return moduleIdentifier.equals(that.moduleIdentifier);
         }
 
         @Override
         public int hashCode() {
-            int result = moduleIdentifier != null ? moduleIdentifier.hashCode() : 0;
+            int result = moduleIdentifier.hashCode();
             result = 31 * result + (int) (nanoTime ^ nanoTime >>> 32);
             return result;
         }
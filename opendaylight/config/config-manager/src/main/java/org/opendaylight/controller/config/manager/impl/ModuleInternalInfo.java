@@ -7,6 +7,8 @@
  */
 package org.opendaylight.controller.config.manager.impl;
 
+import com.google.common.collect.ImmutableSet;
+import java.util.Set;
 import javax.annotation.Nullable;
 import org.opendaylight.controller.config.api.ModuleIdentifier;
 import org.opendaylight.controller.config.manager.impl.dependencyresolver.DestroyedModule;
@@ -35,6 +37,8 @@ public class ModuleInternalInfo implements Comparable<ModuleInternalInfo>, Ident
     // can be unregistered using this registration
     private final OsgiRegistration osgiRegistration;
     private final ModuleJMXRegistrator moduleJMXRegistrator;
+    // modules this module depended on when it was committed
+    private final Set<ModuleIdentifier> dependencies;
     private final int orderingIdx;
     private final boolean isDefaultBean;
     private final ModuleFactory moduleFactory;
@@ -43,8 +47,9 @@ public class ModuleInternalInfo implements Comparable<ModuleInternalInfo>, Ident
     public ModuleInternalInfo(final ModuleIdentifier name, @Nullable final DynamicReadableWrapper readableModule,
             final OsgiRegistration osgiRegistration,
             @Nullable final RootRuntimeBeanRegistratorImpl runtimeBeanRegistrator,
-            final ModuleJMXRegistrator moduleJMXRegistrator, final int orderingIdx, final boolean isDefaultBean,
-            final ModuleFactory moduleFactory, final BundleContext bundleContext) {
+            final ModuleJMXRegistrator moduleJMXRegistrator, final Set<ModuleIdentifier> dependencies,
+            final int orderingIdx, final boolean isDefaultBean, final ModuleFactory moduleFactory,
+            final BundleContext bundleContext) {
 
         if (osgiRegistration == null) {
             throw new IllegalArgumentException("Parameter 'osgiRegistration' is missing");
@@ -54,6 +59,7 @@ public class ModuleInternalInfo implements Comparable<ModuleInternalInfo>, Ident
         this.runtimeBeanRegistrator = runtimeBeanRegistrator;
         this.name = name;
         this.moduleJMXRegistrator = moduleJMXRegistrator;
+        this.dependencies = ImmutableSet.copyOf(dependencies);
         this.orderingIdx = orderingIdx;
         this.isDefaultBean = isDefaultBean;
         this.moduleFactory = moduleFactory;
@@ -68,6 +74,10 @@ public class ModuleInternalInfo implements Comparable<ModuleInternalInfo>, Ident
         return moduleJMXRegistrator;
     }
 
+    public Set<ModuleIdentifier> getDependencies() {
+        return dependencies;
+    }
+
     /**
      * Tells if a running instance exists in the system.
      *
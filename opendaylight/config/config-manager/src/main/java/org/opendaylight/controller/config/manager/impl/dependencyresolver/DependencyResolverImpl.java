@@ -8,6 +8,7 @@
 package org.opendaylight.controller.config.manager.impl.dependencyresolver;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -218,6 +219,14 @@ public final class DependencyResolverImpl implements DependencyResolver, Compara
         return Integer.compare(getMaxDependencyDepth(), dependencyResolverImpl.getMaxDependencyDepth());
     }
 
+    synchronized void addDependencies(final Set<ModuleIdentifier> committedDependencies) {
+        this.dependencies.addAll(committedDependencies);
+    }
+
+    synchronized Set<ModuleIdentifier> getDependencies() {
+        return ImmutableSet.copyOf(this.dependencies);
+    }
+
     int getMaxDependencyDepth() {
         if (this.maxDependencyDepth == null) {
             throw new IllegalStateException("Dependency depth was not computed");
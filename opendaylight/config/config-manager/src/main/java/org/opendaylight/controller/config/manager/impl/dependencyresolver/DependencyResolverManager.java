@@ -17,6 +17,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 import javax.annotation.concurrent.GuardedBy;
 import javax.management.InstanceAlreadyExistsException;
 import javax.management.MBeanServer;
@@ -31,6 +33,7 @@ import org.opendaylight.controller.config.manager.impl.DeadlockMonitor;
 import org.opendaylight.controller.config.manager.impl.ModuleInternalInfo;
 import org.opendaylight.controller.config.manager.impl.TransactionIdentifier;
 import org.opendaylight.controller.config.manager.impl.TransactionStatus;
+import org.opendaylight.controller.config.manager.impl.dynamicmbean.DynamicWritableWrapper;
 import org.opendaylight.controller.config.manager.impl.jmx.TransactionModuleJMXRegistrator.TransactionModuleJMXRegistration;
 import org.opendaylight.controller.config.manager.impl.osgi.mapping.BindingContextProvider;
 import org.opendaylight.controller.config.spi.Module;
@@ -105,6 +108,36 @@ public class DependencyResolverManager implements DependencyResolverFactory, Aut
         return result;
     }
 
+    /**
+     * Get the modules each module depends on, as observed during validation.
+     */
+    public synchronized Map<ModuleIdentifier, Set<ModuleIdentifier>> getDependencies() {
+        transactionStatus.checkCommitStarted();
+        Map<ModuleIdentifier, Set<ModuleIdentifier>> result = new HashMap<>();
+        for (Entry<ModuleIdentifier, DependencyResolverImpl> entry : moduleIdentifiersToDependencyResolverMap
+                .entrySet()) {
+            result.put(entry.getKey(), entry.getValue().getDependencies());
+        }
+        return result;
+    }
+
+    /**
+     * Find the modules which need to be validated: modules which were modified in this transaction and modules
+     * which depend on them or on destroyed modules, directly or transitively. Modules which do not need to be
+     * validated keep the dependencies recorded when they were committed.
+     *
+     * @return identifiers of modules to validate
+     */
+    public synchronized Set<ModuleIdentifier> findModulesToValidate() {
+        final Set<ModuleIdentifier> result = modulesHolder.findModifiedModulesAndDependents();
+        for (ModuleInternalTransactionalInfo info : modulesHolder.getAllInfos()) {
+            if (!result.contains(info.getIdentifier())) {
+                getOrCreate(info.getIdentifier()).addDependencies(info.getOldInternalInfo().getDependencies());
+            }
+        }
+        return result;
+    }
+
     public ModuleInternalTransactionalInfo destroyModule(final ModuleIdentifier moduleIdentifier) {
         transactionStatus.checkNotCommitted();
         ModuleInternalTransactionalInfo found = modulesHolder.destroyModule(moduleIdentifier);
@@ -122,6 +155,7 @@ public class DependencyResolverManager implements DependencyResolverFactory, Aut
         // optimization: subsequent calls to getInstance MUST return the same value
         // during transaction,
         // so it is safe to cache the response
+        @GuardedBy("this")
         private Object cachedInstance;
 
         ModuleInvocationHandler(final DeadlockMonitor deadlockMonitor, final ModuleIdentifier moduleIdentifier,
@@ -134,34 +168,37 @@ public class DependencyResolverManager implements DependencyResolverFactory, Aut
         @Override
         protected Object handleInvocation(final Object proxy, final Method method, final Object[] args)
                 throws Throwable {
-            boolean isGetInstance = "getInstance".equals(method.getName());
-            if (isGetInstance) {
-                if (cachedInstance != null) {
-                    return cachedInstance;
-                }
-
-                Preconditions.checkState(deadlockMonitor.isAlive(), "Deadlock monitor is not alive");
-                deadlockMonitor.setCurrentlyInstantiatedModule(moduleIdentifier);
+            try {
+                return "getInstance".equals(method.getName()) ? getInstance(method, args)
+                        : method.invoke(module, args);
+            } catch (final InvocationTargetException e) {
+                throw e.getCause();
             }
+        }
+
+        // modules may be instantiated concurrently, make sure each of them is instantiated just once
+        private synchronized Object getInstance(final Method method, final Object[] args)
+                throws IllegalAccessException, InvocationTargetException {
+            if (cachedInstance != null) {
+                return cachedInstance;
+            }
+
+            Preconditions.checkState(deadlockMonitor.isAlive(), "Deadlock monitor is not alive");
+            deadlockMonitor.setCurrentlyInstantiatedModule(moduleIdentifier);
             try {
                 Object response = method.invoke(module, args);
-                if (isGetInstance) {
-                    cachedInstance = response;
-                }
+                cachedInstance = response;
                 return response;
-            } catch (final InvocationTargetException e) {
-                throw e.getCause();
             } finally {
-                if (isGetInstance) {
-                    deadlockMonitor.setCurrentlyInstantiatedModule(null);
-                }
+                deadlockMonitor.setCurrentlyInstantiatedModule(null);
             }
         }
     }
 
     public void put(final ModuleIdentifier moduleIdentifier, final Module module, final ModuleFactory moduleFactory,
             final ModuleInternalInfo maybeOldInternalInfo,
-            final TransactionModuleJMXRegistration transactionModuleJMXRegistration, final boolean isDefaultBean,
+            final TransactionModuleJMXRegistration transactionModuleJMXRegistration,
+            final DynamicWritableWrapper writableWrapper, final boolean isDefaultBean,
             final BundleContext bundleContext) {
         transactionStatus.checkNotCommitted();
 
@@ -173,7 +210,7 @@ public class DependencyResolverManager implements DependencyResolverFactory, Aut
                 new ModuleInvocationHandler(deadlockMonitor, moduleIdentifier, module));
         ModuleInternalTransactionalInfo moduleInternalTransactionalInfo = new ModuleInternalTransactionalInfo(
                 moduleIdentifier, proxiedModule, moduleFactory, maybeOldInternalInfo, transactionModuleJMXRegistration,
-                isDefaultBean, module, bundleContext);
+                writableWrapper, isDefaultBean, module, bundleContext);
         modulesHolder.put(moduleInternalTransactionalInfo);
     }
 
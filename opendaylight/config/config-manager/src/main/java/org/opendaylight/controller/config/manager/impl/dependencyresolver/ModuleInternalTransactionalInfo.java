@@ -13,6 +13,7 @@ import javax.annotation.Nullable;
 import org.opendaylight.controller.config.api.ModuleIdentifier;
 import org.opendaylight.controller.config.manager.impl.ModuleInternalInfo;
 import org.opendaylight.controller.config.manager.impl.dynamicmbean.DynamicReadableWrapper;
+import org.opendaylight.controller.config.manager.impl.dynamicmbean.DynamicWritableWrapper;
 import org.opendaylight.controller.config.manager.impl.jmx.TransactionModuleJMXRegistrator.TransactionModuleJMXRegistration;
 import org.opendaylight.controller.config.spi.Module;
 import org.opendaylight.controller.config.spi.ModuleFactory;
@@ -26,14 +27,17 @@ public class ModuleInternalTransactionalInfo implements Identifiable<ModuleIdent
     private final ModuleFactory moduleFactory;
 
     private final TransactionModuleJMXRegistration transactionModuleJMXRegistration;
+    private final DynamicWritableWrapper writableWrapper;
     private final boolean isDefaultBean;
     private final BundleContext bundleContext;
     @Nullable private ModuleInternalInfo maybeOldInternalInfo;
+    private volatile boolean recreated;
 
     public ModuleInternalTransactionalInfo(final ModuleIdentifier name, final Module proxiedModule,
                                            final ModuleFactory moduleFactory,
                                            final ModuleInternalInfo maybeOldInternalInfo,
                                            final TransactionModuleJMXRegistration transactionModuleJMXRegistration,
+                                           final DynamicWritableWrapper writableWrapper,
                                            final boolean isDefaultBean,
                                            final Module realModule,
                                            final BundleContext bundleContext) {
@@ -42,6 +46,7 @@ public class ModuleInternalTransactionalInfo implements Identifiable<ModuleIdent
         this.moduleFactory = moduleFactory;
         this.maybeOldInternalInfo = maybeOldInternalInfo;
         this.transactionModuleJMXRegistration = transactionModuleJMXRegistration;
+        this.writableWrapper = writableWrapper;
         this.isDefaultBean = isDefaultBean;
         this.realModule = realModule;
         this.bundleContext = bundleContext;
@@ -52,6 +57,21 @@ public class ModuleInternalTransactionalInfo implements Identifiable<ModuleIdent
         return maybeOldInternalInfo != null;
     }
 
+    /**
+     * Tells if the module needs to be validated, i.e. if it was not committed before, its configuration was
+     * changed, its factory changed or its instance is to be recreated.
+     *
+     * @return true if the module differs from the committed one
+     */
+    public boolean isModified() {
+        return maybeOldInternalInfo == null || recreated || writableWrapper.isModified()
+                || !moduleFactory.equals(maybeOldInternalInfo.getModuleFactory());
+    }
+
+    public void setRecreated() {
+        recreated = true;
+    }
+
     public DestroyedModule toDestroyedModule() {
         if (maybeOldInternalInfo == null) {
             throw new IllegalStateException("Cannot destroy uncommitted module");
@@ -7,9 +7,11 @@
  */
 package org.opendaylight.controller.config.manager.impl.dependencyresolver;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -101,6 +103,34 @@ class ModulesHolder implements AutoCloseable {
         return found;
     }
 
+    Set<ModuleIdentifier> findModifiedModulesAndDependents() {
+        final Map<ModuleIdentifier, List<ModuleIdentifier>> dependents = new HashMap<>();
+        final Deque<ModuleIdentifier> pending = new ArrayDeque<>();
+        for (ModuleInternalTransactionalInfo info : commitMap.values()) {
+            if (info.isModified()) {
+                pending.add(info.getIdentifier());
+            } else {
+                for (ModuleIdentifier dependency : info.getOldInternalInfo().getDependencies()) {
+                    dependents.computeIfAbsent(dependency, k -> new ArrayList<>()).add(info.getIdentifier());
+                }
+            }
+        }
+        for (ModuleInternalTransactionalInfo info : unorderedDestroyedFromPreviousTransactions) {
+            pending.add(info.getIdentifier());
+        }
+
+        final Set<ModuleIdentifier> result = new HashSet<>();
+        while (!pending.isEmpty()) {
+            final ModuleIdentifier moduleIdentifier = pending.remove();
+            if (result.add(moduleIdentifier)) {
+                pending.addAll(dependents.getOrDefault(moduleIdentifier, Collections.emptyList()));
+            }
+        }
+        // destroyed modules are not validated
+        result.retainAll(commitMap.keySet());
+        return result;
+    }
+
     public void assertNotExists(final ModuleIdentifier moduleIdentifier) throws InstanceAlreadyExistsException {
         if (commitMap.containsKey(moduleIdentifier)) {
             throw new InstanceAlreadyExistsException("There is an instance registered with name " + moduleIdentifier);
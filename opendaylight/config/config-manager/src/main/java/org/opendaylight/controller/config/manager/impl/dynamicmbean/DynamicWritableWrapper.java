@@ -8,6 +8,7 @@
 package org.opendaylight.controller.config.manager.impl.dynamicmbean;
 
 import java.lang.reflect.Method;
+import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 import javax.management.Attribute;
 import javax.management.AttributeList;
@@ -50,6 +51,8 @@ public class DynamicWritableWrapper extends AbstractDynamicWrapper {
     private static final Logger LOG = LoggerFactory.getLogger(DynamicWritableWrapper.class);
 
     private final ReadOnlyAtomicBoolean configBeanModificationDisabled;
+    @GuardedBy("this")
+    private boolean modified;
 
     public DynamicWritableWrapper(final Module module, final ModuleIdentifier moduleIdentifier,
             final String transactionIdentifier, final ReadOnlyAtomicBoolean configBeanModificationDisabled,
@@ -91,12 +94,22 @@ public class DynamicWritableWrapper extends AbstractDynamicWrapper {
             }
 
             internalServer.setAttribute(objectNameInternal, newAttribute);
+            modified = true;
         } catch (final InstanceNotFoundException e) {
             throw new MBeanException(e);
         }
 
     }
 
+    /**
+     * Tells if any attribute of the module was set through this wrapper.
+     *
+     * @return true if the module configuration may differ from the one it was created with
+     */
+    public synchronized boolean isModified() {
+        return modified;
+    }
+
     private Attribute fixDependencyListAttribute(final Attribute attribute) {
         Attribute newAttribute = attribute;
         AttributeHolder attributeHolder = attributeHolderMap.get(newAttribute.getName());
@@ -10,6 +10,7 @@ package org.opendaylight.controller.config.manager.impl;
 import static org.junit.Assert.assertEquals;
 
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.lang.management.ManagementFactory;
 import java.util.HashMap;
 import java.util.Map;
@@ -71,7 +72,7 @@ public class ConfigTransactionControllerImplTest extends AbstractLockedPlatformM
 
         testedTxController = new ConfigTransactionControllerImpl(txLookupRegistry, 1, null, 1,
                 currentlyRegisteredFactories, transactionsMBeanServer, ManagementFactory.getPlatformMBeanServer(),
-                false, writableRegistry);
+                false, writableRegistry, MoreExecutors.directExecutor());
         TransactionModuleJMXRegistrator transactionModuleJMXRegistrator123 = testedTxController
                 .getTxModuleJMXRegistrator();
         transactionModuleJMXRegistrator123.registerMBean(new TestingRuntimeBean(), NAME1);
@@ -94,7 +94,7 @@ public class DependencyResolverManagerTest extends AbstractLockedPlatformMBeanSe
         boolean isDefaultBean = false;
 
         tested.put(moduleIdentifier, mockedModule(), moduleFactory, maybeOldInternalInfo,
-                transactionModuleJMXRegistration, isDefaultBean, mock(BundleContext.class));
+                transactionModuleJMXRegistration, null, isDefaultBean, mock(BundleContext.class));
     }
 
     private static Module mockedModule() {
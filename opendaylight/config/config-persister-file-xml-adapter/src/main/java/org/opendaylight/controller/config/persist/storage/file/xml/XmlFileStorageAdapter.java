@@ -143,7 +143,7 @@ public class XmlFileStorageAdapter implements StorageAdapter, Persister {
             return Collections.emptyList();
         }
 
-        Optional<ConfigSnapshot> lastSnapshot = Config.fromXml(storage).getLastSnapshot();
+        Optional<ConfigSnapshot> lastSnapshot = Config.lastSnapshotFromXml(storage);
 
         if (lastSnapshot.isPresent()) {
             lastCfgSnapshotCache = lastSnapshot.get();
@@ -13,6 +13,7 @@ import com.google.common.collect.Lists;
 import com.google.common.io.Files;
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import javax.xml.bind.JAXBContext;
@@ -26,7 +27,6 @@ import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.stream.StreamSource;
-import org.apache.commons.lang3.StringUtils;
 
 @XmlRootElement(name = "persisted-snapshots")
 public final class Config {
@@ -86,13 +86,34 @@ public final class Config {
         }
     }
 
+    /**
+     * Read only the last snapshot stored in a file. This is equivalent to {@code fromXml(from).getLastSnapshot()},
+     * except the file is streamed and previous snapshots are not retained.
+     *
+     * @param from file to read
+     * @return last stored snapshot, or absent if the file does not contain any
+     */
+    public static Optional<ConfigSnapshot> lastSnapshotFromXml(final File from) {
+        if (isEmpty(from)) {
+            return Optional.absent();
+        }
+
+        return LastSnapshotReader.read(from);
+    }
+
     private static boolean isEmpty(final File from) {
         return from.length() == 0 || isBlank(from);
     }
 
     private static boolean isBlank(final File from) {
-        try {
-            return StringUtils.isBlank(Files.toString(from, StandardCharsets.UTF_8));
+        // Stop at the first non-whitespace character instead of reading the whole file
+        try (Reader reader = Files.newReader(from, StandardCharsets.UTF_8)) {
+            for (int ch = reader.read(); ch != -1; ch = reader.read()) {
+                if (!Character.isWhitespace(ch)) {
+                    return false;
+                }
+            }
+            return true;
         } catch (final IOException e) {
             throw new IllegalStateException("Unexpected error reading file" + from, e);
         }
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.config.persist.storage.file.xml.model;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import java.io.File;
+import java.io.StringWriter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.stream.StreamSource;
+
+/**
+ * Streaming reader of the last snapshot stored in a persisted-snapshots file. Unlike {@link Config#fromXml(File)},
+ * which binds all stored backups, this reader walks the file with StAX and materializes only the snapshot it is
+ * currently positioned on, so that loading the last snapshot does not need to hold every backup in memory.
+ */
+final class LastSnapshotReader {
+    private static final String ROOT_ELEMENT = "persisted-snapshots";
+    private static final String SNAPSHOTS_ELEMENT = "snapshots";
+    private static final String CONFIGURATION_ELEMENT = "configuration";
+    private static final String CAPABILITIES_ELEMENT = "required-capabilities";
+    private static final String CAPABILITY_ELEMENT = "capability";
+    private static final String FEATURES_ELEMENT = "features";
+    private static final String FEATURE_ELEMENT = "feature";
+
+    private static final XMLInputFactory INPUT_FACTORY;
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    static {
+        INPUT_FACTORY = XMLInputFactory.newFactory();
+        INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    }
+
+    // Namespace declarations made by the elements enclosing the current position
+    private final Deque<Map<String, String>> namespaceScopes = new ArrayDeque<>();
+    private final XMLStreamReader reader;
+
+    private LastSnapshotReader(final XMLStreamReader reader) {
+        this.reader = reader;
+    }
+
+    static Optional<ConfigSnapshot> read(final File from) {
+        try {
+            final XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(new StreamSource(from));
+            try {
+                return new LastSnapshotReader(reader).readLastSnapshot();
+            } finally {
+                reader.close();
+            }
+        } catch (final XMLStreamException e) {
+            throw new PersistException("Unable to restore configuration", e);
+        }
+    }
+
+    private Optional<ConfigSnapshot> readLastSnapshot() throws XMLStreamException {
+        reader.nextTag();
+        Preconditions.checkArgument(ROOT_ELEMENT.equals(reader.getLocalName()), "Unexpected root element %s",
+            reader.getLocalName());
+        enterElement();
+
+        ConfigSnapshot last = null;
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            enterElement();
+            if (SNAPSHOTS_ELEMENT.equals(reader.getLocalName())) {
+                while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                    enterElement();
+                    if (ConfigSnapshot.SNAPSHOT_ROOT_ELEMENT_NAME.equals(reader.getLocalName())) {
+                        last = readSnapshot();
+                    } else {
+                        skipElement();
+                    }
+                    namespaceScopes.pop();
+                }
+            } else {
+                skipElement();
+            }
+            namespaceScopes.pop();
+        }
+
+        return Optional.fromNullable(last);
+    }
+
+    private ConfigSnapshot readSnapshot() throws XMLStreamException {
+        String configXml = null;
+        final SortedSet<String> capabilities = new TreeSet<>();
+        final Set<String> features = new HashSet<>();
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            enterElement();
+            switch (reader.getLocalName()) {
+                case CONFIGURATION_ELEMENT:
+                    configXml = readContent();
+                    break;
+                case CAPABILITIES_ELEMENT:
+                    readValues(CAPABILITY_ELEMENT, capabilities);
+                    break;
+                case FEATURES_ELEMENT:
+                    readValues(FEATURE_ELEMENT, features);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown element present in config snapshot"
+                            + "(expected only configuration): " + reader.getLocalName());
+            }
+            namespaceScopes.pop();
+        }
+
+        return new ConfigSnapshot(configXml, capabilities, features);
+    }
+
+    private void readValues(final String elementName, final Set<String> values) throws XMLStreamException {
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if (elementName.equals(reader.getLocalName())) {
+                values.add(reader.getElementText().trim());
+            } else {
+                skipElement();
+            }
+        }
+    }
+
+    private void skipElement() throws XMLStreamException {
+        int depth = 1;
+        while (depth != 0) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    depth++;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    depth--;
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Copy the content of the current element into a string. Namespace declarations inherited from enclosing elements
+     * are re-declared on the top-level copied elements, so that the result can be parsed on its own.
+     */
+    private String readContent() throws XMLStreamException {
+        final StringWriter out = new StringWriter();
+        final XMLStreamWriter writer = OUTPUT_FACTORY.createXMLStreamWriter(out);
+        final Map<String, String> inherited = inScopeNamespaces();
+
+        int depth = 0;
+        while (true) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    writeStartElement(writer, depth == 0 ? inherited : null);
+                    depth++;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    if (depth == 0) {
+                        writer.close();
+                        return out.toString();
+                    }
+                    writer.writeEndElement();
+                    depth--;
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.SPACE:
+                    writer.writeCharacters(reader.getTextCharacters(), reader.getTextStart(),
+                        reader.getTextLength());
+                    break;
+                case XMLStreamConstants.CDATA:
+                    writer.writeCData(reader.getText());
+                    break;
+                case XMLStreamConstants.COMMENT:
+                    writer.writeComment(reader.getText());
+                    break;
+                case XMLStreamConstants.PROCESSING_INSTRUCTION:
+                    writer.writeProcessingInstruction(reader.getPITarget(), reader.getPIData());
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    private void writeStartElement(final XMLStreamWriter writer, final Map<String, String> inherited)
+            throws XMLStreamException {
+        writer.writeStartElement(nullToEmpty(reader.getPrefix()), reader.getLocalName(),
+            nullToEmpty(reader.getNamespaceURI()));
+
+        final Map<String, String> declared = new HashMap<>();
+        for (int i = 0; i < reader.getNamespaceCount(); ++i) {
+            declared.put(nullToEmpty(reader.getNamespacePrefix(i)), nullToEmpty(reader.getNamespaceURI(i)));
+        }
+        if (inherited != null) {
+            for (Entry<String, String> e : inherited.entrySet()) {
+                declared.putIfAbsent(e.getKey(), e.getValue());
+            }
+        }
+        for (Entry<String, String> e : declared.entrySet()) {
+            if (XMLConstants.DEFAULT_NS_PREFIX.equals(e.getKey())) {
+                writer.writeDefaultNamespace(e.getValue());
+            } else {
+                writer.writeNamespace(e.getKey(), e.getValue());
+            }
+        }
+
+        for (int i = 0; i < reader.getAttributeCount(); ++i) {
+            final String prefix = reader.getAttributePrefix(i);
+            if (prefix == null || prefix.isEmpty()) {
+                writer.writeAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+            } else {
+                writer.writeAttribute(prefix, reader.getAttributeNamespace(i), reader.getAttributeLocalName(i),
+                    reader.getAttributeValue(i));
+            }
+        }
+    }
+
+    private void enterElement() {
+        final Map<String, String> declared = new HashMap<>();
+        for (int i = 0; i < reader.getNamespaceCount(); ++i) {
+            declared.put(nullToEmpty(reader.getNamespacePrefix(i)), nullToEmpty(reader.getNamespaceURI(i)));
+        }
+        namespaceScopes.push(declared);
+    }
+
+    private Map<String, String> inScopeNamespaces() {
+        final Map<String, String> ret = new HashMap<>();
+        // Innermost declarations come first and take precedence
+        for (Map<String, String> scope : namespaceScopes) {
+            for (Entry<String, String> e : scope.entrySet()) {
+                ret.putIfAbsent(e.getKey(), e.getValue());
+            }
+        }
+        // An empty default namespace does not need to be declared
+        if (ret.getOrDefault(XMLConstants.DEFAULT_NS_PREFIX, "").isEmpty()) {
+            ret.remove(XMLConstants.DEFAULT_NS_PREFIX);
+        }
+        return ret;
+    }
+
+    private static String nullToEmpty(final String str) {
+        return str == null ? "" : str;
+    }
+}
@@ -23,6 +23,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.List;
 import java.util.SortedSet;
 import java.util.TreeSet;
@@ -30,6 +31,8 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.opendaylight.controller.config.persist.api.ConfigSnapshotHolder;
+import org.opendaylight.controller.config.persist.storage.file.xml.model.Config;
+import org.opendaylight.controller.config.persist.storage.file.xml.model.ConfigSnapshot;
 import org.opendaylight.controller.config.persist.test.PropertiesProviderTest;
 
 public class FileStorageAdapterTest {
@@ -291,6 +294,79 @@ public class FileStorageAdapterTest {
         }
     }
 
+    @Test
+    public void testNamespacesOfLastConfig() throws Exception {
+        storage.setFileStorage(file);
+        storage.setNumberOfBackups(Integer.MAX_VALUE);
+
+        com.google.common.io.Files.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                "<persisted-snapshots xmlns:prefix=\"urn:prefix\">\n" +
+                "   <snapshots>\n" +
+                "      <snapshot>\n" +
+                "         <configuration>\n" +
+                "            <config>1</config>\n" +
+                "         </configuration>\n" +
+                "      </snapshot>\n" +
+                "      <snapshot>\n" +
+                "         <required-capabilities>\n" +
+                "            <capability>\n" +
+                "               cap12?module=a&amp;revision=b\n" +
+                "            </capability>\n" +
+                "         </required-capabilities>\n" +
+                "         <configuration>\n" +
+                "            <data xmlns=\"urn:data\"><type>prefix:type</type><name prefix:a=\"b\">2</name></data>\n" +
+                "         </configuration>\n" +
+                "      </snapshot>\n" +
+                "   </snapshots>\n" +
+                "</persisted-snapshots>", file, StandardCharsets.UTF_8);
+
+        List<ConfigSnapshotHolder> lastConf = storage.loadLastConfigs();
+        assertEquals(1, lastConf.size());
+        ConfigSnapshotHolder configSnapshotHolder = lastConf.get(0);
+        assertXMLEqual("<data xmlns=\"urn:data\" xmlns:prefix=\"urn:prefix\"><type>prefix:type</type>"
+                + "<name prefix:a=\"b\">2</name></data>", configSnapshotHolder.getConfigSnapshot());
+        assertEquals(Sets.newTreeSet(Collections.singleton("cap12?module=a&revision=b")),
+                configSnapshotHolder.getCapabilities());
+    }
+
+    @Test
+    public void testStreamedLastSnapshot() throws Exception {
+        storage.setFileStorage(file);
+        storage.setNumberOfBackups(Integer.MAX_VALUE);
+
+        final Config cfg = new Config();
+        for (int snapshot = 0; snapshot < 3; snapshot++) {
+            final StringBuilder sb = new StringBuilder("<data xmlns=\"urn:data\"><modules>");
+            for (int module = 0; module < 5; module++) {
+                sb.append("<module><type xmlns:prefix=\"urn:type\">prefix:type</type><name>module")
+                    .append(snapshot).append('-').append(module).append("</name></module>");
+            }
+            final String config = sb.append("</modules></data>").toString();
+            final SortedSet<String> caps = createCaps();
+            cfg.addConfigSnapshot(ConfigSnapshot.fromConfigSnapshot(new ConfigSnapshotHolder() {
+                @Override
+                public String getConfigSnapshot() {
+                    return config;
+                }
+
+                @Override
+                public SortedSet<String> getCapabilities() {
+                    return caps;
+                }
+            }, Collections.singleton("feature" + snapshot)), Integer.MAX_VALUE);
+        }
+        cfg.toXml(file);
+
+        // the streamed snapshot has to match the one bound through JAXB
+        final ConfigSnapshot expected = Config.fromXml(file).getLastSnapshot().get();
+        final List<ConfigSnapshotHolder> lastConf = storage.loadLastConfigs();
+
+        assertEquals(1, lastConf.size());
+        assertXMLEqual(expected.getConfigSnapshot(), lastConf.get(0).getConfigSnapshot());
+        assertEquals(expected.getCapabilities(), lastConf.get(0).getCapabilities());
+        assertEquals(Collections.singleton("feature2"), storage.getPersistedFeatures());
+    }
+
     static String createConfig() {
         return "<config>" + i++ + "</config>";
     }
@@ -17,11 +17,13 @@ import java.util.Date;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import javax.annotation.concurrent.Immutable;
 import javax.management.MBeanServerConnection;
 import org.opendaylight.controller.config.api.ConflictingVersionException;
@@ -30,6 +32,7 @@ import org.opendaylight.controller.config.api.ValidationException;
 import org.opendaylight.controller.config.facade.xml.ConfigExecution;
 import org.opendaylight.controller.config.facade.xml.ConfigSubsystemFacade;
 import org.opendaylight.controller.config.facade.xml.ConfigSubsystemFacadeFactory;
+import org.opendaylight.controller.config.facade.xml.TestOption;
 import org.opendaylight.controller.config.facade.xml.mapping.config.Config;
 import org.opendaylight.controller.config.persist.api.ConfigPusher;
 import org.opendaylight.controller.config.persist.api.ConfigSnapshotHolder;
@@ -113,31 +116,86 @@ public class ConfigPusherImpl implements ConfigPusher {
             throws DocumentedException {
         LOG.debug("Last config snapshots to be pushed to netconf: {}", configs);
         LinkedHashMap<ConfigSnapshotHolder, Boolean> result = new LinkedHashMap<>();
-        // start pushing snapshots
-        for (ConfigSnapshotHolder configSnapshotHolder : configs) {
-            if (configSnapshotHolder != null) {
-                LOG.info("Pushing configuration snapshot {}", configSnapshotHolder);
-                boolean pushResult = false;
-                try {
-                    pushResult = pushConfigWithConflictingVersionRetries(configSnapshotHolder);
-                } catch (final ConfigSnapshotFailureException e) {
-                    LOG.error("Failed to apply configuration snapshot: {}. Config snapshot is not semantically correct and will be IGNORED. " +
-                            "for detailed information see enclosed exception.", e.getConfigIdForReporting(), e);
-                    throw new IllegalStateException("Failed to apply configuration snapshot " + e.getConfigIdForReporting(), e);
-                }  catch (final Exception e) {
-                    String msg = String.format("Failed to apply configuration snapshot: %s", configSnapshotHolder);
-                    LOG.error(msg, e);
-                    throw new IllegalStateException(msg, e);
-                }
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        List<ConfigSnapshotHolder> snapshots = configs.stream().filter(Objects::nonNull).collect(Collectors.toList());
+
+        // Try to push all snapshots at once, so the config subsystem validates and commits only once
+        if (snapshots.size() > 1 && pushConfigsInSingleTransaction(snapshots)) {
+            for (ConfigSnapshotHolder configSnapshotHolder : snapshots) {
+                result.put(configSnapshotHolder, true);
+            }
+            LOG.info("All {} configuration snapshots have been pushed successfully in a single transaction in {}",
+                    snapshots.size(), stopwatch);
+            return result;
+        }
 
-                LOG.info("Successfully pushed configuration snapshot {}", configSnapshotHolder);
-                result.put(configSnapshotHolder, pushResult);
+        // start pushing snapshots
+        for (ConfigSnapshotHolder configSnapshotHolder : snapshots) {
+            LOG.info("Pushing configuration snapshot {}", configSnapshotHolder);
+            boolean pushResult = false;
+            try {
+                pushResult = pushConfigWithConflictingVersionRetries(configSnapshotHolder);
+            } catch (final ConfigSnapshotFailureException e) {
+                LOG.error("Failed to apply configuration snapshot: {}. Config snapshot is not semantically correct and will be IGNORED. " +
+                        "for detailed information see enclosed exception.", e.getConfigIdForReporting(), e);
+                throw new IllegalStateException("Failed to apply configuration snapshot " + e.getConfigIdForReporting(), e);
+            }  catch (final Exception e) {
+                String msg = String.format("Failed to apply configuration snapshot: %s", configSnapshotHolder);
+                LOG.error(msg, e);
+                throw new IllegalStateException(msg, e);
             }
+
+            LOG.info("Successfully pushed configuration snapshot {}", configSnapshotHolder);
+            result.put(configSnapshotHolder, pushResult);
         }
-        LOG.info("All configuration snapshots have been pushed successfully.");
+        LOG.info("All configuration snapshots have been pushed successfully in {}.", stopwatch);
         return result;
     }
 
+    /**
+     * Push multiple snapshots in a single config transaction. Snapshots are applied in order without the separate
+     * test phase and the transaction is validated and committed once. Any failure aborts the transaction, leaving
+     * the caller to push the snapshots one by one, which waits for missing capabilities and module factories,
+     * retries conflicting versions and reports the offending snapshot.
+     *
+     * @return true if all snapshots were committed, false if the caller should fall back to pushing them one by one
+     */
+    private synchronized boolean pushConfigsInSingleTransaction(final List<ConfigSnapshotHolder> snapshots) {
+        Set<String> expectedCapabilities = new HashSet<>();
+        for (ConfigSnapshotHolder configSnapshotHolder : snapshots) {
+            SortedSet<String> capabilities = configSnapshotHolder.getCapabilities();
+            if (capabilities == null) {
+                return false;
+            }
+            expectedCapabilities.addAll(capabilities);
+        }
+
+        Set<String> notFoundCapabilities = computeNotFoundCapabilities(expectedCapabilities,
+                facade.getCurrentCapabilities());
+        if (!notFoundCapabilities.isEmpty()) {
+            LOG.debug("Capabilities {} are not available yet, configuration snapshots will be pushed one by one",
+                    notFoundCapabilities);
+            return false;
+        }
+
+        LOG.info("Pushing {} configuration snapshots in a single transaction", snapshots.size());
+        final ConfigSubsystemFacade currentFacade = this.facade.createFacade("config-push");
+        try {
+            final Config configMapping = currentFacade.getConfigMapping();
+            for (ConfigSnapshotHolder configSnapshotHolder : snapshots) {
+                Element xmlToBePersisted = XmlUtil.readXmlToElement(configSnapshotHolder.getConfigSnapshot());
+                currentFacade.executeConfigExecution(
+                        currentFacade.getConfigExecution(configMapping, xmlToBePersisted, TestOption.set));
+            }
+            currentFacade.commitSilentTransaction();
+            return true;
+        } catch (final Exception e) {
+            LOG.info("Failed to push configuration snapshots in a single transaction, pushing them one by one", e);
+            currentFacade.abortConfiguration();
+            return false;
+        }
+    }
+
     private synchronized boolean pushConfigWithConflictingVersionRetries(final ConfigSnapshotHolder configSnapshotHolder) throws ConfigSnapshotFailureException {
         ConflictingVersionException lastException;
         Stopwatch stopwatch = Stopwatch.createUnstarted();
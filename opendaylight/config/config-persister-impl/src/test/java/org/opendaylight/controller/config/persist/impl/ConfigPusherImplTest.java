@@ -13,10 +13,12 @@ import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyObject;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import com.google.common.base.Throwables;
@@ -35,10 +37,12 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opendaylight.controller.config.api.ConflictingVersionException;
+import org.opendaylight.controller.config.api.ValidationException;
 import org.opendaylight.controller.config.api.jmx.CommitStatus;
 import org.opendaylight.controller.config.facade.xml.ConfigExecution;
 import org.opendaylight.controller.config.facade.xml.ConfigSubsystemFacade;
 import org.opendaylight.controller.config.facade.xml.ConfigSubsystemFacadeFactory;
+import org.opendaylight.controller.config.facade.xml.TestOption;
 import org.opendaylight.controller.config.facade.xml.mapping.config.Config;
 import org.opendaylight.controller.config.facade.xml.osgi.YangStoreService;
 import org.opendaylight.controller.config.persist.api.ConfigSnapshotHolder;
@@ -180,4 +184,55 @@ public class ConfigPusherImplTest {
         verify(facade, times(3)).commitSilentTransaction();
     }
 
+    @Test
+    public void testPersisterSuccessfulSingleTransactionPush() throws Exception {
+        doReturn(new TreeSet<>(Lists.newArrayList("namespace?module=module&revision=2012-12-12"))).when(mockedConfigSnapshot).getCapabilities();
+        final ConfigSnapshotHolder otherSnapshot = mock(ConfigSnapshotHolder.class);
+        doReturn("other snapshot").when(otherSnapshot).toString();
+        doReturn("<other-snapshot/>").when(otherSnapshot).getConfigSnapshot();
+        doReturn(new TreeSet<>()).when(otherSnapshot).getCapabilities();
+        final Capability cap = mock(Capability.class);
+        doReturn("namespace?module=module&revision=2012-12-12").when(cap).getCapabilityUri();
+        doReturn(Sets.newHashSet(cap)).when(facadeFactory).getCurrentCapabilities();
+        final ConfigExecution cfgExec = mock(ConfigExecution.class);
+        doReturn("cfg exec").when(cfgExec).toString();
+        doReturn(cfgExec).when(facade).getConfigExecution(any(Config.class), any(Element.class), eq(TestOption.set));
+        doNothing().when(facade).executeConfigExecution(any(ConfigExecution.class));
+        doReturn(mock(CommitStatus.class)).when(facade).commitSilentTransaction();
+
+        final ConfigPusherImpl configPusher = new ConfigPusherImpl(facadeFactory, 0, 0);
+
+        configPusher.pushConfigs(Lists.newArrayList(mockedConfigSnapshot, otherSnapshot));
+        configPusher.processSingle(Lists.<AutoCloseable>newArrayList(), mBeanServer, mockedAggregator, true);
+
+        verify(facade, times(2)).executeConfigExecution(cfgExec);
+        verify(facade).commitSilentTransaction();
+        verify(facade, never()).getConfigExecution(any(Config.class), any(Element.class));
+    }
+
+    @Test
+    public void testSingleTransactionPushFallback() throws Exception {
+        doReturn(new TreeSet<>()).when(mockedConfigSnapshot).getCapabilities();
+        final ConfigSnapshotHolder otherSnapshot = mock(ConfigSnapshotHolder.class);
+        doReturn("other snapshot").when(otherSnapshot).toString();
+        doReturn("<other-snapshot/>").when(otherSnapshot).getConfigSnapshot();
+        doReturn(new TreeSet<>()).when(otherSnapshot).getCapabilities();
+        final ConfigExecution batchExec = mock(ConfigExecution.class);
+        doReturn(batchExec).when(facade).getConfigExecution(any(Config.class), any(Element.class), eq(TestOption.set));
+        final ConfigExecution cfgExec = mock(ConfigExecution.class);
+        doReturn(cfgExec).when(facade).getConfigExecution(any(Config.class), any(Element.class));
+        doNothing().when(facade).executeConfigExecution(any(ConfigExecution.class));
+        doThrow(ValidationException.class)
+        .doReturn(mock(CommitStatus.class)).when(facade).commitSilentTransaction();
+
+        final ConfigPusherImpl configPusher = new ConfigPusherImpl(facadeFactory, 0, 0);
+
+        configPusher.pushConfigs(Lists.newArrayList(mockedConfigSnapshot, otherSnapshot));
+        configPusher.processSingle(Lists.<AutoCloseable>newArrayList(), mBeanServer, mockedAggregator, true);
+
+        verify(facade, times(2)).executeConfigExecution(batchExec);
+        verify(facade).abortConfiguration();
+        verify(facade, times(2)).executeConfigExecution(cfgExec);
+        verify(facade, times(3)).commitSilentTransaction();
+    }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.config.yang.netty;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollDatagramChannel;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+
+/**
+ * Netty transport implementing an {@link EventLoopGroup}. Channels registered with a group need to use the same
+ * transport as the group, hence consumers of the shared thread groups should use {@link #of(EventLoopGroup)}
+ * to select their channel classes rather than assuming NIO.
+ */
+public enum NettyTransport {
+    /**
+     * Java NIO transport, available on all platforms.
+     */
+    NIO {
+        @Override
+        public boolean isAvailable() {
+            return true;
+        }
+
+        @Override
+        public Class<? extends SocketChannel> getSocketChannelClass() {
+            return NioSocketChannel.class;
+        }
+
+        @Override
+        public Class<? extends ServerSocketChannel> getServerSocketChannelClass() {
+            return NioServerSocketChannel.class;
+        }
+
+        @Override
+        public Class<? extends DatagramChannel> getDatagramChannelClass() {
+            return NioDatagramChannel.class;
+        }
+    },
+    /**
+     * Native epoll transport, available on Linux when the native library can be loaded.
+     */
+    EPOLL {
+        @Override
+        public boolean isAvailable() {
+            try {
+                return Epoll.isAvailable();
+            } catch (NoClassDefFoundError e) {
+                // The transport is an optional dependency
+                return false;
+            }
+        }
+
+        @Override
+        public Class<? extends SocketChannel> getSocketChannelClass() {
+            return EpollSocketChannel.class;
+        }
+
+        @Override
+        public Class<? extends ServerSocketChannel> getServerSocketChannelClass() {
+            return EpollServerSocketChannel.class;
+        }
+
+        @Override
+        public Class<? extends DatagramChannel> getDatagramChannelClass() {
+            return EpollDatagramChannel.class;
+        }
+    };
+
+    private static final String EPOLL_EVENT_LOOP_GROUP = "io.netty.channel.epoll.EpollEventLoopGroup";
+
+    /**
+     * Check whether this transport can be used in this runtime.
+     *
+     * @return true if event loop groups and channels of this transport can be instantiated
+     */
+    public abstract boolean isAvailable();
+
+    public abstract Class<? extends SocketChannel> getSocketChannelClass();
+
+    public abstract Class<? extends ServerSocketChannel> getServerSocketChannelClass();
+
+    public abstract Class<? extends DatagramChannel> getDatagramChannelClass();
+
+    /**
+     * Determine the transport implementing an event loop group.
+     *
+     * @param group event loop group
+     * @return EPOLL if the group is an epoll event loop group, NIO otherwise
+     */
+    public static NettyTransport of(final EventLoopGroup group) {
+        // Compare class names, so that this works without the epoll transport being present
+        for (Class<?> clazz = group.getClass(); clazz != null; clazz = clazz.getSuperclass()) {
+            if (EPOLL_EVENT_LOOP_GROUP.equals(clazz.getName())) {
+                return EPOLL;
+            }
+        }
+        return NIO;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.config.yang.netty.threadgroup;
+
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import java.util.concurrent.TimeUnit;
+
+public class EpollEventLoopGroupCloseable extends EpollEventLoopGroup implements AutoCloseable {
+    private EpollEventLoopGroupCloseable(final int threadCount) {
+        super(threadCount);
+    }
+
+    private EpollEventLoopGroupCloseable() {
+    }
+
+    @Override
+    public void close() throws Exception {
+        shutdownGracefully(0, 1, TimeUnit.SECONDS);
+    }
+
+    public static EpollEventLoopGroupCloseable newInstance(final Integer threadCount) {
+        if (threadCount == null || threadCount <= 0) {
+            return new EpollEventLoopGroupCloseable();
+        }
+
+        return new EpollEventLoopGroupCloseable(threadCount);
+    }
+}
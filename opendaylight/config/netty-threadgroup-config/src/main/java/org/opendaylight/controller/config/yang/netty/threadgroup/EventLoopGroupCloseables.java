@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.config.yang.netty.threadgroup;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import org.opendaylight.controller.config.yang.netty.NettyTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Factory for the event loop groups provided by this bundle, selecting their transport. Consumers can find out
+ * which transport was selected via {@link NettyTransport#of(EventLoopGroup)}.
+ */
+public final class EventLoopGroupCloseables {
+    private static final Logger LOG = LoggerFactory.getLogger(EventLoopGroupCloseables.class);
+
+    private EventLoopGroupCloseables() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Create a new event loop group.
+     *
+     * @param threadCount number of threads, null or non-positive to use the default of 2 * number of CPUs
+     * @param useEpoll use the native epoll transport if it is available, falling back to NIO if it is not
+     * @return a new event loop group, which needs to be closed when it is no longer used
+     */
+    public static EventLoopGroup newInstance(final Integer threadCount, final boolean useEpoll) {
+        if (useEpoll) {
+            if (NettyTransport.EPOLL.isAvailable()) {
+                return EpollEventLoopGroupCloseable.newInstance(threadCount);
+            }
+
+            LOG.warn("Native epoll transport is not available, falling back to NIO", epollUnavailabilityCause());
+        }
+
+        return NioEventLoopGroupCloseable.newInstance(threadCount);
+    }
+
+    private static Throwable epollUnavailabilityCause() {
+        try {
+            return Epoll.unavailabilityCause();
+        } catch (NoClassDefFoundError e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.config.yang.netty.threadgroup;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import io.netty.channel.EventLoopGroup;
+import org.junit.Test;
+import org.opendaylight.controller.config.yang.netty.NettyTransport;
+
+public class EventLoopGroupCloseablesTest {
+
+    @Test
+    public void testNio() throws Exception {
+        final EventLoopGroup group = EventLoopGroupCloseables.newInstance(1, false);
+        try {
+            assertTrue(group instanceof NioEventLoopGroupCloseable);
+            assertEquals(NettyTransport.NIO, NettyTransport.of(group));
+        } finally {
+            ((AutoCloseable) group).close();
+        }
+    }
+
+    @Test
+    public void testEpollWithFallback() throws Exception {
+        final EventLoopGroup group = EventLoopGroupCloseables.newInstance(1, true);
+        try {
+            final NettyTransport expected = NettyTransport.EPOLL.isAvailable() ? NettyTransport.EPOLL
+                    : NettyTransport.NIO;
+            assertEquals(expected, NettyTransport.of(group));
+        } finally {
+            ((AutoCloseable) group).close();
+        }
+    }
+}
@@ -19,7 +19,7 @@ import org.opendaylight.controller.config.threadpool.ThreadPool;
  * Implementation of {@link ThreadPool} using fixed number of threads wraps
  * {@link ExecutorService}.
  */
-public class FixedThreadPoolWrapper implements ThreadPool, Closeable {
+public class FixedThreadPoolWrapper implements ThreadPool, ThreadPoolStats, Closeable {
 
     private final ThreadPoolExecutor executor;
 
@@ -33,6 +33,21 @@ public class FixedThreadPoolWrapper implements ThreadPool, Closeable {
         return Executors.unconfigurableExecutorService(executor);
     }
 
+    @Override
+    public long getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public int getActiveThreadCount() {
+        return executor.getActiveCount();
+    }
+
+    @Override
+    public int getPoolSize() {
+        return executor.getPoolSize();
+    }
+
     @Override
     public void close() {
         executor.shutdown();
@@ -26,7 +26,7 @@ import org.opendaylight.controller.config.threadpool.ThreadPool;
  * Implementation of {@link ThreadPool} using flexible number of threads wraps
  * {@link ExecutorService}.
  */
-public class FlexibleThreadPoolWrapper implements ThreadPool, Closeable {
+public class FlexibleThreadPoolWrapper implements ThreadPool, ThreadPoolStats, Closeable {
     private final ThreadPoolExecutor executor;
 
     public FlexibleThreadPoolWrapper(int minThreadCount, int maxThreadCount, long keepAlive, TimeUnit timeUnit,
@@ -96,6 +96,21 @@ public class FlexibleThreadPoolWrapper implements ThreadPool, Closeable {
         executor.prestartAllCoreThreads();
     }
 
+    @Override
+    public long getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public int getActiveThreadCount() {
+        return executor.getActiveCount();
+    }
+
+    @Override
+    public int getPoolSize() {
+        return executor.getPoolSize();
+    }
+
     @Override
     public void close() throws IOException {
         executor.shutdown();
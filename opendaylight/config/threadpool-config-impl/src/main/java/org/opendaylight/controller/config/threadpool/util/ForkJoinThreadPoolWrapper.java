@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.config.threadpool.util;
+
+import com.google.common.base.Preconditions;
+import java.io.Closeable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicLong;
+import org.opendaylight.controller.config.threadpool.ThreadPool;
+
+/**
+ * Implementation of {@link ThreadPool} using a work-stealing {@link ForkJoinPool}. Each worker thread has its own
+ * task queue and idle workers steal tasks from busy ones, so submitters do not contend on a single shared queue
+ * as they do with {@link FixedThreadPoolWrapper} and {@link FlexibleThreadPoolWrapper}. Tasks are executed in FIFO
+ * order, which suits event-style tasks which are never joined.
+ */
+public class ForkJoinThreadPoolWrapper implements ThreadPool, ThreadPoolStats, Closeable {
+
+    private final ForkJoinPool executor;
+
+    public ForkJoinThreadPoolWrapper(int parallelism, String namePrefix) {
+        Preconditions.checkNotNull(namePrefix);
+        this.executor = new ForkJoinPool(parallelism, new NamingWorkerThreadFactory(namePrefix), null, true);
+    }
+
+    @Override
+    public ExecutorService getExecutor() {
+        return Executors.unconfigurableExecutorService(executor);
+    }
+
+    @Override
+    public int getMaxThreadCount() {
+        return executor.getParallelism();
+    }
+
+    @Override
+    public long getQueueSize() {
+        return executor.getQueuedSubmissionCount() + executor.getQueuedTaskCount();
+    }
+
+    @Override
+    public int getActiveThreadCount() {
+        return executor.getActiveThreadCount();
+    }
+
+    @Override
+    public int getPoolSize() {
+        return executor.getPoolSize();
+    }
+
+    /**
+     * Returns an estimate of the number of tasks stolen from one worker's queue by another. A low count relative
+     * to the number of executed tasks indicates the work is distributed evenly by submitters.
+     */
+    public long getStealCount() {
+        return executor.getStealCount();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private static final class NamingWorkerThreadFactory implements ForkJoinWorkerThreadFactory {
+        private final String namePrefix;
+        private final AtomicLong threadName = new AtomicLong();
+
+        NamingWorkerThreadFactory(String namePrefix) {
+            this.namePrefix = namePrefix;
+        }
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(String.format("%s-%d", namePrefix, threadName.incrementAndGet()));
+            return thread;
+        }
+    }
+}
@@ -19,7 +19,7 @@ import org.opendaylight.controller.config.threadpool.ScheduledThreadPool;
  * Implementation of {@link ScheduledThreadPool} wraps
  * {@link ScheduledExecutorService}.
  */
-public class ScheduledThreadPoolWrapper implements ScheduledThreadPool, Closeable {
+public class ScheduledThreadPoolWrapper implements ScheduledThreadPool, ThreadPoolStats, Closeable {
 
     private final ScheduledThreadPoolExecutor executor;
     private final int threadCount;
@@ -35,6 +35,21 @@ public class ScheduledThreadPoolWrapper implements ScheduledThreadPool, Closeabl
         return Executors.unconfigurableScheduledExecutorService(executor);
     }
 
+    @Override
+    public long getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public int getActiveThreadCount() {
+        return executor.getActiveCount();
+    }
+
+    @Override
+    public int getPoolSize() {
+        return executor.getPoolSize();
+    }
+
     @Override
     public void close() {
         executor.shutdown();
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.config.threadpool.util;
+
+/**
+ * Runtime statistics of a thread pool. The values are a best-effort snapshot, as they change while tasks
+ * are being executed.
+ */
+public interface ThreadPoolStats {
+
+    /**
+     * Returns the number of tasks which have been submitted, but have not started executing.
+     */
+    long getQueueSize();
+
+    /**
+     * Returns the number of threads which are executing tasks.
+     */
+    int getActiveThreadCount();
+
+    /**
+     * Returns the number of threads currently in the pool, including idle ones.
+     */
+    int getPoolSize();
+}
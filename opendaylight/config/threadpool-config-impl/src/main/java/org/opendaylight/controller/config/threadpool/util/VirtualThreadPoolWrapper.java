@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.config.threadpool.util;
+
+import com.google.common.base.Preconditions;
+import java.io.Closeable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.opendaylight.controller.config.threadpool.ThreadPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implementation of {@link ThreadPool} which executes each task in a new virtual thread. Virtual threads are
+ * available on Java 21 and later runtimes only, hence they are looked up reflectively and {@link #isSupported()}
+ * should be checked before instantiating this class. There is no queue and no bound on the number of threads.
+ */
+public class VirtualThreadPoolWrapper implements ThreadPool, ThreadPoolStats, Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadPoolWrapper.class);
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        Method newThreadPerTaskExecutor = null;
+        try {
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            final Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            builderName = builder.getMethod("name", String.class, long.class);
+            builderFactory = builder.getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (NoSuchMethodException | ClassNotFoundException e) {
+            LOG.debug("Virtual threads are not supported by this runtime", e);
+            ofVirtual = null;
+        }
+
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private final CountingExecutorService executor;
+
+    public VirtualThreadPoolWrapper(String namePrefix) {
+        Preconditions.checkNotNull(namePrefix);
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Virtual threads are not supported by this runtime");
+        }
+
+        try {
+            final Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), namePrefix + "-", 1L);
+            final ThreadFactory factory = (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+            this.executor = new CountingExecutorService(
+                (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, factory));
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Failed to create a virtual thread executor", e);
+        }
+    }
+
+    /**
+     * Check whether the runtime supports virtual threads.
+     *
+     * @return true if this class can be instantiated
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    @Override
+    public ExecutorService getExecutor() {
+        return Executors.unconfigurableExecutorService(executor);
+    }
+
+    /**
+     * Returns {@link Integer#MAX_VALUE}, as the number of virtual threads is not bounded.
+     */
+    @Override
+    public int getMaxThreadCount() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns zero, as each task is started in its own thread as soon as it is submitted.
+     */
+    @Override
+    public long getQueueSize() {
+        return 0;
+    }
+
+    @Override
+    public int getActiveThreadCount() {
+        return executor.getActiveCount();
+    }
+
+    @Override
+    public int getPoolSize() {
+        return executor.getActiveCount();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * ExecutorService which counts the tasks being executed by its delegate.
+     */
+    private static final class CountingExecutorService extends AbstractExecutorService {
+        private final AtomicInteger activeCount = new AtomicInteger();
+        private final ExecutorService delegate;
+
+        CountingExecutorService(ExecutorService delegate) {
+            this.delegate = delegate;
+        }
+
+        int getActiveCount() {
+            return activeCount.get();
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            Preconditions.checkNotNull(command);
+            delegate.execute(() -> {
+                activeCount.incrementAndGet();
+                try {
+                    command.run();
+                } finally {
+                    activeCount.decrementAndGet();
+                }
+            });
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.config.threadpool.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ForkJoinThreadPoolWrapperTest {
+    private static final int PARALLELISM = 2;
+
+    private ForkJoinThreadPoolWrapper pool;
+
+    @Before
+    public void setUp() {
+        pool = new ForkJoinThreadPoolWrapper(PARALLELISM, "fork-join-test");
+    }
+
+    @After
+    public void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    public void testWorkerThreadNames() throws Exception {
+        final String name = pool.getExecutor().submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+        assertTrue("Unexpected worker name " + name, name.matches("fork-join-test-\\d+"));
+    }
+
+    @Test
+    public void testStats() throws Exception {
+        assertEquals(PARALLELISM, pool.getMaxThreadCount());
+        assertEquals(0, pool.getPoolSize());
+        assertEquals(0, pool.getActiveThreadCount());
+        assertEquals(0, pool.getQueueSize());
+
+        final ExecutorService executor = pool.getExecutor();
+        final CountDownLatch started = new CountDownLatch(PARALLELISM);
+        final CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < PARALLELISM; ++i) {
+            executor.execute(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        assertTrue("Tasks did not start", started.await(5, TimeUnit.SECONDS));
+        assertEquals(PARALLELISM, pool.getPoolSize());
+        assertEquals(PARALLELISM, pool.getActiveThreadCount());
+
+        // All workers are blocked, hence another task has to wait in the queue
+        final Future<?> queued = executor.submit(() -> { });
+        assertEquals(1, pool.getQueueSize());
+
+        release.countDown();
+        queued.get(5, TimeUnit.SECONDS);
+        assertEquals(0, pool.getQueueSize());
+    }
+}
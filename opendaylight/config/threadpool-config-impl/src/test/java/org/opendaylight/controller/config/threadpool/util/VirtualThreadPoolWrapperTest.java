@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.config.threadpool.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+
+public class VirtualThreadPoolWrapperTest {
+
+    @Test
+    public void testIsSupported() {
+        // "1.8" on Java 8, the feature version alone on Java 9 and later
+        final String version = System.getProperty("java.specification.version");
+        final int feature = Integer.parseInt(version.startsWith("1.") ? version.substring(2) : version);
+        assertEquals(feature >= 21, VirtualThreadPoolWrapper.isSupported());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnsupportedRuntime() {
+        assumeFalse(VirtualThreadPoolWrapper.isSupported());
+        new VirtualThreadPoolWrapper("virtual-test");
+    }
+
+    @Test
+    public void testVirtualThreads() throws Exception {
+        assumeTrue(VirtualThreadPoolWrapper.isSupported());
+
+        final VirtualThreadPoolWrapper pool = new VirtualThreadPoolWrapper("virtual-test");
+        try {
+            assertEquals(Integer.MAX_VALUE, pool.getMaxThreadCount());
+            assertEquals(0, pool.getActiveThreadCount());
+
+            final AtomicReference<Thread> thread = new AtomicReference<>();
+            final CountDownLatch started = new CountDownLatch(1);
+            final CountDownLatch release = new CountDownLatch(1);
+            final Future<?> running = pool.getExecutor().submit(() -> {
+                thread.set(Thread.currentThread());
+                started.countDown();
+                release.await();
+                return null;
+            });
+
+            assertTrue("Task did not start", started.await(5, TimeUnit.SECONDS));
+            assertEquals("virtual-test-1", thread.get().getName());
+            assertEquals(Boolean.TRUE, Thread.class.getMethod("isVirtual").invoke(thread.get()));
+            assertEquals(1, pool.getActiveThreadCount());
+            assertEquals(1, pool.getPoolSize());
+            assertEquals(0, pool.getQueueSize());
+
+            release.countDown();
+            running.get(5, TimeUnit.SECONDS);
+        } finally {
+            pool.close();
+        }
+    }
+}
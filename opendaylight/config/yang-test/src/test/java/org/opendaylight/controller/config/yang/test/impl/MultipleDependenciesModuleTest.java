@@ -16,18 +16,34 @@ import static org.junit.Assert.fail;
 import static org.opendaylight.controller.config.api.jmx.ObjectNameUtil.getInstanceName;
 import static org.opendaylight.controller.config.api.jmx.ObjectNameUtil.getTransactionName;
 
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.ConcurrentHashMultiset;
+import com.google.common.collect.ImmutableMultiset;
+import com.google.common.collect.Multiset;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import javax.management.ObjectName;
 import org.hamcrest.CoreMatchers;
 import org.junit.Before;
 import org.junit.Test;
+import org.opendaylight.controller.config.api.DependencyResolver;
+import org.opendaylight.controller.config.api.ModuleIdentifier;
 import org.opendaylight.controller.config.api.ValidationException;
+import org.opendaylight.controller.config.api.jmx.CommitStatus;
 import org.opendaylight.controller.config.manager.impl.AbstractConfigTest;
 import org.opendaylight.controller.config.manager.impl.factoriesresolver.HardcodedModuleFactoriesResolver;
 import org.opendaylight.controller.config.util.ConfigTransactionJMXClient;
+import org.osgi.framework.BundleContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class MultipleDependenciesModuleTest extends AbstractConfigTest {
-    private static final MultipleDependenciesModuleFactory factory = new MultipleDependenciesModuleFactory();
+    private static final Logger LOG = LoggerFactory.getLogger(MultipleDependenciesModuleTest.class);
+    private static final String TEST_NAMESPACE = "urn:opendaylight:params:xml:ns:yang:controller:test";
+
+    private final CountingModuleFactory factory = new CountingModuleFactory();
 
     @Before
     public void setUp() throws Exception {
@@ -102,4 +118,166 @@ public class MultipleDependenciesModuleTest extends AbstractConfigTest {
             assertThat(e.getFailedValidations().keySet(), CoreMatchers.hasItem("multiple-dependencies"));
         }
     }
+
+    private List<ObjectName> createLayer(final ConfigTransactionJMXClient transaction, final String prefix,
+            final int size, final List<ObjectName> dependencies) throws Exception {
+        final List<ObjectName> layer = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            final ObjectName module = transaction.createModule(factory.getImplementationName(), prefix + i);
+            transaction.newMXBeanProxy(module, MultipleDependenciesModuleMXBean.class).setTestingDeps(dependencies);
+            layer.add(module);
+        }
+        return layer;
+    }
+
+    @Test
+    public void testWideDependencyGraph() throws Exception {
+        // Three layers, each module depending on all modules of the layer below. Modules of the same layer are
+        // independent of each other and get instantiated concurrently.
+        ConfigTransactionJMXClient transaction = configRegistryClient.createTransaction();
+        final List<ObjectName> leaves = createLayer(transaction, "leaf", 50, new ArrayList<>());
+        final List<ObjectName> middles = createLayer(transaction, "middle", 50, leaves);
+        createLayer(transaction, "root", 50, middles);
+        CommitStatus status = transaction.commit();
+        assertEquals(150, status.getNewInstances().size());
+
+        status = configRegistryClient.createTransaction().commit();
+        assertEquals(150, status.getReusedInstances().size());
+
+        // Recreating a leaf has to close the dependent instances before their dependencies
+        transaction = configRegistryClient.createTransaction();
+        transaction.newMXBeanProxy(transaction.lookupConfigBean(factory.getImplementationName(), "leaf0"),
+            MultipleDependenciesModuleMXBean.class).setSimple(true);
+        status = transaction.commit();
+        assertEquals(101, status.getRecreatedInstances().size());
+    }
+
+    @Test
+    public void testValidationFailuresOfIndependentModules() throws Exception {
+        ConfigTransactionJMXClient transaction = configRegistryClient.createTransaction();
+        final List<ObjectName> leaves = createLayer(transaction, "leaf", 1, new ArrayList<>());
+        createLayer(transaction, "middle", 10, leaves);
+        transaction.commit();
+
+        transaction = configRegistryClient.createTransaction();
+        transaction.destroyModule(factory.getImplementationName(), "leaf0");
+        try {
+            transaction.commit();
+            fail("Validation exception expected");
+        } catch (ValidationException e) {
+            // every failure is reported, no matter in which order modules were validated
+            final Map<String, ?> failed = e.getFailedValidations().get(factory.getImplementationName());
+            assertEquals(10, failed.size());
+            for (int i = 0; i < 10; ++i) {
+                assertThat(failed.keySet(), CoreMatchers.hasItem("middle" + i));
+            }
+        }
+    }
+
+    @Test
+    public void testSingleAttributeChange() throws Exception {
+        // 500 independent pairs of modules
+        ConfigTransactionJMXClient transaction = configRegistryClient.createTransaction();
+        final List<ObjectName> leaves = new ArrayList<>();
+        for (int i = 0; i < 500; ++i) {
+            final List<ObjectName> leaf = createLayer(transaction, "leaf" + i + "-", 1, new ArrayList<>());
+            createLayer(transaction, "parent" + i + "-", 1, leaf);
+            leaves.addAll(leaf);
+        }
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        CommitStatus status = transaction.commit();
+        LOG.info("Initial commit of 1000 modules took {}", stopwatch);
+        assertEquals(1000, status.getNewInstances().size());
+
+        // only the changed leaf and its parent need to be validated and recreated
+        factory.validated.clear();
+        transaction = configRegistryClient.createTransaction();
+        transaction.newMXBeanProxy(transaction.lookupConfigBean(factory.getImplementationName(),
+            getInstanceName(leaves.get(0))), MultipleDependenciesModuleMXBean.class).setSimple(true);
+        stopwatch = Stopwatch.createStarted();
+        status = transaction.commit();
+        LOG.info("Commit of a single attribute change among 1000 modules took {}", stopwatch);
+        assertEquals(ImmutableMultiset.of("leaf0-0", "parent0-0"), factory.validated);
+        assertEquals(2, status.getRecreatedInstances().size());
+        assertEquals(998, status.getReusedInstances().size());
+
+        // unchanged modules still validate their dependencies once these are destroyed
+        transaction = configRegistryClient.createTransaction();
+        transaction.destroyModule(factory.getImplementationName(), getInstanceName(leaves.get(1)));
+        try {
+            transaction.commit();
+            fail("Validation exception expected");
+        } catch (ValidationException e) {
+            assertEquals(Collections.singleton("parent1-0"),
+                e.getFailedValidations().get(factory.getImplementationName()).keySet());
+        }
+    }
+
+    @Test
+    public void testServiceReferenceChange() throws Exception {
+        ConfigTransactionJMXClient transaction = configRegistryClient.createTransaction();
+        for (int i = 0; i < 10; ++i) {
+            createLayer(transaction, "parent" + i + "-", 1, createLayer(transaction, "leaf" + i + "-", 1,
+                new ArrayList<>()));
+        }
+        transaction.commit();
+        assertEquals(20, factory.validated.size());
+
+        // nothing changed, nothing to validate
+        factory.validated.clear();
+        configRegistryClient.createTransaction().commit();
+        assertEquals(0, factory.validated.size());
+
+        // a service reference may rewire any module, hence all of them are validated once
+        transaction = configRegistryClient.createTransaction();
+        transaction.saveServiceReference(transaction.getServiceInterfaceName(TEST_NAMESPACE, "testing"), "ref",
+            transaction.lookupConfigBean(factory.getImplementationName(), "leaf0-0"));
+        transaction.commit();
+        assertEquals(20, factory.validated.size());
+        assertEquals(20, factory.validated.elementSet().size());
+    }
+
+    /**
+     * Factory of modules which record their instance name each time they are validated.
+     */
+    private static final class CountingModuleFactory extends MultipleDependenciesModuleFactory {
+        final Multiset<String> validated = ConcurrentHashMultiset.create();
+
+        @Override
+        public MultipleDependenciesModule instantiateModule(final String instanceName,
+                final DependencyResolver dependencyResolver, final MultipleDependenciesModule oldModule,
+                final AutoCloseable oldInstance, final BundleContext bundleContext) {
+            return new CountingModule(new ModuleIdentifier(NAME, instanceName), dependencyResolver, oldModule,
+                oldInstance, validated);
+        }
+
+        @Override
+        public MultipleDependenciesModule instantiateModule(final String instanceName,
+                final DependencyResolver dependencyResolver, final BundleContext bundleContext) {
+            return new CountingModule(new ModuleIdentifier(NAME, instanceName), dependencyResolver, validated);
+        }
+    }
+
+    private static final class CountingModule extends MultipleDependenciesModule {
+        private final Multiset<String> validated;
+
+        CountingModule(final ModuleIdentifier identifier, final DependencyResolver dependencyResolver,
+                final Multiset<String> validated) {
+            super(identifier, dependencyResolver);
+            this.validated = validated;
+        }
+
+        CountingModule(final ModuleIdentifier identifier, final DependencyResolver dependencyResolver,
+                final MultipleDependenciesModule oldModule, final AutoCloseable oldInstance,
+                final Multiset<String> validated) {
+            super(identifier, dependencyResolver, oldModule, oldInstance);
+            this.validated = validated;
+        }
+
+        @Override
+        public void customValidation() {
+            super.customValidation();
+            validated.add(getIdentifier().getInstanceName());
+        }
+    }
 }
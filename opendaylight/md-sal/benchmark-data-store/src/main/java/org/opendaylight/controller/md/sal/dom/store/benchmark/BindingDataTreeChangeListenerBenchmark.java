@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.store.benchmark;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javassist.ClassPool;
+import org.opendaylight.controller.md.sal.binding.api.DataBroker;
+import org.opendaylight.controller.md.sal.binding.api.DataObjectModification;
+import org.opendaylight.controller.md.sal.binding.api.DataTreeChangeListener;
+import org.opendaylight.controller.md.sal.binding.api.DataTreeIdentifier;
+import org.opendaylight.controller.md.sal.binding.api.DataTreeModification;
+import org.opendaylight.controller.md.sal.binding.api.WriteTransaction;
+import org.opendaylight.controller.md.sal.binding.impl.BindingDOMDataBrokerAdapter;
+import org.opendaylight.controller.md.sal.binding.impl.BindingToNormalizedNodeCodec;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.dom.broker.impl.SerializedDOMDataBroker;
+import org.opendaylight.controller.md.sal.dom.store.impl.InMemoryDOMDataStore;
+import org.opendaylight.controller.sal.core.spi.data.DOMStore;
+import org.opendaylight.mdsal.binding.dom.codec.gen.impl.StreamWriterGenerator;
+import org.opendaylight.mdsal.binding.dom.codec.impl.BindingNormalizedNodeCodecRegistry;
+import org.opendaylight.mdsal.binding.generator.impl.GeneratedClassLoadingStrategy;
+import org.opendaylight.mdsal.binding.generator.impl.ModuleInfoBackedContext;
+import org.opendaylight.mdsal.binding.generator.util.JavassistUtils;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.Top;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.TopBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.TopLevelList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.TopLevelListBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.TopLevelListKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.top.level.list.NestedListBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.top.level.list.NestedListKey;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.util.BindingReflections;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for delivery of binding data tree change events for changes of a 10K-entry list. The datastore delivers
+ * events on the committing thread, so each operation covers the commit and the listener's inspection of the change.
+ * The listener either looks at a single list entry or enumerates all modified entries without looking at their data,
+ * neither of which should require the whole change to be translated to binding objects.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class BindingDataTreeChangeListenerBenchmark {
+    private static final int ENTRY_COUNT = 10000;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASUREMENT_ITERATIONS = 20;
+    private static final InstanceIdentifier<Top> TOP_PATH = InstanceIdentifier.create(Top.class);
+    private static final TopLevelListKey INSPECTED_KEY = new TopLevelListKey("item-" + ENTRY_COUNT / 2);
+
+    private static final class SingleEntryListener implements DataTreeChangeListener<Top> {
+        @Override
+        public void onDataTreeChanged(final Collection<DataTreeModification<Top>> changes) {
+            for (DataTreeModification<Top> change : changes) {
+                final DataObjectModification<TopLevelList> entry =
+                        change.getRootNode().getModifiedChildListItem(TopLevelList.class, INSPECTED_KEY);
+                if (entry != null && entry.getDataAfter() != null) {
+                    entry.getDataAfter().getName();
+                }
+            }
+        }
+    }
+
+    private static final class EnumeratingListener implements DataTreeChangeListener<Top> {
+        @Override
+        public void onDataTreeChanged(final Collection<DataTreeModification<Top>> changes) {
+            for (DataTreeModification<Top> change : changes) {
+                for (DataObjectModification<? extends DataObject> child : change.getRootNode().getModifiedChildren()) {
+                    child.getModificationType();
+                }
+            }
+        }
+    }
+
+    @Param({"single-entry", "enumerate"})
+    public String listenerType;
+
+    private InMemoryDOMDataStore store;
+    private DataBroker dataBroker;
+    private ListenerRegistration<?> registration;
+    private Top[] tops;
+    private int next;
+
+    private static Top createTop(final String type) {
+        final List<TopLevelList> entries = new ArrayList<>(ENTRY_COUNT);
+        for (int i = 0; i < ENTRY_COUNT; ++i) {
+            entries.add(new TopLevelListBuilder().setKey(new TopLevelListKey("item-" + i)).build());
+        }
+
+        // Tops differ in a single entry, so that every put changes the list
+        entries.set(ENTRY_COUNT / 2, new TopLevelListBuilder().setKey(INSPECTED_KEY)
+            .setNestedList(Collections.singletonList(new NestedListBuilder().setKey(new NestedListKey("nested"))
+                .setType(type).build())).build());
+        return new TopBuilder().setTopLevelList(entries).build();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        final ModuleInfoBackedContext moduleContext = ModuleInfoBackedContext.create();
+        moduleContext.addModuleInfos(BindingReflections.loadModuleInfos());
+        final SchemaContext schemaContext = moduleContext.tryToCreateSchemaContext().get();
+
+        final BindingToNormalizedNodeCodec codec = new BindingToNormalizedNodeCodec(
+            GeneratedClassLoadingStrategy.getTCCLClassLoadingStrategy(),
+            new BindingNormalizedNodeCodecRegistry(StreamWriterGenerator.create(
+                JavassistUtils.forClassPool(ClassPool.getDefault()))));
+        codec.onGlobalContextUpdated(schemaContext);
+
+        store = new InMemoryDOMDataStore("OPER", MoreExecutors.newDirectExecutorService());
+        store.onGlobalContextUpdated(schemaContext);
+
+        dataBroker = new BindingDOMDataBrokerAdapter(new SerializedDOMDataBroker(
+            ImmutableMap.<LogicalDatastoreType, DOMStore>of(LogicalDatastoreType.OPERATIONAL, store),
+            MoreExecutors.listeningDecorator(MoreExecutors.newDirectExecutorService())), codec);
+
+        tops = new Top[] { createTop("a"), createTop("b") };
+        put(tops[0]);
+
+        registration = dataBroker.registerDataTreeChangeListener(
+            new DataTreeIdentifier<>(LogicalDatastoreType.OPERATIONAL, TOP_PATH),
+            "enumerate".equals(listenerType) ? new EnumeratingListener() : new SingleEntryListener());
+    }
+
+    @TearDown
+    public void tearDown() {
+        registration.close();
+        store.close();
+        dataBroker = null;
+        tops = null;
+    }
+
+    private void put(final Top top) throws Exception {
+        final WriteTransaction tx = dataBroker.newWriteOnlyTransaction();
+        tx.put(LogicalDatastoreType.OPERATIONAL, TOP_PATH, top);
+        tx.submit().checkedGet();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void replace10KEntryListBenchmark() throws Exception {
+        next ^= 1;
+        put(tops[next]);
+    }
+}
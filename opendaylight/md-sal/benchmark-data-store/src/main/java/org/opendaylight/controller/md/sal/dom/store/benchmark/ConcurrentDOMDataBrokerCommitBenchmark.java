@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.store.benchmark;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.opendaylight.controller.cluster.databroker.ConcurrentDOMDataBroker;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataWriteTransaction;
+import org.opendaylight.controller.md.sal.dom.store.impl.InMemoryDOMDataStore;
+import org.opendaylight.controller.sal.core.spi.data.DOMStore;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for committing small transactions through a {@link ConcurrentDOMDataBroker} from 64 concurrent threads.
+ * Each thread repeatedly writes its own outer list entry, either to a single datastore, which exercises the
+ * single-cohort commit path, or to both datastores, which coordinates two cohorts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Threads(ConcurrentDOMDataBrokerCommitBenchmark.COMMITTERS)
+public class ConcurrentDOMDataBrokerCommitBenchmark {
+    static final int COMMITTERS = 64;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+
+    @State(Scope.Thread)
+    public static class Committer {
+        private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+        YangInstanceIdentifier path;
+        MapEntryNode entry;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            final int id = NEXT_ID.getAndIncrement();
+            path = YangInstanceIdentifier.builder(BenchmarkModel.OUTER_LIST_PATH)
+                    .nodeWithKey(BenchmarkModel.OUTER_LIST_QNAME, BenchmarkModel.ID_QNAME, id).build();
+            entry = ImmutableNodes.mapEntry(BenchmarkModel.OUTER_LIST_QNAME, BenchmarkModel.ID_QNAME, id);
+        }
+    }
+
+    private ExecutorService futureExecutor;
+    private ConcurrentDOMDataBroker domBroker;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        final InMemoryDOMDataStore operStore = new InMemoryDOMDataStore("OPER",
+                MoreExecutors.newDirectExecutorService());
+        final InMemoryDOMDataStore configStore = new InMemoryDOMDataStore("CFG",
+                MoreExecutors.newDirectExecutorService());
+        final SchemaContext schemaContext = BenchmarkModel.createTestContext();
+        operStore.onGlobalContextUpdated(schemaContext);
+        configStore.onGlobalContextUpdated(schemaContext);
+
+        futureExecutor = Executors.newCachedThreadPool();
+        domBroker = new ConcurrentDOMDataBroker(ImmutableMap.<LogicalDatastoreType, DOMStore>of(
+                LogicalDatastoreType.OPERATIONAL, operStore, LogicalDatastoreType.CONFIGURATION, configStore),
+                futureExecutor);
+
+        final DOMDataWriteTransaction tx = domBroker.newWriteOnlyTransaction();
+        for (LogicalDatastoreType type : LogicalDatastoreType.values()) {
+            tx.put(type, BenchmarkModel.TEST_PATH, ImmutableNodes.containerNode(BenchmarkModel.TEST_QNAME));
+            tx.put(type, BenchmarkModel.OUTER_LIST_PATH, ImmutableNodes.mapNodeBuilder(BenchmarkModel.OUTER_LIST_QNAME)
+                    .build());
+        }
+        tx.submit().get();
+    }
+
+    @TearDown
+    public void tearDown() {
+        domBroker.close();
+        futureExecutor.shutdown();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS)
+    public void singleCohortCommit(final Committer committer) throws Exception {
+        final DOMDataWriteTransaction tx = domBroker.newWriteOnlyTransaction();
+        tx.put(LogicalDatastoreType.OPERATIONAL, committer.path, committer.entry);
+        tx.submit().get();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS)
+    public void twoCohortCommit(final Committer committer) throws Exception {
+        final DOMDataWriteTransaction tx = domBroker.newWriteOnlyTransaction();
+        tx.put(LogicalDatastoreType.OPERATIONAL, committer.path, committer.entry);
+        tx.put(LogicalDatastoreType.CONFIGURATION, committer.path, committer.entry);
+        tx.submit().get();
+    }
+}
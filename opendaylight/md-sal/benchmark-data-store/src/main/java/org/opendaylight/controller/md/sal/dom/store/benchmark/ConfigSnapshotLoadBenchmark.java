@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.store.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.config.persist.api.ConfigSnapshotHolder;
+import org.opendaylight.controller.config.persist.storage.file.xml.model.Config;
+import org.opendaylight.controller.config.persist.storage.file.xml.model.ConfigSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for loading the last config snapshot from a file holding 20 backups of 2000 modules each. Compares
+ * streaming only the last snapshot, as the file storage adapter does on startup, with binding all backups through
+ * JAXB, which is how the last snapshot used to be loaded.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class ConfigSnapshotLoadBenchmark {
+    private static final int SNAPSHOTS = 20;
+    private static final int MODULES = 2000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+
+    private File file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("ConfigSnapshotLoadBenchmark", ".xml").toFile();
+
+        final Config cfg = new Config();
+        for (int snapshot = 0; snapshot < SNAPSHOTS; snapshot++) {
+            final StringBuilder sb = new StringBuilder("<data xmlns=\"urn:data\"><modules>");
+            for (int module = 0; module < MODULES; module++) {
+                sb.append("<module><type xmlns:prefix=\"urn:type\">prefix:type</type><name>module")
+                    .append(snapshot).append('-').append(module).append("</name></module>");
+            }
+            final String config = sb.append("</modules></data>").toString();
+            final SortedSet<String> caps = new TreeSet<>(Collections.singleton("cap" + snapshot));
+            cfg.addConfigSnapshot(ConfigSnapshot.fromConfigSnapshot(new ConfigSnapshotHolder() {
+                @Override
+                public String getConfigSnapshot() {
+                    return config;
+                }
+
+                @Override
+                public SortedSet<String> getCapabilities() {
+                    return caps;
+                }
+            }, Collections.singleton("feature" + snapshot)), Integer.MAX_VALUE);
+        }
+        cfg.toXml(file);
+    }
+
+    @TearDown
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS)
+    public ConfigSnapshot streamLastSnapshot() {
+        return Config.lastSnapshotFromXml(file).get();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS)
+    public ConfigSnapshot bindAllSnapshots() {
+        return Config.fromXml(file).getLastSnapshot().get();
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.store.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncDataBroker.DataChangeScope;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncDataChangeEvent;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncDataChangeListener;
+import org.opendaylight.controller.md.sal.dom.store.impl.DOMImmutableDataChangeEvent;
+import org.opendaylight.controller.md.sal.dom.store.impl.DataChangeListenerRegistration;
+import org.opendaylight.controller.md.sal.dom.store.impl.ResolveDataChangeEventsTask;
+import org.opendaylight.controller.md.sal.dom.store.impl.tree.ListenerTree;
+import org.opendaylight.yangtools.util.concurrent.NotificationManager;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTree;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.TreeType;
+import org.opendaylight.yangtools.yang.data.impl.schema.tree.InMemoryDataTreeFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for resolution of data change events with 10K registered data change listeners. The datastore contains
+ * 10K outer list entries and the measured commit replaces a single one of them. Events are resolved without being
+ * delivered, so the benchmark measures the cost of walking the listener tree and building events only.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class DataChangeEventResolutionBenchmark extends AbstractInMemoryWriteTransactionBenchmark {
+    private static final class DiscardingNotificationManager
+            implements NotificationManager<DataChangeListenerRegistration<?>, DOMImmutableDataChangeEvent> {
+        @Override
+        public void submitNotification(final DataChangeListenerRegistration<?> listener,
+                final DOMImmutableDataChangeEvent notification) {
+            // Discard
+        }
+
+        @Override
+        public void submitNotifications(final DataChangeListenerRegistration<?> listener,
+                final Iterable<DOMImmutableDataChangeEvent> notifications) {
+            // Discard
+        }
+    }
+
+    private static final class NoopListener
+            implements AsyncDataChangeListener<YangInstanceIdentifier, NormalizedNode<?, ?>> {
+        @Override
+        public void onDataChanged(final AsyncDataChangeEvent<YangInstanceIdentifier, NormalizedNode<?, ?>> change) {
+            // No-op
+        }
+    }
+
+    private static final DiscardingNotificationManager DISCARDING_MANAGER = new DiscardingNotificationManager();
+    private static final NoopListener NOOP_LISTENER = new NoopListener();
+
+    private ListenerTree perEntryListeners;
+    private ListenerTree sameNodeListeners;
+    private DataTreeCandidate candidate;
+
+    @Override
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        schemaContext = BenchmarkModel.createTestContext();
+        final DataTree dataTree = InMemoryDataTreeFactory.getInstance().create(TreeType.OPERATIONAL);
+        dataTree.setSchemaContext(schemaContext);
+
+        // Populate the tree with 10K outer list entries
+        final DataTreeModification initial = dataTree.takeSnapshot().newModification();
+        initial.write(BenchmarkModel.TEST_PATH, provideOuterListNode());
+        for (int outerListKey = 0; outerListKey < OUTER_LIST_10K; ++outerListKey) {
+            initial.write(OUTER_LIST_10K_PATHS[outerListKey], OUTER_LIST_ONE_ITEM_INNER_LIST[outerListKey]);
+        }
+        initial.ready();
+        dataTree.validate(initial);
+        dataTree.commit(dataTree.prepare(initial));
+
+        // Prepare, but do not commit, a modification of a single entry
+        final DataTreeModification modification = dataTree.takeSnapshot().newModification();
+        modification.write(OUTER_LIST_10K_PATHS[0], OUTER_LIST_TWO_ITEM_INNER_LIST[0]);
+        modification.ready();
+        dataTree.validate(modification);
+        candidate = dataTree.prepare(modification);
+
+        // One listener on each of the entries
+        perEntryListeners = ListenerTree.create();
+        for (int outerListKey = 0; outerListKey < OUTER_LIST_10K; ++outerListKey) {
+            perEntryListeners.registerDataChangeListener(OUTER_LIST_10K_PATHS[outerListKey], NOOP_LISTENER,
+                DataChangeScope.BASE);
+        }
+
+        // All listeners on the container holding the list
+        sameNodeListeners = ListenerTree.create();
+        for (int i = 0; i < OUTER_LIST_10K; ++i) {
+            sameNodeListeners.registerDataChangeListener(BenchmarkModel.TEST_PATH, NOOP_LISTENER,
+                DataChangeScope.SUBTREE);
+        }
+    }
+
+    @Override
+    @TearDown
+    public void tearDown() {
+        schemaContext = null;
+        candidate = null;
+        perEntryListeners = null;
+        sameNodeListeners = null;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void resolve10KListenersOnDistinctEntriesBenchmark() {
+        ResolveDataChangeEventsTask.create(candidate, perEntryListeners).resolve(DISCARDING_MANAGER);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void resolve10KSubtreeListenersOnSameNodeBenchmark() {
+        ResolveDataChangeEventsTask.create(candidate, sameNodeListeners).resolve(DISCARDING_MANAGER);
+    }
+}
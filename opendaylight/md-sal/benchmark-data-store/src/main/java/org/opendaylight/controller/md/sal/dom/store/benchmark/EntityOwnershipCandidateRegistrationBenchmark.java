@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.store.benchmark;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Address;
+import com.google.common.base.Optional;
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.typesafe.config.ConfigFactory;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.opendaylight.controller.cluster.access.concepts.MemberName;
+import org.opendaylight.controller.cluster.datastore.AbstractDataStore;
+import org.opendaylight.controller.cluster.datastore.ClusterWrapper;
+import org.opendaylight.controller.cluster.datastore.DatastoreContext;
+import org.opendaylight.controller.cluster.datastore.DatastoreContextFactory;
+import org.opendaylight.controller.cluster.datastore.DatastoreContextIntrospector;
+import org.opendaylight.controller.cluster.datastore.DistributedDataStore;
+import org.opendaylight.controller.cluster.datastore.config.Configuration;
+import org.opendaylight.controller.cluster.datastore.config.ConfigurationImpl;
+import org.opendaylight.controller.cluster.datastore.entityownership.DistributedEntityOwnershipService;
+import org.opendaylight.controller.cluster.datastore.entityownership.selectionstrategy.EntityOwnerSelectionStrategyConfig;
+import org.opendaylight.mdsal.eos.common.api.EntityOwnershipState;
+import org.opendaylight.mdsal.eos.dom.api.DOMEntity;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for registering 10000 entity ownership candidates on a single member and waiting until the member owns
+ * all of them. Each iteration starts a fresh datastore, so the measured time covers candidate registration and owner
+ * selection in the configured number of entity ownership shards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class EntityOwnershipCandidateRegistrationBenchmark {
+    private static final int ENTITY_COUNT = 10000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final String ENTITY_TYPE = "benchmark";
+    private static final String ENTITY_OWNERS_YANG = "/META-INF/yang/entity-owners.yang";
+    private static final MemberName MEMBER_NAME = MemberName.forName("member-1");
+    private static final AtomicInteger NEXT_DATASTORE = new AtomicInteger();
+
+    private static final ClusterWrapper LOCAL_CLUSTER = new ClusterWrapper() {
+        private final Address selfAddress = new Address("akka", "benchmark", "127.0.0.1", 2550);
+
+        @Override
+        public void subscribeToMemberEvents(final ActorRef actorRef) {
+        }
+
+        @Override
+        public MemberName getCurrentMemberName() {
+            return MEMBER_NAME;
+        }
+
+        @Override
+        public Address getSelfAddress() {
+            return selfAddress;
+        }
+    };
+
+    @Param({ "1", "4" })
+    public int shardCount;
+
+    private ActorSystem system;
+    private SchemaContext schemaContext;
+    private DOMEntity[] entities;
+    private AbstractDataStore dataStore;
+    private DistributedEntityOwnershipService service;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        system = ActorSystem.create("benchmark", ConfigFactory.parseString(
+                "akka.actor.provider = \"akka.cluster.ClusterActorRefProvider\"\n"
+                + "akka.remote.netty.tcp.hostname = \"127.0.0.1\"\n"
+                + "akka.remote.netty.tcp.port = 0\n"
+                + "akka.persistence.journal.plugin = \"akka.persistence.journal.inmem\"\n"
+                + "akka.persistence.snapshot-store.plugin = \"akka.persistence.snapshot-store.local\"\n")
+                .withFallback(ConfigFactory.load()));
+        schemaContext = YangParserTestUtils.parseYangStreams(Collections.singletonList(
+                EntityOwnershipCandidateRegistrationBenchmark.class.getResourceAsStream(ENTITY_OWNERS_YANG)));
+
+        entities = new DOMEntity[ENTITY_COUNT];
+        for (int i = 0; i < ENTITY_COUNT; ++i) {
+            entities[i] = new DOMEntity(ENTITY_TYPE, "entity-" + i);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        final DatastoreContext datastoreContext = DatastoreContext.newBuilder()
+                .dataStoreName("benchmark-" + NEXT_DATASTORE.getAndIncrement()).persistent(false)
+                .shardInitializationTimeout(10, TimeUnit.SECONDS).entityOwnershipShardCount(shardCount).build();
+        final Configuration configuration = new ConfigurationImpl(config -> Collections.emptyMap()) {
+            @Override
+            public Collection<MemberName> getUniqueMemberNamesForAllShards() {
+                return Collections.singleton(MEMBER_NAME);
+            }
+        };
+
+        dataStore = new DistributedDataStore(system, LOCAL_CLUSTER, configuration,
+                new DatastoreContextFactory(new DatastoreContextIntrospector(datastoreContext)), null);
+        dataStore.onGlobalContextUpdated(schemaContext);
+        service = DistributedEntityOwnershipService.start(dataStore.getActorContext(),
+                EntityOwnerSelectionStrategyConfig.newBuilder().build());
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDownIteration() {
+        service.close();
+        dataStore.close();
+    }
+
+    @TearDown
+    public void tearDown() {
+        system.terminate();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS)
+    public void registerCandidates() throws Exception {
+        for (DOMEntity entity : entities) {
+            service.registerCandidate(entity);
+        }
+
+        for (DOMEntity entity : entities) {
+            Optional<EntityOwnershipState> state = service.getOwnershipState(entity);
+            while (!state.isPresent() || state.get() != EntityOwnershipState.IS_OWNER) {
+                Uninterruptibles.sleepUninterruptibly(1, TimeUnit.MILLISECONDS);
+                state = service.getOwnershipState(entity);
+            }
+        }
+    }
+}
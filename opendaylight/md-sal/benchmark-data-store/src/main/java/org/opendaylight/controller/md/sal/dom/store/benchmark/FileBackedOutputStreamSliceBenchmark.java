@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.store.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.cluster.io.FileBackedOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark for slicing a 1GB serialized snapshot, as is done when sending an InstallSnapshot to a follower. Compares
+ * reading each slice from the spilled file into a freshly allocated byte[], which is how slices used to be produced,
+ * with taking zero-copy views of the memory-mapped file.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class FileBackedOutputStreamSliceBenchmark {
+    private static final long SNAPSHOT_SIZE = 1L << 30;
+    private static final int SLICE_SIZE = 2 * 1024 * 1024;
+    private static final int FILE_THRESHOLD = 1024 * 1024;
+    private static final String TEMP_DIR = "target/FileBackedOutputStreamSliceBenchmark";
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+
+    private FileBackedOutputStream stream;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        new File(TEMP_DIR).mkdirs();
+        stream = new FileBackedOutputStream(FILE_THRESHOLD, TEMP_DIR);
+
+        final byte[] chunk = new byte[SLICE_SIZE];
+        for (int i = 0; i < chunk.length; i++) {
+            chunk[i] = (byte) i;
+        }
+        for (long written = 0; written < SNAPSHOT_SIZE; written += chunk.length) {
+            stream.write(chunk);
+        }
+        stream.close();
+    }
+
+    @TearDown
+    public void tearDown() {
+        stream.cleanup();
+        new File(TEMP_DIR).delete();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS)
+    public void copyingSlices(final Blackhole blackhole) throws IOException {
+        try (InputStream in = stream.asByteSource().openStream()) {
+            for (long offset = 0; offset < SNAPSHOT_SIZE; offset += SLICE_SIZE) {
+                final byte[] slice = new byte[(int) Math.min(SLICE_SIZE, SNAPSHOT_SIZE - offset)];
+                int read = 0;
+                while (read < slice.length) {
+                    read += in.read(slice, read, slice.length - read);
+                }
+                blackhole.consume(slice[slice.length - 1]);
+            }
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS)
+    public void mappedSlices(final Blackhole blackhole) throws IOException {
+        for (long offset = 0; offset < SNAPSHOT_SIZE; offset += SLICE_SIZE) {
+            final ByteBuffer slice = stream.slice(offset, (int) Math.min(SLICE_SIZE, SNAPSHOT_SIZE - offset));
+            blackhole.consume(slice.get(slice.limit() - 1));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.store.benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import javassist.ClassPool;
+import org.opendaylight.controller.md.sal.binding.impl.BindingToNormalizedNodeCodec;
+import org.opendaylight.mdsal.binding.dom.codec.gen.impl.StreamWriterGenerator;
+import org.opendaylight.mdsal.binding.dom.codec.impl.BindingNormalizedNodeCodecRegistry;
+import org.opendaylight.mdsal.binding.generator.impl.GeneratedClassLoadingStrategy;
+import org.opendaylight.mdsal.binding.generator.impl.ModuleInfoBackedContext;
+import org.opendaylight.mdsal.binding.generator.util.JavassistUtils;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.Top;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.TopLevelList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.TopLevelListKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.util.BindingReflections;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for translation of binding InstanceIdentifiers with and without the codec's instance identifier cache.
+ * Lookups follow a Zipf distribution over 100K distinct identifiers, which is considerably more than the cache can
+ * hold, so that the benchmark reflects a small set of hot identifiers and a long tail of cold ones.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class InstanceIdentifierCodecCacheBenchmark {
+    private static final int KEY_COUNT = 100000;
+    private static final int LOOKUP_COUNT = 1 << 20;
+    private static final double ZIPF_EXPONENT = 1.0;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASUREMENT_ITERATIONS = 20;
+
+    private BindingToNormalizedNodeCodec codec;
+    private InstanceIdentifier<?>[] lookups;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        final ModuleInfoBackedContext moduleContext = ModuleInfoBackedContext.create();
+        moduleContext.addModuleInfos(BindingReflections.loadModuleInfos());
+
+        codec = new BindingToNormalizedNodeCodec(GeneratedClassLoadingStrategy.getTCCLClassLoadingStrategy(),
+            new BindingNormalizedNodeCodecRegistry(StreamWriterGenerator.create(
+                JavassistUtils.forClassPool(ClassPool.getDefault()))));
+        codec.onGlobalContextUpdated(moduleContext.tryToCreateSchemaContext().get());
+
+        final InstanceIdentifier<?>[] keys = new InstanceIdentifier<?>[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; ++i) {
+            keys[i] = InstanceIdentifier.create(Top.class).child(TopLevelList.class,
+                new TopLevelListKey("item-" + i));
+        }
+
+        // Cumulative distribution of a Zipf distribution, sampled by binary search
+        final double[] cdf = new double[KEY_COUNT];
+        double sum = 0;
+        for (int i = 0; i < KEY_COUNT; ++i) {
+            sum += 1 / Math.pow(i + 1, ZIPF_EXPONENT);
+            cdf[i] = sum;
+        }
+
+        final Random random = new Random(42);
+        lookups = new InstanceIdentifier<?>[LOOKUP_COUNT];
+        for (int i = 0; i < LOOKUP_COUNT; ++i) {
+            final int pos = Arrays.binarySearch(cdf, random.nextDouble() * sum);
+            lookups[i] = keys[Math.min(pos >= 0 ? pos : -pos - 1, KEY_COUNT - 1)];
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        codec.close();
+        codec = null;
+        lookups = null;
+    }
+
+    private InstanceIdentifier<?> nextLookup() {
+        final InstanceIdentifier<?> ret = lookups[next];
+        next = (next + 1) & (LOOKUP_COUNT - 1);
+        return ret;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public YangInstanceIdentifier toYangInstanceIdentifierCachedBenchmark() {
+        return codec.toYangInstanceIdentifierCached(nextLookup());
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public YangInstanceIdentifier toYangInstanceIdentifierBenchmark() {
+        return codec.toYangInstanceIdentifier(nextLookup());
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.store.benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.liblldp.EtherTypes;
+import org.opendaylight.controller.liblldp.Ethernet;
+import org.opendaylight.controller.liblldp.EthernetFlyweight;
+import org.opendaylight.controller.liblldp.LLDP;
+import org.opendaylight.controller.liblldp.LLDPFlyweight;
+import org.opendaylight.controller.liblldp.LLDPTLV;
+import org.opendaylight.controller.liblldp.NetUtils;
+import org.opendaylight.controller.liblldp.PacketException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark for decoding and encoding of LLDP discovery frames, as sent by the OpenFlow topology discovery, using the
+ * {@link Ethernet}/{@link LLDP} packet API and the {@link EthernetFlyweight}/{@link LLDPFlyweight} views. Decoding
+ * extracts the port ID and custom TLVs, which is what discovery needs from each received frame. Running with
+ * {@code -prof gc} shows the allocation rate of each variant.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class LLDPCodecBenchmark {
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASUREMENT_ITERATIONS = 20;
+    private static final byte[] SOURCE_MAC = new byte[] { 0x00, 0x11, 0x22, 0x33, 0x44, 0x55 };
+    private static final long SOURCE_MAC_LONG = NetUtils.byteArray6ToLong(SOURCE_MAC);
+    private static final long LLDP_MULTICAST_MAC_LONG = NetUtils.byteArray6ToLong(LLDP.LLDPMulticastMac);
+    private static final byte[] CHASSIS_ID_VALUE = LLDPTLV.createChassisIDTLVValue("00:00:00:00:00:00:00:01");
+    private static final byte[] PORT_ID_VALUE = LLDPTLV.createPortIDTLVValue("openflow:1:2");
+    private static final byte[] TTL_VALUE = new byte[] { 0, 120 };
+    private static final byte[] SYSTEM_NAME_VALUE = LLDPTLV.createSystemNameTLVValue("openflow:1");
+    private static final byte[] CUSTOM_VALUE = LLDPTLV.createCustomTLVValue("openflow:1:2");
+
+    private final EthernetFlyweight ethernetFlyweight = new EthernetFlyweight();
+    private final LLDPFlyweight lldpFlyweight = new LLDPFlyweight();
+    private final ByteBuffer encodeBuffer = ByteBuffer.allocate(128);
+    private byte[] frame;
+    private ByteBuffer frameBuffer;
+
+    private static LLDPTLV tlv(final LLDPTLV.TLVType type, final byte[] value) {
+        return new LLDPTLV().setType(type.getValue()).setLength((short) value.length).setValue(value);
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws PacketException {
+        frame = encodePacketApiBenchmark();
+        frameBuffer = ByteBuffer.wrap(frame);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void decodePacketApiBenchmark(final Blackhole bh) throws PacketException {
+        final Ethernet ethernet = new Ethernet();
+        ethernet.deserialize(frame, 0, frame.length * NetUtils.NumBitsInAByte);
+        final LLDP lldp = (LLDP) ethernet.getPayload();
+        bh.consume(lldp.getPortId().getValue());
+        for (LLDPTLV custom : lldp.getCustomTlvList()) {
+            bh.consume(LLDPTLV.extractCustomSubtype(custom));
+            bh.consume(custom.getValue());
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void decodeFlyweightBenchmark(final Blackhole bh) {
+        final LLDPFlyweight lldp = ethernetFlyweight.wrap(frameBuffer).getLLDP(lldpFlyweight);
+        while (lldp.next()) {
+            if (lldp.getType() == LLDPTLV.TLVType.PortID.getValue()) {
+                bh.consume(lldp.valueEquals(PORT_ID_VALUE));
+            } else if (lldp.getType() == LLDPTLV.TLVType.Custom.getValue()) {
+                bh.consume(lldp.getCustomSubtype());
+                bh.consume(lldp.valueEquals(CUSTOM_VALUE));
+            }
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] encodePacketApiBenchmark() throws PacketException {
+        final LLDP lldp = new LLDP();
+        lldp.setChassisId(tlv(LLDPTLV.TLVType.ChassisID, CHASSIS_ID_VALUE));
+        lldp.setPortId(tlv(LLDPTLV.TLVType.PortID, PORT_ID_VALUE));
+        lldp.setTtl(tlv(LLDPTLV.TLVType.TTL, TTL_VALUE));
+        lldp.setSystemNameId(tlv(LLDPTLV.TLVType.SystemName, SYSTEM_NAME_VALUE));
+        lldp.addCustomTLV(tlv(LLDPTLV.TLVType.Custom, CUSTOM_VALUE));
+
+        final Ethernet ethernet = new Ethernet();
+        ethernet.setSourceMACAddress(SOURCE_MAC).setDestinationMACAddress(LLDP.LLDPMulticastMac)
+            .setEtherType(EtherTypes.LLDP.shortValue()).setPayload(lldp);
+        return ethernet.serialize();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public ByteBuffer encodeFlyweightBenchmark() {
+        encodeBuffer.clear();
+        EthernetFlyweight.putHeader(encodeBuffer, LLDP_MULTICAST_MAC_LONG, SOURCE_MAC_LONG,
+            EtherTypes.LLDP.intValue());
+        LLDPFlyweight.putTLV(encodeBuffer, LLDPTLV.TLVType.ChassisID.getValue(), CHASSIS_ID_VALUE);
+        LLDPFlyweight.putTLV(encodeBuffer, LLDPTLV.TLVType.PortID.getValue(), PORT_ID_VALUE);
+        LLDPFlyweight.putTLV(encodeBuffer, LLDPTLV.TLVType.TTL.getValue(), TTL_VALUE);
+        LLDPFlyweight.putTLV(encodeBuffer, LLDPTLV.TLVType.SystemName.getValue(), SYSTEM_NAME_VALUE);
+        LLDPFlyweight.putTLV(encodeBuffer, LLDPTLV.TLVType.Custom.getValue(), CUSTOM_VALUE);
+        LLDPFlyweight.putEnd(encodeBuffer);
+        encodeBuffer.flip();
+        return encodeBuffer;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.store.benchmark;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.ReferenceCountUtil;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.config.yang.netty.NettyTransport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for loopback TCP throughput of the netty transports selectable for the global thread groups. Each
+ * operation writes 1MiB in 1KiB messages from the client and waits for the server to receive all of it. The epoll
+ * transport is available on Linux only and fails to set up elsewhere.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class NettyTransportThroughputBenchmark {
+    private static final int MESSAGE_SIZE = 1024;
+    private static final int MESSAGE_COUNT = 1024;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASUREMENT_ITERATIONS = 20;
+
+    /**
+     * Counts received bytes and releases a permit for each full operation's worth of data.
+     */
+    private static final class ReceivingHandler extends ChannelInboundHandlerAdapter {
+        private final Semaphore received;
+        private long bytes;
+
+        ReceivingHandler(final Semaphore received) {
+            this.received = received;
+        }
+
+        @Override
+        public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+            bytes += ((ByteBuf) msg).readableBytes();
+            ReferenceCountUtil.release(msg);
+            while (bytes >= MESSAGE_SIZE * MESSAGE_COUNT) {
+                bytes -= MESSAGE_SIZE * MESSAGE_COUNT;
+                received.release();
+            }
+        }
+    }
+
+    @Param({"nio", "epoll"})
+    public String transport;
+
+    private final Semaphore received = new Semaphore(0);
+    private EventLoopGroup bossGroup;
+    private EventLoopGroup workerGroup;
+    private Channel serverChannel;
+    private Channel clientChannel;
+    private ByteBuf message;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        if ("epoll".equals(transport)) {
+            bossGroup = new EpollEventLoopGroup(1);
+            workerGroup = new EpollEventLoopGroup(2);
+        } else {
+            bossGroup = new NioEventLoopGroup(1);
+            workerGroup = new NioEventLoopGroup(2);
+        }
+        final NettyTransport selected = NettyTransport.of(workerGroup);
+
+        serverChannel = new ServerBootstrap().group(bossGroup, workerGroup)
+                .channel(selected.getServerSocketChannelClass())
+                .childHandler(new ReceivingHandler(received))
+                .bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0)).sync().channel();
+        clientChannel = new Bootstrap().group(workerGroup)
+                .channel(selected.getSocketChannelClass())
+                .handler(new ChannelInboundHandlerAdapter())
+                .connect(serverChannel.localAddress()).sync().channel();
+
+        message = Unpooled.unreleasableBuffer(Unpooled.directBuffer(MESSAGE_SIZE).writeZero(MESSAGE_SIZE));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        clientChannel.close().sync();
+        serverChannel.close().sync();
+        workerGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+        bossGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void write1MiBBenchmark() throws InterruptedException {
+        for (int i = 0; i < MESSAGE_COUNT; ++i) {
+            clientChannel.write(message.duplicate(), clientChannel.voidPromise());
+        }
+        clientChannel.flush();
+        received.acquire();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.store.benchmark;
+
+import java.util.Collections;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.cluster.datastore.config.ConfigurationImpl;
+import org.opendaylight.controller.cluster.datastore.config.PrefixShardConfiguration;
+import org.opendaylight.controller.cluster.datastore.shardstrategy.PrefixShardStrategy;
+import org.opendaylight.controller.cluster.datastore.shardstrategy.ShardStrategyFactory;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for resolving the shard of a path with 1000 configured prefix shards. Compares the cached lookup done
+ * by {@link ShardStrategyFactory}, the uncached prefix table lookup and a linear scan of all configured prefixes,
+ * which is how the best matching prefix used to be found.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class ShardStrategyFactoryBenchmark {
+    private static final int PREFIX_SHARDS = 1000;
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+
+    private ConfigurationImpl configuration;
+    private ShardStrategyFactory factory;
+    private YangInstanceIdentifier[] paths;
+    private DOMDataTreeIdentifier[] treeIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        configuration = new ConfigurationImpl(config -> Collections.emptyMap());
+        for (int i = 0; i < PREFIX_SHARDS; ++i) {
+            configuration.addPrefixShardConfiguration(new PrefixShardConfiguration(
+                new DOMDataTreeIdentifier(LogicalDatastoreType.CONFIGURATION, outerListEntry(i)),
+                PrefixShardStrategy.NAME, Collections.emptyList()));
+        }
+
+        factory = new ShardStrategyFactory(configuration, LogicalDatastoreType.CONFIGURATION);
+
+        paths = new YangInstanceIdentifier[PREFIX_SHARDS];
+        treeIds = new DOMDataTreeIdentifier[PREFIX_SHARDS];
+        for (int i = 0; i < PREFIX_SHARDS; ++i) {
+            paths[i] = outerListEntry(i).node(BenchmarkModel.INNER_LIST_QNAME);
+            treeIds[i] = new DOMDataTreeIdentifier(LogicalDatastoreType.CONFIGURATION, paths[i]);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory = null;
+        configuration = null;
+    }
+
+    private static YangInstanceIdentifier outerListEntry(final int id) {
+        return YangInstanceIdentifier.builder(BenchmarkModel.OUTER_LIST_PATH)
+                .nodeWithKey(BenchmarkModel.OUTER_LIST_QNAME, BenchmarkModel.ID_QNAME, id).build();
+    }
+
+    private int nextIndex() {
+        final int ret = next;
+        next = ret + 1 == PREFIX_SHARDS ? 0 : ret + 1;
+        return ret;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public String cachedFactoryLookup() {
+        final YangInstanceIdentifier path = paths[nextIndex()];
+        return factory.getStrategy(path).findShard(path);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public String prefixTableLookup() {
+        return configuration.getShardNameForPrefix(treeIds[nextIndex()]);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public DOMDataTreeIdentifier linearScanLookup() {
+        final DOMDataTreeIdentifier treeId = treeIds[nextIndex()];
+        DOMDataTreeIdentifier bestMatch = null;
+        int bestMatchSize = 0;
+        for (Entry<DOMDataTreeIdentifier, PrefixShardConfiguration> entry
+                : configuration.getAllPrefixShardConfigurations().entrySet()) {
+            final int size = entry.getKey().getRootIdentifier().getPathArguments().size();
+            if (entry.getKey().contains(treeId) && size > bestMatchSize) {
+                bestMatch = entry.getKey();
+                bestMatchSize = size;
+            }
+        }
+        return bestMatch;
+    }
+}
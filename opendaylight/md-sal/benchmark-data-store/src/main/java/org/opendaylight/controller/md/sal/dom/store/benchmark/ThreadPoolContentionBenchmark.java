@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.store.benchmark;
+
+import java.io.Closeable;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.config.threadpool.ThreadPool;
+import org.opendaylight.controller.config.threadpool.util.FixedThreadPoolWrapper;
+import org.opendaylight.controller.config.threadpool.util.FlexibleThreadPoolWrapper;
+import org.opendaylight.controller.config.threadpool.util.ForkJoinThreadPoolWrapper;
+import org.opendaylight.controller.config.threadpool.util.NamingThreadPoolFactory;
+import org.opendaylight.controller.config.threadpool.util.VirtualThreadPoolWrapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark for contention of the threadpool-config-impl pools. Multiple threads concurrently submit batches of short
+ * tasks, similar to datastore commit callbacks, to a single shared pool and wait for each batch to complete. The
+ * virtual thread pool requires a Java 21 or later runtime. On older runtimes {@link #main(String[])} leaves it out,
+ * and when it is selected by other means its trial is skipped without submitting any tasks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+@Fork(1)
+public class ThreadPoolContentionBenchmark {
+    private static final int BATCH_SIZE = 100;
+    private static final int TASK_TOKENS = 100;
+    private static final int THREAD_COUNT = Runtime.getRuntime().availableProcessors();
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASUREMENT_ITERATIONS = 20;
+    private static final String[] POOL_TYPES = {"fixed", "flexible", "fork-join", "virtual"};
+
+    @Param({"fixed", "flexible", "fork-join", "virtual"})
+    public String poolType;
+
+    private ThreadPool pool;
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        switch (poolType) {
+            case "fixed":
+                pool = new FixedThreadPoolWrapper(THREAD_COUNT, new NamingThreadPoolFactory("fixed"));
+                break;
+            case "flexible":
+                pool = new FlexibleThreadPoolWrapper(1, THREAD_COUNT, 1, TimeUnit.MINUTES,
+                    new NamingThreadPoolFactory("flexible"));
+                break;
+            case "fork-join":
+                pool = new ForkJoinThreadPoolWrapper(THREAD_COUNT, "fork-join");
+                break;
+            case "virtual":
+                if (!VirtualThreadPoolWrapper.isSupported()) {
+                    return;
+                }
+                pool = new VirtualThreadPoolWrapper("virtual");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown pool type " + poolType);
+        }
+        executor = pool.getExecutor();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        if (pool != null) {
+            ((Closeable) pool).close();
+        }
+        pool = null;
+        executor = null;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void submitBatchBenchmark() throws InterruptedException {
+        if (executor == null) {
+            return;
+        }
+
+        final CountDownLatch latch = new CountDownLatch(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; ++i) {
+            executor.execute(() -> {
+                Blackhole.consumeCPU(TASK_TOKENS);
+                latch.countDown();
+            });
+        }
+        latch.await();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final String[] poolTypes = VirtualThreadPoolWrapper.isSupported() ? POOL_TYPES
+                : Arrays.stream(POOL_TYPES).filter(type -> !"virtual".equals(type)).toArray(String[]::new);
+        new Runner(new OptionsBuilder().include(ThreadPoolContentionBenchmark.class.getSimpleName())
+                .param("poolType", poolTypes).build()).run();
+    }
+}
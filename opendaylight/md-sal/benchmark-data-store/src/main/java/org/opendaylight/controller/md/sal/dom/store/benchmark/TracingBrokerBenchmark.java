@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.store.benchmark;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.concurrent.TimeUnit;
+import javassist.ClassPool;
+import org.opendaylight.controller.md.sal.binding.impl.BindingToNormalizedNodeCodec;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionCommitFailedException;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataBroker;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataReadOnlyTransaction;
+import org.opendaylight.controller.md.sal.dom.broker.impl.SerializedDOMDataBroker;
+import org.opendaylight.controller.md.sal.dom.store.impl.InMemoryDOMDataStore;
+import org.opendaylight.controller.md.sal.trace.dom.impl.TracingBroker;
+import org.opendaylight.controller.sal.core.spi.data.DOMStore;
+import org.opendaylight.mdsal.binding.dom.codec.gen.impl.StreamWriterGenerator;
+import org.opendaylight.mdsal.binding.dom.codec.impl.BindingNormalizedNodeCodecRegistry;
+import org.opendaylight.mdsal.binding.generator.impl.GeneratedClassLoadingStrategy;
+import org.opendaylight.mdsal.binding.generator.util.JavassistUtils;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsaltrace.rev160908.ConfigBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for the overhead of the mdsal-trace TracingBroker's transaction leak tracking on allocating and
+ * completing transactions. The broker is benchmarked without tracing, with tracing but without debug context,
+ * with debug context sampling one in {@value #SAMPLE_RATE} transactions and with full debug context.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class TracingBrokerBenchmark {
+    private static final long SAMPLE_RATE = 1000;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASUREMENT_ITERATIONS = 20;
+
+    @Param({"untraced", "off", "sampled", "full"})
+    public String tracing;
+
+    private InMemoryDOMDataStore store;
+    private DOMDataBroker broker;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        store = new InMemoryDOMDataStore("OPER", MoreExecutors.newDirectExecutorService());
+        store.onGlobalContextUpdated(BenchmarkModel.createTestContext());
+
+        final DOMDataBroker realBroker = new SerializedDOMDataBroker(
+            ImmutableMap.<LogicalDatastoreType, DOMStore>of(LogicalDatastoreType.OPERATIONAL, store),
+            MoreExecutors.listeningDecorator(MoreExecutors.newDirectExecutorService()));
+        if ("untraced".equals(tracing)) {
+            broker = realBroker;
+            return;
+        }
+
+        // The codec is used only to log watched writes, which the benchmark does not perform
+        final BindingToNormalizedNodeCodec codec = new BindingToNormalizedNodeCodec(
+            GeneratedClassLoadingStrategy.getTCCLClassLoadingStrategy(),
+            new BindingNormalizedNodeCodecRegistry(StreamWriterGenerator.create(
+                JavassistUtils.forClassPool(ClassPool.getDefault()))));
+        broker = new TracingBroker(realBroker, new ConfigBuilder()
+            .setTransactionDebugContextEnabled(!"off".equals(tracing))
+            .setTransactionDebugContextSampleRate("sampled".equals(tracing) ? SAMPLE_RATE : 1L)
+            .build(), codec);
+    }
+
+    @TearDown
+    public void tearDown() {
+        store.close();
+        broker = null;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void readOnlyTransactionBenchmark() {
+        try (DOMDataReadOnlyTransaction tx = broker.newReadOnlyTransaction()) {
+            tx.getIdentifier();
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void writeTransactionBenchmark() throws TransactionCommitFailedException {
+        broker.newWriteOnlyTransaction().submit().checkedGet();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.trace.closetracker.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregated counters of the sampled {@link CloseTracked} instances allocated at a single call site,
+ * maintained by a {@link CloseTrackedRegistry} in sampling mode.
+ */
+public final class CloseTrackedCallSite {
+
+    private final StackTraceElement callSite;
+    private final LongAdder allocated = new LongAdder();
+    private final LongAdder closed = new LongAdder();
+
+    CloseTrackedCallSite(StackTraceElement callSite) {
+        this.callSite = requireNonNull(callSite, "callSite");
+    }
+
+    public StackTraceElement getCallSite() {
+        return callSite;
+    }
+
+    /**
+     * Returns the number of sampled instances allocated at this call site.
+     */
+    public long getAllocatedCount() {
+        return allocated.sum();
+    }
+
+    /**
+     * Returns the number of sampled instances allocated at this call site which have been closed.
+     */
+    public long getClosedCount() {
+        return closed.sum();
+    }
+
+    /**
+     * Returns the number of sampled instances allocated at this call site which have not (yet) been closed.
+     * The counters are updated concurrently, hence this is only an estimate while instances are being allocated.
+     */
+    public long getOpenCount() {
+        return Math.max(0, getAllocatedCount() - getClosedCount());
+    }
+
+    // package protected, not public; only CloseTrackedTrait invokes this
+    void allocated() {
+        allocated.increment();
+    }
+
+    // package protected, not public; only CloseTrackedTrait invokes this
+    void closed() {
+        closed.increment();
+    }
+
+    @Override
+    public String toString() {
+        return "CloseTrackedCallSite [callSite=" + callSite + ", allocated=" + getAllocatedCount() + ", closed="
+                + getClosedCount() + "]";
+    }
+}
@@ -11,18 +11,28 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * Registry of {@link CloseTracked} instances.
  *
+ * <p>If the debug context is enabled, the registry can operate in a sampling mode, in which only one in
+ * sampleRate instances (on average) is tracked, and only the call site which allocated it is preserved
+ * instead of the full call stack. The call sites of sampled instances are aggregated into
+ * {@link CloseTrackedCallSite} counters.
+ *
  * @author Michael Vorburger.ch
  */
 @ThreadSafe
@@ -31,10 +41,13 @@ public class CloseTrackedRegistry<T extends CloseTracked<T>> {
     private final Object anchor;
     private final String createDescription;
 
-    private final Set<CloseTracked<T>> tracked = new ConcurrentSkipListSet<>(
-        (o1, o2) -> Integer.compare(System.identityHashCode(o1), System.identityHashCode(o2)));
+    // Only CloseTrackedTrait instances are ever added, which use identity equality
+    private final Set<CloseTracked<T>> tracked = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<StackTraceElement, CloseTrackedCallSite> callSites = new ConcurrentHashMap<>();
 
     private final boolean isDebugContextEnabled;
+    private final int sampleRate;
+    private final Predicate<StackTraceElement> isCallSite;
 
     /**
      * Constructor.
@@ -51,15 +64,67 @@ public class CloseTrackedRegistry<T extends CloseTracked<T>> {
      *            troubleshooting
      */
     public CloseTrackedRegistry(Object anchor, String createDescription, boolean isDebugContextEnabled) {
+        this(anchor, createDescription, isDebugContextEnabled, 1, element -> true);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param anchor
+     *            object where this registry is stored in, used for human output in
+     *            logging and other output
+     * @param createDescription
+     *            description of creator of instances of this registry, typically
+     *            e.g. name of method in the anchor class
+     * @param isDebugContextEnabled
+     *            whether or not the call stack (or call site, if sampling) should be preserved
+     * @param sampleRate
+     *            if greater than 1 and isDebugContextEnabled is true, only one in sampleRate instances
+     *            is tracked, and only its call site is preserved
+     * @param isCallSite
+     *            predicate selecting the stack frame which is considered to be the call site of a
+     *            sampled instance; frames of this package are never considered call sites
+     */
+    public CloseTrackedRegistry(Object anchor, String createDescription, boolean isDebugContextEnabled,
+            int sampleRate, Predicate<StackTraceElement> isCallSite) {
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("Sample rate must be positive, not " + sampleRate);
+        }
         this.anchor = anchor;
         this.createDescription = createDescription;
         this.isDebugContextEnabled = isDebugContextEnabled;
+        this.sampleRate = sampleRate;
+        this.isCallSite = isCallSite;
+    }
+
+    /**
+     * Creates a new registry with the same debug context and sampling settings as this one.
+     *
+     * @param anchor
+     *            object where the new registry is stored in
+     * @param createDescription
+     *            description of creator of instances of the new registry
+     * @return a new registry
+     */
+    public <U extends CloseTracked<U>> CloseTrackedRegistry<U> newRegistry(Object anchor, String createDescription) {
+        return new CloseTrackedRegistry<>(anchor, createDescription, isDebugContextEnabled, sampleRate, isCallSite);
     }
 
     public boolean isDebugContextEnabled() {
         return isDebugContextEnabled;
     }
 
+    /**
+     * Returns true if only a sample of instances is tracked, with only their call site preserved.
+     */
+    public boolean isSampling() {
+        return isDebugContextEnabled && sampleRate > 1;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
     public Object getAnchor() {
         return anchor;
     }
@@ -68,14 +133,39 @@ public class CloseTrackedRegistry<T extends CloseTracked<T>> {
         return createDescription;
     }
 
+    // package protected, not public; only CloseTrackedTrait invokes this
+    boolean shouldSample() {
+        return ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+    }
+
+    // package protected, not public; only CloseTrackedTrait invokes this
+    @Nullable CloseTrackedCallSite callSiteOf(Throwable allocationContext) {
+        final String thisPackage = CloseTrackedRegistry.class.getPackage().getName();
+        for (StackTraceElement element : allocationContext.getStackTrace()) {
+            if (!element.getClassName().startsWith(thisPackage) && isCallSite.test(element)) {
+                return callSites.computeIfAbsent(element, CloseTrackedCallSite::new);
+            }
+        }
+        return null;
+    }
+
     // package protected, not public; only CloseTrackedTrait invokes this
     void add(CloseTracked<T> closeTracked) {
         tracked.add(closeTracked);
     }
 
     // package protected, not public; only CloseTrackedTrait invokes this
-    void remove(CloseTracked<T> closeTracked) {
-        tracked.remove(closeTracked);
+    boolean remove(CloseTracked<T> closeTracked) {
+        return tracked.remove(closeTracked);
+    }
+
+    /**
+     * Returns the call site counters of sampled instances. This is empty unless the registry is sampling.
+     *
+     * @return unmodifiable view of the call sites which allocated sampled instances
+     */
+    public Collection<CloseTrackedCallSite> getCallSites() {
+        return Collections.unmodifiableCollection(callSites.values());
     }
 
     /**
@@ -85,7 +175,9 @@ public class CloseTrackedRegistry<T extends CloseTracked<T>> {
      * @return Set of CloseTrackedRegistryReportEntry, of which each the stack trace
      *         element identifies a unique allocation context (or an empty List if
      *         debugContextEnabled is false), and value is the number of open
-     *         instances created at that place in the code.
+     *         instances created at that place in the code. If the registry is
+     *         sampling, only sampled instances are reported, each with its call
+     *         site as the only stack trace element.
      */
     public Set<CloseTrackedRegistryReportEntry<T>> getAllUnique() {
         Map<List<StackTraceElement>, Long> map = new HashMap<>();
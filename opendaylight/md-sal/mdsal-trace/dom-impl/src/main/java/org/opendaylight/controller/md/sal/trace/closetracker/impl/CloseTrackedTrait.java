@@ -27,30 +27,54 @@ public class CloseTrackedTrait<T extends CloseTracked<T>> implements CloseTracke
     // than actually calling its getStackTrace(), which we can delay until we really need to.
     // see also e.g. https://stackoverflow.com/a/26122232/421602
     private final @Nullable Throwable allocationContext;
+    // Only set for sampled instances of a sampling registry, instead of the allocationContext
+    private final @Nullable CloseTrackedCallSite callSite;
     private final CloseTrackedRegistry<T> closeTrackedRegistry;
     private final CloseTracked<T> realCloseTracked;
+    private final boolean isTracked;
 
     public CloseTrackedTrait(CloseTrackedRegistry<T> transactionChainRegistry, CloseTracked<T> realCloseTracked) {
-        if (transactionChainRegistry.isDebugContextEnabled()) {
+        if (transactionChainRegistry.isSampling()) {
+            // Unsampled instances are not tracked at all; sampled ones pay for a stack trace, but only their
+            // call site is retained
+            this.allocationContext = null;
+            this.callSite = transactionChainRegistry.shouldSample()
+                    ? transactionChainRegistry.callSiteOf(new Throwable()) : null;
+            this.isTracked = callSite != null;
+        } else if (transactionChainRegistry.isDebugContextEnabled()) {
             // NB: We're NOT doing the (expensive) getStackTrace() here just yet (only below)
             // TODO When we're on Java 9, then instead use the new java.lang.StackWalker API..
             this.allocationContext = new Throwable();
+            this.callSite = null;
+            this.isTracked = true;
         } else {
             this.allocationContext = null;
+            this.callSite = null;
+            this.isTracked = true;
         }
         this.realCloseTracked = Objects.requireNonNull(realCloseTracked, "realCloseTracked");
         this.closeTrackedRegistry = Objects.requireNonNull(transactionChainRegistry, "transactionChainRegistry");
-        this.closeTrackedRegistry.add(this);
+        if (isTracked) {
+            if (callSite != null) {
+                callSite.allocated();
+            }
+            this.closeTrackedRegistry.add(this);
+        }
     }
 
     @Override
     @Nullable
     public StackTraceElement[] getAllocationContextStackTrace() {
-        return allocationContext != null ? allocationContext.getStackTrace() : null;
+        if (allocationContext != null) {
+            return allocationContext.getStackTrace();
+        }
+        return callSite != null ? new StackTraceElement[] { callSite.getCallSite() } : null;
     }
 
     public void removeFromTrackedRegistry() {
-        closeTrackedRegistry.remove(this);
+        if (isTracked && closeTrackedRegistry.remove(this) && callSite != null) {
+            callSite.closed();
+        }
     }
 
     @Override
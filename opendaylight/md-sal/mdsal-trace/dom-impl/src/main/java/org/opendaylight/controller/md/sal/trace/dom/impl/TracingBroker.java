@@ -31,6 +31,7 @@ import org.opendaylight.controller.md.sal.dom.api.DOMDataWriteTransaction;
 import org.opendaylight.controller.md.sal.dom.api.DOMTransactionChain;
 import org.opendaylight.controller.md.sal.trace.api.TracingDOMDataBroker;
 import org.opendaylight.controller.md.sal.trace.closetracker.impl.CloseTracked;
+import org.opendaylight.controller.md.sal.trace.closetracker.impl.CloseTrackedCallSite;
 import org.opendaylight.controller.md.sal.trace.closetracker.impl.CloseTrackedRegistry;
 import org.opendaylight.controller.md.sal.trace.closetracker.impl.CloseTrackedRegistryReportEntry;
 import org.opendaylight.mdsal.binding.dom.codec.api.BindingNormalizedNodeSerializer;
@@ -53,7 +54,9 @@ import org.slf4j.LoggerFactory;
  *
  * <p>In addition, it (optionally) can also keep track of the stack trace of all new transaction allocations
  * (including TransactionChains, and transactions created in turn from them), in order to detect and report leaks
- * from transactions which were not closed.
+ * from transactions which were not closed. As capturing a stack trace for every transaction is too expensive for
+ * production use, it can instead sample one in N transaction allocations and keep only their call site, aggregating
+ * open transactions per call site.
  *
  * <h1>Wiring:</h1>
  * TracingBroker is designed to be easy to use. In fact, for bundles using Blueprint to inject their DataBroker
@@ -184,11 +187,21 @@ public class TracingBroker implements TracingDOMDataBroker {
         } else {
             this.isDebugging = false;
         }
-        final String db = "DataBroker";
-        this.transactionChainsRegistry     = new CloseTrackedRegistry<>(db, "createTransactionChain()", isDebugging);
-        this.readOnlyTransactionsRegistry  = new CloseTrackedRegistry<>(db, "newReadOnlyTransaction()", isDebugging);
-        this.writeTransactionsRegistry     = new CloseTrackedRegistry<>(db, "newWriteOnlyTransaction()", isDebugging);
-        this.readWriteTransactionsRegistry = new CloseTrackedRegistry<>(db, "newReadWriteTransaction()", isDebugging);
+        final Long configuredSampleRate = config.getTransactionDebugContextSampleRate();
+        final int sampleRate = configuredSampleRate != null
+                ? (int) Math.max(1, Math.min(Integer.MAX_VALUE, configuredSampleRate)) : 1;
+        if (isDebugging && sampleRate > 1) {
+            LOG.info("Tracking the call site of one in {} transactions", sampleRate);
+        }
+
+        this.transactionChainsRegistry = new CloseTrackedRegistry<>("DataBroker", "createTransactionChain()",
+                isDebugging, sampleRate, TracingBroker::isCallSite);
+        this.readOnlyTransactionsRegistry  = transactionChainsRegistry.newRegistry("DataBroker",
+                "newReadOnlyTransaction()");
+        this.writeTransactionsRegistry     = transactionChainsRegistry.newRegistry("DataBroker",
+                "newWriteOnlyTransaction()");
+        this.readWriteTransactionsRegistry = transactionChainsRegistry.newRegistry("DataBroker",
+                "newReadWriteTransaction()");
     }
 
     private void configure(Config config) {
@@ -376,8 +389,14 @@ public class TracingBroker implements TracingDOMDataBroker {
         }
 
         ps.println(getClass().getSimpleName() + " found some not yet (or never..) closed transaction[chain]s!");
-        ps.println("[NB: If no stack traces are shown below, then "
-                 + "enable transaction-debug-context-enabled in mdsaltrace_config.xml]");
+        if (transactionChainsRegistry.isSampling()) {
+            ps.println("[NB: Only one in " + transactionChainsRegistry.getSampleRate() + " transaction[chain]s is "
+                     + "tracked, hence the counts below are of sampled transactions only; set "
+                     + "transaction-debug-context-sample-rate to 1 in mdsaltrace_config.xml for full stack traces]");
+        } else {
+            ps.println("[NB: If no stack traces are shown below, then "
+                     + "enable transaction-debug-context-enabled in mdsaltrace_config.xml]");
+        }
         ps.println();
         printRegistryOpenTransactions(readOnlyTransactionsRegistry, ps, "  ");
         printRegistryOpenTransactions(writeTransactionsRegistry, ps, "  ");
@@ -408,6 +427,11 @@ public class TracingBroker implements TracingDOMDataBroker {
 
     private <T extends CloseTracked<T>> void printRegistryOpenTransactions(
             CloseTrackedRegistry<T> registry, PrintStream ps, String indent) {
+        if (registry.isSampling()) {
+            printRegistryCallSites(registry, ps, indent);
+            return;
+        }
+
         Set<CloseTrackedRegistryReportEntry<T>> entries = registry.getAllUnique();
         if (!entries.isEmpty()) {
             ps.println(indent + registry.getAnchor() + " : " + registry.getCreateDescription());
@@ -422,6 +446,26 @@ public class TracingBroker implements TracingDOMDataBroker {
         }
     }
 
+    private static void printRegistryCallSites(CloseTrackedRegistry<?> registry, PrintStream ps, String indent) {
+        boolean first = true;
+        for (CloseTrackedCallSite callSite : registry.getCallSites()) {
+            final long open = callSite.getOpenCount();
+            if (open == 0) {
+                continue;
+            }
+            if (first) {
+                ps.println(indent + registry.getAnchor() + " : " + registry.getCreateDescription());
+                first = false;
+            }
+            ps.println(indent + "  " + open + "x sampled transactions (of " + callSite.getAllocatedCount()
+                + " sampled) opened here, which are not closed:");
+            ps.println(indent + "    " + callSite.getCallSite());
+        }
+        if (!first) {
+            ps.println();
+        }
+    }
+
     private void printStackTraceElements(PrintStream ps, String indent, List<StackTraceElement> stackTraceElements) {
         boolean ellipsis = false;
         for (final StackTraceElement stackTraceElement : stackTraceElements) {
@@ -435,9 +479,17 @@ public class TracingBroker implements TracingDOMDataBroker {
         }
     }
 
-    private boolean isStackTraceElementInteresting(StackTraceElement element) {
+    private static boolean isCallSite(StackTraceElement element) {
+        // Also skip the frames of brokers wrapping this one, so that the call site is the application's code
+        final String className = element.getClassName();
+        return isStackTraceElementInteresting(element)
+            && !className.startsWith("org.opendaylight.controller.md.sal.binding.impl")
+            && !className.startsWith("org.opendaylight.controller.md.sal.dom.broker.impl");
+    }
+
+    private static boolean isStackTraceElementInteresting(StackTraceElement element) {
         final String className = element.getClassName();
-        return !className.startsWith(getClass().getPackage().getName())
+        return !className.startsWith(TracingBroker.class.getPackage().getName())
             && !className.startsWith(CloseTracked.class.getPackage().getName())
             && !className.startsWith("Proxy")
             && !className.startsWith("akka")
@@ -29,11 +29,12 @@ class TracingTransactionChain extends AbstractCloseTracked<TracingTransactionCha
         this.delegate = Objects.requireNonNull(delegate);
         this.tracingBroker = Objects.requireNonNull(tracingBroker);
 
-        final boolean isDebug = transactionChainsRegistry.isDebugContextEnabled();
+        // Transactions of the chain are tracked with the same debug context and sampling settings as the chain
         String anchor = "TransactionChain@" + Integer.toHexString(hashCode());
-        this.readOnlyTransactionsRegistry  = new CloseTrackedRegistry<>(anchor, "newReadOnlyTransaction()", isDebug);
-        this.writeTransactionsRegistry     = new CloseTrackedRegistry<>(anchor, "newWriteOnlyTransaction()", isDebug);
-        this.readWriteTransactionsRegistry = new CloseTrackedRegistry<>(anchor, "newReadWriteTransaction()", isDebug);
+        this.readOnlyTransactionsRegistry  = transactionChainsRegistry.newRegistry(anchor, "newReadOnlyTransaction()");
+        this.writeTransactionsRegistry     = transactionChainsRegistry.newRegistry(anchor, "newWriteOnlyTransaction()");
+        this.readWriteTransactionsRegistry = transactionChainsRegistry.newRegistry(anchor,
+                "newReadWriteTransaction()");
     }
 
     @Override
@@ -10,10 +10,12 @@ package org.opendaylight.controller.md.sal.trace.tests;
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.Assert.fail;
 
+import java.util.Collection;
 import java.util.Set;
 import java.util.function.Predicate;
 import org.junit.Test;
 import org.opendaylight.controller.md.sal.trace.closetracker.impl.AbstractCloseTracked;
+import org.opendaylight.controller.md.sal.trace.closetracker.impl.CloseTrackedCallSite;
 import org.opendaylight.controller.md.sal.trace.closetracker.impl.CloseTrackedRegistry;
 import org.opendaylight.controller.md.sal.trace.closetracker.impl.CloseTrackedRegistryReportEntry;
 
@@ -92,4 +94,39 @@ public class CloseTrackedRegistryTest {
         assertThat(closeRegistryReportEntry1.getNumberAddedNotRemoved()).isEqualTo(1);
         assertThat(closeRegistryReportEntry1.getStackTraceElements()).isEmpty();
     }
+
+    @Test
+    public void testSampling() {
+        final CloseTrackedRegistry<SomethingClosable> registry = new CloseTrackedRegistry<>(this, "testSampling", true,
+            4, element -> !element.getClassName().equals(SomethingClosable.class.getName()));
+        assertThat(registry.isSampling()).isTrue();
+
+        for (int i = 0; i < 1000; i++) {
+            SomethingClosable isClosedManyTimes = new SomethingClosable(registry);
+            isClosedManyTimes.close();
+            someOtherMethodWhichDoesNotClose(registry);
+        }
+
+        Collection<CloseTrackedCallSite> callSites = registry.getCallSites();
+        assertThat(callSites).hasSize(2);
+        long sampledNotClosed = 0;
+        for (CloseTrackedCallSite callSite : callSites) {
+            assertThat(callSite.getAllocatedCount()).isGreaterThan(0L);
+            assertThat(callSite.getAllocatedCount()).isLessThan(1000L);
+            if (callSite.getCallSite().getMethodName().equals("someOtherMethodWhichDoesNotClose")) {
+                assertThat(callSite.getOpenCount()).isEqualTo(callSite.getAllocatedCount());
+                sampledNotClosed = callSite.getOpenCount();
+            } else {
+                assertThat(callSite.getCallSite().getMethodName()).isEqualTo("testSampling");
+                assertThat(callSite.getOpenCount()).isEqualTo(0L);
+            }
+        }
+
+        Set<CloseTrackedRegistryReportEntry<SomethingClosable>> uniqueNonClosed = registry.getAllUnique();
+        assertThat(uniqueNonClosed).hasSize(1);
+        CloseTrackedRegistryReportEntry<SomethingClosable> entry = uniqueNonClosed.iterator().next();
+        assertThat(entry.getNumberAddedNotRemoved()).isEqualTo(sampledNotClosed);
+        assertThat(entry.getStackTraceElements()).hasSize(1);
+        assertThat(entry.getStackTraceElements().get(0).getMethodName()).isEqualTo("someOtherMethodWhichDoesNotClose");
+    }
 }
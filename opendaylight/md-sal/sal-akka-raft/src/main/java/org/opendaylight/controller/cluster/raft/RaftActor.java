@@ -561,7 +561,8 @@ public abstract class RaftActor extends AbstractUntypedPersistentActor {
     }
 
     protected LeaderStateChanged newLeaderStateChanged(String memberId, String leaderId, short leaderPayloadVersion) {
-        return new LeaderStateChanged(memberId, leaderId, leaderPayloadVersion);
+        return new LeaderStateChanged(memberId, leaderId, leaderPayloadVersion,
+                context.getTermInformation().getCurrentTerm());
     }
 
     @Override
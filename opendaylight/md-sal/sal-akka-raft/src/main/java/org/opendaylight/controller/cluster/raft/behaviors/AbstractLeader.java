@@ -907,7 +907,7 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
 
             try {
                 // Ensure the snapshot bytes are set - this is a no-op.
-                installSnapshotState.setSnapshotBytes(snapshotHolder.get().getSnapshotBytes());
+                installSnapshotState.setSnapshotBuffer(snapshotHolder.get().getSnapshotBuffer());
 
                 if (!installSnapshotState.canSendNextChunk()) {
                     return;
@@ -1041,11 +1041,13 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
         private final long lastIncludedTerm;
         private final long lastIncludedIndex;
         private final ByteSource snapshotBytes;
+        private final SharedSnapshotBuffer snapshotBuffer;
 
         SnapshotHolder(final Snapshot snapshot, final ByteSource snapshotBytes) {
             this.lastIncludedTerm = snapshot.getLastAppliedTerm();
             this.lastIncludedIndex = snapshot.getLastAppliedIndex();
             this.snapshotBytes = snapshotBytes;
+            this.snapshotBuffer = new SharedSnapshotBuffer(snapshotBytes);
         }
 
         long getLastIncludedTerm() {
@@ -1059,5 +1061,9 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
         ByteSource getSnapshotBytes() {
             return snapshotBytes;
         }
+
+        SharedSnapshotBuffer getSnapshotBuffer() {
+            return snapshotBuffer;
+        }
     }
 }
@@ -9,8 +9,6 @@ package org.opendaylight.controller.cluster.raft.behaviors;
 
 import com.google.common.io.ByteSource;
 import java.io.IOException;
-import java.io.InputStream;
-import java.util.Arrays;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,7 +29,7 @@ public final class LeaderInstallSnapshotState implements AutoCloseable {
 
     private final int snapshotChunkSize;
     private final String logName;
-    private ByteSource snapshotBytes;
+    private SharedSnapshotBuffer snapshotBuffer;
     private int offset = 0;
     // the next snapshot chunk is sent only if the replyReceivedForOffset matches offset
     private int replyReceivedForOffset = -1;
@@ -42,7 +40,6 @@ public final class LeaderInstallSnapshotState implements AutoCloseable {
     private int lastChunkHashCode = INITIAL_LAST_CHUNK_HASH_CODE;
     private int nextChunkHashCode = INITIAL_LAST_CHUNK_HASH_CODE;
     private long snapshotSize;
-    private InputStream snapshotInputStream;
 
     LeaderInstallSnapshotState(final int snapshotChunkSize, final String logName) {
         this.snapshotChunkSize = snapshotChunkSize;
@@ -50,14 +47,20 @@ public final class LeaderInstallSnapshotState implements AutoCloseable {
     }
 
     void setSnapshotBytes(final ByteSource snapshotBytes) throws IOException {
-        if (this.snapshotBytes != null) {
+        if (this.snapshotBuffer == null) {
+            setSnapshotBuffer(new SharedSnapshotBuffer(snapshotBytes));
+        }
+    }
+
+    void setSnapshotBuffer(final SharedSnapshotBuffer buffer) throws IOException {
+        if (this.snapshotBuffer != null) {
             return;
         }
 
-        snapshotSize = snapshotBytes.size();
-        snapshotInputStream = snapshotBytes.openStream();
+        snapshotSize = buffer.size();
+        buffer.retain();
 
-        this.snapshotBytes = snapshotBytes;
+        this.snapshotBuffer = buffer;
 
         totalChunks = (int) (snapshotSize / snapshotChunkSize + (snapshotSize % snapshotChunkSize > 0 ? 1 : 0));
 
@@ -93,7 +96,7 @@ public final class LeaderInstallSnapshotState implements AutoCloseable {
 
     boolean canSendNextChunk() {
         // we only send a false if a chunk is sent but we have not received a reply yet
-        return snapshotBytes != null && (nextChunkHashCode == INITIAL_LAST_CHUNK_HASH_CODE
+        return snapshotBuffer != null && (nextChunkHashCode == INITIAL_LAST_CHUNK_HASH_CODE
                 || replyReceivedForOffset == offset);
     }
 
@@ -123,54 +126,31 @@ public final class LeaderInstallSnapshotState implements AutoCloseable {
             size = (int) (snapshotSize - start);
         }
 
-        byte[] nextChunk = new byte[size];
-        int numRead = snapshotInputStream.read(nextChunk);
-        if (numRead != size) {
-            throw new IOException(String.format(
-                    "The # of bytes read from the input stream, %d, does not match the expected # %d", numRead, size));
-        }
-
-        nextChunkHashCode = Arrays.hashCode(nextChunk);
+        // The chunk and its hash code are shared with other followers streaming the same snapshot
+        final SharedSnapshotBuffer.Chunk nextChunk = snapshotBuffer.getChunk(start, size);
+        nextChunkHashCode = nextChunk.getHashCode();
 
         LOG.debug("{}: Next chunk: total length={}, offset={}, size={}, hashCode={}", logName,
                 snapshotSize, start, size, nextChunkHashCode);
-        return nextChunk;
+        return nextChunk.getData();
     }
 
     /**
      * Reset should be called when the Follower needs to be sent the snapshot from the beginning.
      */
     void reset() {
-        closeStream();
-
         offset = 0;
         replyStatus = false;
         replyReceivedForOffset = offset;
         chunkIndex = FIRST_CHUNK_INDEX;
         lastChunkHashCode = INITIAL_LAST_CHUNK_HASH_CODE;
-
-        try {
-            snapshotInputStream = snapshotBytes.openStream();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
     }
 
     @Override
     public void close() {
-        closeStream();
-        snapshotBytes = null;
-    }
-
-    private void closeStream() {
-        if (snapshotInputStream != null) {
-            try {
-                snapshotInputStream.close();
-            } catch (IOException e) {
-                LOG.warn("{}: Error closing snapshot stream", logName);
-            }
-
-            snapshotInputStream = null;
+        if (snapshotBuffer != null) {
+            snapshotBuffer.release();
+            snapshotBuffer = null;
         }
     }
 
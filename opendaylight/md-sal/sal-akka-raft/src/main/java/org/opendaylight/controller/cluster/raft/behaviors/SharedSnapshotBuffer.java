@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.raft.behaviors;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.io.ByteSource;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A serialized snapshot shared by the {@link LeaderInstallSnapshotState} instances of all followers which are being
+ * sent the same snapshot. Each chunk is read from the snapshot bytes and hashed once, then handed out to every
+ * follower requesting it, so the leader holds at most one copy of a chunk regardless of how many followers install
+ * the snapshot at the same time.
+ *
+ * <p>
+ * Instances are reference-counted: a LeaderInstallSnapshotState retains the buffer while it streams from it and
+ * releases it when closed. A chunk is cached until each of the current readers has fetched it and at most one chunk
+ * per reader is cached, as that is all readers progressing at a similar pace need. Cached chunks are dropped when
+ * the last reference is released.
+ */
+@NotThreadSafe
+final class SharedSnapshotBuffer {
+    /**
+     * A chunk of the snapshot along with its hash code.
+     */
+    static final class Chunk {
+        private final byte[] data;
+        private final int hashCode;
+        private int pendingReaders;
+
+        Chunk(final byte[] data) {
+            this.data = data;
+            this.hashCode = Arrays.hashCode(data);
+        }
+
+        byte[] getData() {
+            return data;
+        }
+
+        int getHashCode() {
+            return hashCode;
+        }
+    }
+
+    private final NavigableMap<Long, Chunk> cachedChunks = new TreeMap<>();
+    private final ByteSource snapshotBytes;
+    private long size = -1;
+    private int refCount;
+    private long chunkReadCount;
+
+    SharedSnapshotBuffer(final ByteSource snapshotBytes) {
+        this.snapshotBytes = Preconditions.checkNotNull(snapshotBytes);
+    }
+
+    long size() throws IOException {
+        if (size < 0) {
+            size = snapshotBytes.size();
+        }
+        return size;
+    }
+
+    void retain() {
+        refCount++;
+    }
+
+    void release() {
+        Preconditions.checkState(refCount > 0, "Buffer is not retained");
+        if (--refCount == 0) {
+            cachedChunks.clear();
+        }
+    }
+
+    /**
+     * Returns the chunk of the snapshot starting at the given offset. The returned data must not be modified.
+     *
+     * @param offset the offset of the chunk
+     * @param length the length of the chunk
+     * @return the Chunk
+     * @throws IOException if an error occurs reading the snapshot bytes
+     */
+    Chunk getChunk(final long offset, final int length) throws IOException {
+        Chunk chunk = cachedChunks.get(offset);
+        if (chunk != null && chunk.data.length == length) {
+            if (--chunk.pendingReaders <= 0) {
+                cachedChunks.remove(offset);
+            }
+            return chunk;
+        }
+
+        final byte[] data = snapshotBytes.slice(offset, length).read();
+        if (data.length != length) {
+            throw new IOException(String.format(
+                    "The # of bytes read from the snapshot, %d, does not match the expected # %d", data.length, length));
+        }
+
+        chunkReadCount++;
+        chunk = new Chunk(data);
+        chunk.pendingReaders = refCount - 1;
+        if (chunk.pendingReaders > 0) {
+            cachedChunks.put(offset, chunk);
+            while (cachedChunks.size() > refCount) {
+                cachedChunks.pollFirstEntry();
+            }
+        }
+
+        return chunk;
+    }
+
+    @VisibleForTesting
+    int getReferenceCount() {
+        return refCount;
+    }
+
+    @VisibleForTesting
+    long getChunkReadCount() {
+        return chunkReadCount;
+    }
+}
@@ -8,6 +8,7 @@
 
 package org.opendaylight.controller.cluster.raft.behaviors;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -30,7 +31,9 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.io.ByteSource;
 import com.google.common.util.concurrent.Uninterruptibles;
 import com.google.protobuf.ByteString;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.Collections;
@@ -38,6 +41,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import org.apache.commons.lang3.SerializationUtils;
 import org.junit.After;
@@ -1229,6 +1233,106 @@ public class LeaderTest extends AbstractLeaderTest<Leader> {
         fts.close();
     }
 
+    @Test
+    public void testInstallSnapshotToMultipleFollowersSimultaneously() throws Exception {
+        logStart("testInstallSnapshotToMultipleFollowersSimultaneously");
+
+        final int commitIndex = 3;
+        final int snapshotTerm = 1;
+        final int chunkSize = 50;
+
+        final Map<String, ActorRef> followerActors = new HashMap<>();
+        final Map<String, String> peerAddresses = new HashMap<>();
+        for (int i = 1; i <= 3; i++) {
+            final String followerId = actorFactory.generateActorId("follower");
+            final ActorRef followerActor = actorFactory.createActor(MessageCollectorActor.props(), followerId);
+            followerActors.put(followerId, followerActor);
+            peerAddresses.put(followerId, followerActor.path().toString());
+        }
+
+        MockRaftActorContext actorContext = createActorContext();
+        DefaultConfigParamsImpl configParams = new DefaultConfigParamsImpl() {
+            @Override
+            public int getSnapshotChunkSize() {
+                return chunkSize;
+            }
+        };
+        configParams.setHeartBeatInterval(new FiniteDuration(9, TimeUnit.SECONDS));
+        configParams.setIsolatedLeaderCheckInterval(new FiniteDuration(10, TimeUnit.SECONDS));
+        actorContext.setConfigParams(configParams);
+        actorContext.setPeerAddresses(peerAddresses);
+        actorContext.setCommitIndex(commitIndex);
+        actorContext.getReplicatedLog().setSnapshotIndex(commitIndex);
+        actorContext.getReplicatedLog().setSnapshotTerm(snapshotTerm);
+        actorContext.getTermInformation().update(2, leaderActor.path().toString());
+
+        leader = new Leader(actorContext);
+        actorContext.setCurrentBehavior(leader);
+
+        // All followers are empty.
+        for (String followerId : followerActors.keySet()) {
+            leader.getFollower(followerId).setMatchIndex(-1);
+            leader.getFollower(followerId).setNextIndex(-1);
+            MessageCollectorActor.clearMessages(followerActors.get(followerId));
+        }
+
+        final byte[] snapshotBytes = new byte[1000];
+        for (int i = 0; i < snapshotBytes.length; i++) {
+            snapshotBytes[i] = (byte) i;
+        }
+        final int totalChunks = snapshotBytes.length / chunkSize;
+
+        // Count how often the snapshot bytes are read.
+        final AtomicInteger readCount = new AtomicInteger();
+        final ByteSource countingSource = new ByteSource() {
+            @Override
+            public InputStream openStream() throws IOException {
+                readCount.incrementAndGet();
+                return ByteSource.wrap(snapshotBytes).openStream();
+            }
+
+            @Override
+            public long size() {
+                return snapshotBytes.length;
+            }
+        };
+
+        Snapshot snapshot = Snapshot.create(ByteState.of(snapshotBytes), Collections.<ReplicatedLogEntry>emptyList(),
+                commitIndex, snapshotTerm, commitIndex, snapshotTerm, -1, null, null);
+        leader.handleMessage(leaderActor, new SendInstallSnapshot(snapshot, countingSource));
+
+        final Map<String, ByteArrayOutputStream> received = new HashMap<>();
+        for (int chunkIndex = 1; chunkIndex <= totalChunks; chunkIndex++) {
+            // Each follower is sent the same chunk before any of them replies.
+            for (Map.Entry<String, ActorRef> entry : followerActors.entrySet()) {
+                final InstallSnapshot installSnapshot = MessageCollectorActor.expectFirstMatching(entry.getValue(),
+                        InstallSnapshot.class);
+                assertEquals("Chunk index for " + entry.getKey(), chunkIndex, installSnapshot.getChunkIndex());
+                assertEquals("Total chunks", totalChunks, installSnapshot.getTotalChunks());
+                received.computeIfAbsent(entry.getKey(), k -> new ByteArrayOutputStream())
+                        .write(installSnapshot.getData());
+                MessageCollectorActor.clearMessages(entry.getValue());
+            }
+
+            for (Map.Entry<String, ActorRef> entry : followerActors.entrySet()) {
+                leader.handleMessage(entry.getValue(), new InstallSnapshotReply(
+                        actorContext.getTermInformation().getCurrentTerm(), entry.getKey(), chunkIndex, true));
+            }
+        }
+
+        for (String followerId : followerActors.keySet()) {
+            assertArrayEquals("Snapshot received by " + followerId, snapshotBytes,
+                    received.get(followerId).toByteArray());
+            assertEquals("Match index for " + followerId, commitIndex, leader.getFollower(followerId).getMatchIndex());
+            assertNull("Install snapshot state for " + followerId,
+                    leader.getFollower(followerId).getInstallSnapshotState());
+        }
+
+        // Each chunk was read only once for all followers.
+        assertEquals("Snapshot chunk reads", totalChunks, readCount.get());
+        assertFalse("Leader should have released the snapshot", leader.hasSnapshot());
+    }
+
     @Override
     protected Leader createBehavior(final RaftActorContext actorContext) {
         return new Leader(actorContext);
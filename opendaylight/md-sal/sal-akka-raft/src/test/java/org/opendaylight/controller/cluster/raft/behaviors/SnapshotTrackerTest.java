@@ -9,6 +9,7 @@
 package org.opendaylight.controller.cluster.raft.behaviors;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -16,9 +17,13 @@ import static org.mockito.Mockito.verify;
 
 import com.google.common.base.Optional;
 import com.google.common.io.ByteSource;
+import com.google.common.io.ByteStreams;
 import com.google.protobuf.ByteString;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Serializable;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -36,6 +41,9 @@ import org.slf4j.LoggerFactory;
 public class SnapshotTrackerTest {
     private static final Logger LOG = LoggerFactory.getLogger(SnapshotTrackerTest.class);
 
+    // The default buffer size of the BufferedOutputStream used by SnapshotTracker
+    private static final int WRITE_BUFFER_SIZE = 8192;
+
     @Mock
     private RaftActorContext mockContext;
     private FileBackedOutputStream fbos;
@@ -119,6 +127,52 @@ public class SnapshotTrackerTest {
         }
     }
 
+    @Test
+    public void testLargeSnapshotSpillsToFile() throws IOException {
+        final int chunkSize = 1000;
+        final int totalChunks = 50;
+        final File directory = Files.createTempDirectory("SnapshotTrackerTest").toFile();
+        final FileBackedOutputStream spillingStream = new FileBackedOutputStream(4 * chunkSize,
+                directory.getAbsolutePath());
+        final FileBackedOutputStreamFactory factory = mock(FileBackedOutputStreamFactory.class);
+        doReturn(spillingStream).when(factory).newInstance();
+        doReturn(factory).when(mockContext).getFileBackedOutputStreamFactory();
+
+        final byte[] chunk = new byte[chunkSize];
+        try {
+            try (SnapshotTracker tracker = new SnapshotTracker(LOG, totalChunks, "leader", mockContext)) {
+                int lastChunkHashCode = LeaderInstallSnapshotState.INITIAL_LAST_CHUNK_HASH_CODE;
+                for (int i = 1; i <= totalChunks; i++) {
+                    Arrays.fill(chunk, (byte) i);
+                    tracker.addChunk(i, chunk, Optional.of(lastChunkHashCode));
+                    lastChunkHashCode = Arrays.hashCode(chunk);
+
+                    // The tracker holds back at most its write buffer, everything else has been handed to the stream.
+                    final long heldBack = (long) i * chunkSize - spillingStream.getCount();
+                    assertTrue("Bytes held back by the tracker " + heldBack, heldBack <= WRITE_BUFFER_SIZE);
+                }
+
+                // Getting the snapshot flushes the tracker, after which all of it must be in the backing file.
+                final ByteSource snapshotBytes = tracker.getSnapshotBytes();
+                final File[] files = directory.listFiles();
+                assertEquals("Backing files", 1, files.length);
+                assertEquals("Backing file length", (long) totalChunks * chunkSize, files[0].length());
+
+                try (InputStream in = snapshotBytes.openBufferedStream()) {
+                    for (int i = 1; i <= totalChunks; i++) {
+                        assertEquals("Chunk read", chunkSize, ByteStreams.read(in, chunk, 0, chunkSize));
+                        assertEquals("Chunk content", (byte) i, chunk[chunkSize - 1]);
+                    }
+                    assertEquals("End of stream", -1, in.read());
+                }
+            }
+
+            assertEquals("Backing files after close", 0, directory.listFiles().length);
+        } finally {
+            directory.delete();
+        }
+    }
+
     private static byte[] getNextChunk(final ByteString bs, final int offset, int size) {
         int snapshotLength = bs.size();
         int start = offset;
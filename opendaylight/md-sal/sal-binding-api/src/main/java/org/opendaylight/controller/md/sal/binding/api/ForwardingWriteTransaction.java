@@ -14,7 +14,10 @@ import org.opendaylight.controller.md.sal.binding.api.WriteTransaction;
 import org.opendaylight.controller.md.sal.common.api.TransactionStatus;
 import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
 import org.opendaylight.controller.md.sal.common.api.data.TransactionCommitFailedException;
+import org.opendaylight.yangtools.yang.binding.ChildOf;
 import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.Identifiable;
+import org.opendaylight.yangtools.yang.binding.Identifier;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.common.RpcResult;
 
@@ -58,6 +61,20 @@ public class ForwardingWriteTransaction extends ForwardingObject implements Writ
         delegate.merge(store, path, data, createMissingParents);
     }
 
+    @Override
+    public <P extends DataObject, N extends Identifiable<K> & ChildOf<? super P>, K extends Identifier<N>> void
+            putListEntries(LogicalDatastoreType store, InstanceIdentifier<P> parent, Class<N> listItem,
+                    Iterable<N> entries) {
+        delegate.putListEntries(store, parent, listItem, entries);
+    }
+
+    @Override
+    public <P extends DataObject, N extends Identifiable<K> & ChildOf<? super P>, K extends Identifier<N>> void
+            mergeListEntries(LogicalDatastoreType store, InstanceIdentifier<P> parent, Class<N> listItem,
+                    Iterable<N> entries) {
+        delegate.mergeListEntries(store, parent, listItem, entries);
+    }
+
     @Override
     public void delete(LogicalDatastoreType store, InstanceIdentifier<?> path) {
         delegate.delete(store, path);
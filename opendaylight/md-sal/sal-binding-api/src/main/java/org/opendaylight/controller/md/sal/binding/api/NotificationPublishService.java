@@ -9,6 +9,7 @@ package org.opendaylight.controller.md.sal.binding.api;
 
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import org.opendaylight.yangtools.yang.binding.Notification;
 
@@ -89,4 +90,25 @@ public interface NotificationPublishService extends BindingService {
     ListenableFuture<?> offerNotification(Notification notification, int timeout, TimeUnit unit)
             throws InterruptedException;
 
+    /**
+     * Publishes a batch of notifications to subscribed listeners. This behaves as if
+     * {@link #putNotification(Notification)} was invoked for each notification in order,
+     * but allows the implementation to accept the whole batch for delivery at once.
+     *
+     * <b>Note:</b> This call will block when the notification queue is full.
+     *
+     * <p>
+     * The default implementation publishes notifications one by one.
+     *
+     * @param notifications
+     *            the notifications to publish.
+     * @throws InterruptedException if interrupted while waiting
+     * @throws NullPointerException if notifications or any of its elements is null
+     */
+    default void putNotifications(final List<? extends Notification> notifications) throws InterruptedException {
+        for (Notification notification : notifications) {
+            putNotification(notification);
+        }
+    }
+
 }
@@ -9,7 +9,10 @@ package org.opendaylight.controller.md.sal.binding.api;
 
 import org.opendaylight.controller.md.sal.common.api.data.AsyncWriteTransaction;
 import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.yangtools.yang.binding.ChildOf;
 import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.Identifiable;
+import org.opendaylight.yangtools.yang.binding.Identifier;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 /**
@@ -125,6 +128,62 @@ public interface WriteTransaction extends AsyncWriteTransaction<InstanceIdentifi
     <T extends DataObject> void merge(LogicalDatastoreType store, InstanceIdentifier<T> path, T data,
             boolean createMissingParents);
 
+    /**
+     * Stores a number of keyed list entries under a common parent. This is equivalent to invoking
+     * {@link #put(LogicalDatastoreType, InstanceIdentifier, DataObject)} for each entry, with the path
+     * of the entry being the parent path extended by the list item and the key of the entry.
+     * <p>
+     * Implementations may translate the common parent path only once and stream the entries into the
+     * underlying transaction, which makes this method considerably cheaper than individual puts when
+     * writing large numbers of entries.
+     *
+     * @param store
+     *            the logical data store which should be modified
+     * @param parent
+     *            the path of the data object containing the list
+     * @param listItem
+     *            the list item class
+     * @param entries
+     *            the list entries to be written
+     * @throws IllegalStateException
+     *             if the transaction has already been submitted
+     */
+    default <P extends DataObject, N extends Identifiable<K> & ChildOf<? super P>, K extends Identifier<N>> void
+            putListEntries(final LogicalDatastoreType store, final InstanceIdentifier<P> parent,
+                    final Class<N> listItem, final Iterable<N> entries) {
+        for (N entry : entries) {
+            put(store, parent.child(listItem, entry.getKey()), entry);
+        }
+    }
+
+    /**
+     * Merges a number of keyed list entries under a common parent. This is equivalent to invoking
+     * {@link #merge(LogicalDatastoreType, InstanceIdentifier, DataObject)} for each entry, with the path
+     * of the entry being the parent path extended by the list item and the key of the entry.
+     * <p>
+     * Implementations may translate the common parent path only once and stream the entries into the
+     * underlying transaction, which makes this method considerably cheaper than individual merges when
+     * writing large numbers of entries.
+     *
+     * @param store
+     *            the logical data store which should be modified
+     * @param parent
+     *            the path of the data object containing the list
+     * @param listItem
+     *            the list item class
+     * @param entries
+     *            the list entries to be merged
+     * @throws IllegalStateException
+     *             if the transaction has already been submitted
+     */
+    default <P extends DataObject, N extends Identifiable<K> & ChildOf<? super P>, K extends Identifier<N>> void
+            mergeListEntries(final LogicalDatastoreType store, final InstanceIdentifier<P> parent,
+                    final Class<N> listItem, final Iterable<N> entries) {
+        for (N entry : entries) {
+            merge(store, parent.child(listItem, entry.getKey()), entry);
+        }
+    }
+
     @Override
     void delete(LogicalDatastoreType store, InstanceIdentifier<?> path);
 
@@ -10,12 +10,16 @@ package org.opendaylight.controller.md.sal.binding.impl;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.CheckedFuture;
+import java.util.Iterator;
 import java.util.Map.Entry;
 import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
 import org.opendaylight.controller.md.sal.common.api.data.TransactionCommitFailedException;
 import org.opendaylight.controller.md.sal.dom.api.DOMDataWriteTransaction;
+import org.opendaylight.mdsal.binding.dom.codec.api.BindingCodecTreeNode;
+import org.opendaylight.yangtools.yang.binding.ChildOf;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 import org.opendaylight.yangtools.yang.binding.Identifiable;
+import org.opendaylight.yangtools.yang.binding.Identifier;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
@@ -60,6 +64,55 @@ public abstract class AbstractWriteTransaction<T extends DOMDataWriteTransaction
         getDelegate().merge(store, normalized.getKey(), normalized.getValue());
     }
 
+    /**
+     * Writes a number of keyed list entries under a common parent. Unlike individual puts or merges, this translates
+     * the path of the list only once and ensures the list exists only once. Each entry is then serialized by the codec
+     * of the list item and written at the list path extended by the identifier of the resulting map entry node, hence
+     * no binding InstanceIdentifier is created for the entries.
+     *
+     * @param store Data Store type
+     * @param parent Path to the data object containing the list (Binding Aware)
+     * @param listItem List item class
+     * @param entries List entries to be written
+     * @param merge True if the entries should be merged, false if they should be put
+     */
+    protected final <P extends DataObject, N extends Identifiable<K> & ChildOf<? super P>, K extends Identifier<N>>
+            void writeListEntries(final LogicalDatastoreType store, final InstanceIdentifier<P> parent,
+                    final Class<N> listItem, final Iterable<N> entries, final boolean merge) {
+        Preconditions.checkArgument(!parent.isWildcarded(), "Cannot write data into wildcarded path %s", parent);
+
+        final Iterator<N> it = entries.iterator();
+        if (!it.hasNext()) {
+            return;
+        }
+
+        final N first = it.next();
+        final YangInstanceIdentifier mapPath = getCodec().toYangInstanceIdentifierCached(
+            parent.child(listItem, first.getKey())).getParent();
+        Preconditions.checkArgument(mapPath != null, "Map path for %s under %s does not have a parent", listItem,
+            parent);
+        getDelegate().merge(store, mapPath, getCodec().getDefaultNodeFor(mapPath));
+
+        final BindingCodecTreeNode<N> itemCodec = getCodec().getCodecRegistry().getCodecContext()
+                .getSubtreeCodec(parent.child(listItem));
+        Preconditions.checkArgument(itemCodec != null, "No codec found for %s under %s", listItem, parent);
+
+        writeListEntry(store, mapPath, itemCodec.serialize(first), merge);
+        while (it.hasNext()) {
+            writeListEntry(store, mapPath, itemCodec.serialize(it.next()), merge);
+        }
+    }
+
+    private void writeListEntry(final LogicalDatastoreType store, final YangInstanceIdentifier mapPath,
+            final NormalizedNode<?, ?> data, final boolean merge) {
+        final YangInstanceIdentifier entryPath = mapPath.node(data.getIdentifier());
+        if (merge) {
+            getDelegate().merge(store, entryPath, data);
+        } else {
+            getDelegate().put(store, entryPath, data);
+        }
+    }
+
     /**
      *
      * Ensures list parent if item is list, otherwise noop.
@@ -126,7 +179,7 @@ public abstract class AbstractWriteTransaction<T extends DOMDataWriteTransaction
             final InstanceIdentifier<?> path) {
         Preconditions.checkArgument(!path.isWildcarded(), "Cannot delete wildcarded path %s", path);
 
-        final YangInstanceIdentifier normalized = getCodec().toYangInstanceIdentifierBlocking(path);
+        final YangInstanceIdentifier normalized = getCodec().toYangInstanceIdentifierCached(path);
         getDelegate().delete(store, normalized);
     }
 
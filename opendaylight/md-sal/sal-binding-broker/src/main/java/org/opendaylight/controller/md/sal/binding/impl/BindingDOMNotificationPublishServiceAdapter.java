@@ -10,6 +10,8 @@ package org.opendaylight.controller.md.sal.binding.impl;
 import com.google.common.collect.ClassToInstanceMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.ListenableFuture;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import org.opendaylight.controller.md.sal.binding.api.NotificationPublishService;
@@ -44,6 +46,15 @@ public class BindingDOMNotificationPublishServiceAdapter implements Notification
         domPublishService.putNotification(toDomNotification(notification));
     }
 
+    @Override
+    public void putNotifications(final List<? extends Notification> notifications) throws InterruptedException {
+        final List<DOMNotification> domNotifications = new ArrayList<>(notifications.size());
+        for (Notification notification : notifications) {
+            domNotifications.add(toDomNotification(notification));
+        }
+        domPublishService.putNotifications(domNotifications);
+    }
+
     @Override
     public ListenableFuture<?> offerNotification(final Notification notification) {
         ListenableFuture<?> offerResult = domPublishService.offerNotification(toDomNotification(notification));
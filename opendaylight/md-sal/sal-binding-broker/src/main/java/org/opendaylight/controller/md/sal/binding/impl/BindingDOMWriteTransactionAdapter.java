@@ -18,7 +18,10 @@ import org.opendaylight.controller.md.sal.common.impl.service.AbstractDataTransa
 import org.opendaylight.controller.md.sal.common.impl.util.compat.DataNormalizationException;
 import org.opendaylight.controller.md.sal.common.impl.util.compat.DataNormalizationOperation;
 import org.opendaylight.controller.md.sal.dom.api.DOMDataWriteTransaction;
+import org.opendaylight.yangtools.yang.binding.ChildOf;
 import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.Identifiable;
+import org.opendaylight.yangtools.yang.binding.Identifier;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.common.RpcResult;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
@@ -46,6 +49,20 @@ class BindingDOMWriteTransactionAdapter<T extends DOMDataWriteTransaction> exten
         merge(store, path, data,false);
     }
 
+    @Override
+    public <P extends DataObject, N extends Identifiable<K> & ChildOf<? super P>, K extends Identifier<N>> void
+            putListEntries(final LogicalDatastoreType store, final InstanceIdentifier<P> parent,
+                    final Class<N> listItem, final Iterable<N> entries) {
+        writeListEntries(store, parent, listItem, entries, false);
+    }
+
+    @Override
+    public <P extends DataObject, N extends Identifiable<K> & ChildOf<? super P>, K extends Identifier<N>> void
+            mergeListEntries(final LogicalDatastoreType store, final InstanceIdentifier<P> parent,
+                    final Class<N> listItem, final Iterable<N> entries) {
+        writeListEntries(store, parent, listItem, entries, true);
+    }
+
 
     @Override
     protected void ensureParentsByMerge(final LogicalDatastoreType store,
@@ -10,10 +10,13 @@ package org.opendaylight.controller.md.sal.binding.impl;
 import com.google.common.base.Function;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableBiMap;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.lang.reflect.Method;
 import java.net.URI;
 import java.util.AbstractMap.SimpleEntry;
@@ -66,6 +69,12 @@ public class BindingToNormalizedNodeCodec
         implements BindingCodecTreeFactory, BindingNormalizedNodeSerializer, SchemaContextListener, AutoCloseable {
 
     private static final long WAIT_DURATION_SEC = 5;
+
+    /*
+     * Maximum number of entries in each of the instance identifier caches. These used to be soft-valued, which made
+     * them unbounded and caused them to be flushed by the GC exactly when the system is under load.
+     */
+    private static final long II_CACHE_SIZE = 16384;
     private static final Logger LOG = LoggerFactory.getLogger(BindingToNormalizedNodeCodec.class);
 
     private final BindingNormalizedNodeCodecRegistry codecRegistry;
@@ -73,7 +82,8 @@ public class BindingToNormalizedNodeCodec
     private final ClassLoadingStrategy classLoadingStrategy;
     private final FutureSchema futureSchema;
     private final LoadingCache<InstanceIdentifier<?>, YangInstanceIdentifier> iiCache = CacheBuilder.newBuilder()
-            .softValues().build(new CacheLoader<InstanceIdentifier<?>, YangInstanceIdentifier>() {
+            .maximumSize(II_CACHE_SIZE).recordStats()
+            .build(new CacheLoader<InstanceIdentifier<?>, YangInstanceIdentifier>() {
 
                 @Override
                 public YangInstanceIdentifier load(final InstanceIdentifier<?> key) throws Exception {
@@ -81,6 +91,18 @@ public class BindingToNormalizedNodeCodec
                 }
 
             });
+    private final LoadingCache<YangInstanceIdentifier, Optional<InstanceIdentifier<? extends DataObject>>> yiiCache =
+            CacheBuilder.newBuilder().maximumSize(II_CACHE_SIZE).recordStats()
+            .build(new CacheLoader<YangInstanceIdentifier, Optional<InstanceIdentifier<? extends DataObject>>>() {
+
+                @Override
+                public Optional<InstanceIdentifier<? extends DataObject>> load(final YangInstanceIdentifier key) {
+                    // Mixin nodes do not have a binding representation, this is cached as absent
+                    return Optional.<InstanceIdentifier<? extends DataObject>>fromNullable(
+                            codecRegistry.fromYangInstanceIdentifier(key));
+                }
+
+            });
 
     private DataNormalizer legacyToNormalized;
 
@@ -127,7 +149,33 @@ public class BindingToNormalizedNodeCodec
     }
 
     public YangInstanceIdentifier toYangInstanceIdentifierCached(final InstanceIdentifier<?> binding) {
-        return this.iiCache.getUnchecked(binding);
+        try {
+            return this.iiCache.getUnchecked(binding);
+        } catch (final UncheckedExecutionException e) {
+            // Do not hide IllegalArgumentException and friends from callers
+            Throwables.throwIfUnchecked(e.getCause());
+            throw e;
+        }
+    }
+
+    public static long getInstanceIdentifierCacheMaximumSize() {
+        return II_CACHE_SIZE;
+    }
+
+    public CacheStats getInstanceIdentifierCacheStats() {
+        return iiCache.stats();
+    }
+
+    public long getInstanceIdentifierCacheSize() {
+        return iiCache.size();
+    }
+
+    public CacheStats getYangInstanceIdentifierCacheStats() {
+        return yiiCache.stats();
+    }
+
+    public long getYangInstanceIdentifierCacheSize() {
+        return yiiCache.size();
     }
 
     @Override
@@ -194,10 +242,14 @@ public class BindingToNormalizedNodeCodec
     public Optional<InstanceIdentifier<? extends DataObject>> toBinding(final YangInstanceIdentifier normalized)
             throws DeserializationException {
         try {
-            return Optional.<InstanceIdentifier<? extends DataObject>>fromNullable(
-                    this.codecRegistry.fromYangInstanceIdentifier(normalized));
-        } catch (final IllegalArgumentException e) {
-            return Optional.absent();
+            return this.yiiCache.getUnchecked(normalized);
+        } catch (final UncheckedExecutionException e) {
+            // Failures are not cached, as they may be caused by the schema not being available yet
+            if (e.getCause() instanceof IllegalArgumentException) {
+                return Optional.absent();
+            }
+            Throwables.throwIfUnchecked(e.getCause());
+            throw e;
         }
     }
 
@@ -238,6 +290,9 @@ public class BindingToNormalizedNodeCodec
                 BindingRuntimeContext.create(this.classLoadingStrategy, schemaContext);
         this.codecRegistry.onBindingRuntimeContextUpdated(runtimeContext);
         this.futureSchema.onRuntimeContextUpdated(runtimeContext);
+
+        // Binding classes may have been reloaded, do not hand out instance identifiers referencing the old ones
+        this.yiiCache.invalidateAll();
     }
 
     public <T extends DataObject> Function<Optional<NormalizedNode<?, ?>>, Optional<T>>
@@ -7,6 +7,8 @@
  */
 package org.opendaylight.controller.md.sal.binding.impl;
 
+import static org.opendaylight.yangtools.yang.data.api.schema.tree.ModificationType.UNMODIFIED;
+
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import java.util.ArrayList;
@@ -35,6 +37,10 @@ import org.slf4j.LoggerFactory;
  * but whole tree is not translated or resolved eagerly, but only child nodes
  * which are directly accessed by user of data object modification.
  *
+ * Identifiers and before/after data are likewise translated only when first
+ * requested and then retained, so enumerating the children of a large list
+ * change does not decode the keys or data of entries the user does not inspect.
+ *
  * @param <T> Type of Binding Data Object
  */
 final class LazyDataObjectModification<T extends DataObject> implements DataObjectModification<T> {
@@ -43,13 +49,14 @@ final class LazyDataObjectModification<T extends DataObject> implements DataObje
 
     private final BindingCodecTreeNode<T> codec;
     private final DataTreeCandidateNode domData;
-    private final PathArgument identifier;
     private Collection<DataObjectModification<? extends DataObject>> childNodesCache;
+    private PathArgument identifier;
+    private Optional<T> dataBefore;
+    private Optional<T> dataAfter;
 
     private LazyDataObjectModification(final BindingCodecTreeNode<T> codec, final DataTreeCandidateNode domData) {
         this.codec = Preconditions.checkNotNull(codec);
         this.domData = Preconditions.checkNotNull(domData);
-        this.identifier = codec.deserializePathArgument(domData.getIdentifier());
     }
 
     static <T extends DataObject> DataObjectModification<T> create(final BindingCodecTreeNode<T> codec,
@@ -67,6 +74,11 @@ final class LazyDataObjectModification<T extends DataObject> implements DataObje
     private static void populateList(final List<DataObjectModification<? extends DataObject>> result,
             final BindingCodecTreeNode<?> parentCodec, final Collection<DataTreeCandidateNode> domChildNodes) {
         for (final DataTreeCandidateNode domChildNode : domChildNodes) {
+            if (domChildNode.getModificationType() == UNMODIFIED) {
+                // Replaced parents report untouched children, too. These have no binding equivalent.
+                continue;
+            }
+
             final BindingStructuralType type = BindingStructuralType.from(domChildNode);
             if (type != BindingStructuralType.NOT_ADDRESSABLE) {
                 /*
@@ -111,18 +123,30 @@ final class LazyDataObjectModification<T extends DataObject> implements DataObje
     private static void populateListWithSingleCodec(final List<DataObjectModification<? extends DataObject>> result,
             final BindingCodecTreeNode<?> codec, final Collection<DataTreeCandidateNode> childNodes) {
         for (final DataTreeCandidateNode child : childNodes) {
-            result.add(create(codec, child));
+            if (child.getModificationType() != UNMODIFIED) {
+                result.add(create(codec, child));
+            }
         }
     }
 
     @Override
     public T getDataBefore() {
-        return deserialize(domData.getDataBefore());
+        Optional<T> local = dataBefore;
+        if (local == null) {
+            local = deserialize(domData.getDataBefore());
+            dataBefore = local;
+        }
+        return local.orNull();
     }
 
     @Override
     public T getDataAfter() {
-        return deserialize(domData.getDataAfter());
+        Optional<T> local = dataAfter;
+        if (local == null) {
+            local = deserialize(domData.getDataAfter());
+            dataAfter = local;
+        }
+        return local.orNull();
     }
 
     @Override
@@ -132,7 +156,12 @@ final class LazyDataObjectModification<T extends DataObject> implements DataObje
 
     @Override
     public PathArgument getIdentifier() {
-        return identifier;
+        PathArgument local = identifier;
+        if (local == null) {
+            local = codec.deserializePathArgument(domData.getIdentifier());
+            identifier = local;
+        }
+        return local;
     }
 
     @Override
@@ -169,7 +198,7 @@ final class LazyDataObjectModification<T extends DataObject> implements DataObje
         while (toEnter.hasNext() && current != null) {
             current = current.getModifiedChild(toEnter.next());
         }
-        if (current != null) {
+        if (current != null && current.getModificationType() != UNMODIFIED) {
             return create(childCodec, current);
         }
         return null;
@@ -195,15 +224,15 @@ final class LazyDataObjectModification<T extends DataObject> implements DataObje
         return (DataObjectModification<C>) getModifiedChild(new InstanceIdentifier.Item<>(augmentation));
     }
 
-    private T deserialize(final Optional<NormalizedNode<?, ?>> dataAfter) {
-        if (dataAfter.isPresent()) {
-            return codec.deserialize(dataAfter.get());
+    private Optional<T> deserialize(final Optional<NormalizedNode<?, ?>> data) {
+        if (data.isPresent()) {
+            return Optional.of(codec.deserialize(data.get()));
         }
-        return null;
+        return Optional.absent();
     }
 
     @Override
     public String toString() {
-        return getClass().getSimpleName() + "{identifier = " + identifier + ", domData = " + domData + "}";
+        return getClass().getSimpleName() + "{identifier = " + getIdentifier() + ", domData = " + domData + "}";
     }
 }
@@ -9,7 +9,9 @@ package org.opendaylight.controller.md.sal.binding.impl;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import org.opendaylight.controller.md.sal.binding.api.DataObjectModification;
 import org.opendaylight.controller.md.sal.binding.api.DataTreeIdentifier;
@@ -18,6 +20,7 @@ import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
 import org.opendaylight.mdsal.binding.dom.codec.api.BindingCodecTreeNode;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidate;
 
 /**
@@ -48,19 +51,31 @@ class LazyDataTreeModification<T extends DataObject> implements DataTreeModifica
         return path;
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     static <T extends DataObject> DataTreeModification<T> create(final BindingToNormalizedNodeCodec codec, final DataTreeCandidate domChange,
             final LogicalDatastoreType datastoreType) {
-        final Entry<InstanceIdentifier<?>, BindingCodecTreeNode<?>> codecCtx =
-                codec.getSubtreeCodec(domChange.getRootPath());
+        return create(codec.getSubtreeCodec(domChange.getRootPath()), domChange, datastoreType);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T extends DataObject> DataTreeModification<T> create(
+            final Entry<InstanceIdentifier<?>, BindingCodecTreeNode<?>> codecCtx, final DataTreeCandidate domChange,
+            final LogicalDatastoreType datastoreType) {
         return new LazyDataTreeModification(datastoreType, codecCtx.getKey(), codecCtx.getValue(), domChange);
     }
 
     static <T extends DataObject> Collection<DataTreeModification<T>> from(final BindingToNormalizedNodeCodec codec,
             final Collection<DataTreeCandidate> domChanges, final LogicalDatastoreType datastoreType) {
+        /*
+         * Changes delivered together typically share a few root paths, so we look up the codec context for each of
+         * them only once per notification.
+         */
+        final Map<YangInstanceIdentifier, Entry<InstanceIdentifier<?>, BindingCodecTreeNode<?>>> codecCtxs =
+                new HashMap<>();
         final List<DataTreeModification<T>> result = new ArrayList<>(domChanges.size());
         for (final DataTreeCandidate domChange : domChanges) {
-            result.add(LazyDataTreeModification.<T>create(codec, domChange, datastoreType));
+            final Entry<InstanceIdentifier<?>, BindingCodecTreeNode<?>> codecCtx =
+                    codecCtxs.computeIfAbsent(domChange.getRootPath(), codec::getSubtreeCodec);
+            result.add(LazyDataTreeModification.<T>create(codecCtx, domChange, datastoreType));
         }
         return result;
     }
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.binding.impl.jmx;
+
+/**
+ * MXBean interface for retrieving statistics of the instance identifier caches of the binding codec.
+ */
+public interface BindingCodecCacheStatsMXBean {
+
+    /**
+     * Returns statistics of the cache translating binding InstanceIdentifiers to YangInstanceIdentifiers.
+     */
+    InstanceIdentifierCacheStats getBindingToDomCacheStats();
+
+    /**
+     * Returns statistics of the cache translating YangInstanceIdentifiers to binding InstanceIdentifiers.
+     */
+    InstanceIdentifierCacheStats getDomToBindingCacheStats();
+}
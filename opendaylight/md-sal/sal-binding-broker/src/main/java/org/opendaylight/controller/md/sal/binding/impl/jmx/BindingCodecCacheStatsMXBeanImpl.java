@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.binding.impl.jmx;
+
+import javax.annotation.Nonnull;
+import org.opendaylight.controller.md.sal.binding.impl.BindingToNormalizedNodeCodec;
+import org.opendaylight.controller.md.sal.common.util.jmx.AbstractMXBean;
+
+/**
+ * Implementation of the BindingCodecCacheStatsMXBean interface.
+ */
+public class BindingCodecCacheStatsMXBeanImpl extends AbstractMXBean implements BindingCodecCacheStatsMXBean {
+
+    private final BindingToNormalizedNodeCodec codec;
+
+    /**
+     * Constructor.
+     *
+     * @param codec the BindingToNormalizedNodeCodec whose cache statistics are exposed.
+     * @param mbeantype mBeanType Used as the <code>type</code> property in the bean's ObjectName.
+     */
+    public BindingCodecCacheStatsMXBeanImpl(@Nonnull final BindingToNormalizedNodeCodec codec,
+            @Nonnull final String mbeantype) {
+        super("CodecCacheStats", mbeantype, null);
+        this.codec = codec;
+    }
+
+    @Override
+    public InstanceIdentifierCacheStats getBindingToDomCacheStats() {
+        return InstanceIdentifierCacheStats.of(codec.getInstanceIdentifierCacheSize(),
+            BindingToNormalizedNodeCodec.getInstanceIdentifierCacheMaximumSize(),
+            codec.getInstanceIdentifierCacheStats());
+    }
+
+    @Override
+    public InstanceIdentifierCacheStats getDomToBindingCacheStats() {
+        return InstanceIdentifierCacheStats.of(codec.getYangInstanceIdentifierCacheSize(),
+            BindingToNormalizedNodeCodec.getInstanceIdentifierCacheMaximumSize(),
+            codec.getYangInstanceIdentifierCacheStats());
+    }
+}
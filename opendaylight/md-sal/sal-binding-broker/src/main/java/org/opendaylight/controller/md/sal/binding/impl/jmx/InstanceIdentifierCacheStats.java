@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.binding.impl.jmx;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.cache.CacheStats;
+import java.beans.ConstructorProperties;
+
+/**
+ * A snapshot of the statistics of an instance identifier translation cache. This class is suitable for mapping
+ * to the MXBean CompositeDataSupport type.
+ */
+public final class InstanceIdentifierCacheStats {
+    private final long size;
+    private final long maximumSize;
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final double hitRate;
+
+    @ConstructorProperties({"size", "maximumSize", "hitCount", "missCount", "evictionCount", "hitRate"})
+    public InstanceIdentifierCacheStats(final long size, final long maximumSize, final long hitCount,
+            final long missCount, final long evictionCount, final double hitRate) {
+        this.size = size;
+        this.maximumSize = maximumSize;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.hitRate = hitRate;
+    }
+
+    static InstanceIdentifierCacheStats of(final long size, final long maximumSize, final CacheStats stats) {
+        return new InstanceIdentifierCacheStats(size, maximumSize, stats.hitCount(), stats.missCount(),
+            stats.evictionCount(), stats.hitRate());
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the ratio of lookups which were satisfied from the cache, or 1.0 if there were no lookups.
+     *
+     * @return hit rate
+     */
+    public double getHitRate() {
+        return hitRate;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("size", size).add("maximumSize", maximumSize)
+                .add("hits", hitCount).add("misses", missCount).add("evictions", evictionCount)
+                .add("hitRate", hitRate).toString();
+    }
+}
@@ -89,6 +89,26 @@ public class BindingNormalizedCodecTest extends AbstractSchemaAwareTest {
         assertTrue(((AugmentationIdentifier) leafOnlyLastArg).getPossibleChildNames().contains(SIMPLE_VALUE_QNAME));
     }
 
+    @Test
+    public void testInstanceIdentifierCacheStats() throws Exception {
+        this.codec.onGlobalContextUpdated(this.context);
+
+        assertEquals(BI_TOP_LEVEL_LIST, this.codec.toYangInstanceIdentifierCached(BA_TOP_LEVEL_LIST));
+        assertEquals(BI_TOP_LEVEL_LIST, this.codec.toYangInstanceIdentifierCached(BA_TOP_LEVEL_LIST));
+        assertEquals(1, this.codec.getInstanceIdentifierCacheStats().missCount());
+        assertEquals(1, this.codec.getInstanceIdentifierCacheStats().hitCount());
+        assertEquals(1, this.codec.getInstanceIdentifierCacheSize());
+
+        assertEquals(BA_TOP_LEVEL_LIST, this.codec.toBinding(BI_TOP_LEVEL_LIST).get());
+        assertEquals(BA_TOP_LEVEL_LIST, this.codec.toBinding(BI_TOP_LEVEL_LIST).get());
+        assertEquals(1, this.codec.getYangInstanceIdentifierCacheStats().missCount());
+        assertEquals(1, this.codec.getYangInstanceIdentifierCacheStats().hitCount());
+
+        // Schema updates flush the reverse cache
+        this.codec.onGlobalContextUpdated(this.context);
+        assertEquals(0, this.codec.getYangInstanceIdentifierCacheSize());
+    }
+
     @Test
     public void testToYangInstanceIdentifierBlocking() {
         this.codec.onGlobalContextUpdated(new EmptySchemaContext());
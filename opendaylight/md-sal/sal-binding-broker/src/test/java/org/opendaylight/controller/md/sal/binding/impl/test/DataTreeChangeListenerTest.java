@@ -11,6 +11,8 @@ package org.opendaylight.controller.md.sal.binding.impl.test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
@@ -145,6 +147,25 @@ public class DataTreeChangeListenerTest extends AbstractConcurrentDataBrokerTest
         verifyModification(barDeleteEvent.getRootNode(), BAR_ARGUMENT, ModificationType.DELETE);
     }
 
+    @Test
+    public void testLazyModificationIsTranslatedOnce() throws Exception {
+        final EventCapturingListener<Top> listener = new EventCapturingListener<>();
+        dataBrokerImpl.registerDataTreeChangeListener(TOP_IDENTIFIER, listener);
+        createAndVerifyTop(listener);
+
+        putTx(BAR_PATH, BAR_DATA).submit().checkedGet();
+        final DataObjectModification<Top> rootNode = Iterables.getOnlyElement(listener.nextEvent()).getRootNode();
+        assertSame(rootNode.getDataAfter(), rootNode.getDataAfter());
+        assertSame(rootNode.getDataBefore(), rootNode.getDataBefore());
+
+        final DataObjectModification<? extends DataObject> barMod = Iterables.getOnlyElement(
+            rootNode.getModifiedChildren());
+        verifyModification(barMod, BAR_ARGUMENT, ModificationType.WRITE);
+        assertSame(barMod.getIdentifier(), barMod.getIdentifier());
+        assertEquals(BAR_DATA, barMod.getDataAfter());
+        assertNull(barMod.getDataBefore());
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     public void testWildcardNotificationOfPreexistingData() throws Exception {
@@ -7,8 +7,10 @@
  */
 package org.opendaylight.controller.md.sal.binding.impl.test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
 import java.util.concurrent.ExecutionException;
 
 import org.junit.Test;
@@ -68,4 +70,37 @@ public class WriteTransactionTest extends AbstractConcurrentDataBrokerTest {
         assertTrue("List node must exists after commit",listNode.isPresent());
     }
 
+    @Test
+    public void testPutListEntries() throws TransactionCommitFailedException, InterruptedException,
+            ExecutionException {
+        final TopLevelList bar = new TopLevelListBuilder().setKey(new TopLevelListKey("bar")).build();
+
+        WriteTransaction writeTx = getDataBroker().newWriteOnlyTransaction();
+        writeTx.put(LogicalDatastoreType.OPERATIONAL, TOP_PATH, new TopBuilder().build());
+        writeTx.putListEntries(LogicalDatastoreType.OPERATIONAL, TOP_PATH, TopLevelList.class,
+            Arrays.asList(NODE, bar));
+        writeTx.submit().checkedGet();
+
+        ReadOnlyTransaction readTx = getDataBroker().newReadOnlyTransaction();
+        Optional<Top> topNode = readTx.read(LogicalDatastoreType.OPERATIONAL, TOP_PATH).get();
+        assertTrue("Top node must exists after commit",topNode.isPresent());
+        assertEquals(2, topNode.get().getTopLevelList().size());
+        Optional<TopLevelList> listNode = readTx.read(LogicalDatastoreType.OPERATIONAL, NODE_PATH).get();
+        assertEquals(NODE, listNode.get());
+    }
+
+    @Test
+    public void testMergeListEntries() throws TransactionCommitFailedException, InterruptedException,
+            ExecutionException {
+        WriteTransaction writeTx = getDataBroker().newWriteOnlyTransaction();
+        writeTx.merge(LogicalDatastoreType.OPERATIONAL, TOP_PATH, new TopBuilder().build());
+        writeTx.mergeListEntries(LogicalDatastoreType.OPERATIONAL, TOP_PATH, TopLevelList.class,
+            Arrays.asList(NODE));
+        writeTx.submit().checkedGet();
+
+        ReadOnlyTransaction readTx = getDataBroker().newReadOnlyTransaction();
+        Optional<TopLevelList> listNode = readTx.read(LogicalDatastoreType.OPERATIONAL, NODE_PATH).get();
+        assertTrue("List node must exists after commit",listNode.isPresent());
+    }
+
 }
@@ -10,6 +10,7 @@ package org.opendaylight.controller.cluster.io;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.FinalizablePhantomReference;
 import com.google.common.base.FinalizableReferenceQueue;
+import com.google.common.base.Preconditions;
 import com.google.common.collect.Sets;
 import com.google.common.io.ByteSource;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -19,7 +20,12 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.Iterator;
 import java.util.Set;
 import javax.annotation.Nonnull;
@@ -52,6 +58,13 @@ public class FileBackedOutputStream extends OutputStream {
      */
     private static final FinalizableReferenceQueue REFERENCE_QUEUE = new FinalizableReferenceQueue();
 
+    /**
+     * The maximum size of a single memory-mapped region of the backing file. A mapping cannot exceed
+     * {@link Integer#MAX_VALUE} bytes, so larger files are mapped as several segments.
+     */
+    @VisibleForTesting
+    static final int MAPPED_SEGMENT_SIZE = 1 << 30;
+
     private final int fileThreshold;
     private final String fileDirectory;
 
@@ -67,6 +80,9 @@ public class FileBackedOutputStream extends OutputStream {
     @GuardedBy("this")
     private ByteSource source;
 
+    @GuardedBy("this")
+    private MappedByteBuffer[] mappedSegments;
+
     private volatile long count;
 
     /**
@@ -116,6 +132,74 @@ public class FileBackedOutputStream extends OutputStream {
         return source;
     }
 
+    /**
+     * Returns a read-only view of a range of the data that has been written to this stream. This stream is closed
+     * and further attempts to write to it will result in an IOException. No data is copied: data buffered in memory
+     * is wrapped directly, while data buffered to a file is served from a read-only memory mapping of the file. Only
+     * a range crossing the boundary of two mapped segments is copied.
+     *
+     * <p>
+     * A returned buffer keeps its mapping alive, see {@link #cleanup()}, so holding on to it longer than needed
+     * delays the release of the mapping and of the temp file's disk space.
+     *
+     * @param offset the offset of the first byte of the range
+     * @param length the number of bytes in the range
+     * @return a read-only ByteBuffer positioned at the start of the range
+     * @throws IOException if close fails or the file cannot be mapped
+     * @throws IllegalArgumentException if the range is outside of the written data
+     */
+    @Nonnull
+    public synchronized ByteBuffer slice(final long offset, final int length) throws IOException {
+        Preconditions.checkArgument(offset >= 0 && length >= 0 && offset + length <= count,
+                "Invalid range offset %s length %s for %s bytes", offset, length, count);
+        close();
+
+        if (file == null) {
+            return ByteBuffer.wrap(memory.getBuffer(), (int) offset, length).slice().asReadOnlyBuffer();
+        }
+
+        if (mappedSegments == null) {
+            mappedSegments = mapFile();
+        }
+
+        final int segment = (int) (offset / MAPPED_SEGMENT_SIZE);
+        final int segmentOffset = (int) (offset % MAPPED_SEGMENT_SIZE);
+        if (segmentOffset + length <= MAPPED_SEGMENT_SIZE) {
+            return viewOf(mappedSegments[segment], segmentOffset, length);
+        }
+
+        // The range crosses into the next segment - assemble it in a heap buffer
+        final int firstPart = MAPPED_SEGMENT_SIZE - segmentOffset;
+        final ByteBuffer ret = ByteBuffer.allocate(length);
+        ret.put(viewOf(mappedSegments[segment], segmentOffset, firstPart));
+        ret.put(viewOf(mappedSegments[segment + 1], 0, length - firstPart));
+        ret.flip();
+        return ret.asReadOnlyBuffer();
+    }
+
+    @GuardedBy("this")
+    private MappedByteBuffer[] mapFile() throws IOException {
+        final int segments = (int) ((count + MAPPED_SEGMENT_SIZE - 1) / MAPPED_SEGMENT_SIZE);
+        final MappedByteBuffer[] ret = new MappedByteBuffer[segments];
+
+        // The mappings remain valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            for (int i = 0; i < segments; i++) {
+                final long position = (long) i * MAPPED_SEGMENT_SIZE;
+                ret[i] = channel.map(MapMode.READ_ONLY, position, Math.min(MAPPED_SEGMENT_SIZE, count - position));
+            }
+        }
+
+        LOG.debug("Mapped temp file {} of {} bytes as {} segment(s)", file, count, segments);
+        return ret;
+    }
+
+    private static ByteBuffer viewOf(final ByteBuffer buffer, final int offset, final int length) {
+        final ByteBuffer dup = buffer.duplicate();
+        dup.position(offset).limit(offset + length);
+        return dup.slice().asReadOnlyBuffer();
+    }
+
     @Override
     @SuppressFBWarnings(value = "VO_VOLATILE_INCREMENT", justification = "Findbugs erroneously complains that the "
         + "increment of count needs to be atomic even though it is inside a synchronized block.")
@@ -159,6 +243,14 @@ public class FileBackedOutputStream extends OutputStream {
 
     /**
      * Calls {@link #close} if not already closed and, if data was buffered to a file, deletes the file.
+     *
+     * <p>
+     * Segments mapped by {@link #slice(long, int)} are not unmapped here: buffers returned by that method may still
+     * be referenced, for example by slices delivered locally and not yet processed by their receiver, and accessing
+     * an explicitly unmapped buffer crashes the JVM. The mappings, and with them the address space and the disk
+     * space of the deleted file, are released once the last buffer referencing them is garbage collected. Callers
+     * which slice large streams repeatedly should therefore drop their references to the returned buffers as soon
+     * as they are done with them.
      */
     public synchronized void cleanup() {
         LOG.debug("In cleanup");
@@ -176,6 +268,7 @@ public class FileBackedOutputStream extends OutputStream {
 
             LOG.debug("cleanup - deleting temp file {}", file);
 
+            mappedSegments = null;
             deleteFile(file);
             file = null;
         }
@@ -11,7 +11,9 @@ import com.google.common.base.Preconditions;
 import com.google.common.io.ByteSource;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
-import java.util.Arrays;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
 import javax.annotation.concurrent.NotThreadSafe;
 import org.opendaylight.controller.cluster.io.FileBackedOutputStream;
 import org.opendaylight.controller.cluster.io.FileBackedOutputStreamFactory;
@@ -27,13 +29,19 @@ import org.slf4j.LoggerFactory;
 @NotThreadSafe
 public class AssembledMessageState implements AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(AssembledMessageState.class);
+    private static final int TRANSFER_BUFFER_SIZE = 8192;
 
     private final int totalSlices;
+    private final int maxOutOfOrderSlices;
+    private final Map<Integer, PendingSlice> pendingSlices = new HashMap<>();
     private final BufferedOutputStream bufferedStream;
     private final FileBackedOutputStream fileBackedStream;
     private final Identifier identifier;
     private final String logContext;
 
+    // Used to write slices whose data is not backed by an accessible array, allocated on first use
+    private byte[] transferBuffer;
+
     private int lastSliceIndexReceived = SlicedMessageState.FIRST_SLICE_INDEX - 1;
     private int lastSliceHashCodeReceived = SlicedMessageState.INITIAL_SLICE_HASH_CODE;
     private boolean sealed = false;
@@ -50,8 +58,24 @@ public class AssembledMessageState implements AutoCloseable {
      */
     public AssembledMessageState(final Identifier identifier, final int totalSlices,
             final FileBackedOutputStreamFactory fileBackedStreamFactory, final String logContext) {
+        this(identifier, totalSlices, 0, fileBackedStreamFactory, logContext);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param identifier the identifier for this instance
+     * @param totalSlices the total number of slices to expect
+     * @param maxOutOfOrderSlices the maximum number of slices received ahead of a missing slice which are buffered
+     *        until the missing slice arrives. If 0, slices must be received strictly in order.
+     * @param fileBackedStreamFactory factory for creating the FileBackedOutputStream instance used for streaming
+     * @param logContext the context for log messages
+     */
+    public AssembledMessageState(final Identifier identifier, final int totalSlices, final int maxOutOfOrderSlices,
+            final FileBackedOutputStreamFactory fileBackedStreamFactory, final String logContext) {
         this.identifier = identifier;
         this.totalSlices = totalSlices;
+        this.maxOutOfOrderSlices = maxOutOfOrderSlices;
         this.logContext = logContext;
 
         fileBackedStream = fileBackedStreamFactory.newInstance();
@@ -68,7 +92,18 @@ public class AssembledMessageState implements AutoCloseable {
     }
 
     /**
-     * Adds a slice to the assembled stream.
+     * Returns the highest slice index up to which all slices have been added to the assembled stream.
+     *
+     * @return the last slice index received in order
+     */
+    public int getLastSliceIndexReceived() {
+        return lastSliceIndexReceived;
+    }
+
+    /**
+     * Adds a slice to the assembled stream. If this instance tolerates out-of-order slices, a slice received ahead
+     * of a missing one is buffered until the missing slice arrives and a slice which has already been added is
+     * ignored.
      *
      * @param sliceIndex the index of the slice
      * @param data the sliced data
@@ -86,6 +121,24 @@ public class AssembledMessageState implements AutoCloseable {
      */
     public boolean addSlice(final int sliceIndex, final byte[] data, final int lastSliceHashCode)
             throws MessageSliceException {
+        return addSlice(sliceIndex, ByteBuffer.wrap(data), lastSliceHashCode);
+    }
+
+    /**
+     * Adds a slice to the assembled stream, as {@link #addSlice(int, byte[], int)} does. The data is written from
+     * the buffer directly, so a slice delivered locally as a view of the sender's data, such as a memory-mapped
+     * region, is not first copied into a byte[] of its own. The buffer's position is not modified.
+     *
+     * @param sliceIndex the index of the slice
+     * @param data the sliced data
+     * @param lastSliceHashCode the hash code of the last slice sent
+     * @return true if this is the last slice received, false otherwise
+     * @throws MessageSliceException see {@link #addSlice(int, byte[], int)}
+     * @throws AssemblerSealedException if this instance is already sealed (ie has received all the slices)
+     * @throws AssemblerClosedException if this instance is already closed
+     */
+    public boolean addSlice(final int sliceIndex, final ByteBuffer data, final int lastSliceHashCode)
+            throws MessageSliceException {
         if (LOG.isDebugEnabled()) {
             LOG.debug("{}: addSlice: identifier: {}, sliceIndex: {}, lastSliceIndex: {}, assembledSize: {}, "
                     + "sliceHashCode: {}, lastSliceHashCode: {}", logContext, identifier, sliceIndex,
@@ -93,17 +146,16 @@ public class AssembledMessageState implements AutoCloseable {
         }
 
         try {
-            validateSlice(sliceIndex, lastSliceHashCode);
-
-            assembledSize += data.length;
-            lastSliceIndexReceived = sliceIndex;
-            lastSliceHashCodeReceived = Arrays.hashCode(data);
+            if (maxOutOfOrderSlices > 0 && !closed && !sealed && sliceIndex != lastSliceIndexReceived + 1) {
+                bufferOutOfOrderSlice(sliceIndex, data, lastSliceHashCode);
+                return false;
+            }
 
-            bufferedStream.write(data);
+            appendSlice(sliceIndex, data, lastSliceHashCode);
 
-            sealed = sliceIndex == totalSlices;
-            if (sealed) {
-                bufferedStream.close();
+            PendingSlice next;
+            while (!sealed && (next = pendingSlices.remove(lastSliceIndexReceived + 1)) != null) {
+                appendSlice(lastSliceIndexReceived + 1, next.data, next.lastSliceHashCode);
             }
         } catch (IOException e) {
             close();
@@ -114,6 +166,58 @@ public class AssembledMessageState implements AutoCloseable {
         return sealed;
     }
 
+    private void appendSlice(final int sliceIndex, final ByteBuffer data, final int lastSliceHashCode)
+            throws MessageSliceException, IOException {
+        validateSlice(sliceIndex, lastSliceHashCode);
+
+        assembledSize += data.remaining();
+        lastSliceIndexReceived = sliceIndex;
+        lastSliceHashCodeReceived = SlicedMessageState.sliceHashCode(data);
+
+        write(data);
+
+        sealed = sliceIndex == totalSlices;
+        if (sealed) {
+            bufferedStream.close();
+        }
+    }
+
+    private void write(final ByteBuffer data) throws IOException {
+        if (data.hasArray()) {
+            bufferedStream.write(data.array(), data.arrayOffset() + data.position(), data.remaining());
+            return;
+        }
+
+        if (transferBuffer == null) {
+            transferBuffer = new byte[TRANSFER_BUFFER_SIZE];
+        }
+
+        final ByteBuffer src = data.duplicate();
+        while (src.hasRemaining()) {
+            final int len = Math.min(src.remaining(), transferBuffer.length);
+            src.get(transferBuffer, 0, len);
+            bufferedStream.write(transferBuffer, 0, len);
+        }
+    }
+
+    private void bufferOutOfOrderSlice(final int sliceIndex, final ByteBuffer data, final int lastSliceHashCode)
+            throws MessageSliceException {
+        if (sliceIndex <= lastSliceIndexReceived || pendingSlices.containsKey(sliceIndex)) {
+            LOG.debug("{}: Ignoring duplicate slice {} for {}", logContext, sliceIndex, identifier);
+            return;
+        }
+
+        if (sliceIndex > totalSlices || pendingSlices.size() >= maxOutOfOrderSlices) {
+            close();
+            throw new MessageSliceException(String.format("Cannot buffer sliceIndex %d while expecting %d for "
+                    + "message %s", sliceIndex, lastSliceIndexReceived + 1, identifier), true);
+        }
+
+        LOG.debug("{}: Buffering out-of-order slice {} for {} - expecting {}", logContext, sliceIndex, identifier,
+                lastSliceIndexReceived + 1);
+        pendingSlices.put(sliceIndex, new PendingSlice(data, lastSliceHashCode));
+    }
+
     /**
      * Returns the assembled bytes as a ByteSource. This method must only be called after this instance is sealed.
      *
@@ -158,6 +262,7 @@ public class AssembledMessageState implements AutoCloseable {
         }
 
         closed = true;
+        pendingSlices.clear();
         if (!sealed) {
             try {
                 bufferedStream.close();
@@ -168,4 +273,14 @@ public class AssembledMessageState implements AutoCloseable {
 
         fileBackedStream.cleanup();
     }
+
+    private static final class PendingSlice {
+        final ByteBuffer data;
+        final int lastSliceHashCode;
+
+        PendingSlice(final ByteBuffer data, final int lastSliceHashCode) {
+            this.data = data;
+            this.lastSliceHashCode = lastSliceHashCode;
+        }
+    }
 }
@@ -38,6 +38,7 @@ public class MessageAssembler implements AutoCloseable {
     private final Cache<Identifier, AssembledMessageState> stateCache;
     private final FileBackedOutputStreamFactory fileBackedStreamFactory;
     private final BiConsumer<Object, ActorRef> assembledMessageCallback;
+    private final int maxOutOfOrderSlices;
     private final String logContext;
 
     private MessageAssembler(final Builder builder) {
@@ -45,6 +46,7 @@ public class MessageAssembler implements AutoCloseable {
                 "FiledBackedStreamFactory cannot be null");
         this.assembledMessageCallback = Preconditions.checkNotNull(builder.assembledMessageCallback,
                 "assembledMessageCallback cannot be null");
+        this.maxOutOfOrderSlices = builder.maxOutOfOrderSlices;
         this.logContext = builder.logContext;
 
         stateCache = CacheBuilder.newBuilder()
@@ -134,7 +136,7 @@ public class MessageAssembler implements AutoCloseable {
         final Identifier identifier = messageSlice.getIdentifier();
         if (messageSlice.getSliceIndex() == SlicedMessageState.FIRST_SLICE_INDEX) {
             LOG.debug("{}: Received first slice for {} - creating AssembledMessageState", logContext, identifier);
-            return new AssembledMessageState(identifier, messageSlice.getTotalSlices(),
+            return new AssembledMessageState(identifier, messageSlice.getTotalSlices(), maxOutOfOrderSlices,
                     fileBackedStreamFactory, logContext);
         }
 
@@ -152,8 +154,13 @@ public class MessageAssembler implements AutoCloseable {
         synchronized (state) {
             final int sliceIndex = messageSlice.getSliceIndex();
             try {
-                final MessageSliceReply successReply = MessageSliceReply.success(identifier, sliceIndex, sendTo);
-                if (state.addSlice(sliceIndex, messageSlice.getData(), messageSlice.getLastSliceHashCode())) {
+                // The reply acknowledges all slices received in order, which is the received slice unless slices
+                // are allowed to arrive out of order
+                final boolean sealed = state.addSlice(sliceIndex, messageSlice.getDataView(),
+                        messageSlice.getLastSliceHashCode());
+                final MessageSliceReply successReply = MessageSliceReply.success(identifier,
+                        state.getLastSliceIndexReceived(), sendTo);
+                if (sealed) {
                     LOG.debug("{}: Received last slice for {}", logContext, identifier);
 
                     reAssembledMessage = reAssembleMessage(state);
@@ -220,6 +227,7 @@ public class MessageAssembler implements AutoCloseable {
     public static class Builder {
         private FileBackedOutputStreamFactory fileBackedStreamFactory;
         private BiConsumer<Object, ActorRef> assembledMessageCallback;
+        private int maxOutOfOrderSlices = 0;
         private long expireStateAfterInactivityDuration = 1;
         private TimeUnit expireStateAfterInactivityUnit = TimeUnit.MINUTES;
         private String logContext = "<no-context>";
@@ -247,6 +255,21 @@ public class MessageAssembler implements AutoCloseable {
             return this;
         }
 
+        /**
+         * Sets the maximum number of slices received ahead of a missing slice which are buffered until the missing
+         * slice arrives. Slices which have already been received are then ignored rather than failing the message.
+         * This should be set when the {@link MessageSlicer} on the other end keeps several slices in flight. By
+         * default, slices must be received strictly in order.
+         *
+         * @param newMaxOutOfOrderSlices the maximum number of buffered out-of-order slices
+         * @return this Builder
+         */
+        public Builder maxOutOfOrderSlices(final int newMaxOutOfOrderSlices) {
+            Preconditions.checkArgument(newMaxOutOfOrderSlices >= 0, "maxOutOfOrderSlices must be >= 0");
+            this.maxOutOfOrderSlices = newMaxOutOfOrderSlices;
+            return this;
+        }
+
         /**
          * Sets the duration and time unit whereby assembled message state is purged from the cache due to
          * inactivity from the slicing component on the other end. By default, state is purged after 1 minute of
@@ -17,6 +17,7 @@ import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import org.opendaylight.yangtools.concepts.Identifier;
 
 /**
@@ -28,7 +29,9 @@ public class MessageSlice implements Serializable {
     private static final long serialVersionUID = 1L;
 
     private final Identifier identifier;
-    private final byte[] data;
+    @SuppressFBWarnings(value = "SE_BAD_FIELD", justification = "This class is serialized via its Proxy, which "
+            + "writes the data as a byte[].")
+    private final ByteBuffer data;
     private final int sliceIndex;
     private final int totalSlices;
     private final int lastSliceHashCode;
@@ -36,8 +39,18 @@ public class MessageSlice implements Serializable {
 
     public MessageSlice(Identifier identifier, byte[] data, int sliceIndex, int totalSlices, int lastSliceHashCode,
             final ActorRef replyTo) {
+        this(identifier, ByteBuffer.wrap(Preconditions.checkNotNull(data)), sliceIndex, totalSlices,
+                lastSliceHashCode, replyTo);
+    }
+
+    /**
+     * Constructs an instance whose data is a view of the given buffer, typically a region of a memory-mapped file,
+     * so that the bytes are not copied until the slice needs to be serialized.
+     */
+    public MessageSlice(Identifier identifier, ByteBuffer data, int sliceIndex, int totalSlices,
+            int lastSliceHashCode, final ActorRef replyTo) {
         this.identifier = Preconditions.checkNotNull(identifier);
-        this.data = Preconditions.checkNotNull(data);
+        this.data = Preconditions.checkNotNull(data).slice();
         this.sliceIndex = sliceIndex;
         this.totalSlices = totalSlices;
         this.lastSliceHashCode = lastSliceHashCode;
@@ -48,11 +61,45 @@ public class MessageSlice implements Serializable {
         return identifier;
     }
 
+    /**
+     * Returns the data of this slice. If this instance was created from a byte[], that array is returned, otherwise
+     * the data is copied from the backing buffer.
+     *
+     * @return the data as a byte[]
+     */
     @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Exposes a mutable object stored in a field but "
             + "this is OK since this class is merely a DTO and does not process the byte[] internally."
             + "Also it would be inefficient to create a return copy as the byte[] could be large.")
     public byte[] getData() {
-        return data;
+        if (data.hasArray() && data.arrayOffset() == 0 && data.array().length == data.remaining()) {
+            return data.array();
+        }
+
+        final byte[] ret = new byte[data.remaining()];
+        data.duplicate().get(ret);
+        return ret;
+    }
+
+    /**
+     * Returns a read-only view of the data of this slice without copying it.
+     *
+     * @return a read-only ByteBuffer
+     */
+    public ByteBuffer getDataBuffer() {
+        return data.asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns a view of the data of this slice for the assembler. Unlike {@link #getDataBuffer()}, the view exposes
+     * the backing array of a slice created from a byte[], so it can be written out without an intermediate copy.
+     * The caller must not modify the contents.
+     */
+    ByteBuffer getDataView() {
+        return data.duplicate();
+    }
+
+    public int getDataSize() {
+        return data.remaining();
     }
 
     public int getSliceIndex() {
@@ -73,7 +120,7 @@ public class MessageSlice implements Serializable {
 
     @Override
     public String toString() {
-        return "MessageSlice [identifier=" + identifier + ", data.length=" + data.length + ", sliceIndex="
+        return "MessageSlice [identifier=" + identifier + ", data.length=" + data.remaining() + ", sliceIndex="
                 + sliceIndex + ", totalSlices=" + totalSlices + ", lastSliceHashCode=" + lastSliceHashCode
                 + ", replyTo=" + replyTo + "]";
     }
@@ -103,7 +150,7 @@ public class MessageSlice implements Serializable {
             out.writeInt(messageSlice.sliceIndex);
             out.writeInt(messageSlice.totalSlices);
             out.writeInt(messageSlice.lastSliceHashCode);
-            out.writeObject(messageSlice.data);
+            out.writeObject(messageSlice.getData());
             out.writeObject(Serialization.serializedActorPath(messageSlice.replyTo));
         }
 
@@ -16,6 +16,7 @@ import com.google.common.cache.RemovalNotification;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.util.Iterator;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -38,11 +39,13 @@ public class MessageSlicer implements AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(MessageSlicer.class);
     private static final AtomicLong SLICER_ID_COUNTER = new AtomicLong(1);
     public static final int DEFAULT_MAX_SLICING_TRIES = 3;
+    public static final int DEFAULT_SLICE_WINDOW_SIZE = 1;
 
     private final Cache<MessageSliceIdentifier, SlicedMessageState<ActorRef>> stateCache;
     private final FileBackedOutputStreamFactory fileBackedStreamFactory;
     private final int messageSliceSize;
     private final int maxSlicingTries;
+    private final int sliceWindowSize;
     private final String logContext;
     private final long id;
 
@@ -50,6 +53,7 @@ public class MessageSlicer implements AutoCloseable {
         this.fileBackedStreamFactory = builder.fileBackedStreamFactory;
         this.messageSliceSize = builder.messageSliceSize;
         this.maxSlicingTries = builder.maxSlicingTries;
+        this.sliceWindowSize = builder.sliceWindowSize;
 
         id = SLICER_ID_COUNTER.getAndIncrement();
         this.logContext = builder.logContext + "_slicer-id-" + id;
@@ -144,6 +148,13 @@ public class MessageSlicer implements AutoCloseable {
 
             stateCache.put(messageSliceId, state);
             sendTo(options, firstSlice, ActorRef.noSender());
+
+            while (canSendNextSlice(state)) {
+                final MessageSlice nextSlice = getNextSliceMessage(state);
+                LOG.debug("{}: Sending next slice: {}", logContext, nextSlice);
+                sendTo(options, nextSlice, ActorRef.noSender());
+            }
+
             return true;
         } catch (IOException e) {
             LOG.error("{}: Error initializing SlicedMessageState for {}", logContext, identifier, e);
@@ -215,11 +226,29 @@ public class MessageSlicer implements AutoCloseable {
     }
 
     private static MessageSlice getNextSliceMessage(final SlicedMessageState<ActorRef> state) throws IOException {
-        final byte[] firstSliceBytes = state.getNextSlice();
+        final ByteBuffer firstSliceBytes = state.getNextSliceBuffer();
         return new MessageSlice(state.getIdentifier(), firstSliceBytes, state.getCurrentSliceIndex(),
                 state.getTotalSlices(), state.getLastSliceHashCode(), state.getReplyTarget());
     }
 
+    private static MessageSlice getSliceMessage(final SlicedMessageState<ActorRef> state, final int index)
+            throws IOException {
+        return new MessageSlice(state.getIdentifier(), state.getSliceBuffer(index), index, state.getTotalSlices(),
+                state.getSliceHashCode(index - 1), state.getReplyTarget());
+    }
+
+    private boolean canSendNextSlice(final SlicedMessageState<ActorRef> state) {
+        return !state.isLastSlice(state.getCurrentSliceIndex()) && state.getUnackedSliceCount() < sliceWindowSize;
+    }
+
+    private void sendNextSlices(final SlicedMessageState<ActorRef> state, final ActorRef sendTo) throws IOException {
+        while (canSendNextSlice(state)) {
+            final MessageSlice nextSlice = getNextSliceMessage(state);
+            LOG.debug("{}: Sending next slice: {}", logContext, nextSlice);
+            sendTo.tell(nextSlice, ActorRef.noSender());
+        }
+    }
+
     private boolean onMessageSliceReply(final MessageSliceReply reply) {
         final Identifier identifier = reply.getIdentifier();
         if (!(identifier instanceof MessageSliceIdentifier)
@@ -243,6 +272,11 @@ public class MessageSlicer implements AutoCloseable {
                     return true;
                 }
 
+                if (sliceWindowSize > 1) {
+                    onWindowedMessageSliceReply(reply, state);
+                    return true;
+                }
+
                 if (state.getCurrentSliceIndex() != reply.getSliceIndex()) {
                     LOG.warn("{}: Slice index {} in {} does not match expected index {}", logContext,
                             reply.getSliceIndex(), reply, state.getCurrentSliceIndex());
@@ -268,6 +302,49 @@ public class MessageSlicer implements AutoCloseable {
         return true;
     }
 
+    /**
+     * Handles a successful reply when several slices may be in flight. The reply carries the highest slice index up
+     * to which the assembler has received all slices, so it acknowledges every slice up to that index and frees
+     * window space for as many new slices. A reply repeating the last acknowledged index means the assembler
+     * received a later slice while the next one is missing, in which case the missing slice is retransmitted.
+     */
+    private void onWindowedMessageSliceReply(final MessageSliceReply reply, final SlicedMessageState<ActorRef> state)
+            throws IOException {
+        final int ackedIndex = reply.getSliceIndex();
+        final int lastAckedIndex = state.getLastAckedSliceIndex();
+        if (ackedIndex < lastAckedIndex) {
+            LOG.debug("{}: Ignoring stale {}", logContext, reply);
+            return;
+        }
+
+        if (ackedIndex > state.getCurrentSliceIndex()) {
+            LOG.warn("{}: Slice index {} in {} is beyond the last sent index {}", logContext, ackedIndex, reply,
+                    state.getCurrentSliceIndex());
+            reply.getSendTo().tell(new AbortSlicing(state.getIdentifier()), ActorRef.noSender());
+            possiblyRetrySlicing(state, reply.getSendTo());
+            return;
+        }
+
+        if (state.isLastSlice(ackedIndex)) {
+            LOG.debug("{}: Received last slice reply for {}", logContext, state.getIdentifier());
+            removeState(state.getIdentifier());
+            return;
+        }
+
+        if (ackedIndex == lastAckedIndex) {
+            final int missingIndex = ackedIndex + 1;
+            if (state.markRetransmitted(missingIndex)) {
+                final MessageSlice missingSlice = getSliceMessage(state, missingIndex);
+                LOG.debug("{}: Retransmitting slice: {}", logContext, missingSlice);
+                reply.getSendTo().tell(missingSlice, ActorRef.noSender());
+            }
+            return;
+        }
+
+        state.setLastAckedSliceIndex(ackedIndex);
+        sendNextSlices(state, reply.getSendTo());
+    }
+
     private void processMessageSliceException(final MessageSliceException exception,
             final SlicedMessageState<ActorRef> state, final ActorRef sendTo) throws IOException {
         if (exception.isRetriable()) {
@@ -283,6 +360,7 @@ public class MessageSlicer implements AutoCloseable {
             LOG.info("{}: Retrying message slicing for {}", logContext, state.getIdentifier());
             state.reset();
             sendTo.tell(getNextSliceMessage(state), ActorRef.noSender());
+            sendNextSlices(state, sendTo);
         } else {
             String message = String.format("Maximum slicing retries reached for identifier %s - failing the message",
                     state.getIdentifier());
@@ -328,6 +406,7 @@ public class MessageSlicer implements AutoCloseable {
         private long expireStateAfterInactivityDuration = -1;
         private TimeUnit expireStateAfterInactivityUnit = TimeUnit.MINUTES;
         private int maxSlicingTries = DEFAULT_MAX_SLICING_TRIES;
+        private int sliceWindowSize = DEFAULT_SLICE_WINDOW_SIZE;
         private String logContext = "<no-context>";
 
         /**
@@ -368,6 +447,23 @@ public class MessageSlicer implements AutoCloseable {
             return this;
         }
 
+        /**
+         * Sets the maximum number of slices which may be sent without having been acknowledged by the assembling
+         * component. The default, defined by {@link #DEFAULT_SLICE_WINDOW_SIZE}, sends each slice only after the
+         * previous one has been acknowledged. A larger window keeps several slices in flight. The
+         * {@link MessageAssembler} on the other end should then be configured with
+         * {@link MessageAssembler.Builder#maxOutOfOrderSlices(int)}, so that it acknowledges the slices it has
+         * received in order and lost slices can be retransmitted instead of restarting the whole message.
+         *
+         * @param newSliceWindowSize the maximum number of unacknowledged slices
+         * @return this Builder
+         */
+        public Builder sliceWindowSize(final int newSliceWindowSize) {
+            Preconditions.checkArgument(newSliceWindowSize > 0, "sliceWindowSize must be > 0");
+            this.sliceWindowSize = newSliceWindowSize;
+            return this;
+        }
+
         /**
          * Sets the duration and time unit whereby sliced message state is purged from the cache and the associated
          * failure callback is notified due to inactivity from the assembling component on the other end. By default,
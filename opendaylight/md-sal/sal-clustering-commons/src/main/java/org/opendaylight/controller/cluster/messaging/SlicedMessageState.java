@@ -7,9 +7,9 @@
  */
 package org.opendaylight.controller.cluster.messaging;
 
-import com.google.common.io.ByteSource;
+import com.google.common.base.Preconditions;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.function.Consumer;
 import javax.annotation.concurrent.NotThreadSafe;
@@ -38,7 +38,6 @@ public class SlicedMessageState<T> implements AutoCloseable {
     private final int messageSliceSize;
     private final FileBackedOutputStream fileBackedStream;
     private final T replyTarget;
-    private final ByteSource messageBytes;
     private final int totalSlices;
     private final long totalMessageSize;
     private final int maxRetries;
@@ -49,8 +48,9 @@ public class SlicedMessageState<T> implements AutoCloseable {
     private int currentSliceIndex = FIRST_SLICE_INDEX - 1;
     private int lastSliceHashCode = INITIAL_SLICE_HASH_CODE;
     private int currentSliceHashCode = INITIAL_SLICE_HASH_CODE;
+    private int lastAckedSliceIndex = FIRST_SLICE_INDEX - 1;
+    private int lastRetransmittedSliceIndex = FIRST_SLICE_INDEX - 1;
     private int tryCount = 1;
-    private InputStream messageInputStream;
 
     /**
      * Constructor.
@@ -75,9 +75,7 @@ public class SlicedMessageState<T> implements AutoCloseable {
         this.onFailureCallback = onFailureCallback;
         this.logContext = logContext;
 
-        messageBytes = fileBackedStream.asByteSource();
-        totalMessageSize = messageBytes.size();
-        messageInputStream = messageBytes.openStream();
+        totalMessageSize = fileBackedStream.asByteSource().size();
 
         totalSlices = (int)(totalMessageSize / messageSliceSize + (totalMessageSize % messageSliceSize > 0 ? 1 : 0));
 
@@ -93,6 +91,49 @@ public class SlicedMessageState<T> implements AutoCloseable {
         return currentSliceIndex;
     }
 
+    /**
+     * Returns the highest slice index up to which all slices have been acknowledged by the assembling side.
+     *
+     * @return the last acknowledged slice index
+     */
+    public int getLastAckedSliceIndex() {
+        return lastAckedSliceIndex;
+    }
+
+    /**
+     * Records that all slices up to the given index have been acknowledged by the assembling side.
+     *
+     * @param index the last acknowledged slice index
+     */
+    public void setLastAckedSliceIndex(final int index) {
+        lastAckedSliceIndex = index;
+    }
+
+    /**
+     * Returns the number of slices that have been sent but not yet acknowledged.
+     *
+     * @return the number of unacknowledged slices
+     */
+    public int getUnackedSliceCount() {
+        return currentSliceIndex - lastAckedSliceIndex;
+    }
+
+    /**
+     * Records that the slice with the given index is about to be retransmitted. A slice is retransmitted at most
+     * once until further slices have been acknowledged.
+     *
+     * @param index the index of the slice to retransmit
+     * @return true if the slice should be retransmitted, false if it already has been
+     */
+    public boolean markRetransmitted(final int index) {
+        if (lastRetransmittedSliceIndex == index) {
+            return false;
+        }
+
+        lastRetransmittedSliceIndex = index;
+        return true;
+    }
+
     /**
      * Returns the hash code of the last slice that was sent.
      *
@@ -164,6 +205,20 @@ public class SlicedMessageState<T> implements AutoCloseable {
      * @throws IOException if an error occurs reading the data
      */
     public byte[] getNextSlice() throws IOException {
+        final ByteBuffer nextSlice = getNextSliceBuffer();
+        final byte[] ret = new byte[nextSlice.remaining()];
+        nextSlice.get(ret);
+        return ret;
+    }
+
+    /**
+     * Returns the next slice of data as a read-only view of the data being sliced. The data is not copied, for data
+     * spilled to a file the view is backed by a memory mapping of the file.
+     *
+     * @return the next slice of data as a read-only ByteBuffer
+     * @throws IOException if an error occurs reading the data
+     */
+    public ByteBuffer getNextSliceBuffer() throws IOException {
         currentSliceIndex++;
         final int start;
         if (currentSliceIndex == FIRST_SLICE_INDEX) {
@@ -184,34 +239,65 @@ public class SlicedMessageState<T> implements AutoCloseable {
         LOG.debug("{}: getNextSlice: total size: {}, offset: {}, size: {}, index: {}", logContext, totalMessageSize,
                 start, size, currentSliceIndex);
 
-        byte[] nextSlice = new byte[size];
-        int numRead = messageInputStream.read(nextSlice);
-        if (numRead != size) {
-            throw new IOException(String.format(
-                    "The # of bytes read from the input stream, %d, does not match the expected # %d", numRead, size));
-        }
+        final ByteBuffer nextSlice = fileBackedStream.slice(start, size);
 
         lastSliceHashCode = currentSliceHashCode;
-        currentSliceHashCode = Arrays.hashCode(nextSlice);
+        currentSliceHashCode = sliceHashCode(nextSlice);
 
         return nextSlice;
     }
 
+    /**
+     * Returns a previously sent slice of data, for retransmission.
+     *
+     * @param index the index of the slice
+     * @return the slice of data as a read-only ByteBuffer
+     * @throws IOException if an error occurs reading the data
+     */
+    public ByteBuffer getSliceBuffer(final int index) throws IOException {
+        Preconditions.checkArgument(index >= FIRST_SLICE_INDEX && index <= currentSliceIndex,
+                "Slice index %s has not been sent yet", index);
+        final long start = (long) (index - FIRST_SLICE_INDEX) * messageSliceSize;
+        return fileBackedStream.slice(start, (int) Math.min(messageSliceSize, totalMessageSize - start));
+    }
+
+    /**
+     * Returns the hash code of a previously sent slice, or {@link #INITIAL_SLICE_HASH_CODE} for the index preceding
+     * the first slice.
+     *
+     * @param index the index of the slice
+     * @return the hash code of the slice
+     * @throws IOException if an error occurs reading the data
+     */
+    public int getSliceHashCode(final int index) throws IOException {
+        return index < FIRST_SLICE_INDEX ? INITIAL_SLICE_HASH_CODE : sliceHashCode(getSliceBuffer(index));
+    }
+
+    /**
+     * Computes the hash code of a slice's data. The result is the same as {@link Arrays#hashCode(byte[])} of the
+     * remaining bytes, which is what the assembling side computes on the received byte[].
+     */
+    static int sliceHashCode(final ByteBuffer data) {
+        int result = 1;
+        for (int i = data.position(); i < data.limit(); i++) {
+            result = 31 * result + data.get(i);
+        }
+        return result;
+    }
+
     /**
      * Resets this instance to restart slicing from the beginning.
      *
      * @throws IOException if an error occurs resetting the input stream
      */
     public void reset() throws IOException {
-        closeStream();
-
         tryCount++;
         currentByteOffset = 0;
         currentSliceIndex = FIRST_SLICE_INDEX - 1;
         lastSliceHashCode = INITIAL_SLICE_HASH_CODE;
         currentSliceHashCode = INITIAL_SLICE_HASH_CODE;
-
-        messageInputStream = messageBytes.openStream();
+        lastAckedSliceIndex = FIRST_SLICE_INDEX - 1;
+        lastRetransmittedSliceIndex = FIRST_SLICE_INDEX - 1;
     }
 
     private int incrementByteOffset() {
@@ -219,21 +305,8 @@ public class SlicedMessageState<T> implements AutoCloseable {
         return currentByteOffset;
     }
 
-    private void closeStream() {
-        if (messageInputStream != null) {
-            try {
-                messageInputStream.close();
-            } catch (IOException e) {
-                LOG.warn("{}: Error closing message stream", logContext, e);
-            }
-
-            messageInputStream = null;
-        }
-    }
-
     @Override
     public void close() {
-        closeStream();
         fileBackedStream.cleanup();
     }
 }
@@ -18,14 +18,26 @@ import javax.annotation.Nullable;
  * @author Thomas Pantelis
  */
 public class LeaderStateChanged {
+    /**
+     * Term reported when the originator does not know the election term.
+     */
+    public static final long UNKNOWN_TERM = -1;
+
     private final String memberId;
     private final String leaderId;
     private final short leaderPayloadVersion;
+    private final long term;
 
     public LeaderStateChanged(@Nonnull String memberId, @Nullable String leaderId, short leaderPayloadVersion) {
+        this(memberId, leaderId, leaderPayloadVersion, UNKNOWN_TERM);
+    }
+
+    public LeaderStateChanged(@Nonnull String memberId, @Nullable String leaderId, short leaderPayloadVersion,
+            long term) {
         this.memberId = Preconditions.checkNotNull(memberId);
         this.leaderId = leaderId;
         this.leaderPayloadVersion = leaderPayloadVersion;
+        this.term = term;
     }
 
     public @Nonnull String getMemberId() {
@@ -40,10 +52,20 @@ public class LeaderStateChanged {
         return leaderPayloadVersion;
     }
 
+    /**
+     * Returns the election term in which the leader state was observed.
+     *
+     * @return the term, or {@link #UNKNOWN_TERM}
+     */
+    public long getTerm() {
+        return term;
+    }
+
     @Override
     public String toString() {
         return "LeaderStateChanged [memberId=" + memberId
                 + ", leaderId=" + leaderId
-                + ", leaderPayloadVersion=" + leaderPayloadVersion + "]";
+                + ", leaderPayloadVersion=" + leaderPayloadVersion
+                + ", term=" + term + "]";
     }
 }
@@ -19,6 +19,7 @@ import com.google.common.util.concurrent.Uninterruptibles;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 import org.junit.After;
@@ -161,6 +162,52 @@ public class FileBackedOutputStreamTest {
         }
     }
 
+    @Test
+    public void testSliceInMemory() throws IOException {
+        LOG.info("testSliceInMemory starting");
+        try (FileBackedOutputStream fbos = new FileBackedOutputStream(10, TEMP_DIR)) {
+            byte[] bytes = new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9};
+            fbos.write(bytes);
+
+            assertNull("Found unexpected temp file", findTempFileName(TEMP_DIR));
+            assertArrayEquals("Slice bytes", Arrays.copyOfRange(bytes, 2, 6), toByteArray(fbos.slice(2, 4)));
+            assertArrayEquals("Slice bytes", bytes, toByteArray(fbos.slice(0, bytes.length)));
+            assertTrue("Slice read-only", fbos.slice(0, 1).isReadOnly());
+        }
+
+        LOG.info("testSliceInMemory ending");
+    }
+
+    @Test
+    public void testSliceInFile() throws IOException {
+        LOG.info("testSliceInFile starting");
+        try (FileBackedOutputStream fbos = new FileBackedOutputStream(3, TEMP_DIR)) {
+            byte[] bytes = new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9};
+            fbos.write(bytes);
+
+            assertNotNull("Expected temp file created", findTempFileName(TEMP_DIR));
+            assertArrayEquals("Slice bytes", Arrays.copyOfRange(bytes, 2, 6), toByteArray(fbos.slice(2, 4)));
+            assertArrayEquals("Slice bytes", Arrays.copyOfRange(bytes, 6, 9), toByteArray(fbos.slice(6, 3)));
+            assertTrue("Slice read-only", fbos.slice(0, 1).isReadOnly());
+
+            // The stream can still be read as a whole
+            assertArrayEquals("Read bytes", bytes, fbos.asByteSource().read());
+
+            fbos.cleanup();
+            assertNull("Found unexpected temp file", findTempFileName(TEMP_DIR));
+        }
+
+        LOG.info("testSliceInFile ending");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSliceOutOfRange() throws IOException {
+        try (FileBackedOutputStream fbos = new FileBackedOutputStream(10, TEMP_DIR)) {
+            fbos.write(new byte[]{1, 2, 3});
+            fbos.slice(2, 2);
+        }
+    }
+
     @Test
     public void testTempFileDeletedOnGC() throws IOException {
         LOG.info("testTempFileDeletedOnGC starting");
@@ -189,6 +236,12 @@ public class FileBackedOutputStreamTest {
         fail("Temp file was not deleted");
     }
 
+    private static byte[] toByteArray(final ByteBuffer buffer) {
+        final byte[] ret = new byte[buffer.remaining()];
+        buffer.get(ret);
+        return ret;
+    }
+
     static String findTempFileName(String dirPath) {
         String[] files = new File(dirPath).list();
         assertNotNull(files);
@@ -9,6 +9,8 @@ package org.opendaylight.controller.cluster.messaging;
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 
@@ -18,6 +20,7 @@ import akka.testkit.TestProbe;
 import com.google.common.io.ByteSource;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
@@ -82,5 +85,7 @@ public class AbstractMessagingTest {
         doNothing().when(mockFiledBackedStream).cleanup();
         doNothing().when(mockFiledBackedStream).flush();
         doReturn(mockByteSource).when(mockFiledBackedStream).asByteSource();
+        doAnswer(invocation -> ByteBuffer.allocate(invocation.getArgumentAt(1, Integer.class)))
+                .when(mockFiledBackedStream).slice(anyLong(), anyInt());
     }
 }
@@ -24,6 +24,8 @@ import static org.opendaylight.controller.cluster.messaging.MessageSlicingIntegr
 import akka.actor.ActorRef;
 import com.google.common.util.concurrent.Uninterruptibles;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import org.apache.commons.lang3.SerializationUtils;
@@ -89,6 +91,38 @@ public class MessageAssemblerTest extends AbstractMessagingTest {
         }
     }
 
+    @Test
+    public void testMessageSlicesFromDirectBuffers() {
+        try (MessageAssembler assembler = newMessageAssembler("testMessageSlicesFromDirectBuffers")) {
+            final FileBackedOutputStream fileBackStream = spy(new FileBackedOutputStream(100000000, null));
+            doReturn(fileBackStream).when(mockFiledBackedStreamFactory).newInstance();
+
+            final MessageSliceIdentifier identifier = new MessageSliceIdentifier(IDENTIFIER, 1);
+            final BytesMessage message = new BytesMessage(new byte[20000]);
+            final byte[] bytes = SerializationUtils.serialize(message);
+            final int split = bytes.length / 2;
+
+            // Slices delivered locally may be views of a memory-mapped file, which have no accessible array
+            final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+            direct.put(bytes).flip();
+            final ByteBuffer first = direct.duplicate();
+            first.limit(split);
+            final ByteBuffer second = direct.duplicate();
+            second.position(split);
+
+            assembler.handleMessage(new MessageSlice(identifier, first.asReadOnlyBuffer(), 1, 2,
+                    SlicedMessageState.INITIAL_SLICE_HASH_CODE, testProbe.ref()), testProbe.ref());
+            assertSuccessfulMessageSliceReply(testProbe.expectMsgClass(MessageSliceReply.class), IDENTIFIER, 1);
+
+            assembler.handleMessage(new MessageSlice(identifier, second.asReadOnlyBuffer(), 2, 2,
+                    Arrays.hashCode(Arrays.copyOf(bytes, split)), testProbe.ref()), testProbe.ref());
+            assertSuccessfulMessageSliceReply(testProbe.expectMsgClass(MessageSliceReply.class), IDENTIFIER, 2);
+
+            assertAssembledMessage(mockAssembledMessageCallback, message, testProbe.ref());
+            assertEquals("Slice buffers left untouched", split, first.remaining());
+        }
+    }
+
     @Test
     public void testMessageSliceWithByteSourceFailure() throws IOException {
         try (MessageAssembler assembler = newMessageAssembler("testMessageSliceWithByteSourceFailure")) {
@@ -15,6 +15,8 @@ import akka.actor.ExtendedActorSystem;
 import akka.serialization.JavaSerializer;
 import akka.testkit.JavaTestKit;
 import akka.testkit.TestProbe;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import org.apache.commons.lang.SerializationUtils;
 import org.junit.After;
 import org.junit.Before;
@@ -59,4 +61,20 @@ public class MessageSliceTest {
         assertArrayEquals("getData", expected.getData(), cloned.getData());
         assertEquals("getReplyTo", expected.getReplyTo(), cloned.getReplyTo());
     }
+
+    @Test
+    public void testSerializationWithBufferView() {
+        byte[] data = new byte[]{0, 1, 2, 3, 4, 5, 6, 7};
+        ByteBuffer view = ByteBuffer.wrap(data, 2, 4).slice().asReadOnlyBuffer();
+
+        MessageSlice expected = new MessageSlice(new StringIdentifier("test"), view, 1, 2, 12345,
+                TestProbe.apply(actorSystem).ref());
+        assertEquals("getDataSize", 4, expected.getDataSize());
+        assertArrayEquals("getData", new byte[]{2, 3, 4, 5}, expected.getData());
+
+        MessageSlice cloned = (MessageSlice) SerializationUtils.clone(expected);
+        assertArrayEquals("getData", expected.getData(), cloned.getData());
+        assertEquals("hash code", Arrays.hashCode(cloned.getData()),
+                SlicedMessageState.sliceHashCode(expected.getDataBuffer()));
+    }
 }
@@ -11,8 +11,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -87,8 +87,7 @@ public class MessageSlicerTest extends AbstractMessagingTest {
     @Test
     public void testSliceWithByteSourceFailure() throws IOException {
         IOException mockFailure = new IOException("mock IOException");
-        doThrow(mockFailure).when(mockByteSource).openStream();
-        doThrow(mockFailure).when(mockByteSource).openBufferedStream();
+        doThrow(mockFailure).when(mockByteSource).size();
 
         try (MessageSlicer slicer = newMessageSlicer("testSliceWithByteSourceFailure", 100)) {
             final boolean wasSliced = slice(slicer, IDENTIFIER, new BytesMessage(new byte[]{}), testProbe.ref(),
@@ -101,10 +100,10 @@ public class MessageSlicerTest extends AbstractMessagingTest {
     }
 
     @Test
-    public void testSliceWithInputStreamFailure() throws IOException {
-        doReturn(0).when(mockInputStream).read(any(byte[].class));
+    public void testSliceWithStreamSliceFailure() throws IOException {
+        doThrow(new IOException("mock IOException")).when(mockFiledBackedStream).slice(anyLong(), anyInt());
 
-        try (MessageSlicer slicer = newMessageSlicer("testSliceWithInputStreamFailure", 2)) {
+        try (MessageSlicer slicer = newMessageSlicer("testSliceWithStreamSliceFailure", 2)) {
             final boolean wasSliced = slice(slicer, IDENTIFIER, new BytesMessage(new byte[]{}), testProbe.ref(),
                     testProbe.ref(), mockOnFailureCallback);
             assertFalse(wasSliced);
@@ -126,8 +125,6 @@ public class MessageSlicerTest extends AbstractMessagingTest {
 
     @Test
     public void testCloseAllSlicedMessageState() throws IOException {
-        doReturn(1).when(mockInputStream).read(any(byte[].class));
-
         final MessageSlicer slicer = newMessageSlicer("testCloseAllSlicedMessageState", 1);
         slice(slicer, IDENTIFIER, new BytesMessage(new byte[]{1, 2}), testProbe.ref(), testProbe.ref(),
                 mockOnFailureCallback);
@@ -140,8 +137,6 @@ public class MessageSlicerTest extends AbstractMessagingTest {
 
     @Test
     public void testCancelSlicing() throws IOException {
-        doReturn(1).when(mockInputStream).read(any(byte[].class));
-
         final MessageSlicer slicer = newMessageSlicer("testCloseAllSlicedMessageState", 1);
         slicer.slice(SliceOptions.builder().identifier(IDENTIFIER).fileBackedOutputStream(mockFiledBackedStream)
                 .sendTo(testProbe.ref()).replyTo(testProbe.ref()).onFailureCallback(mockOnFailureCallback).build());
@@ -161,8 +156,6 @@ public class MessageSlicerTest extends AbstractMessagingTest {
 
     @Test
     public void testCheckExpiredSlicedMessageState() throws IOException {
-        doReturn(1).when(mockInputStream).read(any(byte[].class));
-
         final int expiryDuration = 200;
         try (MessageSlicer slicer = MessageSlicer.builder().messageSliceSize(1)
                 .logContext("testCheckExpiredSlicedMessageState")
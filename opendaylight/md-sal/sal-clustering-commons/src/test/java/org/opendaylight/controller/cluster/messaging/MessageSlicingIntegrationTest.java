@@ -7,24 +7,32 @@
  */
 package org.opendaylight.controller.cluster.messaging;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.opendaylight.controller.cluster.messaging.MessageSlicerTest.slice;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.actor.UntypedActor;
 import akka.testkit.JavaTestKit;
 import akka.testkit.TestProbe;
+import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.Uninterruptibles;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.apache.commons.lang3.SerializationUtils;
@@ -38,6 +46,7 @@ import org.opendaylight.controller.cluster.io.FileBackedOutputStreamFactory;
 import org.opendaylight.yangtools.concepts.Identifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import scala.concurrent.duration.FiniteDuration;
 
 /**
  * End-to-end integration tests for message slicing.
@@ -52,6 +61,7 @@ public class MessageSlicingIntegrationTest {
             new FileBackedOutputStreamFactory(1000000000, "target");
     private static final Identifier IDENTIFIER = new StringIdentifier("stringId");
     private static final int DONT_CARE = -1;
+    private static final FiniteDuration ONE_WAY_LATENCY = FiniteDuration.create(10, TimeUnit.MILLISECONDS);
 
     private final TestProbe sendToProbe = TestProbe.apply(ACTOR_SYSTEM);
     private final TestProbe replyToProbe = TestProbe.apply(ACTOR_SYSTEM);
@@ -260,6 +270,200 @@ public class MessageSlicingIntegrationTest {
         LOG.info("testSliceWithFileBackedOutputStream ending");
     }
 
+    @Test
+    public void testWindowedSlicingWithRetransmit() {
+        LOG.info("testWindowedSlicingWithRetransmit starting");
+
+        final BytesMessage message = new BytesMessage(new byte[50]);
+        // Slice the message into 5 slices
+        final int messageSliceSize = (SerializationUtils.serialize(message).length + 4) / 5;
+        final MessageAssembler windowedAssembler = MessageAssembler.builder()
+                .assembledMessageCallback(mockAssembledMessageCallback).logContext("test")
+                .fileBackedStreamFactory(FILE_BACKED_STREAM_FACTORY).maxOutOfOrderSlices(4).build();
+        try (MessageSlicer slicer = MessageSlicer.builder().messageSliceSize(messageSliceSize)
+                .logContext("testWindowedSlicingWithRetransmit").sliceWindowSize(3)
+                .fileBackedStreamFactory(FILE_BACKED_STREAM_FACTORY).build()) {
+            slice(slicer, IDENTIFIER, message, sendToProbe.ref(), replyToProbe.ref(), mockOnFailureCallback);
+
+            // The first 3 slices are sent without waiting for replies.
+            final MessageSlice slice1 = sendToProbe.expectMsgClass(MessageSlice.class);
+            final MessageSlice slice2 = sendToProbe.expectMsgClass(MessageSlice.class);
+            final MessageSlice slice3 = sendToProbe.expectMsgClass(MessageSlice.class);
+            assertMessageSlice(slice1, IDENTIFIER, 1, 5, SlicedMessageState.INITIAL_SLICE_HASH_CODE,
+                    replyToProbe.ref());
+            assertMessageSlice(slice3, IDENTIFIER, 3, 5, Arrays.hashCode(slice2.getData()), replyToProbe.ref());
+            sendToProbe.expectNoMsg(FiniteDuration.create(100, TimeUnit.MILLISECONDS));
+
+            windowedAssembler.handleMessage(slice1, sendToProbe.ref());
+            MessageSliceReply reply = replyToProbe.expectMsgClass(MessageSliceReply.class);
+            assertSuccessfulMessageSliceReply(reply, IDENTIFIER, 1);
+            slicer.handleMessage(reply);
+
+            final MessageSlice slice4 = sendToProbe.expectMsgClass(MessageSlice.class);
+            assertMessageSlice(slice4, IDENTIFIER, 4, 5, Arrays.hashCode(slice3.getData()), replyToProbe.ref());
+
+            // Drop slice 2 - the assembler buffers slice 3 and acknowledges slice 1 again, which triggers a
+            // retransmit of slice 2.
+            windowedAssembler.handleMessage(slice3, sendToProbe.ref());
+            reply = replyToProbe.expectMsgClass(MessageSliceReply.class);
+            assertSuccessfulMessageSliceReply(reply, IDENTIFIER, 1);
+            slicer.handleMessage(reply);
+
+            final MessageSlice retransmitted = sendToProbe.expectMsgClass(MessageSlice.class);
+            assertMessageSlice(retransmitted, IDENTIFIER, 2, 5, Arrays.hashCode(slice1.getData()),
+                    replyToProbe.ref());
+            assertArrayEquals("Retransmitted data", slice2.getData(), retransmitted.getData());
+
+            // Slice 2 is only retransmitted once.
+            windowedAssembler.handleMessage(slice4, sendToProbe.ref());
+            reply = replyToProbe.expectMsgClass(MessageSliceReply.class);
+            assertSuccessfulMessageSliceReply(reply, IDENTIFIER, 1);
+            slicer.handleMessage(reply);
+            sendToProbe.expectNoMsg(FiniteDuration.create(100, TimeUnit.MILLISECONDS));
+
+            windowedAssembler.handleMessage(retransmitted, sendToProbe.ref());
+            reply = replyToProbe.expectMsgClass(MessageSliceReply.class);
+            assertSuccessfulMessageSliceReply(reply, IDENTIFIER, 4);
+            slicer.handleMessage(reply);
+
+            final MessageSlice slice5 = sendToProbe.expectMsgClass(MessageSlice.class);
+            assertMessageSlice(slice5, IDENTIFIER, 5, 5, Arrays.hashCode(slice4.getData()), replyToProbe.ref());
+
+            // A late duplicate is ignored.
+            windowedAssembler.handleMessage(slice2, sendToProbe.ref());
+            reply = replyToProbe.expectMsgClass(MessageSliceReply.class);
+            assertSuccessfulMessageSliceReply(reply, IDENTIFIER, 4);
+
+            windowedAssembler.handleMessage(slice5, sendToProbe.ref());
+            reply = replyToProbe.expectMsgClass(MessageSliceReply.class);
+            assertSuccessfulMessageSliceReply(reply, IDENTIFIER, 5);
+            slicer.handleMessage(reply);
+
+            assertAssembledMessage(message, replyToProbe.ref());
+            assertFalse("MessageSlicer did not remove state for " + slice1.getIdentifier(),
+                    slicer.hasState(slice1.getIdentifier()));
+            assertFalse("MessageAssembler did not remove state for " + slice1.getIdentifier(),
+                    windowedAssembler.hasState(slice1.getIdentifier()));
+            verify(mockOnFailureCallback, never()).accept(any(Throwable.class));
+        } finally {
+            windowedAssembler.close();
+        }
+
+        LOG.info("testWindowedSlicingWithRetransmit ending");
+    }
+
+    @Test
+    public void testWindowedSlicingThroughputWithLatency() {
+        LOG.info("testWindowedSlicingThroughputWithLatency starting");
+
+        final BytesMessage message = new BytesMessage(new byte[30000]);
+        final WindowedTransfer sequential = transferWithLatency(message, 1);
+        final WindowedTransfer windowed = transferWithLatency(message, 8);
+
+        // Timings depend on the machine, hence they are only logged
+        LOG.info("Transferred {} bytes in {} ms one slice at a time and in {} ms with a window of 8",
+                SerializationUtils.serialize(message).length, sequential.elapsedMillis, windowed.elapsedMillis);
+
+        assertEquals("Sequential slices in flight", 1, sequential.maxInFlight);
+        assertTrue("Windowed slices in flight " + windowed.maxInFlight,
+                windowed.maxInFlight > 1 && windowed.maxInFlight <= 8);
+        for (WindowedTransfer transfer : new WindowedTransfer[] {sequential, windowed}) {
+            assertFalse("Slicing failed", transfer.failed);
+            assertEquals("Last acknowledged slice", transfer.totalSlices, transfer.lastAckedIndex.get());
+        }
+        // With a window the receiver may acknowledge cumulatively, but the window only advances on acknowledgements
+        assertEquals("Sequential acknowledgements", sequential.totalSlices, sequential.acknowledged);
+        assertTrue("Windowed acknowledgements " + windowed.acknowledged, windowed.acknowledged > 1);
+
+        LOG.info("testWindowedSlicingThroughputWithLatency ending");
+    }
+
+    /**
+     * Protocol observations of a message transfer through {@link LatencyActor}s. The callbacks run on actor threads,
+     * so they only record what they see and the test asserts afterwards.
+     */
+    private static final class WindowedTransfer {
+        final AtomicInteger lastAckedIndex = new AtomicInteger();
+        volatile int maxInFlight;
+        volatile int totalSlices;
+        volatile int acknowledged;
+        volatile boolean failed;
+        long elapsedMillis;
+
+        // Invoked by the relay towards the assembler, serially
+        void onSliceSent(final MessageSlice slice) {
+            totalSlices = slice.getTotalSlices();
+            maxInFlight = Math.max(maxInFlight, slice.getSliceIndex() - lastAckedIndex.get());
+        }
+
+        // Invoked by the slicer's actor before the slicer processes the reply, serially
+        void onReplyReceived(final MessageSliceReply reply) {
+            if (reply.getFailure().isPresent()) {
+                failed = true;
+            } else if (reply.getSliceIndex() > lastAckedIndex.get()) {
+                acknowledged++;
+                lastAckedIndex.set(reply.getSliceIndex());
+            }
+        }
+    }
+
+    private static WindowedTransfer transferWithLatency(final BytesMessage message, final int windowSize) {
+        final WindowedTransfer transfer = new WindowedTransfer();
+        final TestProbe assembledProbe = TestProbe.apply(ACTOR_SYSTEM);
+        final MessageSlicer slicer = MessageSlicer.builder().messageSliceSize(1000).sliceWindowSize(windowSize)
+                .logContext("window-" + windowSize).fileBackedStreamFactory(FILE_BACKED_STREAM_FACTORY).build();
+        final MessageAssembler windowedAssembler = MessageAssembler.builder().maxOutOfOrderSlices(windowSize - 1)
+                .assembledMessageCallback((assembled, sender) -> assembledProbe.ref().tell(assembled,
+                    ActorRef.noSender())).logContext("window-" + windowSize)
+                .fileBackedStreamFactory(FILE_BACKED_STREAM_FACTORY).build();
+
+        // Both sides receive messages through a relay which delays them, the relay passes itself as the sender.
+        final ActorRef slicerActor = ACTOR_SYSTEM.actorOf(HandlerActor.props((msg, sender) -> {
+            if (msg instanceof SliceOptions) {
+                slicer.slice((SliceOptions) msg);
+            } else {
+                if (msg instanceof MessageSliceReply) {
+                    transfer.onReplyReceived((MessageSliceReply) msg);
+                }
+                slicer.handleMessage(msg);
+            }
+        }));
+        final ActorRef assemblerActor = ACTOR_SYSTEM.actorOf(HandlerActor.props(
+            (msg, sender) -> windowedAssembler.handleMessage(msg, sender)));
+        final ActorRef toSlicer = ACTOR_SYSTEM.actorOf(LatencyActor.props(slicerActor, ONE_WAY_LATENCY, msg -> { }));
+        final ActorRef toAssembler = ACTOR_SYSTEM.actorOf(LatencyActor.props(assemblerActor, ONE_WAY_LATENCY, msg -> {
+            if (msg instanceof MessageSlice) {
+                transfer.onSliceSent((MessageSlice) msg);
+            }
+        }));
+
+        try {
+            final Stopwatch sw = Stopwatch.createStarted();
+            slicerActor.tell(SliceOptions.builder().identifier(IDENTIFIER).message(message).sendTo(toAssembler)
+                    .replyTo(toSlicer).onFailureCallback(failure -> LOG.error("Slicing failed", failure)).build(),
+                    ActorRef.noSender());
+
+            assertEquals("Assembled message", message, assembledProbe.expectMsgClass(
+                    FiniteDuration.create(30, TimeUnit.SECONDS), BytesMessage.class));
+            transfer.elapsedMillis = sw.elapsed(TimeUnit.MILLISECONDS);
+
+            // The final acknowledgement may still be in flight
+            final Stopwatch ackWait = Stopwatch.createStarted();
+            while (transfer.lastAckedIndex.get() != transfer.totalSlices
+                    && ackWait.elapsed(TimeUnit.SECONDS) < 5) {
+                Uninterruptibles.sleepUninterruptibly(10, TimeUnit.MILLISECONDS);
+            }
+            return transfer;
+        } finally {
+            for (ActorRef actor : new ActorRef[] {slicerActor, assemblerActor, toSlicer, toAssembler}) {
+                ACTOR_SYSTEM.stop(actor);
+            }
+
+            slicer.close();
+            windowedAssembler.close();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private void testSlicing(final String logContext, final int messageSliceSize, final int expTotalSlices,
             final byte[] messageData) {
@@ -348,4 +552,51 @@ public class MessageSlicingIntegrationTest {
         return MessageSlicer.builder().messageSliceSize(messageSliceSize).logContext(logContext)
                 .fileBackedStreamFactory(FILE_BACKED_STREAM_FACTORY).build();
     }
+
+    /**
+     * Relays messages to a target after a fixed delay, simulating network latency. Each message is passed to an
+     * observer as it enters the relay.
+     */
+    public static class LatencyActor extends UntypedActor {
+        private final ActorRef target;
+        private final FiniteDuration latency;
+        private final Consumer<Object> observer;
+
+        public LatencyActor(final ActorRef target, final FiniteDuration latency, final Consumer<Object> observer) {
+            this.target = target;
+            this.latency = latency;
+            this.observer = observer;
+        }
+
+        static Props props(final ActorRef target, final FiniteDuration latency, final Consumer<Object> observer) {
+            return Props.create(LatencyActor.class, target, latency, observer);
+        }
+
+        @Override
+        public void onReceive(final Object message) {
+            observer.accept(message);
+            getContext().system().scheduler().scheduleOnce(latency, target, message, getContext().dispatcher(),
+                    getSelf());
+        }
+    }
+
+    /**
+     * Passes received messages and their sender to a handler.
+     */
+    public static class HandlerActor extends UntypedActor {
+        private final BiConsumer<Object, ActorRef> handler;
+
+        public HandlerActor(final BiConsumer<Object, ActorRef> handler) {
+            this.handler = handler;
+        }
+
+        static Props props(final BiConsumer<Object, ActorRef> handler) {
+            return Props.create(HandlerActor.class, handler);
+        }
+
+        @Override
+        public void onReceive(final Object message) {
+            handler.accept(message, getSender());
+        }
+    }
 }
@@ -20,10 +20,13 @@ import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import org.opendaylight.controller.cluster.datastore.exceptions.NoShardLeaderException;
 import org.opendaylight.controller.cluster.datastore.exceptions.ShardLeaderNotRespondingException;
@@ -43,17 +46,17 @@ import org.slf4j.LoggerFactory;
  * ConcurrentDOMDataBroker commits transactions concurrently. The 3
  * commit phases (canCommit, preCommit, and commit) are performed serially and non-blocking
  * (ie async) per transaction but multiple transaction commits can run concurrent.
+ * Commit durations are recorded through a {@link StripedDurationRecorder} so that concurrent committers do not all
+ * contend on the shared statistics tracker. Buffered durations are not visible in the tracker until they are flushed,
+ * which {@link FlushingCommitStatsMXBeanImpl} does on each read.
  *
  * @author Thomas Pantelis
  */
 @Beta
 public class ConcurrentDOMDataBroker extends AbstractDOMBroker {
     private static final Logger LOG = LoggerFactory.getLogger(ConcurrentDOMDataBroker.class);
-    private static final String CAN_COMMIT = "CAN_COMMIT";
-    private static final String PRE_COMMIT = "PRE_COMMIT";
-    private static final String COMMIT = "COMMIT";
 
-    private final DurationStatisticsTracker commitStatsTracker;
+    private final StripedDurationRecorder commitStatsRecorder;
 
     /**
      * This executor is used to execute Future listener callback Runnables async.
@@ -69,11 +72,32 @@ public class ConcurrentDOMDataBroker extends AbstractDOMBroker {
             final Executor listenableFutureExecutor, final DurationStatisticsTracker commitStatsTracker) {
         super(datastores);
         this.clientFutureCallbackExecutor = Preconditions.checkNotNull(listenableFutureExecutor);
-        this.commitStatsTracker = Preconditions.checkNotNull(commitStatsTracker);
+        this.commitStatsRecorder = new StripedDurationRecorder(commitStatsTracker);
     }
 
+    /**
+     * Returns the tracker of commit durations. Durations are recorded through per-thread stripes, which are flushed
+     * into the tracker before it is returned. Subsequent commits may again be buffered, hence users reading the tracker
+     * repeatedly, like {@link FlushingCommitStatsMXBeanImpl}, need to invoke {@link #flushCommitStats()} before each read.
+     *
+     * @return the commit statistics tracker
+     */
     public DurationStatisticsTracker getCommitStatsTracker() {
-        return commitStatsTracker;
+        flushCommitStats();
+        return commitStatsRecorder.getTracker();
+    }
+
+    /**
+     * Drains the durations of all completed commits into the commit statistics tracker.
+     */
+    public void flushCommitStats() {
+        commitStatsRecorder.flush();
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        flushCommitStats();
     }
 
     @Override
@@ -91,102 +115,156 @@ public class ConcurrentDOMDataBroker extends AbstractDOMBroker {
         final AsyncNotifyingSettableFuture clientSubmitFuture =
                 new AsyncNotifyingSettableFuture(clientFutureCallbackExecutor);
 
-        doCanCommit(clientSubmitFuture, transaction, cohorts);
+        new CommitCoordinator(clientSubmitFuture, transaction, cohorts).start();
 
         return MappingCheckedFuture.create(clientSubmitFuture, COMMIT_ERROR_MAPPER);
     }
 
-    private void doCanCommit(final AsyncNotifyingSettableFuture clientSubmitFuture,
-            final DOMDataWriteTransaction transaction,
-            final Collection<DOMStoreThreePhaseCommitCohort> cohorts) {
-
-        final long startTime = System.nanoTime();
-
-        final Iterator<DOMStoreThreePhaseCommitCohort> cohortIterator = cohorts.iterator();
-
-        // Not using Futures.allAsList here to avoid its internal overhead.
-        FutureCallback<Boolean> futureCallback = new FutureCallback<Boolean>() {
-            @Override
-            public void onSuccess(final Boolean result) {
-                if (result == null || !result) {
-                    handleException(clientSubmitFuture, transaction, cohorts, CAN_COMMIT, CAN_COMMIT_ERROR_MAPPER,
-                            new TransactionCommitFailedException("Can Commit failed, no detailed cause available."));
-                } else if (!cohortIterator.hasNext()) {
-                    // All cohorts completed successfully - we can move on to the preCommit phase
-                    doPreCommit(startTime, clientSubmitFuture, transaction, cohorts);
-                } else {
-                    Futures.addCallback(cohortIterator.next().canCommit(), this, MoreExecutors.directExecutor());
-                }
+    /**
+     * Per-transaction commit state. A single instance drives the transaction through the canCommit, preCommit and
+     * commit phases of all cohorts, acting as the callback for each cohort future, instead of allocating a callback and
+     * an iterator per phase. Cohort futures which are already complete are consumed inline without registering a
+     * callback, so a single cohort which committed directly as part of canCommit, and whose preCommit and commit
+     * phases are therefore immediate no-ops, completes without any further callback round-trips.
+     *
+     * <p>
+     * Only one cohort future is outstanding at any time, hence state is only ever accessed by one thread at a time
+     * and visibility is guaranteed by the completion of that future.
+     */
+    private final class CommitCoordinator implements FutureCallback<Object> {
+        private final AsyncNotifyingSettableFuture clientSubmitFuture;
+        private final DOMDataWriteTransaction transaction;
+        private final Collection<DOMStoreThreePhaseCommitCohort> cohorts;
+        private final DOMStoreThreePhaseCommitCohort singleCohort;
+        private final List<DOMStoreThreePhaseCommitCohort> cohortList;
+        private final long startTime = System.nanoTime();
+
+        private Phase phase = Phase.CAN_COMMIT;
+        private int index;
+
+        CommitCoordinator(final AsyncNotifyingSettableFuture clientSubmitFuture,
+                final DOMDataWriteTransaction transaction, final Collection<DOMStoreThreePhaseCommitCohort> cohorts) {
+            this.clientSubmitFuture = clientSubmitFuture;
+            this.transaction = transaction;
+            this.cohorts = cohorts;
+
+            if (cohorts.size() == 1) {
+                singleCohort = cohorts.iterator().next();
+                cohortList = null;
+            } else {
+                singleCohort = null;
+                cohortList = cohorts instanceof List && cohorts instanceof RandomAccess
+                        ? (List<DOMStoreThreePhaseCommitCohort>) cohorts : new ArrayList<>(cohorts);
             }
+        }
 
-            @Override
-            public void onFailure(final Throwable failure) {
-                handleException(clientSubmitFuture, transaction, cohorts, CAN_COMMIT, CAN_COMMIT_ERROR_MAPPER, failure);
-            }
-        };
+        void start() {
+            invokeCurrent();
+        }
 
-        ListenableFuture<Boolean> canCommitFuture = cohortIterator.next().canCommit();
-        Futures.addCallback(canCommitFuture, futureCallback, MoreExecutors.directExecutor());
-    }
+        @Override
+        public void onSuccess(final Object result) {
+            if (advance(result)) {
+                invokeCurrent();
+            }
+        }
 
-    private void doPreCommit(final long startTime, final AsyncNotifyingSettableFuture clientSubmitFuture,
-            final DOMDataWriteTransaction transaction,
-            final Collection<DOMStoreThreePhaseCommitCohort> cohorts) {
+        @Override
+        public void onFailure(final Throwable failure) {
+            handleException(clientSubmitFuture, transaction, cohorts, phase.name(), phase.exMapper, failure);
+        }
 
-        final Iterator<DOMStoreThreePhaseCommitCohort> cohortIterator = cohorts.iterator();
+        private void invokeCurrent() {
+            while (true) {
+                final ListenableFuture<?> future = phase.invoke(currentCohort());
+                if (!future.isDone()) {
+                    Futures.addCallback(future, this, MoreExecutors.directExecutor());
+                    return;
+                }
 
-        // Not using Futures.allAsList here to avoid its internal overhead.
-        FutureCallback<Void> futureCallback = new FutureCallback<Void>() {
-            @Override
-            public void onSuccess(final Void notUsed) {
-                if (!cohortIterator.hasNext()) {
-                    // All cohorts completed successfully - we can move on to the commit phase
-                    doCommit(startTime, clientSubmitFuture, transaction, cohorts);
-                } else {
-                    ListenableFuture<Void> preCommitFuture = cohortIterator.next().preCommit();
-                    Futures.addCallback(preCommitFuture, this, MoreExecutors.directExecutor());
+                final Object result;
+                try {
+                    result = Futures.getDone(future);
+                } catch (ExecutionException e) {
+                    onFailure(e.getCause());
+                    return;
+                } catch (CancellationException e) {
+                    onFailure(e);
+                    return;
                 }
-            }
 
-            @Override
-            public void onFailure(final Throwable failure) {
-                handleException(clientSubmitFuture, transaction, cohorts, PRE_COMMIT, PRE_COMMIT_MAPPER, failure);
+                if (!advance(result)) {
+                    return;
+                }
             }
-        };
-
-        ListenableFuture<Void> preCommitFuture = cohortIterator.next().preCommit();
-        Futures.addCallback(preCommitFuture, futureCallback, MoreExecutors.directExecutor());
-    }
+        }
 
-    private void doCommit(final long startTime, final AsyncNotifyingSettableFuture clientSubmitFuture,
-            final DOMDataWriteTransaction transaction,
-            final Collection<DOMStoreThreePhaseCommitCohort> cohorts) {
+        private DOMStoreThreePhaseCommitCohort currentCohort() {
+            return singleCohort != null ? singleCohort : cohortList.get(index);
+        }
 
-        final Iterator<DOMStoreThreePhaseCommitCohort> cohortIterator = cohorts.iterator();
+        /**
+         * Processes the successful result of the current cohort and moves on to the next cohort or phase.
+         *
+         * @return true if the next cohort should be invoked, false if the commit is complete or has failed
+         */
+        private boolean advance(final Object result) {
+            if (phase == Phase.CAN_COMMIT && !Boolean.TRUE.equals(result)) {
+                onFailure(new TransactionCommitFailedException("Can Commit failed, no detailed cause available."));
+                return false;
+            }
 
-        // Not using Futures.allAsList here to avoid its internal overhead.
-        FutureCallback<Void> futureCallback = new FutureCallback<Void>() {
-            @Override
-            public void onSuccess(final Void notUsed) {
-                if (!cohortIterator.hasNext()) {
-                    // All cohorts completed successfully - we're done.
-                    commitStatsTracker.addDuration(System.nanoTime() - startTime);
+            if (++index < cohorts.size()) {
+                return true;
+            }
 
+            // All cohorts completed the current phase successfully
+            index = 0;
+            switch (phase) {
+                case CAN_COMMIT:
+                    phase = Phase.PRE_COMMIT;
+                    return true;
+                case PRE_COMMIT:
+                    phase = Phase.COMMIT;
+                    return true;
+                case COMMIT:
+                    // We're done.
+                    commitStatsRecorder.recordSince(startTime);
                     clientSubmitFuture.set();
-                } else {
-                    ListenableFuture<Void> commitFuture = cohortIterator.next().commit();
-                    Futures.addCallback(commitFuture, this, MoreExecutors.directExecutor());
-                }
+                    return false;
+                default:
+                    throw new IllegalStateException("Unhandled phase " + phase);
             }
+        }
+    }
 
+    private enum Phase {
+        CAN_COMMIT(CAN_COMMIT_ERROR_MAPPER) {
             @Override
-            public void onFailure(final Throwable throwable) {
-                handleException(clientSubmitFuture, transaction, cohorts, COMMIT, COMMIT_ERROR_MAPPER, throwable);
+            ListenableFuture<?> invoke(final DOMStoreThreePhaseCommitCohort cohort) {
+                return cohort.canCommit();
+            }
+        },
+        PRE_COMMIT(PRE_COMMIT_MAPPER) {
+            @Override
+            ListenableFuture<?> invoke(final DOMStoreThreePhaseCommitCohort cohort) {
+                return cohort.preCommit();
+            }
+        },
+        COMMIT(COMMIT_ERROR_MAPPER) {
+            @Override
+            ListenableFuture<?> invoke(final DOMStoreThreePhaseCommitCohort cohort) {
+                return cohort.commit();
             }
         };
 
-        ListenableFuture<Void> commitFuture = cohortIterator.next().commit();
-        Futures.addCallback(commitFuture, futureCallback, MoreExecutors.directExecutor());
+        final TransactionCommitFailedExceptionMapper exMapper;
+
+        Phase(final TransactionCommitFailedExceptionMapper exMapper) {
+            this.exMapper = exMapper;
+        }
+
+        abstract ListenableFuture<?> invoke(DOMStoreThreePhaseCommitCohort cohort);
     }
 
     @SuppressFBWarnings(value = "BC_UNCONFIRMED_CAST_OF_RETURN_VALUE",
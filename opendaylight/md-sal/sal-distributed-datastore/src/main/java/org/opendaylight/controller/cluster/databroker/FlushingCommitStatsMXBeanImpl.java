@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.databroker;
+
+import com.google.common.base.Preconditions;
+import javax.annotation.Nonnull;
+import org.opendaylight.controller.md.sal.dom.broker.impl.jmx.CommitStatsMXBeanImpl;
+
+/**
+ * CommitStatsMXBean of a {@link ConcurrentDOMDataBroker}. The broker buffers commit durations per thread stripe, so
+ * this bean flushes them into the broker's tracker before each read, otherwise samples would remain invisible for as
+ * long as no further commits happen on their stripe.
+ */
+public class FlushingCommitStatsMXBeanImpl extends CommitStatsMXBeanImpl {
+    private final ConcurrentDOMDataBroker broker;
+
+    /**
+     * Constructor.
+     *
+     * @param broker the broker whose commit stats are exposed
+     * @param mbeantype mBeanType Used as the <code>type</code> property in the bean's ObjectName.
+     */
+    public FlushingCommitStatsMXBeanImpl(@Nonnull final ConcurrentDOMDataBroker broker,
+            @Nonnull final String mbeantype) {
+        super(broker.getCommitStatsTracker(), mbeantype);
+        this.broker = Preconditions.checkNotNull(broker);
+    }
+
+    @Override
+    public long getTotalCommits() {
+        broker.flushCommitStats();
+        return super.getTotalCommits();
+    }
+
+    @Override
+    public String getLongestCommitTime() {
+        broker.flushCommitStats();
+        return super.getLongestCommitTime();
+    }
+
+    @Override
+    public String getShortestCommitTime() {
+        broker.flushCommitStats();
+        return super.getShortestCommitTime();
+    }
+
+    @Override
+    public String getAverageCommitTime() {
+        broker.flushCommitStats();
+        return super.getAverageCommitTime();
+    }
+
+    @Override
+    public void clearStats() {
+        // Flush first, so that buffered durations do not resurface after the reset
+        broker.flushCommitStats();
+        super.clearStats();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.databroker;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.yangtools.util.DurationStatisticsTracker;
+
+/**
+ * Records durations into a {@link DurationStatisticsTracker} through a set of per-thread stripes. Each committing
+ * thread appends its duration to the buffer of its stripe, which is only contended by threads mapping to the same
+ * stripe, and the buffer is drained into the tracker in one go once it is full or, when a duration is recorded, its
+ * oldest sample has been buffered for longer than the flush interval. This keeps concurrent committers from all
+ * updating the shared tracker's counters for each transaction.
+ *
+ * <p>
+ * As a consequence the tracker may lag behind by up to {@link #STRIPE_CAPACITY} - 1 samples per stripe for as long as
+ * no further duration is recorded on that stripe, no matter how much time passes. Readers of the tracker therefore
+ * need to invoke {@link #flush()} before reading it.
+ */
+@ThreadSafe
+final class StripedDurationRecorder {
+    @VisibleForTesting
+    static final int STRIPE_CAPACITY = 32;
+    private static final long FLUSH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final class Stripe {
+        private final long[] durations = new long[STRIPE_CAPACITY];
+        private int size;
+        private long firstSampleTime;
+
+        synchronized void add(final DurationStatisticsTracker tracker, final long duration, final long now) {
+            if (size == 0) {
+                firstSampleTime = now;
+            }
+
+            durations[size++] = duration;
+            if (size == STRIPE_CAPACITY || now - firstSampleTime >= FLUSH_INTERVAL_NANOS) {
+                drainTo(tracker);
+            }
+        }
+
+        synchronized void drainTo(final DurationStatisticsTracker tracker) {
+            for (int i = 0; i < size; i++) {
+                tracker.addDuration(durations[i]);
+            }
+            size = 0;
+        }
+    }
+
+    private final DurationStatisticsTracker tracker;
+    private final Stripe[] stripes;
+    private final int mask;
+
+    StripedDurationRecorder(final DurationStatisticsTracker tracker) {
+        this(tracker, Runtime.getRuntime().availableProcessors());
+    }
+
+    @VisibleForTesting
+    StripedDurationRecorder(final DurationStatisticsTracker tracker, final int concurrency) {
+        Preconditions.checkArgument(concurrency > 0, "Concurrency must be positive, not %s", concurrency);
+        this.tracker = Preconditions.checkNotNull(tracker);
+
+        final int stripeCount = Integer.highestOneBit(concurrency - 1) << 1;
+        stripes = new Stripe[Math.max(stripeCount, 1)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+        mask = stripes.length - 1;
+    }
+
+    DurationStatisticsTracker getTracker() {
+        return tracker;
+    }
+
+    /**
+     * Records the duration of an operation which started at the specified time and completed now.
+     *
+     * @param startTime the start time of the operation, as returned by {@link System#nanoTime()}
+     */
+    void recordSince(final long startTime) {
+        final long now = System.nanoTime();
+        stripes[(int) Thread.currentThread().getId() & mask].add(tracker, now - startTime, now);
+    }
+
+    /**
+     * Drains all buffered durations into the tracker.
+     */
+    void flush() {
+        for (Stripe stripe : stripes) {
+            stripe.drainTo(tracker);
+        }
+    }
+}
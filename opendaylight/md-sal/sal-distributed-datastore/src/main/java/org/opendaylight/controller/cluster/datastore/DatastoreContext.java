@@ -59,6 +59,8 @@ public class DatastoreContext implements ClientActorConfig {
     public static final long DEFAULT_SHARD_COMMIT_QUEUE_EXPIRY_TIMEOUT_IN_MS =
             TimeUnit.MILLISECONDS.convert(2, TimeUnit.MINUTES);
     public static final int DEFAULT_MAX_MESSAGE_SLICE_SIZE = 2048 * 1000; // 2MB
+    public static final int DEFAULT_MAX_CONCURRENT_SHARD_INITIALIZATIONS = 0; // unbounded
+    public static final int DEFAULT_ENTITY_OWNERSHIP_SHARD_COUNT = 1;
 
     public static final long DEFAULT_SYNC_INDEX_THRESHOLD = 10;
 
@@ -89,6 +91,8 @@ public class DatastoreContext implements ClientActorConfig {
     private boolean transactionDebugContextEnabled = false;
     private String shardManagerPersistenceId;
     private int maximumMessageSliceSize = DEFAULT_MAX_MESSAGE_SLICE_SIZE;
+    private int maxConcurrentShardInitializations = DEFAULT_MAX_CONCURRENT_SHARD_INITIALIZATIONS;
+    private int entityOwnershipShardCount = DEFAULT_ENTITY_OWNERSHIP_SHARD_COUNT;
     private long backendAlivenessTimerInterval = AbstractClientConnection.DEFAULT_BACKEND_ALIVE_TIMEOUT_NANOS;
     private long requestTimeout = AbstractClientConnection.DEFAULT_REQUEST_TIMEOUT_NANOS;
     private long noProgressTimeout = AbstractClientConnection.DEFAULT_NO_PROGRESS_TIMEOUT_NANOS;
@@ -132,6 +136,8 @@ public class DatastoreContext implements ClientActorConfig {
         this.backendAlivenessTimerInterval = other.backendAlivenessTimerInterval;
         this.requestTimeout = other.requestTimeout;
         this.noProgressTimeout = other.noProgressTimeout;
+        this.maxConcurrentShardInitializations = other.maxConcurrentShardInitializations;
+        this.entityOwnershipShardCount = other.entityOwnershipShardCount;
 
         setShardJournalRecoveryLogBatchSize(other.raftConfig.getJournalRecoveryLogBatchSize());
         setSnapshotBatchCount(other.raftConfig.getSnapshotBatchCount());
@@ -301,6 +307,21 @@ public class DatastoreContext implements ClientActorConfig {
         return shardBatchedModificationCount;
     }
 
+    /**
+     * Returns the maximum number of local shards the ShardManager creates and lets recover at the same time, with
+     * zero meaning no limit.
+     */
+    public int getMaxConcurrentShardInitializations() {
+        return maxConcurrentShardInitializations;
+    }
+
+    /**
+     * Returns the number of shards across which entity ownership candidates are partitioned.
+     */
+    public int getEntityOwnershipShardCount() {
+        return entityOwnershipShardCount;
+    }
+
     public boolean isWriteOnlyTransactionOptimizationsEnabled() {
         return writeOnlyTransactionOptimizationsEnabled;
     }
@@ -505,6 +526,19 @@ public class DatastoreContext implements ClientActorConfig {
             return this;
         }
 
+        public Builder maxConcurrentShardInitializations(final int maxConcurrentShardInitializations) {
+            Preconditions.checkArgument(maxConcurrentShardInitializations >= 0,
+                    "maxConcurrentShardInitializations must not be negative");
+            datastoreContext.maxConcurrentShardInitializations = maxConcurrentShardInitializations;
+            return this;
+        }
+
+        public Builder entityOwnershipShardCount(final int entityOwnershipShardCount) {
+            Preconditions.checkArgument(entityOwnershipShardCount > 0, "entityOwnershipShardCount must be positive");
+            datastoreContext.entityOwnershipShardCount = entityOwnershipShardCount;
+            return this;
+        }
+
         public Builder writeOnlyTransactionOptimizationsEnabled(final boolean value) {
             datastoreContext.writeOnlyTransactionOptimizationsEnabled = value;
             return this;
@@ -597,8 +597,9 @@ public class Shard extends RaftActor {
     @Override
     protected LeaderStateChanged newLeaderStateChanged(final String memberId, final String leaderId,
             final short leaderPayloadVersion) {
-        return isLeader() ? new ShardLeaderStateChanged(memberId, leaderId, store.getDataTree(), leaderPayloadVersion)
-                : new ShardLeaderStateChanged(memberId, leaderId, leaderPayloadVersion);
+        final long term = getRaftActorContext().getTermInformation().getCurrentTerm();
+        return isLeader() ? new ShardLeaderStateChanged(memberId, leaderId, store.getDataTree(), leaderPayloadVersion,
+                term) : new ShardLeaderStateChanged(memberId, leaderId, leaderPayloadVersion, term);
     }
 
     protected void onDatastoreContext(final DatastoreContext context) {
@@ -98,7 +98,9 @@ class ShardSnapshotCohort implements RaftActorSnapshotCohort {
 
     @Override
     public State deserializeSnapshot(final ByteSource snapshotBytes) throws IOException {
-        try (ObjectInputStream in = new ObjectInputStream(snapshotBytes.openStream())) {
+        // The installed snapshot may have been spilled to a file, read it through a buffer rather than issuing a
+        // read on the file for each primitive value
+        try (ObjectInputStream in = new ObjectInputStream(snapshotBytes.openBufferedStream())) {
             return new ShardSnapshotState(ShardDataTreeSnapshot.deserialize(in));
         }
     }
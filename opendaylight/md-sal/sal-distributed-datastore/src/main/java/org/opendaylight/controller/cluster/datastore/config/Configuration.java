@@ -100,4 +100,10 @@ public interface Configuration {
      * Returns the ShardStrategy for the given prefix or null if the prefix is not found.
      */
     @Nullable ShardStrategy getStrategyForPrefix(@Nonnull DOMDataTreeIdentifier prefix);
+
+    /**
+     * Returns a counter which changes whenever module or prefix shard configuration is modified. Callers caching
+     * the results of shard strategy lookups should discard them when the returned value changes.
+     */
+    long getGeneration();
 }
@@ -11,7 +11,6 @@ package org.opendaylight.controller.cluster.datastore.config;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
-import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -19,12 +18,13 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opendaylight.controller.cluster.access.concepts.MemberName;
 import org.opendaylight.controller.cluster.datastore.shardstrategy.PrefixShardStrategy;
+import org.opendaylight.controller.cluster.datastore.shardstrategy.PrefixShardStrategyTable;
 import org.opendaylight.controller.cluster.datastore.shardstrategy.ShardStrategy;
 import org.opendaylight.controller.cluster.datastore.shardstrategy.ShardStrategyFactory;
 import org.opendaylight.controller.cluster.datastore.utils.ClusterUtils;
@@ -42,6 +42,10 @@ public class ConfigurationImpl implements Configuration {
 
     private volatile Map<String, String> namespaceToModuleName;
     private volatile Set<String> allShardNames;
+    private volatile PrefixShardStrategyTable prefixStrategyTable = PrefixShardStrategyTable.empty();
+
+    // Bumped after every change affecting shard strategy resolution, so that callers can invalidate cached lookups
+    private final AtomicLong generation = new AtomicLong();
 
     public ConfigurationImpl(final String moduleShardsConfigPath, final String modulesConfigPath) {
         this(new FileModuleShardConfigProvider(moduleShardsConfigPath, modulesConfigPath));
@@ -125,19 +129,11 @@ public class ConfigurationImpl implements Configuration {
     public String getShardNameForPrefix(@Nonnull final DOMDataTreeIdentifier prefix) {
         Preconditions.checkNotNull(prefix, "prefix should not be null");
 
-        Entry<DOMDataTreeIdentifier, PrefixShardConfiguration> bestMatchEntry =
-                new SimpleEntry<>(
-                        new DOMDataTreeIdentifier(prefix.getDatastoreType(), YangInstanceIdentifier.EMPTY), null);
-
-        for (Entry<DOMDataTreeIdentifier, PrefixShardConfiguration> entry : prefixConfigMap.entrySet()) {
-            if (entry.getKey().contains(prefix) && entry.getKey().getRootIdentifier().getPathArguments().size()
-                    > bestMatchEntry.getKey().getRootIdentifier().getPathArguments().size()) {
-                bestMatchEntry = entry;
-            }
-        }
+        final PrefixShardStrategy strategy = prefixStrategyTable.lookup(prefix);
 
         //TODO we really should have mapping based on prefix instead of Strings
-        return ClusterUtils.getCleanShardName(bestMatchEntry.getKey().getRootIdentifier());
+        return strategy != null ? strategy.findShard(prefix.getRootIdentifier())
+                : ClusterUtils.getCleanShardName(YangInstanceIdentifier.EMPTY);
     }
 
     @Override
@@ -193,6 +189,7 @@ public class ConfigurationImpl implements Configuration {
         namespaceToModuleName = ImmutableMap.<String, String>builder().putAll(namespaceToModuleName)
                 .put(moduleConfig.getNamespace(), moduleConfig.getName()).build();
         allShardNames = ImmutableSet.<String>builder().addAll(allShardNames).add(config.getShardName()).build();
+        generation.incrementAndGet();
     }
 
     @Override
@@ -223,13 +220,19 @@ public class ConfigurationImpl implements Configuration {
     private void addPrefixConfig(final PrefixShardConfiguration config) {
         final Map<DOMDataTreeIdentifier, PrefixShardConfiguration> newPrefixConfigMap = new HashMap<>(prefixConfigMap);
         newPrefixConfigMap.put(config.getPrefix(), config);
-        prefixConfigMap = ImmutableMap.copyOf(newPrefixConfigMap);
+        updatePrefixConfigMap(newPrefixConfigMap);
     }
 
     private void removePrefixConfig(final DOMDataTreeIdentifier prefix) {
         final Map<DOMDataTreeIdentifier, PrefixShardConfiguration> newPrefixConfigMap = new HashMap<>(prefixConfigMap);
         newPrefixConfigMap.remove(prefix);
+        updatePrefixConfigMap(newPrefixConfigMap);
+    }
+
+    private void updatePrefixConfigMap(final Map<DOMDataTreeIdentifier, PrefixShardConfiguration> newPrefixConfigMap) {
         prefixConfigMap = ImmutableMap.copyOf(newPrefixConfigMap);
+        prefixStrategyTable = PrefixShardStrategyTable.create(newPrefixConfigMap.keySet());
+        generation.incrementAndGet();
     }
 
     private ShardStrategy createShardStrategy(String moduleName, String shardStrategyName) {
@@ -277,29 +280,18 @@ public class ConfigurationImpl implements Configuration {
     @Override
     public ShardStrategy getStrategyForPrefix(@Nonnull final DOMDataTreeIdentifier prefix) {
         Preconditions.checkNotNull(prefix, "Prefix cannot be null");
-        // FIXME using prefix tables like in mdsal will be better
-        Entry<DOMDataTreeIdentifier, PrefixShardConfiguration> bestMatchEntry =
-                new SimpleEntry<>(
-                        new DOMDataTreeIdentifier(prefix.getDatastoreType(), YangInstanceIdentifier.EMPTY), null);
-
-        for (Entry<DOMDataTreeIdentifier, PrefixShardConfiguration> entry : prefixConfigMap.entrySet()) {
-            if (entry.getKey().contains(prefix) && entry.getKey().getRootIdentifier().getPathArguments().size()
-                    > bestMatchEntry.getKey().getRootIdentifier().getPathArguments().size()) {
-                bestMatchEntry = entry;
-            }
-        }
+        return prefixStrategyTable.lookup(prefix);
+    }
 
-        if (bestMatchEntry.getValue() == null) {
-            return null;
-        }
-        return new PrefixShardStrategy(ClusterUtils
-                .getCleanShardName(bestMatchEntry.getKey().getRootIdentifier()),
-                bestMatchEntry.getKey().getRootIdentifier());
+    @Override
+    public long getGeneration() {
+        return generation.get();
     }
 
     private void updateModuleConfigMap(final ModuleConfig moduleConfig) {
         final Map<String, ModuleConfig> newModuleConfigMap = new HashMap<>(moduleConfigMap);
         newModuleConfigMap.put(moduleConfig.getName(), moduleConfig);
         moduleConfigMap = ImmutableMap.copyOf(newModuleConfigMap);
+        generation.incrementAndGet();
     }
 }
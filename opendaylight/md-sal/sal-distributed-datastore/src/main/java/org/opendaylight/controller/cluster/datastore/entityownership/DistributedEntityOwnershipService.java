@@ -19,10 +19,13 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.google.common.hash.Hashing;
+import java.net.URI;
 import java.util.Collection;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import javax.annotation.Nonnull;
 import org.opendaylight.controller.cluster.access.concepts.MemberName;
 import org.opendaylight.controller.cluster.datastore.config.Configuration;
@@ -68,14 +71,20 @@ public class DistributedEntityOwnershipService implements DOMEntityOwnershipServ
     private static final Logger LOG = LoggerFactory.getLogger(DistributedEntityOwnershipService.class);
     private static final Timeout MESSAGE_TIMEOUT = new Timeout(1, TimeUnit.MINUTES);
 
+    private static final String ENTITY_OWNERS_MODULE_NAME = "entity-owners";
+
     private final ConcurrentMap<DOMEntity, DOMEntity> registeredEntities = new ConcurrentHashMap<>();
     private final ActorContext context;
+    private final int shardCount;
 
-    private volatile ActorRef localEntityOwnershipShard;
-    private volatile DataTree localEntityOwnershipShardDataTree;
+    private final AtomicReferenceArray<ActorRef> localEntityOwnershipShards;
+    private final AtomicReferenceArray<DataTree> localEntityOwnershipShardDataTrees;
 
-    private DistributedEntityOwnershipService(final ActorContext context) {
+    private DistributedEntityOwnershipService(final ActorContext context, final int shardCount) {
         this.context = Preconditions.checkNotNull(context);
+        this.shardCount = shardCount;
+        this.localEntityOwnershipShards = new AtomicReferenceArray<>(shardCount);
+        this.localEntityOwnershipShardDataTrees = new AtomicReferenceArray<>(shardCount);
     }
 
     public static DistributedEntityOwnershipService start(final ActorContext context,
@@ -84,25 +93,68 @@ public class DistributedEntityOwnershipService implements DOMEntityOwnershipServ
 
         Configuration configuration = context.getConfiguration();
         Collection<MemberName> entityOwnersMemberNames = configuration.getUniqueMemberNamesForAllShards();
-        CreateShard createShard = new CreateShard(new ModuleShardConfiguration(EntityOwners.QNAME.getNamespace(),
-                "entity-owners", ENTITY_OWNERSHIP_SHARD_NAME, ModuleShardStrategy.NAME, entityOwnersMemberNames),
-                        newShardBuilder(context, strategyConfig), null);
+        final int shardCount = context.getDatastoreContext().getEntityOwnershipShardCount();
 
-        Future<Object> createFuture = context.executeOperationAsync(shardManagerActor,
-                createShard, MESSAGE_TIMEOUT);
+        for (int i = 0; i < shardCount; i++) {
+            final String shardName = entityOwnershipShardName(i, shardCount);
+            CreateShard createShard = new CreateShard(new ModuleShardConfiguration(entityOwnersNamespace(i),
+                    entityOwnersModuleName(i), shardName, ModuleShardStrategy.NAME, entityOwnersMemberNames),
+                            newShardBuilder(context, strategyConfig), null);
 
-        createFuture.onComplete(new OnComplete<Object>() {
-            @Override
-            public void onComplete(final Throwable failure, final Object response) {
-                if (failure != null) {
-                    LOG.error("Failed to create {} shard", ENTITY_OWNERSHIP_SHARD_NAME, failure);
-                } else {
-                    LOG.info("Successfully created {} shard", ENTITY_OWNERSHIP_SHARD_NAME);
+            Future<Object> createFuture = context.executeOperationAsync(shardManagerActor,
+                    createShard, MESSAGE_TIMEOUT);
+
+            createFuture.onComplete(new OnComplete<Object>() {
+                @Override
+                public void onComplete(final Throwable failure, final Object response) {
+                    if (failure != null) {
+                        LOG.error("Failed to create {} shard", shardName, failure);
+                    } else {
+                        LOG.info("Successfully created {} shard", shardName);
+                    }
                 }
-            }
-        }, context.getClientDispatcher());
+            }, context.getClientDispatcher());
+        }
 
-        return new DistributedEntityOwnershipService(context);
+        return new DistributedEntityOwnershipService(context, shardCount);
+    }
+
+    /**
+     * Returns the name of an entity ownership shard. A single shard keeps the name used before entity ownership was
+     * partitioned. With multiple shards the names include the shard count, so that members configured with different
+     * counts never share a shard: each of their shards needs a majority of all members to elect a leader, hence
+     * only members agreeing with the majority can be granted ownership and an entity is never owned twice.
+     */
+    @VisibleForTesting
+    static String entityOwnershipShardName(final int index, final int shardCount) {
+        return shardCount == 1 ? ENTITY_OWNERSHIP_SHARD_NAME
+                : ENTITY_OWNERSHIP_SHARD_NAME + "-" + index + "-of-" + shardCount;
+    }
+
+    private static String entityOwnersModuleName(final int index) {
+        return index == 0 ? ENTITY_OWNERS_MODULE_NAME : ENTITY_OWNERS_MODULE_NAME + "-" + index;
+    }
+
+    private static URI entityOwnersNamespace(final int index) {
+        // Each module needs its own namespace. Only the first shard is reachable through the entity-owners namespace
+        // of the data store, the others are accessed only through this service.
+        final URI namespace = EntityOwners.QNAME.getNamespace();
+        return index == 0 ? namespace : URI.create(namespace + "-" + index);
+    }
+
+    /**
+     * Returns the index of the shard owning an entity. The hash must yield the same result on all members, hence it
+     * is computed from the string forms of the entity type and identifier rather than from their hash codes.
+     */
+    @VisibleForTesting
+    int shardIndexFor(final DOMEntity entity) {
+        if (shardCount == 1) {
+            return 0;
+        }
+
+        final int hash = Hashing.murmur3_32().newHasher().putUnencodedChars(entity.getType())
+                .putUnencodedChars(entity.getIdentifier().toString()).hash().asInt();
+        return Math.floorMod(hash, shardCount);
     }
 
     private void executeEntityOwnershipShardOperation(final ActorRef shardActor, final Object message) {
@@ -119,18 +171,38 @@ public class DistributedEntityOwnershipService implements DOMEntityOwnershipServ
         }, context.getClientDispatcher());
     }
 
+    /**
+     * Sends a message to the local entity ownership shards. Candidate messages go to the shard owning the entity,
+     * listener messages go to all shards, as entities of a type may reside in any of them.
+     */
     @VisibleForTesting
     void executeLocalEntityOwnershipShardOperation(final Object message) {
+        if (message instanceof RegisterCandidateLocal) {
+            executeLocalEntityOwnershipShardOperation(
+                    shardIndexFor(((RegisterCandidateLocal) message).getEntity()), message);
+        } else if (message instanceof UnregisterCandidateLocal) {
+            executeLocalEntityOwnershipShardOperation(
+                    shardIndexFor(((UnregisterCandidateLocal) message).getEntity()), message);
+        } else {
+            for (int i = 0; i < shardCount; i++) {
+                executeLocalEntityOwnershipShardOperation(i, message);
+            }
+        }
+    }
+
+    private void executeLocalEntityOwnershipShardOperation(final int index, final Object message) {
+        final ActorRef localEntityOwnershipShard = localEntityOwnershipShards.get(index);
         if (localEntityOwnershipShard == null) {
-            Future<ActorRef> future = context.findLocalShardAsync(ENTITY_OWNERSHIP_SHARD_NAME);
+            final String shardName = entityOwnershipShardName(index, shardCount);
+            Future<ActorRef> future = context.findLocalShardAsync(shardName);
             future.onComplete(new OnComplete<ActorRef>() {
                 @Override
                 public void onComplete(final Throwable failure, final ActorRef shardActor) {
                     if (failure != null) {
-                        LOG.error("Failed to find local {} shard", ENTITY_OWNERSHIP_SHARD_NAME, failure);
+                        LOG.error("Failed to find local {} shard", shardName, failure);
                     } else {
-                        localEntityOwnershipShard = shardActor;
-                        executeEntityOwnershipShardOperation(localEntityOwnershipShard, message);
+                        localEntityOwnershipShards.set(index, shardActor);
+                        executeEntityOwnershipShardOperation(shardActor, message);
                     }
                 }
             }, context.getClientDispatcher());
@@ -182,7 +254,7 @@ public class DistributedEntityOwnershipService implements DOMEntityOwnershipServ
     public Optional<EntityOwnershipState> getOwnershipState(final DOMEntity forEntity) {
         Preconditions.checkNotNull(forEntity, "forEntity cannot be null");
 
-        DataTree dataTree = getLocalEntityOwnershipShardDataTree();
+        DataTree dataTree = getLocalEntityOwnershipShardDataTree(shardIndexFor(forEntity));
         if (dataTree == null) {
             return Optional.absent();
         }
@@ -219,22 +291,26 @@ public class DistributedEntityOwnershipService implements DOMEntityOwnershipServ
 
     @VisibleForTesting
     @SuppressWarnings("checkstyle:IllegalCatch")
-    DataTree getLocalEntityOwnershipShardDataTree() {
-        if (localEntityOwnershipShardDataTree == null) {
+    DataTree getLocalEntityOwnershipShardDataTree(final int index) {
+        DataTree dataTree = localEntityOwnershipShardDataTrees.get(index);
+        if (dataTree == null) {
+            final String shardName = entityOwnershipShardName(index, shardCount);
             try {
+                ActorRef localEntityOwnershipShard = localEntityOwnershipShards.get(index);
                 if (localEntityOwnershipShard == null) {
-                    localEntityOwnershipShard = Await.result(context.findLocalShardAsync(
-                            ENTITY_OWNERSHIP_SHARD_NAME), Duration.Inf());
+                    localEntityOwnershipShard = Await.result(context.findLocalShardAsync(shardName), Duration.Inf());
+                    localEntityOwnershipShards.set(index, localEntityOwnershipShard);
                 }
 
-                localEntityOwnershipShardDataTree = (DataTree) Await.result(Patterns.ask(localEntityOwnershipShard,
+                dataTree = (DataTree) Await.result(Patterns.ask(localEntityOwnershipShard,
                         GetShardDataTree.INSTANCE, MESSAGE_TIMEOUT), Duration.Inf());
+                localEntityOwnershipShardDataTrees.set(index, dataTree);
             } catch (Exception e) {
-                LOG.error("Failed to find local {} shard", ENTITY_OWNERSHIP_SHARD_NAME, e);
+                LOG.error("Failed to find local {} shard", shardName, e);
             }
         }
 
-        return localEntityOwnershipShardDataTree;
+        return dataTree;
     }
 
     void unregisterListener(final String entityType, final DOMEntityOwnershipListener listener) {
@@ -255,6 +331,11 @@ public class DistributedEntityOwnershipService implements DOMEntityOwnershipServ
 
     @VisibleForTesting
     ActorRef getLocalEntityOwnershipShard() {
-        return localEntityOwnershipShard;
+        return localEntityOwnershipShards.get(0);
+    }
+
+    @VisibleForTesting
+    int getShardCount() {
+        return shardCount;
     }
 }
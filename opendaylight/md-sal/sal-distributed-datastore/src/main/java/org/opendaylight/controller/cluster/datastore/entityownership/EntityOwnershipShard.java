@@ -88,6 +88,10 @@ class EntityOwnershipShard extends Shard {
     private final EntityOwnerSelectionStrategyConfig strategyConfig;
     private final Map<YangInstanceIdentifier, Cancellable> entityToScheduledOwnershipTask = new HashMap<>();
     private final EntityOwnershipStatistics entityOwnershipStatistics;
+
+    // Owner selection strategies resolved while the current batch of modifications was accumulated, keyed by
+    // entity type. Cleared whenever a batch is committed, so statistics are only sampled once per batch.
+    private final Map<String, EntityOwnerSelectionStrategy> batchStrategies = new HashMap<>();
     private boolean removeAllInitialCandidates = true;
 
     protected EntityOwnershipShard(final Builder builder) {
@@ -354,6 +358,7 @@ class EntityOwnershipShard extends Shard {
             // This allows the strategies to be re-initialized with existing statistics maintained by
             // EntityOwnershipStatistics
             strategyConfig.clearStrategies();
+            batchStrategies.clear();
 
             // Re-assign owners for all members that are known to be down. In a cluster which has greater than
             // 3 nodes it is possible for some node beside the leader being down when the leadership transitions
@@ -417,7 +422,17 @@ class EntityOwnershipShard extends Shard {
 
     private EntityOwnerSelectionStrategy getEntityOwnerElectionStrategy(final YangInstanceIdentifier entityPath) {
         final String entityType = EntityOwnersModel.entityTypeFromEntityPath(entityPath);
-        return strategyConfig.createStrategy(entityType, entityOwnershipStatistics.byEntityType(entityType));
+        return batchStrategies.computeIfAbsent(entityType,
+            type -> strategyConfig.createStrategy(type, entityOwnershipStatistics.byEntityType(type)));
+    }
+
+    void onCommitBatch(final int size) {
+        batchStrategies.clear();
+        entityOwnershipStatistics.onCommitBatch(size);
+    }
+
+    EntityOwnershipStatistics getEntityOwnershipStatistics() {
+        return entityOwnershipStatistics;
     }
 
     private void onCandidateAdded(final CandidateAdded message) {
@@ -46,6 +46,12 @@ class EntityOwnershipShardCommitCoordinator {
             return "entityCommitRetry";
         }
     };
+    private static final Object COMMIT_BATCH_MESSAGE = new Object() {
+        @Override
+        public String toString() {
+            return "entityCommitBatch";
+        }
+    };
     private static final FrontendType FRONTEND_TYPE = FrontendType.forName("entity-ownership-internal");
 
     private final Queue<Modification> pendingModifications = new LinkedList<>();
@@ -55,6 +61,7 @@ class EntityOwnershipShardCommitCoordinator {
     private BatchedModifications inflightCommit;
     private Cancellable retryCommitSchedule;
     private long transactionIDCounter = 0;
+    private boolean batchCommitScheduled;
 
     EntityOwnershipShardCommitCoordinator(MemberName localMemberName, Logger log) {
         this.log = Preconditions.checkNotNull(log);
@@ -72,6 +79,9 @@ class EntityOwnershipShardCommitCoordinator {
             inflightCommitFailure(((Failure) message).cause(), shard);
         } else if (COMMIT_RETRY_MESSAGE.equals(message)) {
             retryInflightCommit(shard);
+        } else if (COMMIT_BATCH_MESSAGE.equals(message)) {
+            batchCommitScheduled = false;
+            commitNextBatch(shard);
         } else {
             handled = false;
         }
@@ -156,6 +166,7 @@ class EntityOwnershipShardCommitCoordinator {
         log.debug("Committing next BatchedModifications {}, size {}", inflightCommit.getTransactionId(),
                 inflightCommit.getModifications().size());
 
+        shard.onCommitBatch(inflightCommit.getModifications().size());
         shard.tryCommitModifications(inflightCommit);
     }
 
@@ -168,18 +179,20 @@ class EntityOwnershipShardCommitCoordinator {
             return;
         }
 
+        pendingModifications.addAll(modifications);
+
         boolean hasLeader = shard.hasLeader();
         if (inflightCommit != null || !hasLeader) {
             if (log.isDebugEnabled()) {
                 log.debug("{} - adding modifications to pending",
                         inflightCommit != null ? "A commit is inflight" : "No shard leader");
             }
-
-            pendingModifications.addAll(modifications);
-        } else {
-            inflightCommit = newBatchedModifications();
-            inflightCommit.addModifications(modifications);
-            shard.tryCommitModifications(inflightCommit);
+        } else if (!batchCommitScheduled) {
+            // Rather than committing right away, let the shard process the messages already queued in its mailbox
+            // first, so that modifications resulting from a burst of registrations or owner selections are coalesced
+            // into a single transaction.
+            batchCommitScheduled = true;
+            shard.getSelf().tell(COMMIT_BATCH_MESSAGE, ActorRef.noSender());
         }
     }
 
@@ -15,6 +15,8 @@ import com.google.common.base.Strings;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.annotation.Nonnull;
 import org.opendaylight.yangtools.triemap.TrieMap;
 import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
@@ -33,6 +35,11 @@ class EntityOwnershipStatistics extends AbstractEntityOwnerChangeListener {
 
     private final TrieMap<String, TrieMap<String, Long>> statistics = TrieMap.create();
 
+    // Statistics about the batches of modifications committed by the shard
+    private final AtomicLong committedBatchCount = new AtomicLong();
+    private final AtomicLong committedModificationCount = new AtomicLong();
+    private final AtomicInteger maxCommittedBatchSize = new AtomicInteger();
+
     EntityOwnershipStatistics(){
     }
 
@@ -72,6 +79,29 @@ class EntityOwnershipStatistics extends AbstractEntityOwnerChangeListener {
         return new HashMap<>();
     }
 
+    void onCommitBatch(final int size) {
+        committedBatchCount.incrementAndGet();
+        committedModificationCount.addAndGet(size);
+        maxCommittedBatchSize.accumulateAndGet(size, Math::max);
+    }
+
+    long getCommittedBatchCount() {
+        return committedBatchCount.get();
+    }
+
+    long getCommittedModificationCount() {
+        return committedModificationCount.get();
+    }
+
+    int getMaxCommittedBatchSize() {
+        return maxCommittedBatchSize.get();
+    }
+
+    double getAverageCommittedBatchSize() {
+        final long batches = committedBatchCount.get();
+        return batches == 0 ? 0 : (double) committedModificationCount.get() / batches;
+    }
+
     private void updateStatistics(final String entityType, final String candidateName, final long count) {
         TrieMap<String, Long> map = statistics.get(entityType);
         if (map == null) {
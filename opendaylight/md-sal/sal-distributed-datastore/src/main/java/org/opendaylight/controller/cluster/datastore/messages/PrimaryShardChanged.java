@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.messages;
+
+import com.google.common.base.Preconditions;
+import java.io.Serializable;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A remote message pushed by a ShardManager to peers which subscribed via {@link SubscribePrimaryShardChanges},
+ * carrying the new primary of a shard. A null primary path indicates the shard currently has no usable leader. The
+ * election term in which the sender observed the primary allows receivers to discard pushes which arrive out of order
+ * or from a member which has not caught up with a newer election.
+ */
+public class PrimaryShardChanged implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String shardName;
+    private final String primaryPath;
+    private final short primaryVersion;
+    private final long term;
+
+    public PrimaryShardChanged(@Nonnull final String shardName, @Nullable final String primaryPath,
+            final short primaryVersion, final long term) {
+        this.shardName = Preconditions.checkNotNull(shardName, "shardName should not be null");
+        this.primaryPath = primaryPath;
+        this.primaryVersion = primaryVersion;
+        this.term = term;
+    }
+
+    @Nonnull
+    public String getShardName() {
+        return shardName;
+    }
+
+    @Nullable
+    public String getPrimaryPath() {
+        return primaryPath;
+    }
+
+    public short getPrimaryVersion() {
+        return primaryVersion;
+    }
+
+    public long getTerm() {
+        return term;
+    }
+
+    @Override
+    public String toString() {
+        return "PrimaryShardChanged [shardName=" + shardName + ", primaryPath=" + primaryPath
+                + ", primaryVersion=" + primaryVersion + ", term=" + term + "]";
+    }
+}
@@ -27,13 +27,23 @@ public class ShardLeaderStateChanged extends LeaderStateChanged {
 
     public ShardLeaderStateChanged(@Nonnull String memberId, @Nullable String leaderId,
             @Nonnull DataTree localShardDataTree, short leaderPayloadVersion) {
-        super(memberId, leaderId, leaderPayloadVersion);
+        this(memberId, leaderId, localShardDataTree, leaderPayloadVersion, UNKNOWN_TERM);
+    }
+
+    public ShardLeaderStateChanged(@Nonnull String memberId, @Nullable String leaderId,
+            @Nonnull DataTree localShardDataTree, short leaderPayloadVersion, long term) {
+        super(memberId, leaderId, leaderPayloadVersion, term);
         this.localShardDataTree = Preconditions.checkNotNull(localShardDataTree);
     }
 
     public ShardLeaderStateChanged(@Nonnull String memberId, @Nullable String leaderId,
             short leaderPayloadVersion) {
-        super(memberId, leaderId, leaderPayloadVersion);
+        this(memberId, leaderId, leaderPayloadVersion, UNKNOWN_TERM);
+    }
+
+    public ShardLeaderStateChanged(@Nonnull String memberId, @Nullable String leaderId,
+            short leaderPayloadVersion, long term) {
+        super(memberId, leaderId, leaderPayloadVersion, term);
         this.localShardDataTree = null;
     }
 
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.messages;
+
+import com.google.common.base.Preconditions;
+import java.io.Serializable;
+import javax.annotation.Nonnull;
+
+/**
+ * A remote message sent by a ShardManager which has no local replica of a shard to the ShardManagers of its peers,
+ * requesting to be notified via {@link PrimaryShardChanged} whenever the primary of the shard changes.
+ */
+public class SubscribePrimaryShardChanges implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String shardName;
+
+    public SubscribePrimaryShardChanges(@Nonnull final String shardName) {
+        this.shardName = Preconditions.checkNotNull(shardName, "shardName should not be null");
+    }
+
+    @Nonnull
+    public String getShardName() {
+        return shardName;
+    }
+
+    @Override
+    public String toString() {
+        return "SubscribePrimaryShardChanges [shardName=" + shardName + "]";
+    }
+}
@@ -28,6 +28,7 @@ import org.opendaylight.controller.cluster.datastore.messages.PeerDown;
 import org.opendaylight.controller.cluster.datastore.messages.PeerUp;
 import org.opendaylight.controller.cluster.datastore.shardmanager.ShardManager.OnShardInitialized;
 import org.opendaylight.controller.cluster.datastore.shardmanager.ShardManager.OnShardReady;
+import org.opendaylight.controller.cluster.notifications.LeaderStateChanged;
 import org.opendaylight.controller.cluster.raft.RaftState;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTree;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
@@ -60,6 +61,7 @@ final class ShardInformation {
     private String role ;
     private String leaderId;
     private short leaderVersion;
+    private long leaderTerm = LeaderStateChanged.UNKNOWN_TERM;
 
     private DatastoreContext datastoreContext;
     private Shard.AbstractBuilder<?, ?> builder;
@@ -264,6 +266,14 @@ final class ShardInformation {
         this.leaderVersion = leaderVersion;
     }
 
+    long getLeaderTerm() {
+        return leaderTerm;
+    }
+
+    void setLeaderTerm(final long leaderTerm) {
+        this.leaderTerm = leaderTerm;
+    }
+
     boolean isActiveMember() {
         return isActiveMember;
     }
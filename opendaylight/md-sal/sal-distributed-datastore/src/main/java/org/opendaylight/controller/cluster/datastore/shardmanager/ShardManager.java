@@ -11,6 +11,7 @@ package org.opendaylight.controller.cluster.datastore.shardmanager;
 import static akka.pattern.Patterns.ask;
 
 import akka.actor.ActorRef;
+import akka.actor.ActorSelection;
 import akka.actor.Address;
 import akka.actor.Cancellable;
 import akka.actor.OneForOneStrategy;
@@ -18,6 +19,7 @@ import akka.actor.PoisonPill;
 import akka.actor.Status;
 import akka.actor.SupervisorStrategy;
 import akka.actor.SupervisorStrategy.Directive;
+import akka.actor.Terminated;
 import akka.cluster.ClusterEvent;
 import akka.cluster.ClusterEvent.MemberWeaklyUp;
 import akka.cluster.Member;
@@ -40,9 +42,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -54,6 +59,7 @@ import org.opendaylight.controller.cluster.common.actor.AbstractUntypedPersisten
 import org.opendaylight.controller.cluster.common.actor.Dispatchers;
 import org.opendaylight.controller.cluster.datastore.AbstractDataStore;
 import org.opendaylight.controller.cluster.datastore.ClusterWrapper;
+import org.opendaylight.controller.cluster.datastore.DataStoreVersions;
 import org.opendaylight.controller.cluster.datastore.DatastoreContext;
 import org.opendaylight.controller.cluster.datastore.DatastoreContext.Builder;
 import org.opendaylight.controller.cluster.datastore.DatastoreContextFactory;
@@ -79,11 +85,14 @@ import org.opendaylight.controller.cluster.datastore.messages.GetShardRoleReply;
 import org.opendaylight.controller.cluster.datastore.messages.LocalPrimaryShardFound;
 import org.opendaylight.controller.cluster.datastore.messages.LocalShardFound;
 import org.opendaylight.controller.cluster.datastore.messages.LocalShardNotFound;
+import org.opendaylight.controller.cluster.datastore.messages.PrimaryShardChanged;
+import org.opendaylight.controller.cluster.datastore.messages.PrimaryShardInfo;
 import org.opendaylight.controller.cluster.datastore.messages.RemoteFindPrimary;
 import org.opendaylight.controller.cluster.datastore.messages.RemotePrimaryShardFound;
 import org.opendaylight.controller.cluster.datastore.messages.RemovePrefixShardReplica;
 import org.opendaylight.controller.cluster.datastore.messages.RemoveShardReplica;
 import org.opendaylight.controller.cluster.datastore.messages.ShardLeaderStateChanged;
+import org.opendaylight.controller.cluster.datastore.messages.SubscribePrimaryShardChanges;
 import org.opendaylight.controller.cluster.datastore.messages.UpdateSchemaContext;
 import org.opendaylight.controller.cluster.datastore.persisted.DatastoreSnapshot;
 import org.opendaylight.controller.cluster.datastore.persisted.ShardManagerSnapshot;
@@ -117,6 +126,7 @@ import org.opendaylight.controller.md.sal.dom.api.DOMDataTreeChangeListener;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
 import org.opendaylight.yangtools.concepts.ListenerRegistration;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTree;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -172,6 +182,21 @@ class ShardManager extends AbstractUntypedPersistentActorWithMetering {
 
     private final Map<String, CompositeOnComplete<Boolean>> shardActorsStopping = new HashMap<>();
 
+    // Remote ShardManagers to be notified of primary changes of local shards, keyed by shard name
+    private final Map<String, Set<ActorRef>> primaryShardSubscribers = new HashMap<>();
+
+    // Shards without a local replica for which we have asked peers to push primary changes
+    private final Set<String> remotePrimaryShardSubscriptions = new HashSet<>();
+
+    // Highest election term seen in pushed primary changes, keyed by shard name
+    private final Map<String, Long> remotePrimaryShardTerms = new HashMap<>();
+
+    // Local shards whose actor creation is deferred because too many shards are initializing
+    private final Map<String, ShardInformation> pendingShardCreations = new LinkedHashMap<>();
+
+    // Local shards whose actor has been created but has not reported ActorInitialized yet
+    private final Set<String> initializingShards = new HashSet<>();
+
     private final String persistenceId;
     private final AbstractDataStore dataStore;
 
@@ -254,6 +279,12 @@ class ShardManager extends AbstractUntypedPersistentActorWithMetering {
             onShardNotInitializedTimeout((ShardNotInitializedTimeout) message);
         } else if (message instanceof ShardLeaderStateChanged) {
             onLeaderStateChanged((ShardLeaderStateChanged) message);
+        } else if (message instanceof SubscribePrimaryShardChanges) {
+            onSubscribePrimaryShardChanges((SubscribePrimaryShardChanges) message);
+        } else if (message instanceof PrimaryShardChanged) {
+            onPrimaryShardChanged((PrimaryShardChanged) message);
+        } else if (message instanceof Terminated) {
+            onTerminated((Terminated) message);
         } else if (message instanceof SwitchShardBehavior) {
             onSwitchShardBehavior((SwitchShardBehavior) message);
         } else if (message instanceof CreateShard) {
@@ -505,6 +536,11 @@ class ShardManager extends AbstractUntypedPersistentActorWithMetering {
     private void removeShard(final ShardIdentifier shardId) {
         final String shardName = shardId.getShardName();
         final ShardInformation shardInformation = localShards.remove(shardName);
+        pendingShardCreations.remove(shardName);
+        if (initializingShards.remove(shardName)) {
+            createPendingShardActors();
+        }
+
         if (shardInformation == null) {
             LOG.debug("{} : Shard replica {} is not present in list", persistenceId(), shardId.toString());
             return;
@@ -670,7 +706,7 @@ class ShardManager extends AbstractUntypedPersistentActorWithMetering {
 
         if (schemaContext != null) {
             info.setSchemaContext(schemaContext);
-            info.setActor(newShardActor(info));
+            scheduleShardActorCreation(info);
         }
     }
 
@@ -746,6 +782,8 @@ class ShardManager extends AbstractUntypedPersistentActorWithMetering {
     }
 
     private void checkReady() {
+        updateShardStartupStatus();
+
         if (isReadyWithLeaderId()) {
             LOG.info("{}: All Shards are ready - data store {} is ready, available count is {}",
                     persistenceId(), type, waitTillReadyCountdownLatch.getCount());
@@ -761,8 +799,9 @@ class ShardManager extends AbstractUntypedPersistentActorWithMetering {
         if (shardInformation != null) {
             shardInformation.setLocalDataTree(leaderStateChanged.getLocalShardDataTree());
             shardInformation.setLeaderVersion(leaderStateChanged.getLeaderPayloadVersion());
+            shardInformation.setLeaderTerm(leaderStateChanged.getTerm());
             if (shardInformation.setLeaderId(leaderStateChanged.getLeaderId())) {
-                primaryShardInfoCache.remove(shardInformation.getShardName());
+                publishPrimaryShardInfo(shardInformation);
             }
 
             checkReady();
@@ -771,6 +810,91 @@ class ShardManager extends AbstractUntypedPersistentActorWithMetering {
         }
     }
 
+    /**
+     * Proactively updates the primary shard info cache with the new leader of a local shard and pushes the change
+     * to subscribed peers, so frontends do not have to fail a request and issue a FindPrimary to learn about it.
+     * If the shard has no usable leader yet, the cached information is invalidated instead.
+     */
+    private void publishPrimaryShardInfo(final ShardInformation info) {
+        final String shardName = info.getShardName();
+        final String primaryPath;
+        if (info.isShardReadyWithLeaderId()) {
+            primaryPath = info.getSerializedLeaderActor();
+            final ActorSelection primaryActor = getContext().system().actorSelection(primaryPath);
+            final Optional<DataTree> localDataTree = info.getLocalShardDataTree();
+            primaryShardInfoCache.putSuccessful(shardName, info.isLeader() && localDataTree.isPresent()
+                    ? new PrimaryShardInfo(primaryActor, DataStoreVersions.CURRENT_VERSION, localDataTree.get())
+                        : new PrimaryShardInfo(primaryActor, info.getLeaderVersion()));
+        } else {
+            primaryPath = null;
+            primaryShardInfoCache.remove(shardName);
+        }
+
+        final Set<ActorRef> subscribers = primaryShardSubscribers.get(shardName);
+        if (subscribers != null && !subscribers.isEmpty()) {
+            final PrimaryShardChanged changed = new PrimaryShardChanged(shardName, primaryPath,
+                    info.getLeaderVersion(), info.getLeaderTerm());
+            LOG.debug("{}: Pushing {} to {}", persistenceId(), changed, subscribers);
+            for (ActorRef subscriber : subscribers) {
+                subscriber.tell(changed, getSelf());
+            }
+        }
+    }
+
+    private void onSubscribePrimaryShardChanges(final SubscribePrimaryShardChanges message) {
+        LOG.debug("{}: Received {} from {}", persistenceId(), message, getSender());
+
+        final ActorRef subscriber = getSender();
+        if (primaryShardSubscribers.computeIfAbsent(message.getShardName(), k -> new HashSet<>()).add(subscriber)) {
+            // The subscriber may go away without its member leaving the cluster, e.g. on a restart
+            getContext().watch(subscriber);
+        }
+    }
+
+    private void onTerminated(final Terminated message) {
+        LOG.debug("{}: Primary shard change subscriber {} terminated", persistenceId(), message.getActor());
+
+        for (Set<ActorRef> subscribers : primaryShardSubscribers.values()) {
+            subscribers.remove(message.getActor());
+        }
+    }
+
+    private void onPrimaryShardChanged(final PrimaryShardChanged message) {
+        LOG.debug("{}: Received {}", persistenceId(), message);
+
+        final String shardName = message.getShardName();
+        final ShardInformation info = localShards.get(shardName);
+        if (info != null && info.isActiveMember()) {
+            // Our local replica tells us about leader changes directly
+            return;
+        }
+
+        // Pushes from different peers are not ordered with respect to each other and a peer may not have caught up
+        // with a newer election yet, so never let an older term replace what we have learned from a newer one.
+        final Long lastTerm = remotePrimaryShardTerms.get(shardName);
+        if (lastTerm != null && message.getTerm() < lastTerm) {
+            LOG.debug("{}: Ignoring {} older than term {}", persistenceId(), message, lastTerm);
+            return;
+        }
+
+        remotePrimaryShardTerms.put(shardName, message.getTerm());
+        if (message.getPrimaryPath() != null) {
+            primaryShardInfoCache.putSuccessful(shardName, new PrimaryShardInfo(
+                    getContext().system().actorSelection(message.getPrimaryPath()), message.getPrimaryVersion()));
+        } else {
+            primaryShardInfoCache.remove(shardName);
+        }
+    }
+
+    private void subscribeToRemotePrimaryShardChanges(final String shardName) {
+        if (remotePrimaryShardSubscriptions.add(shardName)) {
+            final SubscribePrimaryShardChanges subscribe = new SubscribePrimaryShardChanges(shardName);
+            for (String address : peerAddressResolver.getShardManagerPeerActorAddresses()) {
+                getContext().actorSelection(address).tell(subscribe, getSelf());
+            }
+        }
+    }
+
     private void onShardNotInitializedTimeout(final ShardNotInitializedTimeout message) {
         ShardInformation shardInfo = message.getShardInfo();
 
@@ -871,11 +995,16 @@ class ShardManager extends AbstractUntypedPersistentActorWithMetering {
         LOG.debug("{}: Initializing shard [{}]", persistenceId(), shardName);
 
         ShardInformation shardInformation = localShards.get(shardName);
-        if (shardInformation != null) {
+        if (shardInformation != null && shardInformation.getActor() != null) {
             shardInformation.setActorInitialized();
 
             shardInformation.getActor().tell(new RegisterRoleChangeListener(), self());
         }
+
+        if (initializingShards.remove(shardName)) {
+            createPendingShardActors();
+        }
+        updateShardStartupStatus();
     }
 
     @Override
@@ -973,12 +1102,25 @@ class ShardManager extends AbstractUntypedPersistentActorWithMetering {
                 message.member().address());
 
         peerAddressResolver.removePeerAddress(memberName);
+        removePrimaryShardSubscribers(message.member().address());
 
         for (ShardInformation info : localShards.values()) {
             info.peerDown(memberName, getShardIdentifier(memberName, info.getShardName()).toString(), getSelf());
         }
     }
 
+    private void removePrimaryShardSubscribers(final Address address) {
+        for (Set<ActorRef> subscribers : primaryShardSubscribers.values()) {
+            subscribers.removeIf(subscriber -> {
+                if (address.equals(subscriber.path().address())) {
+                    getContext().unwatch(subscriber);
+                    return true;
+                }
+                return false;
+            });
+        }
+    }
+
     private void memberExited(final ClusterEvent.MemberExited message) {
         MemberName memberName = memberToName(message.member());
 
@@ -1018,6 +1160,14 @@ class ShardManager extends AbstractUntypedPersistentActorWithMetering {
     private void addPeerAddress(final MemberName memberName, final Address address) {
         peerAddressResolver.addPeerAddress(memberName, address);
 
+        if (!remotePrimaryShardSubscriptions.isEmpty()) {
+            final ActorSelection peerShardManager = getContext().actorSelection(
+                    peerAddressResolver.getShardManagerActorPathBuilder(address).toString());
+            for (String shardName : remotePrimaryShardSubscriptions) {
+                peerShardManager.tell(new SubscribePrimaryShardChanges(shardName), getSelf());
+            }
+        }
+
         for (ShardInformation info : localShards.values()) {
             String shardName = info.getShardName();
             String peerId = getShardIdentifier(memberName, shardName).toString();
@@ -1135,23 +1285,108 @@ class ShardManager extends AbstractUntypedPersistentActorWithMetering {
             info.setSchemaContext(schemaContext);
 
             if (info.getActor() == null) {
-                LOG.debug("Creating Shard {}", info.getShardId());
-                info.setActor(newShardActor(info));
-                // Update peer address for every existing peer memeber to avoid missing sending
-                // PeerAddressResolved and PeerUp to this shard while UpdateSchemaContext comes after MemberUp.
-                String shardName = info.getShardName();
-                for (MemberName memberName : peerAddressResolver.getPeerMembers()) {
-                    String peerId = getShardIdentifier(memberName, shardName).toString() ;
-                    String peerAddress = peerAddressResolver.getShardActorAddress(shardName, memberName);
-                    info.updatePeerAddress(peerId, peerAddress, getSelf());
-                    info.peerUp(memberName, peerId, getSelf());
-                    LOG.debug("{}: updated peer {} on member {} with address {} on shard {} whose actor address is {}",
-                            persistenceId(), peerId, memberName, peerAddress, info.getShardId(), info.getActor());
+                if (!pendingShardCreations.containsKey(info.getShardName())) {
+                    scheduleShardActorCreation(info);
                 }
             } else {
                 info.getActor().tell(message, getSelf());
             }
         }
+
+        updateShardStartupStatus();
+    }
+
+    /**
+     * Creates the actor of a local shard, unless the configured maximum number of shards is already initializing.
+     * In that case creation is deferred until one of the initializing shards reports ActorInitialized.
+     */
+    private void scheduleShardActorCreation(final ShardInformation info) {
+        final int maxConcurrent = datastoreContextFactory.getBaseDatastoreContext()
+                .getMaxConcurrentShardInitializations();
+        if (maxConcurrent > 0 && initializingShards.size() >= maxConcurrent) {
+            LOG.debug("{}: Deferring creation of shard {} - {} shards are initializing", persistenceId(),
+                    info.getShardId(), initializingShards.size());
+            pendingShardCreations.put(info.getShardName(), info);
+            return;
+        }
+
+        createShardActor(info);
+    }
+
+    private void createShardActor(final ShardInformation info) {
+        LOG.debug("Creating Shard {}", info.getShardId());
+        info.setActor(newShardActor(info));
+
+        final String shardName = info.getShardName();
+        initializingShards.add(shardName);
+
+        // Update peer address for every existing peer memeber to avoid missing sending
+        // PeerAddressResolved and PeerUp to this shard while UpdateSchemaContext comes after MemberUp.
+        for (MemberName memberName : peerAddressResolver.getPeerMembers()) {
+            String peerId = getShardIdentifier(memberName, shardName).toString() ;
+            String peerAddress = peerAddressResolver.getShardActorAddress(shardName, memberName);
+            info.updatePeerAddress(peerId, peerAddress, getSelf());
+            info.peerUp(memberName, peerId, getSelf());
+            LOG.debug("{}: updated peer {} on member {} with address {} on shard {} whose actor address is {}",
+                    persistenceId(), peerId, memberName, peerAddress, info.getShardId(), info.getActor());
+        }
+
+        if (datastoreContextFactory.getBaseDatastoreContext().getMaxConcurrentShardInitializations() > 0) {
+            // Do not let a shard which never reports ActorInitialized hold up the others indefinitely
+            final ActorRef shardActor = info.getActor();
+            getContext().system().scheduler().scheduleOnce(
+                    info.getDatastoreContext().getShardInitializationTimeout().duration(), getSelf(),
+                    (RunnableMessage) () -> onShardInitializationSlotTimeout(shardName, shardActor),
+                    getContext().dispatcher(), ActorRef.noSender());
+        }
+    }
+
+    private void onShardInitializationSlotTimeout(final String shardName, final ActorRef shardActor) {
+        final ShardInformation info = localShards.get(shardName);
+        if (info != null && info.getActor() == shardActor && initializingShards.remove(shardName)) {
+            LOG.warn("{}: Shard {} did not initialize in time - starting remaining shards", persistenceId(),
+                    info.getShardId());
+            createPendingShardActors();
+        }
+    }
+
+    private void createPendingShardActors() {
+        final int maxConcurrent = datastoreContextFactory.getBaseDatastoreContext()
+                .getMaxConcurrentShardInitializations();
+        final Iterator<ShardInformation> it = pendingShardCreations.values().iterator();
+        while (it.hasNext() && (maxConcurrent <= 0 || initializingShards.size() < maxConcurrent)) {
+            final ShardInformation info = it.next();
+            it.remove();
+
+            // The shard may have been removed while it was waiting
+            if (localShards.get(info.getShardName()) == info && info.getActor() == null) {
+                createShardActor(info);
+            }
+        }
+    }
+
+    /**
+     * Reports the startup stage of local shards - how many are waiting to be created, how many are initializing
+     * and how many are ready with a known leader.
+     */
+    private void updateShardStartupStatus() {
+        int ready = 0;
+        for (ShardInformation info : localShards.values()) {
+            if (info.isShardReadyWithLeaderId()) {
+                ready++;
+            }
+        }
+
+        final int pending = pendingShardCreations.size();
+        final int initializing = initializingShards.size();
+        if (shardManagerMBean.updateShardStartupStatus(localShards.size(), pending, initializing, ready)) {
+            LOG.debug("{}: {} local shards - {} pending creation, {} initializing, {} ready", persistenceId(),
+                    localShards.size(), pending, initializing, ready);
+            if (pending == 0 && initializing == 0 && schemaContext != null) {
+                LOG.info("{}: All {} local shards are initialized, {} are ready", persistenceId(),
+                        localShards.size(), ready);
+            }
+        }
     }
 
     @VisibleForTesting
@@ -1204,6 +1439,10 @@ class ShardManager extends AbstractUntypedPersistentActorWithMetering {
             LOG.debug("{}: findPrimary for {} forwarding to remote ShardManager {}, visitedAddresses: {}",
                     persistenceId(), shardName, address, visitedAddresses);
 
+            if (!(message instanceof RemoteFindPrimary)) {
+                subscribeToRemotePrimaryShardChanges(shardName);
+            }
+
             getContext().actorSelection(address).forward(new RemoteFindPrimary(shardName,
                     message.isWaitUntilReady(), visitedAddresses), getContext());
             return;
@@ -1323,6 +1562,11 @@ class ShardManager extends AbstractUntypedPersistentActorWithMetering {
         return shardManagerMBean;
     }
 
+    @VisibleForTesting
+    Set<ActorRef> getPrimaryShardSubscribers(final String shardName) {
+        return primaryShardSubscribers.getOrDefault(shardName, Collections.emptySet());
+    }
+
     private boolean isShardReplicaOperationInProgress(final String shardName, final ActorRef sender) {
         if (shardReplicaOperationsInProgress.contains(shardName)) {
             String msg = String.format("A shard replica operation for %s is already in progress", shardName);
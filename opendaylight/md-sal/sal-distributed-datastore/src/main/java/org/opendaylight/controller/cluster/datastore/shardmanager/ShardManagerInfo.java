@@ -32,7 +32,10 @@ final class ShardManagerInfo extends AbstractMXBean implements ShardManagerInfoM
     private final MemberName memberName;
 
     private volatile boolean syncStatus = false;
-
+    private volatile int localShardCount;
+    private volatile int pendingShardCount;
+    private volatile int initializingShardCount;
+    private volatile int readyShardCount;
 
     ShardManagerInfo(final ActorRef shardManager, final MemberName memberName, final String name,
         final String mxBeanType) {
@@ -63,6 +66,39 @@ final class ShardManagerInfo extends AbstractMXBean implements ShardManagerInfoM
         this.syncStatus = syncStatus;
     }
 
+    @Override
+    public int getPendingShardCount() {
+        return pendingShardCount;
+    }
+
+    @Override
+    public int getInitializingShardCount() {
+        return initializingShardCount;
+    }
+
+    @Override
+    public int getReadyShardCount() {
+        return readyShardCount;
+    }
+
+    /**
+     * Updates the shard startup counters.
+     *
+     * @return true if any of the counters changed
+     */
+    boolean updateShardStartupStatus(final int local, final int pending, final int initializing, final int ready) {
+        if (local == localShardCount && pending == pendingShardCount && initializing == initializingShardCount
+                && ready == readyShardCount) {
+            return false;
+        }
+
+        localShardCount = local;
+        pendingShardCount = pending;
+        initializingShardCount = initializing;
+        readyShardCount = ready;
+        return true;
+    }
+
     @Override
     public String getMemberName() {
         return memberName.getName();
@@ -32,6 +32,28 @@ public interface ShardManagerInfoMBean {
      */
     String getMemberName();
 
+    /**
+     * Returns the number of local shards whose actor creation is deferred because the maximum number of
+     * concurrently initializing shards has been reached.
+     *
+     * @return the number of local shards waiting to be created
+     */
+    int getPendingShardCount();
+
+    /**
+     * Returns the number of local shards which have been created but have not finished their recovery yet.
+     *
+     * @return the number of initializing local shards
+     */
+    int getInitializingShardCount();
+
+    /**
+     * Returns the number of local shards which are initialized and have a known leader.
+     *
+     * @return the number of ready local shards
+     */
+    int getReadyShardCount();
+
     /**
      * Switches the raft behavior of all the local shards to the newBehavior.
      *
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.cluster.datastore.shardstrategy;
+
+import com.google.common.base.Preconditions;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opendaylight.controller.cluster.datastore.utils.ClusterUtils;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+
+/**
+ * Immutable prefix trie mapping configured shard prefixes to their {@link PrefixShardStrategy}. A lookup walks the
+ * path arguments of the requested path once and returns the strategy of the longest configured prefix, so its cost
+ * depends on the depth of the path rather than on the number of configured prefix shards.
+ *
+ * <p>
+ * Instances are never modified after construction, which allows them to be published through a volatile field and
+ * read concurrently without locking. A configuration change results in a new table being built.
+ */
+public final class PrefixShardStrategyTable {
+    private static final PrefixShardStrategyTable EMPTY = new PrefixShardStrategyTable(
+        new EnumMap<>(LogicalDatastoreType.class));
+
+    private static final class Node {
+        private final Map<PathArgument, Node> children = new HashMap<>();
+        private PrefixShardStrategy strategy;
+
+        Node ensureChild(final PathArgument arg) {
+            return children.computeIfAbsent(arg, k -> new Node());
+        }
+    }
+
+    private final Map<LogicalDatastoreType, Node> roots;
+
+    private PrefixShardStrategyTable(final Map<LogicalDatastoreType, Node> roots) {
+        this.roots = roots;
+    }
+
+    public static PrefixShardStrategyTable empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a new table containing the specified prefixes.
+     *
+     * @param prefixes the configured shard prefixes
+     * @return a new table
+     */
+    public static PrefixShardStrategyTable create(@Nonnull final Collection<DOMDataTreeIdentifier> prefixes) {
+        if (prefixes.isEmpty()) {
+            return EMPTY;
+        }
+
+        final Map<LogicalDatastoreType, Node> roots = new EnumMap<>(LogicalDatastoreType.class);
+        for (DOMDataTreeIdentifier prefix : prefixes) {
+            final YangInstanceIdentifier rootId = prefix.getRootIdentifier();
+
+            // A shard rooted at the empty path has never been matched by prefix lookups, paths falling outside of
+            // all other prefixes resolve to the default shard instead.
+            if (rootId.isEmpty()) {
+                continue;
+            }
+
+            Node node = roots.computeIfAbsent(prefix.getDatastoreType(), k -> new Node());
+            for (PathArgument arg : rootId.getPathArguments()) {
+                node = node.ensureChild(arg);
+            }
+
+            node.strategy = new PrefixShardStrategy(ClusterUtils.getCleanShardName(rootId), rootId);
+        }
+
+        return new PrefixShardStrategyTable(roots);
+    }
+
+    /**
+     * Returns the strategy of the longest configured prefix containing the specified path.
+     *
+     * @param path the path to look up
+     * @return the matching strategy, or null if the path is not covered by any configured prefix
+     */
+    @Nullable
+    public PrefixShardStrategy lookup(@Nonnull final DOMDataTreeIdentifier path) {
+        Preconditions.checkNotNull(path, "path should not be null");
+
+        Node node = roots.get(path.getDatastoreType());
+        if (node == null) {
+            return null;
+        }
+
+        PrefixShardStrategy match = null;
+        for (PathArgument arg : path.getRootIdentifier().getPathArguments()) {
+            node = node.children.get(arg);
+            if (node == null) {
+                break;
+            }
+            if (node.strategy != null) {
+                match = node.strategy;
+            }
+        }
+
+        return match;
+    }
+}
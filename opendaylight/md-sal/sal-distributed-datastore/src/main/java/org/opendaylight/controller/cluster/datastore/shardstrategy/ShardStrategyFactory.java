@@ -8,7 +8,10 @@
 
 package org.opendaylight.controller.cluster.datastore.shardstrategy;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.opendaylight.controller.cluster.datastore.config.Configuration;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
@@ -16,19 +19,62 @@ import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 
 public class ShardStrategyFactory {
     private static final String UNKNOWN_MODULE_NAME = "unknown";
+    private static final int MAX_CACHED_STRATEGIES = 10000;
+
+    /**
+     * Resolved strategies, valid for a single {@link Configuration#getGeneration()}. A configuration change causes
+     * the whole instance to be replaced, hence lookups racing with the change can only populate the discarded one.
+     */
+    private static final class StrategyCache {
+        final Cache<YangInstanceIdentifier, ShardStrategy> cache = CacheBuilder.newBuilder()
+                .maximumSize(MAX_CACHED_STRATEGIES).build();
+        final long generation;
+
+        StrategyCache(final long generation) {
+            this.generation = generation;
+        }
+    }
 
     private final Configuration configuration;
     private final LogicalDatastoreType logicalStoreType;
 
+    private volatile StrategyCache strategyCache;
+
     public ShardStrategyFactory(final Configuration configuration, final LogicalDatastoreType logicalStoreType) {
         Preconditions.checkState(configuration != null, "configuration should not be missing");
         this.configuration = configuration;
         this.logicalStoreType = Preconditions.checkNotNull(logicalStoreType);
+        this.strategyCache = new StrategyCache(configuration.getGeneration());
     }
 
     public ShardStrategy getStrategy(final YangInstanceIdentifier path) {
         Preconditions.checkNotNull(path, "path should not be null");
 
+        // Read the generation before resolving, so a concurrent configuration change can never leave a stale
+        // strategy in a cache which is considered current.
+        final long generation = configuration.getGeneration();
+        StrategyCache local = strategyCache;
+        if (local.generation != generation) {
+            local = new StrategyCache(generation);
+            strategyCache = local;
+        }
+
+        final ShardStrategy cached = local.cache.getIfPresent(path);
+        if (cached != null) {
+            return cached;
+        }
+
+        final ShardStrategy resolved = resolveStrategy(path);
+        local.cache.put(path, resolved);
+        return resolved;
+    }
+
+    @VisibleForTesting
+    long cachedStrategyCount() {
+        return strategyCache.cache.size();
+    }
+
+    private ShardStrategy resolveStrategy(final YangInstanceIdentifier path) {
         // try with the legacy module based shard mapping
         final String moduleName = getModuleName(path);
         final ShardStrategy shardStrategy = configuration.getStrategyForModule(moduleName);
@@ -97,6 +97,8 @@ public class DistributedOperationalDataStoreProviderModule
                 .transactionDebugContextEnabled(props.getTransactionDebugContextEnabled())
                 .customRaftPolicyImplementation(props.getCustomRaftPolicyImplementation())
                 .maximumMessageSliceSize(props.getMaximumMessageSliceSize().getValue().intValue())
+                .maxConcurrentShardInitializations(props.getMaxConcurrentShardInitializations().intValue())
+                .entityOwnershipShardCount(props.getEntityOwnershipShardCount().getValue().intValue())
                 .useTellBasedProtocol(props.getUseTellBasedProtocol())
                 .syncIndexThreshold(props.getSyncIndexThreshold().getValue())
                 .backendAlivenessTimerIntervalInSeconds(props.getBackendAlivenessTimerIntervalInSeconds().getValue())
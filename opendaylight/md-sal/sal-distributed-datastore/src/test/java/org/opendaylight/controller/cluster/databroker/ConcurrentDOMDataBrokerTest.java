@@ -111,6 +111,24 @@ public class ConcurrentDOMDataBrokerTest {
         testSuccessfulSubmit(false);
     }
 
+    @Test
+    public void testCommitStatsMXBeanSeesBufferedCommits() throws Exception {
+        final FlushingCommitStatsMXBeanImpl bean = new FlushingCommitStatsMXBeanImpl(coordinator, "Test");
+        assertEquals(0, bean.getTotalCommits());
+
+        doReturn(Futures.immediateFuture(true)).when(mockCohort1).canCommit();
+        doReturn(Futures.immediateFuture(null)).when(mockCohort1).preCommit();
+        doReturn(Futures.immediateFuture(null)).when(mockCohort1).commit();
+        coordinator.submit(transaction, Arrays.asList(mockCohort1)).get(5, TimeUnit.SECONDS);
+
+        // A single commit does not fill a stripe, the bean has to flush it
+        assertEquals(1, bean.getTotalCommits());
+        assertNotNull(bean.getLongestCommitTime());
+
+        bean.clearStats();
+        assertEquals(0, bean.getTotalCommits());
+    }
+
     private void testSuccessfulSubmit(final boolean doAsync) throws InterruptedException {
         final CountDownLatch asyncCanCommitContinue = new CountDownLatch(1);
         Answer<ListenableFuture<Boolean>> asyncCanCommit = invocation -> {
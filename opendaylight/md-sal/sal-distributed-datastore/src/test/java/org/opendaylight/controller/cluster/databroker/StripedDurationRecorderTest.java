@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.databroker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.Test;
+import org.opendaylight.yangtools.util.DurationStatisticsTracker;
+
+/**
+ * Unit tests for StripedDurationRecorder.
+ */
+public class StripedDurationRecorderTest {
+
+    @Test
+    public void testFlushWhenStripeIsFull() {
+        final DurationStatisticsTracker tracker = DurationStatisticsTracker.createConcurrent();
+        final StripedDurationRecorder recorder = new StripedDurationRecorder(tracker, 1);
+
+        final long startTime = System.nanoTime() - 1000;
+        for (int i = 0; i < StripedDurationRecorder.STRIPE_CAPACITY - 1; i++) {
+            recorder.recordSince(startTime);
+        }
+
+        assertEquals("Durations buffered", 0, tracker.getTotalDurations());
+
+        recorder.recordSince(startTime);
+        assertEquals(StripedDurationRecorder.STRIPE_CAPACITY, tracker.getTotalDurations());
+        assertTrue(tracker.getLongestDuration() > 0);
+    }
+
+    @Test
+    public void testConcurrentRecordAndFlush() throws InterruptedException {
+        final DurationStatisticsTracker tracker = DurationStatisticsTracker.createConcurrent();
+        final StripedDurationRecorder recorder = new StripedDurationRecorder(tracker, 4);
+
+        final int threadCount = 8;
+        final int perThread = 1000;
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            final Thread thread = new Thread(() -> {
+                try {
+                    startLatch.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+
+                for (int j = 0; j < perThread; j++) {
+                    recorder.recordSince(System.nanoTime());
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        startLatch.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        recorder.flush();
+        assertEquals(threadCount * perThread, tracker.getTotalDurations());
+    }
+}
@@ -30,8 +30,14 @@ import static org.opendaylight.controller.cluster.datastore.entityownership.Enti
 
 import akka.actor.ActorRef;
 import com.google.common.base.Optional;
+import com.google.common.base.Stopwatch;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import org.junit.After;
 import org.junit.Before;
@@ -85,9 +91,11 @@ public class DistributedEntityOwnershipServiceTest extends AbstractClusterRefEnt
 
     @Before
     public void setUp() {
-        DatastoreContext datastoreContext = DatastoreContext.newBuilder().dataStoreName(dataStoreName)
-                .shardInitializationTimeout(10, TimeUnit.SECONDS).build();
+        dataStore = newDataStore(DatastoreContext.newBuilder().dataStoreName(dataStoreName)
+                .shardInitializationTimeout(10, TimeUnit.SECONDS).build());
+    }
 
+    private AbstractDataStore newDataStore(final DatastoreContext datastoreContext) {
         Configuration configuration = new ConfigurationImpl(new EmptyModuleShardConfigProvider()) {
             @Override
             public Collection<MemberName> getUniqueMemberNamesForAllShards() {
@@ -99,10 +107,11 @@ public class DistributedEntityOwnershipServiceTest extends AbstractClusterRefEnt
         Mockito.doReturn(datastoreContext).when(mockContextFactory).getBaseDatastoreContext();
         Mockito.doReturn(datastoreContext).when(mockContextFactory).getShardDatastoreContext(Mockito.anyString());
 
-        dataStore = new DistributedDataStore(getSystem(), new MockClusterWrapper(), configuration,
-                mockContextFactory, null);
+        AbstractDataStore newDataStore = new DistributedDataStore(getSystem(), new MockClusterWrapper(),
+                configuration, mockContextFactory, null);
 
-        dataStore.onGlobalContextUpdated(SchemaContextHelper.entityOwners());
+        newDataStore.onGlobalContextUpdated(SchemaContextHelper.entityOwners());
+        return newDataStore;
     }
 
     @After
@@ -129,6 +138,83 @@ public class DistributedEntityOwnershipServiceTest extends AbstractClusterRefEnt
         service.close();
     }
 
+    @Test
+    public void testEntityOwnershipShardsCreated() throws Exception {
+        dataStore.close();
+        dataStore = newDataStore(DatastoreContext.newBuilder().dataStoreName(dataStoreName)
+                .shardInitializationTimeout(10, TimeUnit.SECONDS).entityOwnershipShardCount(3).build());
+
+        DistributedEntityOwnershipService service = DistributedEntityOwnershipService.start(dataStore.getActorContext(),
+                EntityOwnerSelectionStrategyConfig.newBuilder().build());
+        assertEquals("getShardCount", 3, service.getShardCount());
+
+        for (int i = 0; i < 3; i++) {
+            String shardName = DistributedEntityOwnershipService.entityOwnershipShardName(i, 3);
+            Future<ActorRef> future = dataStore.getActorContext().findLocalShardAsync(shardName);
+            ActorRef shardActor = Await.result(future, Duration.create(10, TimeUnit.SECONDS));
+            assertNotNull(shardName + " not found", shardActor);
+        }
+
+        assertEquals(DistributedEntityOwnershipService.ENTITY_OWNERSHIP_SHARD_NAME,
+                DistributedEntityOwnershipService.entityOwnershipShardName(0, 1));
+        assertEquals("Shard names differ between shard counts", "entity-ownership-0-of-3",
+                DistributedEntityOwnershipService.entityOwnershipShardName(0, 3));
+
+        service.close();
+    }
+
+    @Test
+    public void testShardNamesDifferBetweenShardCounts() {
+        final Set<String> names = new HashSet<>();
+        for (int count = 1; count <= 4; count++) {
+            for (int i = 0; i < count; i++) {
+                assertTrue("Duplicate shard name", names.add(
+                        DistributedEntityOwnershipService.entityOwnershipShardName(i, count)));
+            }
+        }
+    }
+
+    @Test
+    public void testShardedCandidateRegistration() throws Exception {
+        final int entityCount = 100;
+        final int shardCount = 4;
+
+        dataStore.close();
+        dataStore = newDataStore(DatastoreContext.newBuilder().dataStoreName(dataStoreName)
+                .shardInitializationTimeout(10, TimeUnit.SECONDS).entityOwnershipShardCount(shardCount).build());
+
+        DistributedEntityOwnershipService service = DistributedEntityOwnershipService.start(dataStore.getActorContext(),
+                EntityOwnerSelectionStrategyConfig.newBuilder().build());
+
+        final int[] entitiesPerShard = new int[shardCount];
+        final List<DOMEntity> entities = new ArrayList<>(entityCount);
+        for (int i = 0; i < entityCount; i++) {
+            DOMEntity entity = new DOMEntity(ENTITY_TYPE, "entity-" + i);
+            entities.add(entity);
+            entitiesPerShard[service.shardIndexFor(entity)]++;
+        }
+
+        for (int i = 0; i < shardCount; i++) {
+            assertTrue("Shard " + i + " has no entities", entitiesPerShard[i] > 0);
+        }
+
+        final Stopwatch sw = Stopwatch.createStarted();
+        for (DOMEntity entity : entities) {
+            service.registerCandidate(entity);
+        }
+
+        for (DOMEntity entity : entities) {
+            Optional<EntityOwnershipState> state = service.getOwnershipState(entity);
+            while (!state.isPresent() || state.get() != EntityOwnershipState.IS_OWNER) {
+                assertTrue("Timed out waiting for owner of " + entity, sw.elapsed(TimeUnit.SECONDS) < 10);
+                Uninterruptibles.sleepUninterruptibly(10, TimeUnit.MILLISECONDS);
+                state = service.getOwnershipState(entity);
+            }
+        }
+
+        service.close();
+    }
+
     @Test
     public void testRegisterCandidate() throws Exception {
         DistributedEntityOwnershipService service = spy(DistributedEntityOwnershipService.start(
@@ -228,7 +314,7 @@ public class DistributedEntityOwnershipServiceTest extends AbstractClusterRefEnt
         ShardDataTree shardDataTree = new ShardDataTree(mockShard, SchemaContextHelper.entityOwners(),
             TreeType.OPERATIONAL);
 
-        when(service.getLocalEntityOwnershipShardDataTree()).thenReturn(shardDataTree.getDataTree());
+        when(service.getLocalEntityOwnershipShardDataTree(Mockito.anyInt())).thenReturn(shardDataTree.getDataTree());
 
         DOMEntity entity1 = new DOMEntity(ENTITY_TYPE, "one");
         writeNode(ENTITY_OWNERS_PATH, entityOwnersWithCandidate(ENTITY_TYPE, entity1.getIdentifier(), "member-1"),
@@ -8,6 +8,7 @@
 package org.opendaylight.controller.cluster.datastore.entityownership;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.AdditionalMatchers.or;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
@@ -31,6 +32,7 @@ import akka.testkit.TestActorRef;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.Uninterruptibles;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -124,6 +126,42 @@ public class EntityOwnershipShardTest extends AbstractEntityOwnershipTest {
         testLog.info("testOnRegisterCandidateLocal ending");
     }
 
+    @Test
+    public void testBatchedCandidateRegistration() throws Exception {
+        testLog.info("testBatchedCandidateRegistration starting");
+
+        ShardTestKit kit = new ShardTestKit(getSystem());
+
+        TestActorRef<EntityOwnershipShard> shard = actorFactory.createTestActor(newLocalShardProps());
+
+        ShardTestKit.waitUntilLeader(shard);
+
+        final List<YangInstanceIdentifier> entityIds = Arrays.asList(ENTITY_ID1, ENTITY_ID2, ENTITY_ID3, ENTITY_ID4,
+                ENTITY_ID5);
+        for (YangInstanceIdentifier entityId : entityIds) {
+            shard.tell(new RegisterCandidateLocal(new DOMEntity(ENTITY_TYPE, entityId)), kit.getRef());
+        }
+
+        for (int i = 0; i < entityIds.size(); i++) {
+            kit.expectMsgClass(SuccessReply.class);
+        }
+
+        for (YangInstanceIdentifier entityId : entityIds) {
+            verifyCommittedEntityCandidate(shard, ENTITY_TYPE, entityId, LOCAL_MEMBER_NAME);
+            verifyOwner(shard, ENTITY_TYPE, entityId, LOCAL_MEMBER_NAME);
+        }
+
+        // Each entity needs a candidate and an owner write, some of which must have been coalesced
+        final EntityOwnershipStatistics stats = shard.underlyingActor().getEntityOwnershipStatistics();
+        assertTrue("Committed modifications " + stats.getCommittedModificationCount(),
+                stats.getCommittedModificationCount() >= 2 * entityIds.size());
+        assertTrue("Max batch size " + stats.getMaxCommittedBatchSize(), stats.getMaxCommittedBatchSize() > 1);
+        assertTrue("Batch count " + stats.getCommittedBatchCount(),
+                stats.getCommittedBatchCount() < stats.getCommittedModificationCount());
+
+        testLog.info("testBatchedCandidateRegistration ending");
+    }
+
     @Test
     public void testOnRegisterCandidateLocalWithNoInitialLeader() throws Exception {
         testLog.info("testOnRegisterCandidateLocalWithNoInitialLeader starting");
@@ -136,6 +136,21 @@ public class EntityOwnershipStatisticsTest extends AbstractActorTest {
 
     }
 
+    @Test
+    public void testCommitBatchStatistics() {
+        assertEquals(0, ownershipStatistics.getCommittedBatchCount());
+        assertEquals(0, ownershipStatistics.getAverageCommittedBatchSize(), 0);
+
+        ownershipStatistics.onCommitBatch(1);
+        ownershipStatistics.onCommitBatch(7);
+        ownershipStatistics.onCommitBatch(4);
+
+        assertEquals(3, ownershipStatistics.getCommittedBatchCount());
+        assertEquals(12, ownershipStatistics.getCommittedModificationCount());
+        assertEquals(7, ownershipStatistics.getMaxCommittedBatchSize());
+        assertEquals(4.0, ownershipStatistics.getAverageCommittedBatchSize(), 0);
+    }
+
     private static void assertStatistics(final Map<String, Map<String, Long>> statistics, final String memberName,
             final long val) {
         assertEquals(val, statistics.get(ENTITY_TYPE).get(memberName).longValue());
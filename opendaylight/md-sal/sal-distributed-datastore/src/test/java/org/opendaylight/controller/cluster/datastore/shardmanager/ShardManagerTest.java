@@ -45,6 +45,7 @@ import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.Uninterruptibles;
 import java.net.URI;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -87,10 +88,12 @@ import org.opendaylight.controller.cluster.datastore.messages.LocalShardFound;
 import org.opendaylight.controller.cluster.datastore.messages.LocalShardNotFound;
 import org.opendaylight.controller.cluster.datastore.messages.PeerDown;
 import org.opendaylight.controller.cluster.datastore.messages.PeerUp;
+import org.opendaylight.controller.cluster.datastore.messages.PrimaryShardChanged;
 import org.opendaylight.controller.cluster.datastore.messages.PrimaryShardInfo;
 import org.opendaylight.controller.cluster.datastore.messages.RemotePrimaryShardFound;
 import org.opendaylight.controller.cluster.datastore.messages.RemoveShardReplica;
 import org.opendaylight.controller.cluster.datastore.messages.ShardLeaderStateChanged;
+import org.opendaylight.controller.cluster.datastore.messages.SubscribePrimaryShardChanges;
 import org.opendaylight.controller.cluster.datastore.messages.UpdateSchemaContext;
 import org.opendaylight.controller.cluster.datastore.persisted.DatastoreSnapshot;
 import org.opendaylight.controller.cluster.datastore.persisted.DatastoreSnapshot.ShardSnapshot;
@@ -370,6 +373,162 @@ public class ShardManagerTest extends AbstractShardManagerTest {
         LOG.info("testOnReceiveFindPrimaryForLocalLeaderShard ending");
     }
 
+    @Test
+    public void testPrimaryShardChangePushedToSubscribers() throws Exception {
+        LOG.info("testPrimaryShardChangePushedToSubscribers starting");
+        new JavaTestKit(getSystem()) {
+            {
+                String memberId = "member-1-shard-default-" + shardMrgIDSuffix;
+
+                final PrimaryShardInfoFutureCache primaryShardInfoCache = new PrimaryShardInfoFutureCache();
+                final ActorRef shardManager = actorFactory.createActor(newTestShardMgrBuilderWithMockShardActor()
+                        .primaryShardInfoCache(primaryShardInfoCache).props()
+                        .withDispatcher(Dispatchers.DefaultDispatcherId()));
+
+                shardManager.tell(new UpdateSchemaContext(TestModel.createTestContext()), getRef());
+                shardManager.tell(new ActorInitialized(), mockShardActor);
+                shardManager.tell(new SubscribePrimaryShardChanges(Shard.DEFAULT_NAME), getRef());
+
+                MessageCollectorActor.expectFirstMatching(mockShardActor, RegisterRoleChangeListener.class);
+                shardManager.tell(
+                        new RoleChangeNotification(memberId, RaftState.Candidate.name(), RaftState.Leader.name()),
+                        mockShardActor);
+
+                DataTree mockDataTree = mock(DataTree.class);
+                shardManager.tell(new ShardLeaderStateChanged(memberId, memberId, mockDataTree,
+                        DataStoreVersions.CURRENT_VERSION, 3), mockShardActor);
+
+                PrimaryShardChanged changed = expectMsgClass(duration("5 seconds"), PrimaryShardChanged.class);
+                assertEquals("getShardName", Shard.DEFAULT_NAME, changed.getShardName());
+                assertEquals("getTerm", 3, changed.getTerm());
+                assertTrue("Unexpected primary path " + changed.getPrimaryPath(),
+                        changed.getPrimaryPath().contains("member-1-shard-default"));
+
+                // The local cache is populated without a FindPrimary round trip
+                Future<PrimaryShardInfo> cached = primaryShardInfoCache.getIfPresent(Shard.DEFAULT_NAME);
+                assertNotNull("Expected primaryShardInfoCache entry", cached);
+                assertSame("getLocalShardDataTree", mockDataTree,
+                        cached.value().get().get().getLocalShardDataTree().get());
+            }
+        };
+
+        LOG.info("testPrimaryShardChangePushedToSubscribers ending");
+    }
+
+    @Test
+    public void testOnReceivePrimaryShardChangedForNonLocalShard() throws Exception {
+        LOG.info("testOnReceivePrimaryShardChangedForNonLocalShard starting");
+        new JavaTestKit(getSystem()) {
+            {
+                final PrimaryShardInfoFutureCache primaryShardInfoCache = new PrimaryShardInfoFutureCache();
+                final ActorRef shardManager = actorFactory.createActor(newTestShardMgrBuilderWithMockShardActor()
+                        .primaryShardInfoCache(primaryShardInfoCache).props()
+                        .withDispatcher(Dispatchers.DefaultDispatcherId()));
+
+                shardManager.tell(new UpdateSchemaContext(TestModel.createTestContext()), getRef());
+
+                final String primaryPath = "akka://test/user/member-2-shard-remote-" + shardMrgIDSuffix;
+                shardManager.tell(new PrimaryShardChanged("remote", primaryPath, DataStoreVersions.CURRENT_VERSION,
+                        1), getRef());
+
+                shardManager.tell(new FindLocalShard("remote", false), getRef());
+                expectMsgClass(duration("5 seconds"), LocalShardNotFound.class);
+
+                Future<PrimaryShardInfo> cached = primaryShardInfoCache.getIfPresent("remote");
+                assertNotNull("Expected primaryShardInfoCache entry", cached);
+                assertEquals("getPrimaryShardVersion", DataStoreVersions.CURRENT_VERSION,
+                        cached.value().get().get().getPrimaryShardVersion());
+
+                shardManager.tell(new PrimaryShardChanged("remote", null, DataStoreVersions.CURRENT_VERSION, 1),
+                        getRef());
+
+                shardManager.tell(new FindLocalShard("remote", false), getRef());
+                expectMsgClass(duration("5 seconds"), LocalShardNotFound.class);
+
+                assertNull("Expected primaryShardInfoCache entry removed",
+                        primaryShardInfoCache.getIfPresent("remote"));
+            }
+        };
+
+        LOG.info("testOnReceivePrimaryShardChangedForNonLocalShard ending");
+    }
+
+    @Test
+    public void testOnReceivePrimaryShardChangedWithOlderTerm() throws Exception {
+        LOG.info("testOnReceivePrimaryShardChangedWithOlderTerm starting");
+        new JavaTestKit(getSystem()) {
+            {
+                final PrimaryShardInfoFutureCache primaryShardInfoCache = new PrimaryShardInfoFutureCache();
+                final ActorRef shardManager = actorFactory.createActor(newTestShardMgrBuilderWithMockShardActor()
+                        .primaryShardInfoCache(primaryShardInfoCache).props()
+                        .withDispatcher(Dispatchers.DefaultDispatcherId()));
+
+                shardManager.tell(new UpdateSchemaContext(TestModel.createTestContext()), getRef());
+
+                final String newPrimaryPath = "akka://test/user/member-2-shard-remote-" + shardMrgIDSuffix;
+                shardManager.tell(new PrimaryShardChanged("remote", newPrimaryPath, DataStoreVersions.CURRENT_VERSION,
+                        2), getRef());
+
+                // A push from a peer which still knows the leader of the previous term must not replace it
+                final String oldPrimaryPath = "akka://test/user/member-3-shard-remote-" + shardMrgIDSuffix;
+                shardManager.tell(new PrimaryShardChanged("remote", oldPrimaryPath, DataStoreVersions.CURRENT_VERSION,
+                        1), getRef());
+                shardManager.tell(new PrimaryShardChanged("remote", null, DataStoreVersions.CURRENT_VERSION, 1),
+                        getRef());
+
+                shardManager.tell(new FindLocalShard("remote", false), getRef());
+                expectMsgClass(duration("5 seconds"), LocalShardNotFound.class);
+
+                Future<PrimaryShardInfo> cached = primaryShardInfoCache.getIfPresent("remote");
+                assertNotNull("Expected primaryShardInfoCache entry", cached);
+                assertEquals("getPrimaryShardActor", "/user/member-2-shard-remote-" + shardMrgIDSuffix,
+                        cached.value().get().get().getPrimaryShardActor().pathString());
+
+                // The same term may report that the leader went away
+                shardManager.tell(new PrimaryShardChanged("remote", null, DataStoreVersions.CURRENT_VERSION, 2),
+                        getRef());
+
+                shardManager.tell(new FindLocalShard("remote", false), getRef());
+                expectMsgClass(duration("5 seconds"), LocalShardNotFound.class);
+
+                assertNull("Expected primaryShardInfoCache entry removed",
+                        primaryShardInfoCache.getIfPresent("remote"));
+            }
+        };
+
+        LOG.info("testOnReceivePrimaryShardChangedWithOlderTerm ending");
+    }
+
+    @Test
+    public void testPrimaryShardChangeSubscriberTerminated() throws Exception {
+        LOG.info("testPrimaryShardChangeSubscriberTerminated starting");
+        new JavaTestKit(getSystem()) {
+            {
+                final TestActorRef<TestShardManager> shardManager = actorFactory.createTestActor(
+                        newShardMgrProps());
+                shardManager.underlyingActor().waitForRecoveryComplete();
+
+                final JavaTestKit subscriber = new JavaTestKit(getSystem());
+                shardManager.tell(new SubscribePrimaryShardChanges(Shard.DEFAULT_NAME), subscriber.getRef());
+                assertEquals("Subscribers", Collections.singleton(subscriber.getRef()),
+                        shardManager.underlyingActor().getPrimaryShardSubscribers(Shard.DEFAULT_NAME));
+
+                getSystem().stop(subscriber.getRef());
+
+                Stopwatch sw = Stopwatch.createStarted();
+                while (!shardManager.underlyingActor().getPrimaryShardSubscribers(Shard.DEFAULT_NAME).isEmpty()
+                        && sw.elapsed(TimeUnit.SECONDS) <= 5) {
+                    Uninterruptibles.sleepUninterruptibly(50, TimeUnit.MILLISECONDS);
+                }
+
+                assertEquals("Subscribers", Collections.emptySet(),
+                        shardManager.underlyingActor().getPrimaryShardSubscribers(Shard.DEFAULT_NAME));
+            }
+        };
+
+        LOG.info("testPrimaryShardChangeSubscriberTerminated ending");
+    }
+
     @Test
     public void testOnReceiveFindPrimaryForNonLocalLeaderShardBeforeMemberUp() throws Exception {
         LOG.info("testOnReceiveFindPrimaryForNonLocalLeaderShardBeforeMemberUp starting");
@@ -1403,6 +1562,83 @@ public class ShardManagerTest extends AbstractShardManagerTest {
         LOG.info("testRestoreFromSnapshot ending");
     }
 
+    @Test
+    public void testBoundedConcurrentShardInitialization() throws Exception {
+        LOG.info("testBoundedConcurrentShardInitialization starting");
+        datastoreContextBuilder.maxConcurrentShardInitializations(1);
+
+        MockConfiguration mockConfig = new MockConfiguration(ImmutableMap.<String, List<String>>builder()
+                .put("shard1", Arrays.asList("member-1")).put("shard2", Arrays.asList("member-1"))
+                .put("shard3", Arrays.asList("member-1")).build());
+
+        final Map<String, ActorRef> shardActors = new HashMap<>();
+        TestShardManager.Builder builder = newTestShardMgrBuilder(mockConfig);
+        for (String shardName : Arrays.asList("shard1", "shard2", "shard3")) {
+            ActorRef shardActor = newMockShardActor(getSystem(), shardName, "member-1");
+            shardActors.put(shardName, shardActor);
+            builder.addShardActor(shardName, shardActor);
+        }
+
+        TestShardManager shardManager = newTestShardManager(builder.props());
+
+        shardManager.onReceiveCommand(new UpdateSchemaContext(TestModel.createTestContext()));
+
+        assertEquals("Created shards", 1, shardManager.getCreatedShards().size());
+        assertEquals("getPendingShardCount", 2, shardManager.getMBean().getPendingShardCount());
+        assertEquals("getInitializingShardCount", 1, shardManager.getMBean().getInitializingShardCount());
+
+        for (int i = 0; i < 3; i++) {
+            final String shardName = shardManager.getCreatedShards().get(i);
+            shardManager.getSelf().tell(new ActorInitialized(), shardActors.get(shardName));
+
+            assertEquals("Created shards", Math.min(i + 2, 3), shardManager.getCreatedShards().size());
+            assertEquals("getPendingShardCount", Math.max(1 - i, 0),
+                    shardManager.getMBean().getPendingShardCount());
+            assertEquals("getInitializingShardCount", i < 2 ? 1 : 0,
+                    shardManager.getMBean().getInitializingShardCount());
+        }
+
+        assertEquals("Created shards", Sets.newHashSet("shard1", "shard2", "shard3"),
+                Sets.newHashSet(shardManager.getCreatedShards()));
+
+        LOG.info("testBoundedConcurrentShardInitialization ending");
+    }
+
+    @Test
+    public void testStartupOfManyShards() throws Exception {
+        LOG.info("testStartupOfManyShards starting");
+        final int shardCount = 200;
+        datastoreContextBuilder.shardInitializationTimeout(5, TimeUnit.SECONDS).maxConcurrentShardInitializations(16);
+
+        JavaTestKit kit = new JavaTestKit(getSystem());
+
+        final ImmutableMap.Builder<String, List<String>> shardConfig = ImmutableMap.builder();
+        for (int i = 0; i < shardCount; i++) {
+            shardConfig.put("shard" + i, Arrays.asList("member-1"));
+        }
+
+        TestActorRef<TestShardManager> shardManager = actorFactory.createTestActor(
+                newTestShardMgrBuilder(new MockConfiguration(shardConfig.build())).props()
+                    .withDispatcher(Dispatchers.DefaultDispatcherId()));
+
+        shardManager.underlyingActor().waitForRecoveryComplete();
+
+        final Stopwatch sw = Stopwatch.createStarted();
+        shardManager.tell(new UpdateSchemaContext(TestModel.createTestContext()), ActorRef.noSender());
+
+        for (int i = 0; i < shardCount; i++) {
+            waitForShardInitialized(shardManager, "shard" + i, kit);
+        }
+
+        LOG.info("{} shards initialized in {}", shardCount, sw);
+
+        assertEquals("getPendingShardCount", 0, shardManager.underlyingActor().getMBean().getPendingShardCount());
+        assertEquals("getInitializingShardCount", 0,
+                shardManager.underlyingActor().getMBean().getInitializingShardCount());
+
+        LOG.info("testStartupOfManyShards ending");
+    }
+
     @Test
     public void testAddShardReplicaForNonExistentShardConfig() throws Exception {
         new JavaTestKit(getSystem()) {
@@ -2091,6 +2327,7 @@ public class ShardManagerTest extends AbstractShardManagerTest {
         private CountDownLatch memberUnreachableReceived = new CountDownLatch(1);
         private CountDownLatch memberReachableReceived = new CountDownLatch(1);
         private volatile MessageInterceptor messageInterceptor;
+        private final List<String> createdShards = new ArrayList<>();
 
         private TestShardManager(final Builder builder) {
             super(builder);
@@ -2215,8 +2452,14 @@ public class ShardManagerTest extends AbstractShardManagerTest {
             assertEquals("Shard Persisted", shardList, Sets.newHashSet(snapshot.getShardList()));
         }
 
+        List<String> getCreatedShards() {
+            return createdShards;
+        }
+
         @Override
         protected ActorRef newShardActor(final ShardInformation info) {
+            createdShards.add(info.getShardName());
+
             if (shardActors.get(info.getShardName()) != null) {
                 return shardActors.get(info.getShardName());
             }
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.cluster.datastore.shardstrategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.opendaylight.controller.cluster.datastore.utils.ClusterUtils;
+import org.opendaylight.controller.md.cluster.datastore.model.TestModel;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+
+public class PrefixShardStrategyTableTest {
+
+    private static DOMDataTreeIdentifier config(final YangInstanceIdentifier path) {
+        return new DOMDataTreeIdentifier(LogicalDatastoreType.CONFIGURATION, path);
+    }
+
+    private static DOMDataTreeIdentifier operational(final YangInstanceIdentifier path) {
+        return new DOMDataTreeIdentifier(LogicalDatastoreType.OPERATIONAL, path);
+    }
+
+    @Test
+    public void testLongestPrefixMatch() {
+        final PrefixShardStrategyTable table = PrefixShardStrategyTable.create(ImmutableList.of(
+                config(TestModel.TEST_PATH), config(TestModel.OUTER_LIST_PATH)));
+
+        PrefixShardStrategy strategy = table.lookup(config(TestModel.outerEntryPath(1)));
+        assertEquals(TestModel.OUTER_LIST_PATH, strategy.getPrefixForPath(TestModel.outerEntryPath(1)));
+        assertEquals(ClusterUtils.getCleanShardName(TestModel.OUTER_LIST_PATH),
+                strategy.findShard(TestModel.outerEntryPath(1)));
+
+        strategy = table.lookup(config(TestModel.TEST_PATH));
+        assertEquals(TestModel.TEST_PATH, strategy.getPrefixForPath(TestModel.TEST_PATH));
+
+        strategy = table.lookup(config(TestModel.TEST_PATH.node(TestModel.DESC_QNAME)));
+        assertEquals(TestModel.TEST_PATH, strategy.getPrefixForPath(TestModel.TEST_PATH));
+    }
+
+    @Test
+    public void testNoMatch() {
+        final PrefixShardStrategyTable table = PrefixShardStrategyTable.create(ImmutableList.of(
+                config(TestModel.OUTER_LIST_PATH), config(YangInstanceIdentifier.EMPTY)));
+
+        assertNull(table.lookup(config(TestModel.TEST_PATH)));
+        assertNull(table.lookup(config(YangInstanceIdentifier.EMPTY)));
+        assertNull(table.lookup(config(YangInstanceIdentifier.of(TestModel.JUNK_QNAME))));
+        assertNull(table.lookup(operational(TestModel.outerEntryPath(1))));
+        assertNull(PrefixShardStrategyTable.empty().lookup(config(TestModel.OUTER_LIST_PATH)));
+    }
+}
@@ -8,30 +8,36 @@
 
 package org.opendaylight.controller.cluster.datastore.shardstrategy;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Collections;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.opendaylight.controller.cluster.datastore.config.ConfigurationImpl;
+import org.opendaylight.controller.cluster.datastore.config.PrefixShardConfiguration;
 import org.opendaylight.controller.md.cluster.datastore.model.CarsModel;
 import org.opendaylight.controller.md.cluster.datastore.model.TestModel;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 
 public class ShardStrategyFactoryTest {
 
     ShardStrategyFactory factory;
+    ConfigurationImpl configuration;
 
     @Rule
     public ExpectedException expectedEx = ExpectedException.none();
 
     @Before
     public void setUp() {
-        factory = new ShardStrategyFactory(
-                new ConfigurationImpl("module-shards.conf", "modules.conf"), LogicalDatastoreType.CONFIGURATION);
+        configuration = new ConfigurationImpl("module-shards.conf", "modules.conf");
+        factory = new ShardStrategyFactory(configuration, LogicalDatastoreType.CONFIGURATION);
     }
 
     @Test
@@ -54,4 +60,33 @@ public class ShardStrategyFactoryTest {
 
         factory.getStrategy(null);
     }
+
+    @Test
+    public void testGetStrategyIsCached() {
+        ShardStrategy strategy = factory.getStrategy(TestModel.TEST_PATH);
+        assertSame(strategy, factory.getStrategy(TestModel.TEST_PATH));
+        assertEquals(1, factory.cachedStrategyCount());
+    }
+
+    @Test
+    public void testGetStrategyAfterPrefixShardConfigurationChange() {
+        final YangInstanceIdentifier prefixPath = YangInstanceIdentifier.of(TestModel.JUNK_QNAME);
+        final YangInstanceIdentifier path = prefixPath.node(TestModel.NAME_QNAME);
+        ShardStrategy strategy = factory.getStrategy(path);
+        assertTrue(strategy instanceof DefaultShardStrategy);
+
+        final DOMDataTreeIdentifier prefix = new DOMDataTreeIdentifier(LogicalDatastoreType.CONFIGURATION,
+                prefixPath);
+        configuration.addPrefixShardConfiguration(new PrefixShardConfiguration(prefix, PrefixShardStrategy.NAME,
+                Collections.emptyList()));
+
+        strategy = factory.getStrategy(path);
+        assertTrue(strategy instanceof PrefixShardStrategy);
+        assertEquals(prefixPath, strategy.getPrefixForPath(path));
+
+        configuration.removePrefixShardConfiguration(prefix);
+
+        strategy = factory.getStrategy(path);
+        assertTrue(strategy instanceof DefaultShardStrategy);
+    }
 }
@@ -9,6 +9,8 @@ package org.opendaylight.controller.md.sal.dom.api;
 
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
@@ -113,4 +115,29 @@ public interface DOMNotificationPublishService extends DOMService, BrokerService
      */
     @Nonnull ListenableFuture<?> offerNotification(@Nonnull DOMNotification notification,
         @Nonnegative long timeout, @Nonnull TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Publish a batch of notifications. This method behaves as if {@link #putNotification(DOMNotification)} was
+     * invoked for each notification in order, but allows implementations to amortize the cost of accepting
+     * notifications for delivery across the whole batch. Notifications are delivered in the order in which they
+     * appear in the list.
+     *
+     * <p>
+     * The default implementation publishes notifications one by one.
+     *
+     * @param notifications Notifications to be published.
+     * @return A listenable future which will report completion when the service
+     *         has finished propagating all notifications to their immediate registrants.
+     * @throws InterruptedException if interrupted while waiting. Some of the notifications may have already been
+     *         accepted for delivery.
+     * @throws NullPointerException if notifications or any of its elements is null.
+     */
+    @Nonnull default ListenableFuture<?> putNotifications(@Nonnull final List<? extends DOMNotification> notifications)
+            throws InterruptedException {
+        final List<ListenableFuture<?>> futures = new ArrayList<>(notifications.size());
+        for (DOMNotification notification : notifications) {
+            futures.add(putNotification(notification));
+        }
+        return Futures.allAsList(futures);
+    }
 }
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotificationListener;
+import org.opendaylight.controller.md.sal.dom.broker.impl.DOMNotificationRouter.LaneOverflowPolicy;
+import org.opendaylight.yangtools.util.DurationStatisticsTracker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A delivery lane of a single {@link DOMNotificationListener}. Notifications dispatched from the router's
+ * Disruptor are queued in a bounded queue and delivered to the listener by a task running on the router's executor,
+ * so a slow listener only fills its own lane instead of stalling delivery to all other listeners and, once the
+ * ring buffer fills up, every publisher.
+ *
+ * <p>
+ * When the lane is full, the notification is either dropped or the dispatcher blocks until there is space in
+ * the lane, depending on the {@link LaneOverflowPolicy}. Notifications are delivered in the order they were
+ * published.
+ */
+@ThreadSafe
+final class DOMNotificationListenerLane implements Runnable {
+    /**
+     * Delivery state of a notification shared by all lanes it is queued in. The publisher's future completes once
+     * the dispatcher and all lanes are done with the notification.
+     */
+    static final class PendingNotification {
+        private final AtomicInteger pending = new AtomicInteger(1);
+        private final DOMNotification notification;
+        private final SettableFuture<Void> future;
+
+        PendingNotification(final DOMNotification notification, final SettableFuture<Void> future) {
+            this.notification = Preconditions.checkNotNull(notification);
+            this.future = Preconditions.checkNotNull(future);
+        }
+
+        void retain() {
+            pending.incrementAndGet();
+        }
+
+        void release() {
+            if (pending.decrementAndGet() == 0) {
+                future.set(null);
+            }
+        }
+    }
+
+    private static final class Entry {
+        final PendingNotification pending;
+        final long enqueueTime;
+
+        Entry(final PendingNotification pending, final long enqueueTime) {
+            this.pending = pending;
+            this.enqueueTime = enqueueTime;
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(DOMNotificationListenerLane.class);
+    private static final int MAX_DRAIN = 128;
+
+    private final DurationStatisticsTracker latency = DurationStatisticsTracker.createConcurrent();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final LongAdder routerDropped;
+    private final DOMNotificationListener listener;
+    private final BlockingQueue<Entry> queue;
+    private final LaneOverflowPolicy overflowPolicy;
+    private final Executor executor;
+    private final int depth;
+    private volatile int maxQueueSize;
+    private volatile boolean closed;
+
+    DOMNotificationListenerLane(final DOMNotificationListener listener, final int depth,
+            final LaneOverflowPolicy overflowPolicy, final Executor executor, final LongAdder routerDropped) {
+        Preconditions.checkArgument(depth > 0, "Lane depth must be positive, not %s", depth);
+        this.listener = Preconditions.checkNotNull(listener);
+        this.overflowPolicy = Preconditions.checkNotNull(overflowPolicy);
+        this.executor = Preconditions.checkNotNull(executor);
+        this.routerDropped = Preconditions.checkNotNull(routerDropped);
+        this.depth = depth;
+        this.queue = new ArrayBlockingQueue<>(depth);
+    }
+
+    /**
+     * Queue a notification for delivery. Invoked from the dispatching thread only.
+     *
+     * @param pending the notification
+     * @throws InterruptedException if interrupted while waiting for space in the lane, in which case the notification
+     *                              is counted as dropped
+     */
+    void enqueue(final PendingNotification pending) throws InterruptedException {
+        if (closed) {
+            return;
+        }
+
+        final Entry entry = new Entry(pending, System.nanoTime());
+        pending.retain();
+        if (!queue.offer(entry)) {
+            if (overflowPolicy == LaneOverflowPolicy.DROP) {
+                LOG.trace("Lane of listener {} is full, dropping notification {}", listener, pending.notification);
+                onDropped();
+                pending.release();
+                return;
+            }
+
+            LOG.debug("Lane of listener {} is full, waiting", listener);
+            try {
+                queue.put(entry);
+            } catch (InterruptedException e) {
+                onDropped();
+                pending.release();
+                throw e;
+            }
+        }
+
+        final int size = queue.size();
+        if (size > maxQueueSize) {
+            maxQueueSize = size;
+        }
+
+        schedule();
+    }
+
+    private void onDropped() {
+        dropped.incrementAndGet();
+        routerDropped.increment();
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                LOG.warn("Failed to schedule delivery to listener {}", listener, e);
+                scheduled.set(false);
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    public void run() {
+        while (true) {
+            for (int i = 0; i < MAX_DRAIN; i++) {
+                final Entry entry = queue.poll();
+                if (entry == null) {
+                    break;
+                }
+
+                if (!closed) {
+                    try {
+                        listener.onNotification(entry.pending.notification);
+                        delivered.incrementAndGet();
+                    } catch (Exception e) {
+                        LOG.warn("Listener {} failed to process notification {}", listener,
+                            entry.pending.notification, e);
+                        failed.incrementAndGet();
+                    }
+                    latency.addDuration(System.nanoTime() - entry.enqueueTime);
+                }
+                entry.pending.release();
+            }
+
+            if (queue.isEmpty()) {
+                scheduled.set(false);
+
+                // Re-check, as the dispatcher may have enqueued after we polled but before we cleared the flag
+                if (queue.isEmpty() || !scheduled.compareAndSet(false, true)) {
+                    return;
+                }
+            } else {
+                // Yield the thread to other lanes, we will be picking up where we left off
+                try {
+                    executor.execute(this);
+                    return;
+                } catch (RejectedExecutionException e) {
+                    LOG.debug("Failed to reschedule delivery to listener {}, continuing inline", listener, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Close this lane. Queued notifications are not delivered anymore.
+     */
+    void close() {
+        closed = true;
+        schedule();
+    }
+
+    DOMNotificationListener getListener() {
+        return listener;
+    }
+
+    int getDepth() {
+        return depth;
+    }
+
+    int getQueueSize() {
+        return queue.size();
+    }
+
+    int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    long getDeliveredCount() {
+        return delivered.get();
+    }
+
+    long getDroppedCount() {
+        return dropped.get();
+    }
+
+    long getFailedCount() {
+        return failed.get();
+    }
+
+    DurationStatisticsTracker getLatency() {
+        return latency;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl;
+
+import com.google.common.base.MoreObjects;
+import java.beans.ConstructorProperties;
+
+/**
+ * A snapshot of the delivery statistics of a single notification listener lane. This class is suitable for mapping
+ * to the MXBean CompositeDataSupport type.
+ */
+public final class DOMNotificationListenerStats {
+    private final String listenerClassName;
+    private final int laneDepth;
+    private final int queueSize;
+    private final int maxQueueSize;
+    private final long deliveredCount;
+    private final long droppedCount;
+    private final long failedCount;
+    private final String averageLatency;
+    private final String longestLatency;
+
+    @ConstructorProperties({"listenerClassName", "laneDepth", "queueSize", "maxQueueSize", "deliveredCount",
+        "droppedCount", "failedCount", "averageLatency", "longestLatency"})
+    public DOMNotificationListenerStats(final String listenerClassName, final int laneDepth, final int queueSize,
+            final int maxQueueSize, final long deliveredCount, final long droppedCount, final long failedCount,
+            final String averageLatency, final String longestLatency) {
+        this.listenerClassName = listenerClassName;
+        this.laneDepth = laneDepth;
+        this.queueSize = queueSize;
+        this.maxQueueSize = maxQueueSize;
+        this.deliveredCount = deliveredCount;
+        this.droppedCount = droppedCount;
+        this.failedCount = failedCount;
+        this.averageLatency = averageLatency;
+        this.longestLatency = longestLatency;
+    }
+
+    static DOMNotificationListenerStats of(final DOMNotificationListenerLane lane) {
+        return new DOMNotificationListenerStats(lane.getListener().getClass().getName(), lane.getDepth(),
+            lane.getQueueSize(), lane.getMaxQueueSize(), lane.getDeliveredCount(), lane.getDroppedCount(),
+            lane.getFailedCount(), lane.getLatency().getDisplayableAverageDuration(),
+            lane.getLatency().getDisplayableLongestDuration());
+    }
+
+    public String getListenerClassName() {
+        return listenerClassName;
+    }
+
+    public int getLaneDepth() {
+        return laneDepth;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    public long getDeliveredCount() {
+        return deliveredCount;
+    }
+
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * Returns the average time between a notification being queued in the lane and the listener completing its
+     * processing, in the appropriate scaled units.
+     *
+     * @return string
+     */
+    public String getAverageLatency() {
+        return averageLatency;
+    }
+
+    /**
+     * Returns the longest time between a notification being queued in the lane and the listener completing its
+     * processing, in the appropriate scaled units, along with the date/time that it occurred.
+     *
+     * @return string
+     */
+    public String getLongestLatency() {
+        return longestLatency;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("listener", listenerClassName).add("laneDepth", laneDepth)
+                .add("queueSize", queueSize).add("maxQueueSize", maxQueueSize).add("delivered", deliveredCount)
+                .add("dropped", droppedCount).add("failed", failedCount).add("avgLatency", averageLatency)
+                .toString();
+    }
+}
@@ -15,19 +15,28 @@ import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
 import com.lmax.disruptor.EventHandler;
 import com.lmax.disruptor.InsufficientCapacityException;
 import com.lmax.disruptor.PhasedBackoffWaitStrategy;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.SleepingWaitStrategy;
 import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
 import com.lmax.disruptor.dsl.Disruptor;
 import com.lmax.disruptor.dsl.ProducerType;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nullable;
 import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
 import org.opendaylight.controller.md.sal.dom.api.DOMNotificationListener;
 import org.opendaylight.controller.md.sal.dom.api.DOMNotificationPublishService;
@@ -58,9 +67,99 @@ import org.slf4j.LoggerFactory;
  * are realized using the Disruptor's native operations. The bounded-blocking
  * {@link #offerNotification(DOMNotification, long, TimeUnit)}
  * is realized by arming a background wakeup interrupt.
+ *
+ * <p>
+ * By default listeners are invoked directly from the first handler, hence a single slow listener holds up delivery
+ * to all other listeners and, once the ring buffer fills up, all publishers. When the router is created with a
+ * non-zero lane depth, each listener gets its own {@link DOMNotificationListenerLane}, which isolates it from the
+ * others and either propagates backpressure or drops notifications when it falls behind, as governed by
+ * the {@link LaneOverflowPolicy}.
  */
 public final class DOMNotificationRouter implements AutoCloseable, DOMNotificationPublishService,
         DOMNotificationService, DOMNotificationSubscriptionListenerRegistry {
+    /**
+     * Strategy used by the Disruptor's handlers to wait for notifications to be published.
+     */
+    public enum QueueWaitStrategy {
+        /**
+         * Spin, then yield, then wait on a lock, with spin and park times as configured. This is the default.
+         */
+        PHASED_BACKOFF,
+        /**
+         * Wait on a lock. Lowest CPU usage, highest latency.
+         */
+        BLOCKING,
+        /**
+         * Spin, then yield, then sleep for a short while.
+         */
+        SLEEPING,
+        /**
+         * Spin, then yield. Low latency at the expense of keeping a core busy while idle.
+         */
+        YIELDING,
+        /**
+         * Busy spin. Lowest latency, but requires a core to be dedicated to each handler.
+         */
+        BUSY_SPIN;
+
+        WaitStrategy createStrategy(final long spinTime, final long parkTime, final TimeUnit unit) {
+            switch (this) {
+                case BLOCKING:
+                    return new BlockingWaitStrategy();
+                case SLEEPING:
+                    return new SleepingWaitStrategy();
+                case YIELDING:
+                    return new YieldingWaitStrategy();
+                case BUSY_SPIN:
+                    return new BusySpinWaitStrategy();
+                case PHASED_BACKOFF:
+                default:
+                    return PhasedBackoffWaitStrategy.withLock(spinTime, parkTime, unit);
+            }
+        }
+    }
+
+    /**
+     * What to do with a notification when the lane of a listener is full.
+     */
+    public enum LaneOverflowPolicy {
+        /**
+         * Block dispatching until there is space in the lane, propagating backpressure to publishers.
+         */
+        BLOCK,
+        /**
+         * Drop the notification for the listener whose lane is full.
+         */
+        DROP
+    }
+
+    /**
+     * Registration of a listener, which also holds its delivery lane, if lanes are enabled.
+     */
+    final class Registration<T extends DOMNotificationListener> extends AbstractListenerRegistration<T> {
+        private final DOMNotificationListenerLane lane;
+
+        Registration(final T listener) {
+            super(listener);
+            lane = laneDepth == 0 ? null : new DOMNotificationListenerLane(listener, laneDepth, overflowPolicy,
+                executor, droppedNotifications);
+        }
+
+        @Nullable
+        DOMNotificationListenerLane getLane() {
+            return lane;
+        }
+
+        @Override
+        protected void removeRegistration() {
+            synchronized (DOMNotificationRouter.this) {
+                replaceListeners(ImmutableMultimap.copyOf(Multimaps.filterValues(listeners, input -> input != this)));
+            }
+            if (lane != null) {
+                lane.close();
+            }
+        }
+    }
 
     private static final Logger LOG = LoggerFactory.getLogger(DOMNotificationRouter.class);
     private static final ListenableFuture<Void> NO_LISTENERS = Futures.immediateFuture(null);
@@ -71,16 +170,24 @@ public final class DOMNotificationRouter implements AutoCloseable, DOMNotificati
     private static final EventHandler<DOMNotificationRouterEvent> NOTIFY_FUTURE = (event, sequence, endOfBatch) -> event
             .setFuture();
 
+    // Notifications dropped by all lanes, including those of listeners which have since been unregistered
+    private final LongAdder droppedNotifications = new LongAdder();
     private final Disruptor<DOMNotificationRouterEvent> disruptor;
     private final ExecutorService executor;
+    private final LaneOverflowPolicy overflowPolicy;
+    private final int laneDepth;
     private volatile Multimap<SchemaPath, ListenerRegistration<? extends DOMNotificationListener>> listeners
             = ImmutableMultimap.of();
     private final ListenerRegistry<DOMNotificationSubscriptionListener> subscriptionListeners = ListenerRegistry
             .create();
 
     @SuppressWarnings("unchecked")
-    private DOMNotificationRouter(final ExecutorService executor, final int queueDepth, final WaitStrategy strategy) {
+    private DOMNotificationRouter(final ExecutorService executor, final int queueDepth, final WaitStrategy strategy,
+            final int laneDepth, final LaneOverflowPolicy overflowPolicy) {
         this.executor = Preconditions.checkNotNull(executor);
+        this.overflowPolicy = Preconditions.checkNotNull(overflowPolicy);
+        Preconditions.checkArgument(laneDepth >= 0, "Lane depth must not be negative, not %s", laneDepth);
+        this.laneDepth = laneDepth;
 
         disruptor = new Disruptor<>(DOMNotificationRouterEvent.FACTORY, queueDepth, executor, ProducerType.MULTI,
                                     strategy);
@@ -92,32 +199,42 @@ public final class DOMNotificationRouter implements AutoCloseable, DOMNotificati
     public static DOMNotificationRouter create(final int queueDepth) {
         final ExecutorService executor = Executors.newCachedThreadPool();
 
-        return new DOMNotificationRouter(executor, queueDepth, DEFAULT_STRATEGY);
+        return new DOMNotificationRouter(executor, queueDepth, DEFAULT_STRATEGY, 0, LaneOverflowPolicy.BLOCK);
     }
 
     public static DOMNotificationRouter create(final int queueDepth, final long spinTime, final long parkTime,
                                                final TimeUnit unit) {
+        return create(queueDepth, spinTime, parkTime, unit, QueueWaitStrategy.PHASED_BACKOFF, 0,
+            LaneOverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Create a new router.
+     *
+     * @param queueDepth depth of the ring buffer, must be a power of two
+     * @param spinTime spin time of the {@link QueueWaitStrategy#PHASED_BACKOFF} strategy
+     * @param parkTime park time of the {@link QueueWaitStrategy#PHASED_BACKOFF} strategy
+     * @param unit time unit of spinTime and parkTime
+     * @param waitStrategy strategy used by the ring buffer handlers to wait for notifications
+     * @param laneDepth depth of per-listener delivery lanes, 0 delivers to listeners directly from the ring buffer
+     * @param overflowPolicy what to do when a listener's lane is full
+     * @return a new router
+     */
+    public static DOMNotificationRouter create(final int queueDepth, final long spinTime, final long parkTime,
+            final TimeUnit unit, final QueueWaitStrategy waitStrategy, final int laneDepth,
+            final LaneOverflowPolicy overflowPolicy) {
         Preconditions.checkArgument(Long.lowestOneBit(queueDepth) == Long.highestOneBit(queueDepth),
                                     "Queue depth %s is not power-of-two", queueDepth);
         final ExecutorService executor = Executors.newCachedThreadPool();
-        final WaitStrategy strategy = PhasedBackoffWaitStrategy.withLock(spinTime, parkTime, unit);
+        final WaitStrategy strategy = waitStrategy.createStrategy(spinTime, parkTime, unit);
 
-        return new DOMNotificationRouter(executor, queueDepth, strategy);
+        return new DOMNotificationRouter(executor, queueDepth, strategy, laneDepth, overflowPolicy);
     }
 
     @Override
     public synchronized <T extends DOMNotificationListener> ListenerRegistration<T> registerNotificationListener(
             final T listener, final Collection<SchemaPath> types) {
-        final ListenerRegistration<T> reg = new AbstractListenerRegistration<T>(listener) {
-            @Override
-            protected void removeRegistration() {
-                final ListenerRegistration<T> me = this;
-
-                synchronized (DOMNotificationRouter.this) {
-                    replaceListeners(ImmutableMultimap.copyOf(Multimaps.filterValues(listeners, input -> input != me)));
-                }
-            }
-        };
+        final Registration<T> reg = new Registration<>(listener);
 
         if (!types.isEmpty()) {
             final Builder<SchemaPath, ListenerRegistration<? extends DOMNotificationListener>> b = ImmutableMultimap
@@ -197,6 +314,64 @@ public final class DOMNotificationRouter implements AutoCloseable, DOMNotificati
         return publish(seq, notification, subscribers);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This implementation claims a contiguous range of ring buffer slots for the whole batch, or for chunks of it if
+     * the batch does not fit into the ring buffer, and publishes it with a single operation, so the handlers are
+     * woken up once per chunk rather than once per notification.
+     */
+    @Override
+    public ListenableFuture<?> putNotifications(final List<? extends DOMNotification> notifications)
+            throws InterruptedException {
+        final RingBuffer<DOMNotificationRouterEvent> ringBuffer = disruptor.getRingBuffer();
+        final int maxChunk = ringBuffer.getBufferSize();
+        final List<ListenableFuture<Void>> futures = new ArrayList<>();
+
+        // Resolve subscribers up front, so notifications without subscribers do not occupy slots
+        final List<DOMNotification> toPublish = new ArrayList<>(notifications.size());
+        final List<Collection<ListenerRegistration<? extends DOMNotificationListener>>> subscribers =
+                new ArrayList<>(notifications.size());
+        for (DOMNotification notification : notifications) {
+            final Collection<ListenerRegistration<? extends DOMNotificationListener>> subs = listeners
+                    .get(notification.getType());
+            if (!subs.isEmpty()) {
+                toPublish.add(notification);
+                subscribers.add(subs);
+            }
+        }
+
+        int offset = 0;
+        while (offset < toPublish.size()) {
+            final int size = Math.min(maxChunk, toPublish.size() - offset);
+            final long hi = ringBuffer.next(size);
+            final long lo = hi - (size - 1);
+            ListenableFuture<Void> last = null;
+            for (long seq = lo; seq <= hi; ++seq, ++offset) {
+                last = disruptor.get(seq).initialize(toPublish.get(offset), subscribers.get(offset));
+                if (laneDepth != 0) {
+                    futures.add(last);
+                }
+            }
+            ringBuffer.publish(lo, hi);
+
+            // Without lanes futures are completed in sequence order, hence tracking the last one is sufficient
+            if (laneDepth == 0) {
+                futures.add(last);
+            }
+        }
+
+        switch (futures.size()) {
+            case 0:
+                return NO_LISTENERS;
+            case 1:
+                return futures.get(0);
+            default:
+                return Futures.allAsList(futures);
+        }
+    }
+
     private ListenableFuture<?> tryPublish(final DOMNotification notification,
                                            final Collection<ListenerRegistration<? extends DOMNotificationListener>>
                                                    subscribers) {
@@ -243,9 +418,44 @@ public final class DOMNotificationRouter implements AutoCloseable, DOMNotificati
         throw new UnsupportedOperationException("Not implemented yet");
     }
 
+    /**
+     * Returns delivery statistics of all registered listeners which have a delivery lane.
+     *
+     * @return list of per-listener statistics, empty if lanes are not enabled
+     */
+    public List<DOMNotificationListenerStats> getListenerStatistics() {
+        final ImmutableList.Builder<DOMNotificationListenerStats> builder = ImmutableList.builder();
+        for (DOMNotificationListenerLane lane : lanes()) {
+            builder.add(DOMNotificationListenerStats.of(lane));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the number of notifications dropped by delivery lanes since this router was created, including those
+     * dropped by lanes of listeners which are no longer registered.
+     *
+     * @return total number of dropped notifications
+     */
+    public long getTotalDroppedNotifications() {
+        return droppedNotifications.sum();
+    }
+
+    private Set<DOMNotificationListenerLane> lanes() {
+        final Set<DOMNotificationListenerLane> ret = new HashSet<>();
+        for (ListenerRegistration<? extends DOMNotificationListener> reg : listeners.values()) {
+            final DOMNotificationListenerLane lane = ((Registration<?>) reg).getLane();
+            if (lane != null) {
+                ret.add(lane);
+            }
+        }
+        return ret;
+    }
+
     @Override
     public void close() {
         disruptor.shutdown();
+        lanes().forEach(DOMNotificationListenerLane::close);
         executor.shutdown();
     }
 }
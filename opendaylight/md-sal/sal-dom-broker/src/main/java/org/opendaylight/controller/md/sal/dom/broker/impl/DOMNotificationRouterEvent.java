@@ -14,6 +14,7 @@ import com.lmax.disruptor.EventFactory;
 import java.util.Collection;
 import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
 import org.opendaylight.controller.md.sal.dom.api.DOMNotificationListener;
+import org.opendaylight.controller.md.sal.dom.broker.impl.DOMNotificationListenerLane.PendingNotification;
 import org.opendaylight.yangtools.concepts.ListenerRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +30,7 @@ final class DOMNotificationRouterEvent {
     private Collection<ListenerRegistration<? extends DOMNotificationListener>> subscribers;
     private DOMNotification notification;
     private SettableFuture<Void> future;
+    private PendingNotification pending;
 
     private DOMNotificationRouterEvent() {
         // Hidden on purpose, initialized in initialize()
@@ -48,18 +50,44 @@ final class DOMNotificationRouterEvent {
         for (ListenerRegistration<? extends DOMNotificationListener> r : subscribers) {
             final DOMNotificationListener listener = r.getInstance();
             if (listener != null) {
-                LOG.trace("Notifying listener {}", listener);
-                listener.onNotification(notification);
-                LOG.trace("Listener notification completed");
+                final DOMNotificationListenerLane lane = ((DOMNotificationRouter.Registration<?>) r).getLane();
+                if (lane != null) {
+                    enqueue(lane);
+                } else {
+                    LOG.trace("Notifying listener {}", listener);
+                    listener.onNotification(notification);
+                    LOG.trace("Listener notification completed");
+                }
             }
         }
         LOG.trace("Delivery completed");
     }
 
+    private void enqueue(final DOMNotificationListenerLane lane) {
+        if (pending == null) {
+            pending = new PendingNotification(notification, future);
+        }
+
+        LOG.trace("Queueing notification to lane of listener {}", lane.getListener());
+        try {
+            lane.enqueue(pending);
+        } catch (InterruptedException e) {
+            LOG.warn("Interrupted while waiting for lane of listener {}, notification {} not delivered",
+                lane.getListener(), notification, e);
+            Thread.currentThread().interrupt();
+        }
+    }
+
     void setFuture() {
-        future.set(null);
+        if (pending != null) {
+            // Lanes complete the future once they have delivered the notification
+            pending.release();
+        } else {
+            future.set(null);
+        }
         notification = null;
         subscribers = null;
         future = null;
+        pending = null;
     }
 }
\ No newline at end of file
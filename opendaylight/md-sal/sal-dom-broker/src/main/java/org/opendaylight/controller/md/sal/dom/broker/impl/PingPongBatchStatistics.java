@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl;
+
+import com.google.common.base.MoreObjects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.yangtools.util.DurationStatisticsTracker;
+
+/**
+ * Statistics about the batches committed by the {@link PingPongTransactionChain}s of a {@link PingPongDataBroker}:
+ * how many front-end transactions and write operations were coalesced into each batch, how long batches took to
+ * commit and how often producers were held off by the {@link PingPongCoalescingPolicy}.
+ */
+@ThreadSafe
+public final class PingPongBatchStatistics {
+    private final DurationStatisticsTracker commitLatency = DurationStatisticsTracker.createConcurrent();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder transactions = new LongAdder();
+    private final LongAdder operations = new LongAdder();
+    private final LongAdder fullBatchWaits = new LongAdder();
+    private final LongAdder fullBatchWaitTimeouts = new LongAdder();
+    private final AtomicLong maxBatchOperations = new AtomicLong();
+
+    void batchCommitted(final PingPongTransaction tx, final long latencyNanos) {
+        final int batchOperations = tx.getOperationCount();
+        batches.increment();
+        transactions.add(tx.getFrontendCount());
+        operations.add(batchOperations);
+        maxBatchOperations.accumulateAndGet(batchOperations, Math::max);
+        commitLatency.addDuration(latencyNanos);
+    }
+
+    void fullBatchWait(final boolean timedOut) {
+        fullBatchWaits.increment();
+        if (timedOut) {
+            fullBatchWaitTimeouts.increment();
+        }
+    }
+
+    /**
+     * Returns the commit latency of batches, measured from submission to the back-end until completion.
+     *
+     * @return the commit latency tracker
+     */
+    public DurationStatisticsTracker getCommitLatency() {
+        return commitLatency;
+    }
+
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    public long getTransactionCount() {
+        return transactions.sum();
+    }
+
+    public long getOperationCount() {
+        return operations.sum();
+    }
+
+    public long getMaxBatchOperations() {
+        return maxBatchOperations.get();
+    }
+
+    public double getAverageBatchTransactions() {
+        final long count = batches.sum();
+        return count == 0 ? 0 : (double) transactions.sum() / count;
+    }
+
+    public double getAverageBatchOperations() {
+        final long count = batches.sum();
+        return count == 0 ? 0 : (double) operations.sum() / count;
+    }
+
+    /**
+     * Returns the number of times a transaction allocation waited for a full batch to be submitted.
+     *
+     * @return number of waits
+     */
+    public long getFullBatchWaits() {
+        return fullBatchWaits.sum();
+    }
+
+    /**
+     * Returns the number of times a transaction allocation gave up waiting for a full batch to be submitted after the
+     * policy's maximum delay and continued to coalesce into it.
+     *
+     * @return number of timed out waits
+     */
+    public long getFullBatchWaitTimeouts() {
+        return fullBatchWaitTimeouts.sum();
+    }
+
+    public void reset() {
+        commitLatency.reset();
+        batches.reset();
+        transactions.reset();
+        operations.reset();
+        fullBatchWaits.reset();
+        fullBatchWaitTimeouts.reset();
+        maxBatchOperations.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("batches", getBatchCount())
+                .add("avgTransactions", getAverageBatchTransactions())
+                .add("avgOperations", getAverageBatchOperations()).add("maxOperations", getMaxBatchOperations())
+                .add("avgCommitLatency", commitLatency.getDisplayableAverageDuration())
+                .add("fullBatchWaits", getFullBatchWaits()).add("fullBatchWaitTimeouts", getFullBatchWaitTimeouts())
+                .toString();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Policy controlling how {@link PingPongTransactionChain} coalesces front-end transactions into back-end batches.
+ *
+ * <p>
+ * A ping-pong chain coalesces all transactions readied while the previous batch is being committed, so a bursty
+ * producer ends up alternating between tiny and huge batches. This policy bounds the size of a batch: once the ready
+ * batch holds {@code maxOperations} write operations, allocation of a new transaction waits for the in-flight batch
+ * to complete, so the full batch is submitted and a new one started. The wait is bounded by {@code maxDelay}, after
+ * which the producer continues to coalesce into the full batch rather than stall.
+ *
+ * <p>
+ * The {@link #DEFAULT} policy does not bound batches, which is the traditional ping-pong behavior.
+ */
+public final class PingPongCoalescingPolicy {
+    public static final PingPongCoalescingPolicy DEFAULT = new PingPongCoalescingPolicy(0, 0);
+
+    private final long maxDelayNanos;
+    private final int maxOperations;
+
+    private PingPongCoalescingPolicy(final long maxDelayNanos, final int maxOperations) {
+        this.maxDelayNanos = maxDelayNanos;
+        this.maxOperations = maxOperations;
+    }
+
+    /**
+     * Creates a new policy.
+     *
+     * @param maxDelay maximum time a transaction allocation waits for a full batch to be submitted, 0 disables bounding
+     * @param unit time unit of maxDelay
+     * @param maxOperations number of write operations after which a batch is considered full, 0 disables bounding
+     * @return a new policy
+     */
+    public static PingPongCoalescingPolicy create(final long maxDelay, final TimeUnit unit, final int maxOperations) {
+        Preconditions.checkArgument(maxDelay >= 0, "Maximum delay must not be negative, not %s", maxDelay);
+        Preconditions.checkArgument(maxOperations >= 0, "Maximum operations must not be negative, not %s",
+            maxOperations);
+        if (maxDelay == 0 || maxOperations == 0) {
+            return DEFAULT;
+        }
+
+        return new PingPongCoalescingPolicy(unit.toNanos(maxDelay), maxOperations);
+    }
+
+    long getMaxDelayNanos() {
+        return maxDelayNanos;
+    }
+
+    int getMaxOperations() {
+        return maxOperations;
+    }
+
+    boolean isBounded() {
+        return maxOperations != 0;
+    }
+
+    boolean isFull(final PingPongTransaction tx) {
+        return maxOperations != 0 && tx.getOperationCount() >= maxOperations;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("maxDelayNanos", maxDelayNanos)
+                .add("maxOperations", maxOperations).toString();
+    }
+}
@@ -27,6 +27,8 @@ import org.opendaylight.yangtools.concepts.ListenerRegistration;
  */
 public final class PingPongDataBroker extends ForwardingDOMDataBroker implements AutoCloseable,
         DOMDataTreeChangeService {
+    private final PingPongBatchStatistics statistics = new PingPongBatchStatistics();
+    private final PingPongCoalescingPolicy policy;
     private final DOMDataBroker delegate;
 
     /**
@@ -36,7 +38,29 @@ public final class PingPongDataBroker extends ForwardingDOMDataBroker implements
      * @param delegate Backend broker, may not be null.
      */
     public PingPongDataBroker(@Nonnull final DOMDataBroker delegate) {
+        this(delegate, PingPongCoalescingPolicy.DEFAULT);
+    }
+
+    /**
+     * Instantiate a new broker, backed by the the specified delegate
+     * {@link DOMDataBroker}, whose transaction chains coalesce transactions
+     * according to the specified policy.
+     *
+     * @param delegate Backend broker, may not be null.
+     * @param policy Coalescing policy, may not be null.
+     */
+    public PingPongDataBroker(@Nonnull final DOMDataBroker delegate, @Nonnull final PingPongCoalescingPolicy policy) {
         this.delegate = Preconditions.checkNotNull(delegate);
+        this.policy = Preconditions.checkNotNull(policy);
+    }
+
+    /**
+     * Returns the statistics of batches committed by all transaction chains of this broker.
+     *
+     * @return batch statistics
+     */
+    public PingPongBatchStatistics getStatistics() {
+        return statistics;
     }
 
     @Override
@@ -46,7 +70,7 @@ public final class PingPongDataBroker extends ForwardingDOMDataBroker implements
 
     @Override
     public PingPongTransactionChain createTransactionChain(final TransactionChainListener listener) {
-        return new PingPongTransactionChain(delegate, listener);
+        return new PingPongTransactionChain(delegate, listener, policy, statistics);
     }
 
     @Override
@@ -31,6 +31,9 @@ final class PingPongTransaction implements FutureCallback<Void> {
     private final DOMDataReadWriteTransaction delegate;
     private final SettableFuture<Void> future;
     private DOMDataReadWriteTransaction frontendTransaction;
+    private int frontendCount;
+    private int operationCount;
+    private long submitTime;
 
     PingPongTransaction(final DOMDataReadWriteTransaction delegate) {
         this.delegate = Preconditions.checkNotNull(delegate);
@@ -66,17 +69,39 @@ final class PingPongTransaction implements FutureCallback<Void> {
     }
 
     void recordFrontendTransaction(final DOMDataReadWriteTransaction tx) {
+        frontendCount++;
         if (frontendTransaction != null) {
             frontendTransaction = tx;
         }
     }
 
+    int getFrontendCount() {
+        return frontendCount;
+    }
+
+    void recordOperation() {
+        operationCount++;
+    }
+
+    int getOperationCount() {
+        return operationCount;
+    }
+
+    void recordSubmit() {
+        submitTime = System.nanoTime();
+    }
+
+    long getSubmitTime() {
+        return submitTime;
+    }
+
     @Override
     public String toString() {
         return addToStringAttributes(MoreObjects.toStringHelper(this)).toString();
     }
 
     protected ToStringHelper addToStringAttributes(final ToStringHelper toStringHelper) {
-        return toStringHelper.add("delegate", delegate);
+        return toStringHelper.add("delegate", delegate).add("frontendCount", frontendCount)
+                .add("operationCount", operationCount);
     }
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ import com.google.common.util.concurrent.MoreExecutors;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.Map.Entry;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.GuardedBy;
@@ -57,11 +58,23 @@ import org.slf4j.LoggerFactory;
  * It furthermore means that the transactions returned by {@link #newReadOnlyTransaction()}
  * counts as an outstanding transaction and the user may not allocate multiple
  * read-only transactions at the same time.
+ *
+ * <p>
+ * The size of batches can be bounded by a {@link PingPongCoalescingPolicy}, which makes allocation of a new
+ * transaction wait for a bounded time for the in-flight batch to complete once the ready batch is full.
  */
 public final class PingPongTransactionChain implements DOMTransactionChain {
     private static final Logger LOG = LoggerFactory.getLogger(PingPongTransactionChain.class);
     private final TransactionChainListener listener;
     private final DOMTransactionChain delegate;
+    private final PingPongCoalescingPolicy policy;
+    private final PingPongBatchStatistics statistics;
+
+    /**
+     * The thread completing the in-flight transaction while it is notifying the transaction's listeners. Allocations
+     * from that thread must not wait for the in-flight transaction to complete.
+     */
+    private volatile Thread completingThread;
 
     @GuardedBy("this")
     private boolean failed;
@@ -100,7 +113,14 @@ public final class PingPongTransactionChain implements DOMTransactionChain {
     private volatile PingPongTransaction inflightTx;
 
     PingPongTransactionChain(final DOMDataBroker broker, final TransactionChainListener listener) {
+        this(broker, listener, PingPongCoalescingPolicy.DEFAULT, new PingPongBatchStatistics());
+    }
+
+    PingPongTransactionChain(final DOMDataBroker broker, final TransactionChainListener listener,
+            final PingPongCoalescingPolicy policy, final PingPongBatchStatistics statistics) {
         this.listener = Preconditions.checkNotNull(listener);
+        this.policy = Preconditions.checkNotNull(policy);
+        this.statistics = Preconditions.checkNotNull(statistics);
         this.delegate = broker.createTransactionChain(new TransactionChainListener() {
             @Override
             public void onTransactionChainFailed(final TransactionChain<?, ?> chain,
@@ -187,6 +207,11 @@ public final class PingPongTransactionChain implements DOMTransactionChain {
     }
 
     private PingPongTransaction allocateTransaction() {
+        // Step 0: give a full batch the chance to be submitted
+        if (policy.isBounded()) {
+            awaitFullBatchSubmit();
+        }
+
         // Step 1: acquire current state
         final PingPongTransaction oldTx = READY_UPDATER.getAndSet(this, null);
 
@@ -206,6 +231,43 @@ public final class PingPongTransactionChain implements DOMTransactionChain {
         return oldTx;
     }
 
+    /**
+     * If the ready batch is full and there is a transaction in flight, wait for the in-flight transaction to complete,
+     * which results in the ready batch being submitted and a new batch being started by the allocation. The wait is
+     * bounded by the policy's maximum delay, after which we continue to coalesce into the full batch.
+     */
+    private void awaitFullBatchSubmit() {
+        final PingPongTransaction ready = readyTx;
+        if (ready == null || !policy.isFull(ready) || inflightTx == null
+                || completingThread == Thread.currentThread()) {
+            return;
+        }
+
+        final long deadline = System.nanoTime() + policy.getMaxDelayNanos();
+        synchronized (this) {
+            while (readyTx == ready && inflightTx != null) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    LOG.debug("Transaction {} still in flight, continuing to coalesce into full batch {}",
+                        inflightTx, ready);
+                    statistics.fullBatchWait(true);
+                    return;
+                }
+
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                } catch (InterruptedException e) {
+                    LOG.debug("Interrupted while waiting for batch {} to be submitted", ready, e);
+                    Thread.currentThread().interrupt();
+                    statistics.fullBatchWait(true);
+                    return;
+                }
+            }
+        }
+
+        statistics.fullBatchWait(false);
+    }
+
     /*
      * This forces allocateTransaction() on a slow path, which has to happen after
      * this method has completed executing. Also inflightTx may be updated outside
@@ -240,6 +302,7 @@ public final class PingPongTransactionChain implements DOMTransactionChain {
             LOG.warn("Submitting transaction {} while {} is still running", tx, inflightTx);
         }
 
+        tx.recordSubmit();
         Futures.addCallback(tx.getTransaction().submit(), new FutureCallback<Void>() {
             @Override
             public void onSuccess(final Void result) {
@@ -286,19 +349,35 @@ public final class PingPongTransactionChain implements DOMTransactionChain {
             delegate.close();
             shutdownTx = null;
         }
+
+        // Wake up allocations waiting for a full batch to be submitted
+        if (policy.isBounded()) {
+            notifyAll();
+        }
     }
 
     void transactionSuccessful(final PingPongTransaction tx, final Void result) {
         LOG.debug("Transaction {} completed successfully", tx);
+        statistics.batchCommitted(tx, System.nanoTime() - tx.getSubmitTime());
 
-        tx.onSuccess(result);
+        completingThread = Thread.currentThread();
+        try {
+            tx.onSuccess(result);
+        } finally {
+            completingThread = null;
+        }
         processNextTransaction(tx);
     }
 
     void transactionFailed(final PingPongTransaction tx, final Throwable throwable) {
         LOG.debug("Transaction {} failed", tx, throwable);
 
-        tx.onFailure(throwable);
+        completingThread = Thread.currentThread();
+        try {
+            tx.onFailure(throwable);
+        } finally {
+            completingThread = null;
+        }
         processNextTransaction(tx);
     }
 
@@ -451,6 +530,26 @@ public final class PingPongTransactionChain implements DOMTransactionChain {
                 return tx.getTransaction();
             }
 
+            @Override
+            public void put(final LogicalDatastoreType store, final YangInstanceIdentifier path,
+                    final NormalizedNode<?, ?> data) {
+                super.put(store, path, data);
+                tx.recordOperation();
+            }
+
+            @Override
+            public void merge(final LogicalDatastoreType store, final YangInstanceIdentifier path,
+                    final NormalizedNode<?, ?> data) {
+                super.merge(store, path, data);
+                tx.recordOperation();
+            }
+
+            @Override
+            public void delete(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
+                super.delete(store, path);
+                tx.recordOperation();
+            }
+
             @Override
             public CheckedFuture<Void, TransactionCommitFailedException> submit() {
                 readyTransaction(tx);
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl.jmx;
+
+import java.util.List;
+import org.opendaylight.controller.md.sal.dom.broker.impl.DOMNotificationListenerStats;
+
+/**
+ * MXBean interface for retrieving per-listener delivery statistics of the DOM notification router.
+ */
+public interface NotificationRouterStatsMXBean {
+
+    /**
+     * Returns delivery statistics of each listener which has a delivery lane.
+     *
+     * @return list of per-listener statistics
+     */
+    List<DOMNotificationListenerStats> getListenerStats();
+
+    /**
+     * Returns the total number of notifications dropped because a listener's lane was full, including drops of
+     * listeners which have since been unregistered.
+     *
+     * @return number of dropped notifications
+     */
+    long getTotalDroppedNotifications();
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl.jmx;
+
+import java.util.List;
+import javax.annotation.Nonnull;
+import org.opendaylight.controller.md.sal.common.util.jmx.AbstractMXBean;
+import org.opendaylight.controller.md.sal.dom.broker.impl.DOMNotificationListenerStats;
+import org.opendaylight.controller.md.sal.dom.broker.impl.DOMNotificationRouter;
+
+/**
+ * Implementation of the NotificationRouterStatsMXBean interface.
+ */
+public class NotificationRouterStatsMXBeanImpl extends AbstractMXBean implements NotificationRouterStatsMXBean {
+
+    private final DOMNotificationRouter router;
+
+    /**
+     * Constructor.
+     *
+     * @param router the DOMNotificationRouter whose statistics are exposed.
+     * @param mbeantype mBeanType Used as the <code>type</code> property in the bean's ObjectName.
+     */
+    public NotificationRouterStatsMXBeanImpl(@Nonnull final DOMNotificationRouter router,
+            @Nonnull final String mbeantype) {
+        super("NotificationRouterStats", mbeantype, null);
+        this.router = router;
+    }
+
+    @Override
+    public List<DOMNotificationListenerStats> getListenerStats() {
+        return router.getListenerStatistics();
+    }
+
+    @Override
+    public long getTotalDroppedNotifications() {
+        return router.getTotalDroppedNotifications();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl.jmx;
+
+/**
+ * MXBean interface for retrieving statistics about the batches committed by ping-pong transaction chains.
+ */
+public interface PingPongBatchStatsMXBean {
+
+    /**
+     * Returns the total number of batches committed.
+     *
+     * @return number of batches
+     */
+    long getTotalBatches();
+
+    /**
+     * Returns the average number of front-end transactions coalesced into a batch.
+     *
+     * @return average number of transactions
+     */
+    double getAverageBatchTransactions();
+
+    /**
+     * Returns the average number of write operations coalesced into a batch.
+     *
+     * @return average number of operations
+     */
+    double getAverageBatchOperations();
+
+    /**
+     * Returns the largest number of write operations coalesced into a batch.
+     *
+     * @return maximum number of operations
+     */
+    long getMaxBatchOperations();
+
+    /**
+     * Returns a string representing the average batch commit time, in the appropriate scaled units.
+     *
+     * @return string
+     */
+    String getAverageCommitTime();
+
+    /**
+     * Returns a string representing the time duration of the longest batch commit, in the appropriate
+     * scaled units, along with the date/time that it occurred.
+     *
+     * @return string
+     */
+    String getLongestCommitTime();
+
+    /**
+     * Returns the number of times a transaction allocation waited for a full batch to be submitted.
+     *
+     * @return number of waits
+     */
+    long getFullBatchWaits();
+
+    /**
+     * Returns the number of waits for a full batch which timed out.
+     *
+     * @return number of timed out waits
+     */
+    long getFullBatchWaitTimeouts();
+
+    /**
+     * Clears the current stats to their defaults.
+     */
+    void clearStats();
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl.jmx;
+
+import javax.annotation.Nonnull;
+import org.opendaylight.controller.md.sal.common.util.jmx.AbstractMXBean;
+import org.opendaylight.controller.md.sal.dom.broker.impl.PingPongBatchStatistics;
+import org.opendaylight.controller.md.sal.dom.broker.impl.PingPongDataBroker;
+
+/**
+ * Implementation of the PingPongBatchStatsMXBean interface.
+ */
+public class PingPongBatchStatsMXBeanImpl extends AbstractMXBean implements PingPongBatchStatsMXBean {
+
+    private final PingPongBatchStatistics statistics;
+
+    /**
+     * Constructor.
+     *
+     * @param broker the PingPongDataBroker whose statistics are exposed.
+     * @param mbeantype mBeanType Used as the <code>type</code> property in the bean's ObjectName.
+     */
+    public PingPongBatchStatsMXBeanImpl(@Nonnull final PingPongDataBroker broker, @Nonnull final String mbeantype) {
+        super("PingPongBatchStats", mbeantype, null);
+        this.statistics = broker.getStatistics();
+    }
+
+    @Override
+    public long getTotalBatches() {
+        return statistics.getBatchCount();
+    }
+
+    @Override
+    public double getAverageBatchTransactions() {
+        return statistics.getAverageBatchTransactions();
+    }
+
+    @Override
+    public double getAverageBatchOperations() {
+        return statistics.getAverageBatchOperations();
+    }
+
+    @Override
+    public long getMaxBatchOperations() {
+        return statistics.getMaxBatchOperations();
+    }
+
+    @Override
+    public String getAverageCommitTime() {
+        return statistics.getCommitLatency().getDisplayableAverageDuration();
+    }
+
+    @Override
+    public String getLongestCommitTime() {
+        return statistics.getCommitLatency().getDisplayableLongestDuration();
+    }
+
+    @Override
+    public long getFullBatchWaits() {
+        return statistics.getFullBatchWaits();
+    }
+
+    @Override
+    public long getFullBatchWaitTimeouts() {
+        return statistics.getFullBatchWaitTimeouts();
+    }
+
+    @Override
+    public void clearStats() {
+        statistics.reset();
+    }
+}
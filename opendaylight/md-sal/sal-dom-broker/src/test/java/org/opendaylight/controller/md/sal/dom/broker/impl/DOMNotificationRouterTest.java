@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotificationListener;
+import org.opendaylight.controller.md.sal.dom.broker.impl.DOMNotificationRouter.LaneOverflowPolicy;
+import org.opendaylight.controller.md.sal.dom.broker.impl.DOMNotificationRouter.QueueWaitStrategy;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+/**
+ * Unit tests for per-listener delivery lanes and batch publishing of DOMNotificationRouter.
+ */
+public class DOMNotificationRouterTest {
+    private static final SchemaPath TYPE = SchemaPath.create(true,
+        QName.create("urn:opendaylight:test", "2017-01-01", "test-notification"));
+
+    private DOMNotificationRouter router;
+
+    @After
+    public void tearDown() {
+        if (router != null) {
+            router.close();
+        }
+    }
+
+    private static DOMNotification notification() {
+        final DOMNotification notification = mock(DOMNotification.class);
+        doReturn(TYPE).when(notification).getType();
+        return notification;
+    }
+
+    private static final class CountingListener implements DOMNotificationListener {
+        final CountDownLatch received;
+        final CountDownLatch release;
+
+        CountingListener(final int expected, final CountDownLatch release) {
+            this.received = new CountDownLatch(expected);
+            this.release = release;
+        }
+
+        @Override
+        public void onNotification(final DOMNotification notification) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            received.countDown();
+        }
+    }
+
+    @Test
+    public void testSlowListenerDoesNotBlockOthers() throws Exception {
+        router = DOMNotificationRouter.create(16, 0, 0, TimeUnit.MILLISECONDS, QueueWaitStrategy.BLOCKING, 8,
+            LaneOverflowPolicy.BLOCK);
+
+        final CountDownLatch slowRelease = new CountDownLatch(1);
+        final CountingListener slow = new CountingListener(4, slowRelease);
+        final CountingListener fast = new CountingListener(4, new CountDownLatch(0));
+        router.registerNotificationListener(slow, TYPE);
+        router.registerNotificationListener(fast, TYPE);
+
+        ListenableFuture<?> last = null;
+        for (int i = 0; i < 4; i++) {
+            last = router.putNotification(notification());
+        }
+
+        assertTrue("Fast listener received all notifications", fast.received.await(5, TimeUnit.SECONDS));
+        assertFalse("Future completes only after the slow listener processed the notification", last.isDone());
+
+        slowRelease.countDown();
+        assertTrue("Slow listener received all notifications", slow.received.await(5, TimeUnit.SECONDS));
+        last.get(5, TimeUnit.SECONDS);
+
+        final List<DOMNotificationListenerStats> stats = router.getListenerStatistics();
+        assertEquals(2, stats.size());
+        for (DOMNotificationListenerStats s : stats) {
+            assertEquals(4, s.getDeliveredCount());
+            assertEquals(0, s.getDroppedCount());
+        }
+    }
+
+    @Test
+    public void testDropWhenLaneIsFull() throws Exception {
+        router = DOMNotificationRouter.create(16, 0, 0, TimeUnit.MILLISECONDS, QueueWaitStrategy.BLOCKING, 2,
+            LaneOverflowPolicy.DROP);
+
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountingListener slow = new CountingListener(1, release);
+        final ListenerRegistration<CountingListener> reg = router.registerNotificationListener(slow, TYPE);
+
+        ListenableFuture<?> last = null;
+        for (int i = 0; i < 10; i++) {
+            last = router.putNotification(notification());
+        }
+
+        // Dropped notifications complete without being delivered
+        last.get(5, TimeUnit.SECONDS);
+        release.countDown();
+
+        final DOMNotificationListenerStats stats = router.getListenerStatistics().get(0);
+        assertTrue("Some notifications were dropped", stats.getDroppedCount() > 0);
+        assertTrue("Lane depth was respected", stats.getMaxQueueSize() <= 2);
+        assertEquals(stats.getDroppedCount(), router.getTotalDroppedNotifications());
+
+        // Drops of unregistered listeners still count towards the total
+        reg.close();
+        assertTrue(router.getListenerStatistics().isEmpty());
+        assertEquals(stats.getDroppedCount(), router.getTotalDroppedNotifications());
+    }
+
+    @Test
+    public void testBatchLargerThanRingBuffer() throws Exception {
+        router = DOMNotificationRouter.create(16);
+
+        final List<DOMNotification> received = new ArrayList<>();
+        router.registerNotificationListener(received::add, TYPE);
+
+        final List<DOMNotification> batch = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            batch.add(notification());
+        }
+
+        router.putNotifications(batch).get(5, TimeUnit.SECONDS);
+        assertEquals(batch, received);
+    }
+
+    @Test
+    public void testBatchWithLanes() throws Exception {
+        router = DOMNotificationRouter.create(16, 0, 0, TimeUnit.MILLISECONDS, QueueWaitStrategy.BLOCKING, 64,
+            LaneOverflowPolicy.BLOCK);
+
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountingListener slow = new CountingListener(20, release);
+        final CountingListener fast = new CountingListener(20, new CountDownLatch(0));
+        router.registerNotificationListener(slow, TYPE);
+        router.registerNotificationListener(fast, TYPE);
+
+        final List<DOMNotification> batch = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            batch.add(notification());
+        }
+
+        final ListenableFuture<?> future = router.putNotifications(batch);
+        assertTrue("Fast listener received the batch", fast.received.await(5, TimeUnit.SECONDS));
+        assertFalse("Batch completes only after the slow listener processed it", future.isDone());
+
+        release.countDown();
+        future.get(5, TimeUnit.SECONDS);
+        assertEquals(0, slow.received.getCount());
+    }
+
+    private static ListenableFuture<Void> dispatch(final DOMNotification notification,
+            final Collection<ListenerRegistration<? extends DOMNotificationListener>> subscribers) {
+        final DOMNotificationRouterEvent event = DOMNotificationRouterEvent.FACTORY.newInstance();
+        final ListenableFuture<Void> future = event.initialize(notification, subscribers);
+        event.deliverNotification();
+        event.setFuture();
+        return future;
+    }
+
+    @Test
+    public void testInterruptedWhileBlockedOnFullLane() throws Exception {
+        router = DOMNotificationRouter.create(16, 0, 0, TimeUnit.MILLISECONDS, QueueWaitStrategy.BLOCKING, 1,
+            LaneOverflowPolicy.BLOCK);
+
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ListenerRegistration<DOMNotificationListener> reg = router.registerNotificationListener(
+            (DOMNotificationListener) ntf -> {
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }, TYPE);
+        final Collection<ListenerRegistration<? extends DOMNotificationListener>> subscribers =
+                ImmutableList.of(reg);
+
+        // The first notification is being delivered, the second one fills the lane
+        final ListenableFuture<Void> first = dispatch(notification(), subscribers);
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        final ListenableFuture<Void> second = dispatch(notification(), subscribers);
+
+        // The third one would block, but the dispatcher is interrupted
+        Thread.currentThread().interrupt();
+        final ListenableFuture<Void> third = dispatch(notification(), subscribers);
+        assertTrue("Interrupt is propagated", Thread.interrupted());
+        third.get(5, TimeUnit.SECONDS);
+        assertEquals(1, router.getListenerStatistics().get(0).getDroppedCount());
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        assertEquals(2, router.getListenerStatistics().get(0).getDeliveredCount());
+    }
+}
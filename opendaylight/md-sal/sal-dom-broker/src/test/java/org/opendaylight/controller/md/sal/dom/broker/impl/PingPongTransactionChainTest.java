@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionChainListener;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionCommitFailedException;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataBroker;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataReadWriteTransaction;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataWriteTransaction;
+import org.opendaylight.controller.md.sal.dom.api.DOMTransactionChain;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+
+/**
+ * Unit tests for the coalescing policy of PingPongTransactionChain.
+ */
+public class PingPongTransactionChainTest {
+    private final List<SettableFuture<Void>> submitFutures = new ArrayList<>();
+    private final DOMDataBroker broker = mock(DOMDataBroker.class);
+    private final DOMTransactionChain delegateChain = mock(DOMTransactionChain.class);
+    private final PingPongBatchStatistics statistics = new PingPongBatchStatistics();
+
+    @Before
+    public void setUp() {
+        doReturn(delegateChain).when(broker).createTransactionChain(any(TransactionChainListener.class));
+        doAnswer(invocation -> {
+            final DOMDataReadWriteTransaction tx = mock(DOMDataReadWriteTransaction.class);
+            final SettableFuture<Void> future = SettableFuture.create();
+            synchronized (submitFutures) {
+                submitFutures.add(future);
+            }
+            doReturn(Futures.makeChecked(future, e -> new TransactionCommitFailedException("mock", e)))
+                    .when(tx).submit();
+            return tx;
+        }).when(delegateChain).newReadWriteTransaction();
+    }
+
+    private PingPongTransactionChain newChain(final long maxDelayMillis, final int maxOperations) {
+        return new PingPongTransactionChain(broker, mock(TransactionChainListener.class),
+            PingPongCoalescingPolicy.create(maxDelayMillis, TimeUnit.MILLISECONDS, maxOperations), statistics);
+    }
+
+    private SettableFuture<Void> submitFuture(final int index) {
+        synchronized (submitFutures) {
+            return submitFutures.get(index);
+        }
+    }
+
+    private static void write(final DOMDataWriteTransaction tx, final int operations) {
+        for (int i = 0; i < operations; i++) {
+            tx.delete(LogicalDatastoreType.OPERATIONAL, YangInstanceIdentifier.EMPTY);
+        }
+    }
+
+    @Test
+    public void testFullBatchIsSubmittedOnCompletion() throws Exception {
+        final PingPongTransactionChain chain = newChain(10000, 2);
+
+        // First transaction goes in flight
+        final DOMDataWriteTransaction tx1 = chain.newWriteOnlyTransaction();
+        write(tx1, 1);
+        tx1.submit();
+
+        // Second transaction fills the ready batch
+        final DOMDataWriteTransaction tx2 = chain.newWriteOnlyTransaction();
+        write(tx2, 2);
+        tx2.submit();
+        verify(delegateChain, times(2)).newReadWriteTransaction();
+
+        final CountDownLatch allocated = new CountDownLatch(1);
+        new Thread(() -> {
+            chain.newWriteOnlyTransaction();
+            allocated.countDown();
+        }).start();
+
+        assertFalse("Allocation should wait for the full batch", allocated.await(200, TimeUnit.MILLISECONDS));
+
+        submitFuture(0).set(null);
+        assertTrue("Allocation completed", allocated.await(5, TimeUnit.SECONDS));
+
+        // The full batch was submitted and the allocation started a new batch
+        verify(delegateChain, times(3)).newReadWriteTransaction();
+        assertEquals(1, statistics.getBatchCount());
+        assertEquals(1, statistics.getFullBatchWaits());
+        assertEquals(0, statistics.getFullBatchWaitTimeouts());
+    }
+
+    @Test
+    public void testFullBatchWaitTimesOut() throws Exception {
+        final PingPongTransactionChain chain = newChain(50, 2);
+
+        final DOMDataWriteTransaction tx1 = chain.newWriteOnlyTransaction();
+        write(tx1, 1);
+        tx1.submit();
+
+        final DOMDataWriteTransaction tx2 = chain.newWriteOnlyTransaction();
+        write(tx2, 2);
+        tx2.submit();
+
+        // The in-flight transaction does not complete, hence we continue to coalesce into the full batch
+        final DOMDataWriteTransaction tx3 = chain.newWriteOnlyTransaction();
+        write(tx3, 1);
+        tx3.submit();
+
+        verify(delegateChain, times(2)).newReadWriteTransaction();
+        assertEquals(1, statistics.getFullBatchWaitTimeouts());
+
+        submitFuture(0).set(null);
+        submitFuture(1).set(null);
+        assertEquals(2, statistics.getBatchCount());
+        assertEquals(3, statistics.getMaxBatchOperations());
+    }
+
+    @Test
+    public void testUnboundedPolicyDoesNotWait() throws Exception {
+        final PingPongTransactionChain chain = newChain(0, 0);
+
+        final DOMDataWriteTransaction tx1 = chain.newWriteOnlyTransaction();
+        write(tx1, 1);
+        tx1.submit();
+
+        for (int i = 0; i < 10; i++) {
+            final DOMDataWriteTransaction tx = chain.newWriteOnlyTransaction();
+            write(tx, 10);
+            tx.submit();
+        }
+
+        verify(delegateChain, times(2)).newReadWriteTransaction();
+        assertEquals(0, statistics.getFullBatchWaits());
+    }
+}
@@ -9,6 +9,7 @@ package org.opendaylight.controller.md.sal.dom.spi;
 
 import com.google.common.collect.ForwardingObject;
 import com.google.common.util.concurrent.ListenableFuture;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
 import org.opendaylight.controller.md.sal.dom.api.DOMNotificationPublishService;
@@ -36,4 +37,10 @@ public abstract class ForwardingDOMNotificationPublishService extends Forwarding
             final TimeUnit unit) throws InterruptedException {
         return delegate().offerNotification(notification, timeout, unit);
     }
+
+    @Override
+    public ListenableFuture<?> putNotifications(final List<? extends DOMNotification> notifications)
+            throws InterruptedException {
+        return delegate().putNotifications(notifications);
+    }
 }
@@ -13,10 +13,7 @@ import com.google.common.collect.Multimap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import org.opendaylight.controller.md.sal.common.api.data.AsyncDataBroker.DataChangeScope;
 import org.opendaylight.controller.md.sal.dom.store.impl.DOMImmutableDataChangeEvent.Builder;
 import org.opendaylight.mdsal.dom.spi.RegistrationTreeNode;
@@ -34,6 +31,12 @@ import org.slf4j.LoggerFactory;
  * method track which listeners are affected by a particular change node. It takes
  * care of properly inheriting SUB/ONE listeners and also provides a means to
  * understand when actual processing need not occur.
+ *
+ * <p>
+ * All listeners registered at this node with the same scope observe exactly the
+ * same event, hence they share a single event builder and the event is built once
+ * and handed out to each of them. This keeps the cost of merging events independent
+ * of the number of listeners registered at a particular path.
  */
 final class ResolveDataChangeState {
     private static final Logger LOG = LoggerFactory.getLogger(ResolveDataChangeState.class);
@@ -48,9 +51,17 @@ final class ResolveDataChangeState {
     private final YangInstanceIdentifier nodeId;
     private final Collection<RegistrationTreeNode<DataChangeListenerRegistration<?>>> nodes;
 
-    private final Map<DataChangeListenerRegistration<?>, Builder> subBuilders;
-    private final Map<DataChangeListenerRegistration<?>, Builder> oneBuilders;
-    private final Map<DataChangeListenerRegistration<?>, Builder> baseBuilders;
+    /*
+     * Registrations at this node, grouped by scope, and the builders shared by
+     * each group. Builder collections are either empty or singletons, so they can
+     * be handed out to children without further allocation.
+     */
+    private final Collection<DataChangeListenerRegistration<?>> subRegistrations;
+    private final Collection<DataChangeListenerRegistration<?>> oneRegistrations;
+    private final Collection<DataChangeListenerRegistration<?>> baseRegistrations;
+    private final Collection<Builder> subBuilders;
+    private final Collection<Builder> oneBuilders;
+    private final Collection<Builder> baseBuilders;
 
     private ResolveDataChangeState(final YangInstanceIdentifier nodeId,
             final Iterable<Builder> inheritedSub, final Collection<Builder> inheritedOne,
@@ -63,36 +74,51 @@ final class ResolveDataChangeState {
         /*
          * Collect the nodes which need to be propagated from us to the child.
          */
-        final Map<DataChangeListenerRegistration<?>, Builder> sub = new HashMap<>();
-        final Map<DataChangeListenerRegistration<?>, Builder> one = new HashMap<>();
-        final Map<DataChangeListenerRegistration<?>, Builder> base = new HashMap<>();
+        List<DataChangeListenerRegistration<?>> sub = null;
+        List<DataChangeListenerRegistration<?>> one = null;
+        List<DataChangeListenerRegistration<?>> base = null;
         for (RegistrationTreeNode<DataChangeListenerRegistration<?>> n : nodes) {
             for (DataChangeListenerRegistration<?> l : n.getRegistrations()) {
-                final Builder b = DOMImmutableDataChangeEvent.builder(DataChangeScope.BASE);
                 switch (l.getScope()) {
                 case BASE:
-                    base.put(l, b);
+                    base = add(base, l);
                     break;
                 case ONE:
-                    one.put(l, b);
+                    one = add(one, l);
                     break;
                 case SUBTREE:
-                    sub.put(l, b);
+                    sub = add(sub, l);
                     break;
                 }
             }
         }
 
-        baseBuilders = maybeEmpty(base);
-        oneBuilders = maybeEmpty(one);
-        subBuilders = maybeEmpty(sub);
+        baseRegistrations = maybeEmpty(base);
+        oneRegistrations = maybeEmpty(one);
+        subRegistrations = maybeEmpty(sub);
+        baseBuilders = buildersFor(base);
+        oneBuilders = buildersFor(one);
+        subBuilders = buildersFor(sub);
+    }
+
+    private static <T> List<T> add(final List<T> list, final T item) {
+        final List<T> ret = list != null ? list : new ArrayList<>();
+        ret.add(item);
+        return ret;
     }
 
-    private static <K, V> Map<K, V> maybeEmpty(final Map<K, V> map) {
-        if (map.isEmpty()) {
-            return Collections.emptyMap();
+    private static <T> Collection<T> maybeEmpty(final List<T> list) {
+        if (list == null) {
+            return Collections.emptyList();
         }
-        return map;
+        return list;
+    }
+
+    private static Collection<Builder> buildersFor(final List<?> registrations) {
+        if (registrations == null) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList(DOMImmutableDataChangeEvent.builder(DataChangeScope.BASE));
     }
 
     /**
@@ -137,16 +163,16 @@ final class ResolveDataChangeState {
         final Iterable<Builder> sb;
         if (!subBuilders.isEmpty()) {
             if (inheritedSub instanceof Collection && ((Collection<?>) inheritedSub).isEmpty()) {
-                sb = subBuilders.values();
+                sb = subBuilders;
             } else {
-                sb = Iterables.concat(inheritedSub, subBuilders.values());
+                sb = Iterables.concat(inheritedSub, subBuilders);
             }
         } else {
             sb = inheritedSub;
         }
 
         return new ResolveDataChangeState(nodeId.node(childId), sb,
-            oneBuilders.values(), getListenerChildrenWildcarded(nodes, childId));
+            oneBuilders, getListenerChildrenWildcarded(nodes, childId));
     }
 
     /**
@@ -200,7 +226,7 @@ final class ResolveDataChangeState {
      */
     public void addEvent(final DOMImmutableDataChangeEvent event) {
         // Subtree builders get always notified
-        for (Builder b : subBuilders.values()) {
+        for (Builder b : subBuilders) {
             b.merge(event);
         }
         for (Builder b : inheritedSub) {
@@ -208,7 +234,7 @@ final class ResolveDataChangeState {
         }
 
         if (event.getScope() == DataChangeScope.ONE || event.getScope() == DataChangeScope.BASE) {
-            for (Builder b : oneBuilders.values()) {
+            for (Builder b : oneBuilders) {
                 b.merge(event);
             }
         }
@@ -217,7 +243,7 @@ final class ResolveDataChangeState {
             for (Builder b : inheritedOne) {
                 b.merge(event);
             }
-            for (Builder b : baseBuilders.values()) {
+            for (Builder b : baseBuilders) {
                 b.merge(event);
             }
         }
@@ -232,26 +258,25 @@ final class ResolveDataChangeState {
      */
     public void collectEvents(final NormalizedNode<?, ?> before, final NormalizedNode<?, ?> after,
             final Multimap<DataChangeListenerRegistration<?>, DOMImmutableDataChangeEvent> map) {
-        for (Entry<DataChangeListenerRegistration<?>, Builder> e : baseBuilders.entrySet()) {
-            final Builder b = e.getValue();
-            if (!b.isEmpty()) {
-                map.put(e.getKey(), b.setBefore(before).setAfter(after).build());
-            }
-        }
-        for (Entry<DataChangeListenerRegistration<?>, Builder> e : oneBuilders.entrySet()) {
-            final Builder b = e.getValue();
-            if (!b.isEmpty()) {
-                map.put(e.getKey(), b.setBefore(before).setAfter(after).build());
-            }
-        }
-        for (Entry<DataChangeListenerRegistration<?>, Builder> e : subBuilders.entrySet()) {
-            final Builder b = e.getValue();
+        collectEvents(baseRegistrations, baseBuilders, before, after, map);
+        collectEvents(oneRegistrations, oneBuilders, before, after, map);
+        collectEvents(subRegistrations, subBuilders, before, after, map);
+
+        LOG.trace("Collected events {}", map);
+    }
+
+    private static void collectEvents(final Collection<DataChangeListenerRegistration<?>> registrations,
+            final Collection<Builder> builders, final NormalizedNode<?, ?> before, final NormalizedNode<?, ?> after,
+            final Multimap<DataChangeListenerRegistration<?>, DOMImmutableDataChangeEvent> map) {
+        for (Builder b : builders) {
             if (!b.isEmpty()) {
-                map.put(e.getKey(), b.setBefore(before).setAfter(after).build());
+                // The event is immutable, hence it can be shared by all registrations in the group
+                final DOMImmutableDataChangeEvent event = b.setBefore(before).setAfter(after).build();
+                for (DataChangeListenerRegistration<?> reg : registrations) {
+                    map.put(reg, event);
+                }
             }
         }
-
-        LOG.trace("Collected events {}", map);
     }
 
     private static Collection<RegistrationTreeNode<DataChangeListenerRegistration<?>>> getListenerChildrenWildcarded(final Collection<RegistrationTreeNode<DataChangeListenerRegistration<?>>> parentNodes,
@@ -260,21 +285,30 @@ final class ResolveDataChangeState {
             return Collections.emptyList();
         }
 
-        final List<RegistrationTreeNode<DataChangeListenerRegistration<?>>> result = new ArrayList<>();
+        /*
+         * Most children of a modified node do not have any listeners registered in
+         * their subtree, so we defer allocating the result until we find a match.
+         */
+        List<RegistrationTreeNode<DataChangeListenerRegistration<?>>> result = null;
         if (child instanceof NodeWithValue || child instanceof NodeIdentifierWithPredicates) {
             NodeIdentifier wildcardedIdentifier = new NodeIdentifier(child.getNodeType());
-            addChildNodes(result, parentNodes, wildcardedIdentifier);
+            result = addChildNodes(result, parentNodes, wildcardedIdentifier);
         }
-        addChildNodes(result, parentNodes, child);
-        return result;
+        result = addChildNodes(result, parentNodes, child);
+        return result != null ? result : Collections.emptyList();
     }
 
-    private static void addChildNodes(final List<RegistrationTreeNode<DataChangeListenerRegistration<?>>> result, final Collection<RegistrationTreeNode<DataChangeListenerRegistration<?>>> parentNodes, final PathArgument childIdentifier) {
+    private static List<RegistrationTreeNode<DataChangeListenerRegistration<?>>> addChildNodes(
+            final List<RegistrationTreeNode<DataChangeListenerRegistration<?>>> result,
+            final Collection<RegistrationTreeNode<DataChangeListenerRegistration<?>>> parentNodes,
+            final PathArgument childIdentifier) {
+        List<RegistrationTreeNode<DataChangeListenerRegistration<?>>> ret = result;
         for (RegistrationTreeNode<DataChangeListenerRegistration<?>> node : parentNodes) {
             RegistrationTreeNode<DataChangeListenerRegistration<?>> child = node.getExactChild(childIdentifier);
             if (child != null) {
-                result.add(child);
+                ret = add(ret, child);
             }
         }
+        return ret;
     }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc;
+
+import akka.actor.ActorRef;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Multiset;
+import java.util.Arrays;
+import java.util.Collection;
+import javax.annotation.concurrent.GuardedBy;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotificationListener;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotificationService;
+import org.opendaylight.controller.remote.rpc.registry.NotificationRegistry.Messages.UpdateLocalSubscriptions;
+import org.opendaylight.yangtools.concepts.AbstractListenerRegistration;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+/**
+ * A {@link DOMNotificationService} whose listeners receive notifications published on any member of the cluster,
+ * not just the local one. Listeners are registered with the local service and the types they are interested in are
+ * advertised to other members, which then forward matching notifications to this member. Notifications published
+ * locally are delivered by the local service as usual.
+ *
+ * <p>
+ * Notifications forwarded from remote members are delivered only to listeners registered through this service, on
+ * the thread receiving them. They are not published into the local service, hence listeners registered directly with
+ * it are not affected.
+ */
+public final class ClusteredDOMNotificationService implements DOMNotificationService {
+    private final DOMNotificationService delegate;
+    private final RemoteNotificationListeners remoteListeners;
+    private final ActorRef notificationManager;
+
+    @GuardedBy("this")
+    private final Multiset<SchemaPath> subscriptions = HashMultiset.create();
+
+    ClusteredDOMNotificationService(final DOMNotificationService delegate,
+            final RemoteNotificationListeners remoteListeners, final ActorRef notificationManager) {
+        this.delegate = Preconditions.checkNotNull(delegate);
+        this.remoteListeners = Preconditions.checkNotNull(remoteListeners);
+        this.notificationManager = Preconditions.checkNotNull(notificationManager);
+    }
+
+    @Override
+    public <T extends DOMNotificationListener> ListenerRegistration<T> registerNotificationListener(
+            final T listener, final Collection<SchemaPath> types) {
+        final Collection<SchemaPath> copy = ImmutableList.copyOf(types);
+        final ListenerRegistration<T> reg = delegate.registerNotificationListener(listener, copy);
+        final RemoteNotificationListeners.Registration remoteReg = remoteListeners.addListener(listener, copy);
+        addSubscriptions(copy);
+
+        return new AbstractListenerRegistration<T>(listener) {
+            @Override
+            protected void removeRegistration() {
+                reg.close();
+                remoteListeners.removeListener(remoteReg);
+                removeSubscriptions(copy);
+            }
+        };
+    }
+
+    @Override
+    public <T extends DOMNotificationListener> ListenerRegistration<T> registerNotificationListener(final T listener,
+            final SchemaPath... types) {
+        return registerNotificationListener(listener, Arrays.asList(types));
+    }
+
+    private synchronized void addSubscriptions(final Collection<SchemaPath> types) {
+        boolean changed = false;
+        for (SchemaPath type : types) {
+            changed |= subscriptions.add(type, 1) == 0;
+        }
+        if (changed) {
+            advertiseSubscriptions();
+        }
+    }
+
+    private synchronized void removeSubscriptions(final Collection<SchemaPath> types) {
+        boolean changed = false;
+        for (SchemaPath type : types) {
+            changed |= subscriptions.remove(type, 1) == 1;
+        }
+        if (changed) {
+            advertiseSubscriptions();
+        }
+    }
+
+    @GuardedBy("this")
+    private void advertiseSubscriptions() {
+        notificationManager.tell(new UpdateLocalSubscriptions(subscriptions.elementSet()), ActorRef.noSender());
+    }
+}
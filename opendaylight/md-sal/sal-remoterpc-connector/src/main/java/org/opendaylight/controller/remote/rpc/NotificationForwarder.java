@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc;
+
+import akka.actor.ActorRef;
+import akka.actor.Address;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.concurrent.GuardedBy;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotificationListener;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotificationService;
+import org.opendaylight.controller.remote.rpc.messages.ForwardNotifications;
+import org.opendaylight.controller.remote.rpc.registry.NotificationRegistry.RemoteNotificationEndpoint;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Listener on the local {@link DOMNotificationService}, which forwards notifications to remote members which have
+ * clustered listeners for them. It is registered only for the union of notification types remote members are
+ * interested in, each type separately, so that a change in interest does not cause notifications of other types to
+ * be missed or forwarded twice. Notifications are accumulated in a per-member batch, which is sent once it fills up
+ * or when {@link #flush()} is invoked.
+ */
+final class NotificationForwarder implements DOMNotificationListener, AutoCloseable {
+    private static final class Destination {
+        private final ActorRef receiver;
+        private final Set<SchemaPath> types;
+        private final int maxBatchSize;
+
+        @GuardedBy("this")
+        private List<DOMNotification> batch;
+
+        Destination(final RemoteNotificationEndpoint endpoint, final int maxBatchSize) {
+            this.receiver = endpoint.getReceiver();
+            this.types = endpoint.getTypes();
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        boolean append(final DOMNotification notification) {
+            final List<DOMNotification> toSend;
+            synchronized (this) {
+                if (batch == null) {
+                    batch = new ArrayList<>(maxBatchSize);
+                }
+                batch.add(notification);
+                if (batch.size() < maxBatchSize) {
+                    return false;
+                }
+
+                toSend = batch;
+                batch = null;
+            }
+
+            send(toSend);
+            return true;
+        }
+
+        boolean flush() {
+            final List<DOMNotification> toSend;
+            synchronized (this) {
+                toSend = batch;
+                batch = null;
+            }
+
+            if (toSend == null) {
+                return false;
+            }
+            send(toSend);
+            return true;
+        }
+
+        private void send(final List<DOMNotification> notifications) {
+            LOG.trace("Forwarding {} notifications to {}", notifications.size(), receiver);
+            receiver.tell(new ForwardNotifications(notifications), ActorRef.noSender());
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationForwarder.class);
+
+    private final LongAdder forwardedNotifications = new LongAdder();
+    private final LongAdder sentBatches = new LongAdder();
+    private final DOMNotificationService notificationService;
+    private final int maxBatchSize;
+
+    private volatile Map<Address, Destination> destinations = ImmutableMap.of();
+
+    @GuardedBy("this")
+    private final Map<SchemaPath, ListenerRegistration<?>> registrations = new HashMap<>();
+
+    NotificationForwarder(final DOMNotificationService notificationService, final int maxBatchSize) {
+        this.notificationService = Preconditions.checkNotNull(notificationService);
+        Preconditions.checkArgument(maxBatchSize > 0, "Batch size must be positive, not %s", maxBatchSize);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public void onNotification(final DOMNotification notification) {
+        if (notification instanceof RemoteDOMNotification) {
+            // Already forwarded by the member which published it
+            return;
+        }
+
+        final SchemaPath type = notification.getType();
+        for (Destination dest : destinations.values()) {
+            if (dest.types.contains(type)) {
+                forwardedNotifications.increment();
+                if (dest.append(notification)) {
+                    sentBatches.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Send all partially-filled batches.
+     */
+    void flush() {
+        for (Destination dest : destinations.values()) {
+            if (dest.flush()) {
+                sentBatches.increment();
+            }
+        }
+    }
+
+    /**
+     * Update the set of remote members and the notification types they are interested in.
+     *
+     * @param endpoints updated members, an empty Optional indicating the member is no longer interested
+     */
+    synchronized void updateEndpoints(final Map<Address, Optional<RemoteNotificationEndpoint>> endpoints) {
+        final Map<Address, Destination> newDestinations = new HashMap<>(destinations);
+        for (Entry<Address, Optional<RemoteNotificationEndpoint>> e : endpoints.entrySet()) {
+            LOG.debug("Updating notification subscriptions of {}", e.getKey());
+
+            final Destination prev;
+            if (e.getValue().isPresent()) {
+                prev = newDestinations.put(e.getKey(), new Destination(e.getValue().get(), maxBatchSize));
+            } else {
+                prev = newDestinations.remove(e.getKey());
+            }
+            if (prev != null && prev.flush()) {
+                sentBatches.increment();
+            }
+        }
+        destinations = ImmutableMap.copyOf(newDestinations);
+
+        final Set<SchemaPath> types = new HashSet<>();
+        for (Destination dest : newDestinations.values()) {
+            types.addAll(dest.types);
+        }
+        updateRegistrations(types);
+    }
+
+    @GuardedBy("this")
+    private void updateRegistrations(final Set<SchemaPath> types) {
+        final Iterator<Entry<SchemaPath, ListenerRegistration<?>>> it = registrations.entrySet().iterator();
+        while (it.hasNext()) {
+            final Entry<SchemaPath, ListenerRegistration<?>> e = it.next();
+            if (!types.contains(e.getKey())) {
+                LOG.debug("No longer forwarding notification type {}", e.getKey());
+                e.getValue().close();
+                it.remove();
+            }
+        }
+
+        for (SchemaPath type : types) {
+            if (!registrations.containsKey(type)) {
+                LOG.debug("Forwarding notification type {}", type);
+                registrations.put(type, notificationService.registerNotificationListener(this, type));
+            }
+        }
+    }
+
+    long getForwardedNotifications() {
+        return forwardedNotifications.sum();
+    }
+
+    long getSentBatches() {
+        return sentBatches.sum();
+    }
+
+    @Override
+    public synchronized void close() {
+        registrations.values().forEach(ListenerRegistration::close);
+        registrations.clear();
+        destinations = ImmutableMap.of();
+    }
+}
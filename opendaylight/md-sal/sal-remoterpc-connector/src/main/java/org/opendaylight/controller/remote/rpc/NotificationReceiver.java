@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc;
+
+import akka.actor.Props;
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.List;
+import org.opendaylight.controller.cluster.common.actor.AbstractUntypedActor;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
+import org.opendaylight.controller.remote.rpc.messages.ForwardNotifications;
+
+/**
+ * Actor accepting batches of notifications forwarded from remote members and delivering them to the listeners
+ * registered through {@link ClusteredDOMNotificationService}.
+ */
+final class NotificationReceiver extends AbstractUntypedActor {
+    private final RemoteNotificationListeners listeners;
+
+    private NotificationReceiver(final RemoteNotificationListeners listeners) {
+        this.listeners = Preconditions.checkNotNull(listeners);
+    }
+
+    public static Props props(final RemoteNotificationListeners listeners) {
+        Preconditions.checkNotNull(listeners, "RemoteNotificationListeners can not be null");
+        return Props.create(NotificationReceiver.class, listeners);
+    }
+
+    @Override
+    protected void handleReceive(final Object message) {
+        if (message instanceof ForwardNotifications) {
+            deliverNotifications(((ForwardNotifications) message).getNotifications());
+        } else {
+            unknownMessage(message);
+        }
+    }
+
+    private void deliverNotifications(final List<DOMNotification> notifications) {
+        LOG.debug("Delivering {} remote notifications", notifications.size());
+
+        // Wrap the notifications, so that they are not forwarded again should a listener republish them locally
+        final List<DOMNotification> toDeliver = new ArrayList<>(notifications.size());
+        for (DOMNotification notification : notifications) {
+            toDeliver.add(new RemoteDOMNotification(notification));
+        }
+
+        listeners.deliver(toDeliver);
+    }
+}
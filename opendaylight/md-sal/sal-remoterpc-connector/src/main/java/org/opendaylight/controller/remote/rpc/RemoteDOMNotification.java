@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc;
+
+import com.google.common.base.Preconditions;
+import javax.annotation.Nonnull;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+/**
+ * A notification received from a remote member. It is recognized by {@link NotificationForwarder}, so it is not
+ * forwarded back into the cluster should a listener republish it locally.
+ */
+final class RemoteDOMNotification implements DOMNotification {
+    private final DOMNotification delegate;
+
+    RemoteDOMNotification(final DOMNotification delegate) {
+        this.delegate = Preconditions.checkNotNull(delegate);
+    }
+
+    @Nonnull
+    @Override
+    public SchemaPath getType() {
+        return delegate.getType();
+    }
+
+    @Nonnull
+    @Override
+    public ContainerNode getBody() {
+        return delegate.getBody();
+    }
+
+    @Override
+    public String toString() {
+        return "RemoteDOMNotification{" + "type=" + getType() + '}';
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.Multimap;
+import java.util.Collection;
+import java.util.List;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotificationListener;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The listeners registered through {@link ClusteredDOMNotificationService}, to which notifications forwarded from
+ * remote members are delivered. Remote notifications are kept out of the local notification service, so that
+ * listeners registered directly with it only ever see notifications published on the local member.
+ */
+@ThreadSafe
+final class RemoteNotificationListeners {
+    /**
+     * A single registration of a listener. A listener may be registered multiple times, each registration is
+     * removed separately.
+     */
+    static final class Registration {
+        private final DOMNotificationListener listener;
+
+        Registration(final DOMNotificationListener listener) {
+            this.listener = listener;
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(RemoteNotificationListeners.class);
+
+    // Replaced while holding the lock, read without it
+    private volatile Multimap<SchemaPath, Registration> listeners = ImmutableMultimap.of();
+
+    synchronized Registration addListener(final DOMNotificationListener listener,
+            final Collection<SchemaPath> types) {
+        final Registration reg = new Registration(Preconditions.checkNotNull(listener));
+        final ImmutableMultimap.Builder<SchemaPath, Registration> builder = ImmutableMultimap.builder();
+        builder.putAll(listeners);
+        for (SchemaPath type : types) {
+            builder.put(type, reg);
+        }
+        listeners = builder.build();
+        return reg;
+    }
+
+    synchronized void removeListener(final Registration reg) {
+        final ImmutableMultimap.Builder<SchemaPath, Registration> builder = ImmutableMultimap.builder();
+        listeners.entries().stream().filter(e -> e.getValue() != reg).forEach(builder::put);
+        listeners = builder.build();
+    }
+
+    /**
+     * Deliver notifications to the listeners of their type. Listeners are invoked on the calling thread.
+     *
+     * @param notifications notifications received from a remote member
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    void deliver(final List<DOMNotification> notifications) {
+        final Multimap<SchemaPath, Registration> local = listeners;
+        for (DOMNotification notification : notifications) {
+            for (Registration reg : local.get(notification.getType())) {
+                try {
+                    reg.listener.onNotification(notification);
+                } catch (Exception e) {
+                    LOG.warn("Listener {} failed to process remote notification {}", reg.listener, notification,
+                        e);
+                }
+            }
+        }
+    }
+}
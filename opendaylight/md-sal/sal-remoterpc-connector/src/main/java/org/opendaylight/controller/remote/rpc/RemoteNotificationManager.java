@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc;
+
+import akka.actor.ActorRef;
+import akka.actor.Cancellable;
+import akka.actor.OneForOneStrategy;
+import akka.actor.Props;
+import akka.actor.SupervisorStrategy;
+import com.google.common.base.Preconditions;
+import org.opendaylight.controller.cluster.common.actor.AbstractUntypedActor;
+import org.opendaylight.controller.remote.rpc.registry.NotificationRegistry;
+import org.opendaylight.controller.remote.rpc.registry.NotificationRegistry.Messages.UpdateLocalSubscriptions;
+import org.opendaylight.controller.remote.rpc.registry.NotificationRegistry.Messages.UpdateRemoteSubscriptions;
+import scala.concurrent.duration.Duration;
+
+/**
+ * This class acts as a supervisor of the actors which make up clustered notification delivery. It relays local
+ * subscription changes from {@link ClusteredDOMNotificationService} to the {@link NotificationRegistry}, updates
+ * the {@link NotificationForwarder} with remote members' subscriptions and periodically flushes its batches.
+ */
+final class RemoteNotificationManager extends AbstractUntypedActor {
+    private static final Object FLUSH_TICK = new Object() {
+        @Override
+        public String toString() {
+            return "flush tick";
+        }
+    };
+
+    private final RemoteNotificationListeners remoteListeners;
+    private final NotificationForwarder forwarder;
+    private final RemoteRpcProviderConfig config;
+
+    private ActorRef registry;
+    private Cancellable flushTask;
+
+    private RemoteNotificationManager(final RemoteNotificationListeners remoteListeners,
+            final NotificationForwarder forwarder, final RemoteRpcProviderConfig config) {
+        this.remoteListeners = Preconditions.checkNotNull(remoteListeners);
+        this.forwarder = Preconditions.checkNotNull(forwarder);
+        this.config = Preconditions.checkNotNull(config);
+    }
+
+    static Props props(final RemoteNotificationListeners remoteListeners, final NotificationForwarder forwarder,
+            final RemoteRpcProviderConfig config) {
+        return Props.create(RemoteNotificationManager.class, remoteListeners, forwarder, config);
+    }
+
+    @Override
+    public void preStart() throws Exception {
+        super.preStart();
+
+        final ActorRef receiver = getContext().actorOf(NotificationReceiver.props(remoteListeners)
+            .withMailbox(config.getMailBoxName()), "receiver");
+        LOG.debug("Receiving remote notifications with {}", receiver);
+
+        registry = getContext().actorOf(NotificationRegistry.props(config, receiver, getSelf())
+            .withMailbox(config.getMailBoxName()), "registry");
+        LOG.debug("Propagating notification subscriptions with {}", registry);
+
+        flushTask = getContext().system().scheduler().schedule(config.getNotificationFlushInterval(),
+            config.getNotificationFlushInterval(), getSelf(), FLUSH_TICK, getContext().dispatcher(), getSelf());
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        forwarder.close();
+
+        super.postStop();
+    }
+
+    @Override
+    protected void handleReceive(final Object message) {
+        if (FLUSH_TICK.equals(message)) {
+            forwarder.flush();
+        } else if (message instanceof UpdateLocalSubscriptions) {
+            registry.forward(message, getContext());
+        } else if (message instanceof UpdateRemoteSubscriptions) {
+            forwarder.updateEndpoints(((UpdateRemoteSubscriptions) message).getEndpoints());
+        } else {
+            unknownMessage(message);
+        }
+    }
+
+    @Override
+    public SupervisorStrategy supervisorStrategy() {
+        return new OneForOneStrategy(10, Duration.create("1 minute"), t -> {
+            LOG.error("An exception happened actor will be resumed", t);
+            return SupervisorStrategy.resume();
+        });
+    }
+}
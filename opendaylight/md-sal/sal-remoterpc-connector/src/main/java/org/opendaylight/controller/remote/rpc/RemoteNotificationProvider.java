@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.PoisonPill;
+import com.google.common.base.Preconditions;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotificationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Initializes the actors which deliver notifications across the cluster and provides the
+ * {@link ClusteredDOMNotificationService} applications use to register cluster-wide listeners.
+ */
+public class RemoteNotificationProvider implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RemoteNotificationProvider.class);
+
+    private final DOMNotificationService notificationService;
+    private final RemoteRpcProviderConfig config;
+    private final ActorSystem actorSystem;
+
+    private ClusteredDOMNotificationService clusteredService;
+    private ActorRef notificationManager;
+
+    public RemoteNotificationProvider(final ActorSystem actorSystem, final DOMNotificationService notificationService,
+            final RemoteRpcProviderConfig config) {
+        this.actorSystem = Preconditions.checkNotNull(actorSystem);
+        this.notificationService = Preconditions.checkNotNull(notificationService);
+        this.config = Preconditions.checkNotNull(config);
+    }
+
+    @Override
+    public void close() {
+        if (notificationManager != null) {
+            LOG.info("Stopping Notification Manager at {}", notificationManager);
+            notificationManager.tell(PoisonPill.getInstance(), ActorRef.noSender());
+            notificationManager = null;
+        }
+    }
+
+    public void start() {
+        LOG.info("Starting Remote Notification service...");
+        final NotificationForwarder forwarder = new NotificationForwarder(notificationService,
+            config.getNotificationBatchSize());
+        final RemoteNotificationListeners remoteListeners = new RemoteNotificationListeners();
+        notificationManager = actorSystem.actorOf(RemoteNotificationManager.props(remoteListeners, forwarder,
+            config), config.getNotificationManagerName());
+        clusteredService = new ClusteredDOMNotificationService(notificationService, remoteListeners,
+            notificationManager);
+        LOG.debug("Notification Manager started at {}", notificationManager);
+    }
+
+    public ClusteredDOMNotificationService getNotificationService() {
+        Preconditions.checkState(clusteredService != null, "Provider has not been started");
+        return clusteredService;
+    }
+}
@@ -27,10 +27,15 @@ public class RemoteRpcProviderConfig extends CommonConfig {
 
     private static final String TAG_GOSSIP_TICK_INTERVAL = "gossip-tick-interval";
     private static final String TAG_RPC_REGISTRY_PERSISTENCE_ID = "rpc-registry-persistence-id";
+    private static final String TAG_NOTIFICATION_MGR_NAME = "notification-manager-name";
+    private static final String TAG_NOTIFICATION_REGISTRY_PERSISTENCE_ID = "notification-registry-persistence-id";
+    private static final String TAG_NOTIFICATION_BATCH_SIZE = "notification-batch-size";
+    private static final String TAG_NOTIFICATION_FLUSH_INTERVAL = "notification-flush-interval";
 
     //locally cached values
     private Timeout cachedAskDuration;
     private FiniteDuration cachedGossipTickInterval;
+    private FiniteDuration cachedNotificationFlushInterval;
 
     public RemoteRpcProviderConfig(final Config config) {
         super(config);
@@ -68,6 +73,39 @@ public class RemoteRpcProviderConfig extends CommonConfig {
         return get().getString(TAG_RPC_MGR_PATH);
     }
 
+    public String getNotificationManagerName() {
+        return get().getString(TAG_NOTIFICATION_MGR_NAME);
+    }
+
+    public String getNotificationRegistryPersistenceId() {
+        return get().getString(TAG_NOTIFICATION_REGISTRY_PERSISTENCE_ID);
+    }
+
+    /**
+     * Returns the maximum number of notifications forwarded to a remote member in a single message.
+     *
+     * @return maximum batch size
+     */
+    public int getNotificationBatchSize() {
+        return get().getInt(TAG_NOTIFICATION_BATCH_SIZE);
+    }
+
+    /**
+     * Returns the interval at which partially-filled notification batches are sent to remote members.
+     *
+     * @return flush interval
+     */
+    public FiniteDuration getNotificationFlushInterval() {
+        if (cachedNotificationFlushInterval != null) {
+            return cachedNotificationFlushInterval;
+        }
+
+        cachedNotificationFlushInterval = new FiniteDuration(
+                get().getDuration(TAG_NOTIFICATION_FLUSH_INTERVAL, TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+
+        return cachedNotificationFlushInterval;
+    }
+
     public Timeout getAskDuration() {
         if (cachedAskDuration != null) {
             return cachedAskDuration;
@@ -113,6 +151,7 @@ public class RemoteRpcProviderConfig extends CommonConfig {
             configHolder.put(TAG_RPC_REGISTRAR_NAME, "registrar");
             configHolder.put(TAG_RPC_REGISTRY_NAME, "registry");
             configHolder.put(TAG_RPC_MGR_NAME, "rpc");
+            configHolder.put(TAG_NOTIFICATION_MGR_NAME, "notification");
 
             //Actor paths
             configHolder.put(TAG_RPC_BROKER_PATH, "/user/rpc/broker");
@@ -125,6 +164,11 @@ public class RemoteRpcProviderConfig extends CommonConfig {
 
             // persistence
             configHolder.put(TAG_RPC_REGISTRY_PERSISTENCE_ID, "remote-rpc-registry");
+            configHolder.put(TAG_NOTIFICATION_REGISTRY_PERSISTENCE_ID, "remote-notification-registry");
+
+            // notification forwarding
+            configHolder.put(TAG_NOTIFICATION_BATCH_SIZE, 256);
+            configHolder.put(TAG_NOTIFICATION_FLUSH_INTERVAL, "10ms");
         }
 
         public Builder gossipTickInterval(final String interval) {
@@ -132,6 +176,16 @@ public class RemoteRpcProviderConfig extends CommonConfig {
             return this;
         }
 
+        public Builder notificationBatchSize(final int batchSize) {
+            configHolder.put(TAG_NOTIFICATION_BATCH_SIZE, batchSize);
+            return this;
+        }
+
+        public Builder notificationFlushInterval(final String interval) {
+            configHolder.put(TAG_NOTIFICATION_FLUSH_INTERVAL, interval);
+            return this;
+        }
+
         @Override
         public RemoteRpcProviderConfig build() {
             return new RemoteRpcProviderConfig(merge());
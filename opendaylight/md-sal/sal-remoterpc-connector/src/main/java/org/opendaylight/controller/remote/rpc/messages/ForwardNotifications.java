@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.messages;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nonnull;
+import org.opendaylight.controller.cluster.datastore.node.utils.stream.NormalizedNodeDataInput;
+import org.opendaylight.controller.cluster.datastore.node.utils.stream.NormalizedNodeDataOutput;
+import org.opendaylight.controller.cluster.datastore.node.utils.stream.NormalizedNodeInputOutput;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+/**
+ * A batch of notifications forwarded to a remote member. Notifications are serialized into a single stream, so
+ * that the batch shares one QName dictionary.
+ */
+public final class ForwardNotifications implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    @SuppressFBWarnings(value = "SE_BAD_FIELD", justification = "This field is not Serializable but this class "
+            + "implements writeReplace to delegate serialization to a Proxy class and thus instances of this class "
+            + "aren't serialized. FindBugs does not recognize this.")
+    private final List<DOMNotification> notifications;
+
+    public ForwardNotifications(@Nonnull final List<? extends DOMNotification> notifications) {
+        Preconditions.checkArgument(!notifications.isEmpty(), "Notifications must be supplied");
+        this.notifications = ImmutableList.copyOf(notifications);
+    }
+
+    @Nonnull
+    public List<DOMNotification> getNotifications() {
+        return notifications;
+    }
+
+    private Object writeReplace() {
+        return new Proxy(this);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("size", notifications.size()).toString();
+    }
+
+    private static final class SimpleNotification implements DOMNotification {
+        private final SchemaPath type;
+        private final ContainerNode body;
+
+        SimpleNotification(final SchemaPath type, final ContainerNode body) {
+            this.type = Preconditions.checkNotNull(type);
+            this.body = Preconditions.checkNotNull(body);
+        }
+
+        @Nonnull
+        @Override
+        public SchemaPath getType() {
+            return type;
+        }
+
+        @Nonnull
+        @Override
+        public ContainerNode getBody() {
+            return body;
+        }
+    }
+
+    private static final class Proxy implements Externalizable {
+        private static final long serialVersionUID = 1L;
+
+        private ForwardNotifications forwardNotifications;
+
+        // checkstyle flags the public modifier as redundant however it is explicitly needed for Java serialization to
+        // be able to create instances via reflection.
+        @SuppressWarnings("checkstyle:RedundantModifier")
+        public Proxy() {
+            // For Externalizable
+        }
+
+        Proxy(final ForwardNotifications forwardNotifications) {
+            this.forwardNotifications = forwardNotifications;
+        }
+
+        @Override
+        public void writeExternal(final ObjectOutput out) throws IOException {
+            final List<DOMNotification> notifications = forwardNotifications.getNotifications();
+            final NormalizedNodeDataOutput nnout = NormalizedNodeInputOutput.newDataOutput(out);
+            nnout.writeInt(notifications.size());
+            for (DOMNotification notification : notifications) {
+                nnout.writeSchemaPath(notification.getType());
+                nnout.writeNormalizedNode(notification.getBody());
+            }
+        }
+
+        @Override
+        public void readExternal(final ObjectInput in) throws IOException {
+            final NormalizedNodeDataInput nnin = NormalizedNodeInputOutput.newDataInput(in);
+            final int size = nnin.readInt();
+            final List<DOMNotification> notifications = new ArrayList<>(size);
+            for (int i = 0; i < size; ++i) {
+                final SchemaPath type = nnin.readSchemaPath();
+                notifications.add(new SimpleNotification(type, (ContainerNode) nnin.readNormalizedNode()));
+            }
+            forwardNotifications = new ForwardNotifications(notifications);
+        }
+
+        private Object readResolve() {
+            return forwardNotifications;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.registry;
+
+import akka.actor.ActorRef;
+import akka.actor.Address;
+import akka.actor.Props;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import org.opendaylight.controller.remote.rpc.RemoteRpcProviderConfig;
+import org.opendaylight.controller.remote.rpc.registry.NotificationRegistry.Messages.UpdateLocalSubscriptions;
+import org.opendaylight.controller.remote.rpc.registry.NotificationRegistry.Messages.UpdateRemoteSubscriptions;
+import org.opendaylight.controller.remote.rpc.registry.gossip.Bucket;
+import org.opendaylight.controller.remote.rpc.registry.gossip.BucketStoreActor;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+/**
+ * Registry to look up cluster members that have clustered listeners for a given notification type.
+ *
+ * <p>
+ * Like {@link RpcRegistry}, it uses {@link BucketStoreActor} to maintain this cluster wide information, so that
+ * notifications are forwarded only to members which are interested in them.
+ */
+public class NotificationRegistry extends BucketStoreActor<NotificationSubscriptions> {
+    private final ActorRef subscriptionListener;
+
+    public NotificationRegistry(final RemoteRpcProviderConfig config, final ActorRef receiver,
+            final ActorRef subscriptionListener) {
+        super(config, config.getNotificationRegistryPersistenceId(),
+            new NotificationSubscriptions(receiver, ImmutableSet.of()));
+        this.subscriptionListener = Preconditions.checkNotNull(subscriptionListener);
+    }
+
+    /**
+     * Create a new props instance for instantiating a NotificationRegistry actor.
+     *
+     * @param config Provider configuration
+     * @param receiver Actor accepting notifications forwarded from remote members
+     * @param subscriptionListener Actor notified of changes to remote members' subscriptions
+     * @return A new {@link Props} instance
+     */
+    public static Props props(final RemoteRpcProviderConfig config, final ActorRef receiver,
+            final ActorRef subscriptionListener) {
+        return Props.create(NotificationRegistry.class, config, receiver, subscriptionListener);
+    }
+
+    @Override
+    protected void handleCommand(final Object message) throws Exception {
+        if (message instanceof UpdateLocalSubscriptions) {
+            receiveUpdateLocalSubscriptions((UpdateLocalSubscriptions) message);
+        } else {
+            super.handleCommand(message);
+        }
+    }
+
+    private void receiveUpdateLocalSubscriptions(final UpdateLocalSubscriptions msg) {
+        LOG.debug("UpdateLocalSubscriptions: {}", msg.getTypes());
+        updateLocalBucket(getLocalData().withTypes(msg.getTypes()));
+    }
+
+    @Override
+    protected void onBucketRemoved(final Address address, final Bucket<NotificationSubscriptions> bucket) {
+        subscriptionListener.tell(new UpdateRemoteSubscriptions(ImmutableMap.of(address, Optional.empty())),
+            ActorRef.noSender());
+    }
+
+    @Override
+    protected void onBucketsUpdated(final Map<Address, Bucket<NotificationSubscriptions>> buckets) {
+        final Map<Address, Optional<RemoteNotificationEndpoint>> endpoints = new HashMap<>(buckets.size());
+
+        for (Entry<Address, Bucket<NotificationSubscriptions>> e : buckets.entrySet()) {
+            final NotificationSubscriptions subscriptions = e.getValue().getData();
+
+            final Set<SchemaPath> types = subscriptions.getTypes();
+            endpoints.put(e.getKey(), types.isEmpty() ? Optional.empty()
+                    : Optional.of(new RemoteNotificationEndpoint(subscriptions.getReceiver(), types)));
+        }
+
+        if (!endpoints.isEmpty()) {
+            subscriptionListener.tell(new UpdateRemoteSubscriptions(endpoints), ActorRef.noSender());
+        }
+    }
+
+    public static final class RemoteNotificationEndpoint {
+        private final Set<SchemaPath> types;
+        private final ActorRef receiver;
+
+        @VisibleForTesting
+        public RemoteNotificationEndpoint(final ActorRef receiver, final Collection<SchemaPath> types) {
+            this.receiver = Preconditions.checkNotNull(receiver);
+            this.types = ImmutableSet.copyOf(types);
+        }
+
+        public ActorRef getReceiver() {
+            return receiver;
+        }
+
+        public Set<SchemaPath> getTypes() {
+            return types;
+        }
+    }
+
+    /**
+     * All messages used by the NotificationRegistry.
+     */
+    public static class Messages {
+        public static final class UpdateLocalSubscriptions {
+            private final Set<SchemaPath> types;
+
+            public UpdateLocalSubscriptions(final Collection<SchemaPath> types) {
+                this.types = ImmutableSet.copyOf(types);
+            }
+
+            public Set<SchemaPath> getTypes() {
+                return types;
+            }
+
+            @Override
+            public String toString() {
+                return "UpdateLocalSubscriptions{" + "types=" + types + '}';
+            }
+        }
+
+        public static final class UpdateRemoteSubscriptions {
+            private final Map<Address, Optional<RemoteNotificationEndpoint>> endpoints;
+
+            @VisibleForTesting
+            public UpdateRemoteSubscriptions(final Map<Address, Optional<RemoteNotificationEndpoint>> endpoints) {
+                this.endpoints = ImmutableMap.copyOf(endpoints);
+            }
+
+            public Map<Address, Optional<RemoteNotificationEndpoint>> getEndpoints() {
+                return endpoints;
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.registry;
+
+import akka.actor.ActorRef;
+import akka.serialization.JavaSerializer;
+import akka.serialization.Serialization;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import org.opendaylight.controller.cluster.datastore.node.utils.stream.NormalizedNodeDataInput;
+import org.opendaylight.controller.cluster.datastore.node.utils.stream.NormalizedNodeDataOutput;
+import org.opendaylight.controller.cluster.datastore.node.utils.stream.NormalizedNodeInputOutput;
+import org.opendaylight.controller.remote.rpc.registry.gossip.BucketData;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+/**
+ * Notification types a member has clustered listeners for, along with the actor which accepts notifications
+ * forwarded from other members.
+ */
+public final class NotificationSubscriptions implements BucketData<NotificationSubscriptions>, Serializable {
+    private static final class Proxy implements Externalizable {
+        private static final long serialVersionUID = 1L;
+
+        @SuppressFBWarnings(value = "SE_BAD_FIELD", justification = "We deal with the field in serialization methods.")
+        private Collection<SchemaPath> types;
+        private ActorRef receiver;
+
+        // checkstyle flags the public modifier as redundant however it is explicitly needed for Java serialization to
+        // be able to create instances via reflection.
+        @SuppressWarnings("checkstyle:RedundantModifier")
+        public Proxy() {
+            // For Externalizable
+        }
+
+        Proxy(final NotificationSubscriptions subscriptions) {
+            types = subscriptions.getTypes();
+            receiver = subscriptions.getReceiver();
+        }
+
+        @Override
+        public void writeExternal(final ObjectOutput out) throws IOException {
+            out.writeObject(Serialization.serializedActorPath(receiver));
+
+            final NormalizedNodeDataOutput nnout = NormalizedNodeInputOutput.newDataOutput(out);
+            nnout.writeInt(types.size());
+            for (SchemaPath type : types) {
+                nnout.writeSchemaPath(type);
+            }
+        }
+
+        @Override
+        public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
+            receiver = JavaSerializer.currentSystem().value().provider().resolveActorRef((String) in.readObject());
+
+            final NormalizedNodeDataInput nnin = NormalizedNodeInputOutput.newDataInput(in);
+            final int size = nnin.readInt();
+            types = new ArrayList<>(size);
+            for (int i = 0; i < size; ++i) {
+                types.add(nnin.readSchemaPath());
+            }
+        }
+
+        private Object readResolve() {
+            return new NotificationSubscriptions(receiver, types);
+        }
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    @SuppressFBWarnings(value = "SE_BAD_FIELD", justification = "We deal with the field in serialization methods.")
+    private final Set<SchemaPath> types;
+    private final ActorRef receiver;
+
+    NotificationSubscriptions(final ActorRef receiver, final Collection<SchemaPath> types) {
+        this.receiver = Preconditions.checkNotNull(receiver);
+        this.types = ImmutableSet.copyOf(types);
+    }
+
+    @Override
+    public Optional<ActorRef> getWatchActor() {
+        return Optional.of(receiver);
+    }
+
+    public Set<SchemaPath> getTypes() {
+        return types;
+    }
+
+    ActorRef getReceiver() {
+        return receiver;
+    }
+
+    NotificationSubscriptions withTypes(final Collection<SchemaPath> newTypes) {
+        return new NotificationSubscriptions(receiver, newTypes);
+    }
+
+    private Object writeReplace() {
+        return new Proxy(this);
+    }
+
+    @Override
+    public String toString() {
+        return "NotificationSubscriptions{" + "types=" + types + ", receiver=" + receiver + '}';
+    }
+}
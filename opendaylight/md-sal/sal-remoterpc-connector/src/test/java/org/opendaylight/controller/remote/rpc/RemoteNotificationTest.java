@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import akka.actor.ActorSystem;
+import akka.cluster.Cluster;
+import akka.cluster.ClusterEvent.CurrentClusterState;
+import akka.cluster.Member;
+import akka.cluster.MemberStatus;
+import akka.cluster.UniqueAddress;
+import akka.testkit.JavaTestKit;
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.Multimap;
+import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.typesafe.config.ConfigFactory;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.opendaylight.controller.cluster.common.actor.AkkaConfigurationReader;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotificationListener;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotificationPublishService;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotificationService;
+import org.opendaylight.yangtools.concepts.AbstractListenerRegistration;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tests forwarding of notifications between members of a three-node cluster running in a single JVM.
+ */
+public class RemoteNotificationTest {
+    private static final Logger LOG = LoggerFactory.getLogger(RemoteNotificationTest.class);
+    private static final QName TEST_QNAME = QName.create("urn:test", "2017-01-01", "test-notification");
+    private static final SchemaPath TYPE = SchemaPath.create(true, TEST_QNAME);
+    private static final int NOTIFICATION_COUNT = 10000;
+
+    private static ActorSystem node1;
+    private static ActorSystem node2;
+    private static ActorSystem node3;
+
+    /**
+     * Minimal notification broker, which delivers notifications synchronously on the publishing thread.
+     */
+    private static final class TestNotificationBroker implements DOMNotificationService,
+            DOMNotificationPublishService {
+        private volatile Multimap<SchemaPath, DOMNotificationListener> listeners = ImmutableMultimap.of();
+
+        @Override
+        public synchronized <T extends DOMNotificationListener> ListenerRegistration<T> registerNotificationListener(
+                final T listener, final Collection<SchemaPath> types) {
+            final ImmutableMultimap.Builder<SchemaPath, DOMNotificationListener> builder = ImmutableMultimap.builder();
+            builder.putAll(listeners);
+            types.forEach(type -> builder.put(type, listener));
+            listeners = builder.build();
+
+            return new AbstractListenerRegistration<T>(listener) {
+                @Override
+                protected void removeRegistration() {
+                    synchronized (TestNotificationBroker.this) {
+                        final ImmutableMultimap.Builder<SchemaPath, DOMNotificationListener> b =
+                                ImmutableMultimap.builder();
+                        listeners.entries().stream().filter(e -> e.getValue() != listener).forEach(b::put);
+                        listeners = b.build();
+                    }
+                }
+            };
+        }
+
+        @Override
+        public <T extends DOMNotificationListener> ListenerRegistration<T> registerNotificationListener(
+                final T listener, final SchemaPath... types) {
+            return registerNotificationListener(listener, Arrays.asList(types));
+        }
+
+        @Override
+        public ListenableFuture<?> putNotification(final DOMNotification notification) {
+            return offerNotification(notification);
+        }
+
+        @Override
+        public ListenableFuture<?> offerNotification(final DOMNotification notification) {
+            listeners.get(notification.getType()).forEach(l -> l.onNotification(notification));
+            return Futures.immediateFuture(null);
+        }
+
+        @Override
+        public ListenableFuture<?> offerNotification(final DOMNotification notification, final long timeout,
+                final TimeUnit unit) {
+            return offerNotification(notification);
+        }
+    }
+
+    private static final class CountingListener implements DOMNotificationListener {
+        final AtomicInteger received = new AtomicInteger();
+
+        @Override
+        public void onNotification(final DOMNotification notification) {
+            received.incrementAndGet();
+        }
+    }
+
+    @BeforeClass
+    public static void staticSetup() {
+        AkkaConfigurationReader reader = ConfigFactory::load;
+
+        RemoteRpcProviderConfig config1 = new RemoteRpcProviderConfig.Builder("memberA").gossipTickInterval("200ms")
+                .withConfigReader(reader).build();
+        RemoteRpcProviderConfig config2 = new RemoteRpcProviderConfig.Builder("memberB").gossipTickInterval("200ms")
+                .withConfigReader(reader).build();
+        RemoteRpcProviderConfig config3 = new RemoteRpcProviderConfig.Builder("memberC").gossipTickInterval("200ms")
+                .withConfigReader(reader).build();
+        node1 = ActorSystem.create("opendaylight-rpc", config1.get());
+        node2 = ActorSystem.create("opendaylight-rpc", config2.get());
+        node3 = ActorSystem.create("opendaylight-rpc", config3.get());
+
+        waitForMembersUp(node1, Cluster.get(node2).selfUniqueAddress(), Cluster.get(node3).selfUniqueAddress());
+        waitForMembersUp(node2, Cluster.get(node1).selfUniqueAddress(), Cluster.get(node3).selfUniqueAddress());
+    }
+
+    private static void waitForMembersUp(final ActorSystem node, final UniqueAddress... addresses) {
+        Set<UniqueAddress> otherMembersSet = Sets.newHashSet(addresses);
+        Stopwatch sw = Stopwatch.createStarted();
+        while (sw.elapsed(TimeUnit.SECONDS) <= 10) {
+            CurrentClusterState state = Cluster.get(node).state();
+            for (Member m : state.getMembers()) {
+                if (m.status() == MemberStatus.up() && otherMembersSet.remove(m.uniqueAddress())
+                        && otherMembersSet.isEmpty()) {
+                    return;
+                }
+            }
+
+            Uninterruptibles.sleepUninterruptibly(100, TimeUnit.MILLISECONDS);
+        }
+
+        fail("Member(s) " + otherMembersSet + " are not Up");
+    }
+
+    @AfterClass
+    public static void staticTeardown() {
+        JavaTestKit.shutdownActorSystem(node1);
+        JavaTestKit.shutdownActorSystem(node2);
+        JavaTestKit.shutdownActorSystem(node3);
+    }
+
+    private static RemoteNotificationProvider startProvider(final ActorSystem node,
+            final TestNotificationBroker broker) {
+        final RemoteNotificationProvider provider = new RemoteNotificationProvider(node, broker,
+            new RemoteRpcProviderConfig(node.settings().config()));
+        provider.start();
+        return provider;
+    }
+
+    private static DOMNotification notification() {
+        final ContainerNode body = ImmutableNodes.containerNode(TEST_QNAME);
+        return new DOMNotification() {
+            @Override
+            public SchemaPath getType() {
+                return TYPE;
+            }
+
+            @Override
+            public ContainerNode getBody() {
+                return body;
+            }
+        };
+    }
+
+    private static void awaitCount(final IntSupplier count, final int expected) {
+        final Stopwatch sw = Stopwatch.createStarted();
+        while (count.getAsInt() < expected && sw.elapsed(TimeUnit.SECONDS) <= 15) {
+            Uninterruptibles.sleepUninterruptibly(10, TimeUnit.MILLISECONDS);
+        }
+        assertEquals(expected, count.getAsInt());
+    }
+
+    @Test
+    public void testForwardToInterestedMembersOnly() {
+        final TestNotificationBroker broker1 = new TestNotificationBroker();
+        final TestNotificationBroker broker2 = new TestNotificationBroker();
+        final TestNotificationBroker broker3 = new TestNotificationBroker();
+        final RemoteNotificationProvider provider1 = startProvider(node1, broker1);
+        final RemoteNotificationProvider provider2 = startProvider(node2, broker2);
+        final RemoteNotificationProvider provider3 = startProvider(node3, broker3);
+
+        try {
+            // Member 2 has a clustered and a plain local listener, member 3 only has a local one
+            final CountingListener clustered = new CountingListener();
+            provider2.getNotificationService().registerNotificationListener(clustered, TYPE);
+            final CountingListener local2 = new CountingListener();
+            broker2.registerNotificationListener(local2, TYPE);
+            final CountingListener local = new CountingListener();
+            broker3.registerNotificationListener(local, TYPE);
+
+            // Wait for member 1 to learn about member 2's subscription, then let in-flight probes settle
+            final Stopwatch sw = Stopwatch.createStarted();
+            while (clustered.received.get() == 0 && sw.elapsed(TimeUnit.SECONDS) <= 15) {
+                broker1.putNotification(notification());
+                Uninterruptibles.sleepUninterruptibly(100, TimeUnit.MILLISECONDS);
+            }
+            assertTrue("Subscription was propagated", clustered.received.get() > 0);
+            Uninterruptibles.sleepUninterruptibly(500, TimeUnit.MILLISECONDS);
+            final int probes = clustered.received.get();
+
+            final Stopwatch elapsed = Stopwatch.createStarted();
+            for (int i = 0; i < NOTIFICATION_COUNT; i++) {
+                broker1.putNotification(notification());
+            }
+            awaitCount(clustered.received::get, probes + NOTIFICATION_COUNT);
+            LOG.info("Forwarded {} notifications in {}", NOTIFICATION_COUNT, elapsed);
+
+            // Give any stray forwarding a chance to show up
+            Uninterruptibles.sleepUninterruptibly(500, TimeUnit.MILLISECONDS);
+            assertEquals("Notifications are not forwarded back", probes + NOTIFICATION_COUNT,
+                clustered.received.get());
+            assertEquals("Uninterested member does not receive notifications", 0, local.received.get());
+            assertEquals("Plain local listener does not receive remote notifications", 0, local2.received.get());
+
+            // Notifications published on member 2 itself still reach both of its listeners
+            broker2.putNotification(notification());
+            assertEquals(probes + NOTIFICATION_COUNT + 1, clustered.received.get());
+            assertEquals(1, local2.received.get());
+        } finally {
+            provider1.close();
+            provider2.close();
+            provider3.close();
+        }
+    }
+}